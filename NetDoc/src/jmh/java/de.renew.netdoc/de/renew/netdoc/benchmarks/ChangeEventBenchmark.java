@@ -0,0 +1,86 @@
+package de.renew.netdoc.benchmarks;
+
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.documents.LinearDocument;
+import de.renew.netdoc.model.document.event.DocumentChangeEvent;
+import de.renew.netdoc.model.document.event.DocumentChangeListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks the propagation of a text change from a leaf definition through
+ * the nested container parts up to a listener of the document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChangeEventBenchmark {
+
+    /**
+     * The shape of the changed document.
+     */
+    @Param({ "SMALL", "TYPICAL", "DEEP" })
+    public DocumentShape shape;
+
+    /**
+     * Creates the document and registers a listener consuming all change
+     * events.
+     * @param blackhole the sink consuming the received events.
+     */
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        final Blackhole iBlackhole = blackhole;
+        LinearDocument document = this.shape.createDocument();
+        document.addDocumentChangeListener(new DocumentChangeListener() {
+            @Override
+            public void documentChanged(DocumentChangeEvent event) {
+                iBlackhole.consume(event);
+            }
+        });
+        this._leaf = SyntheticDocuments
+                        .getDeepestLevel(document, this.shape.getDepth())
+                        .getPart(SyntheticDocuments.getItemName(0));
+        this._texts = new String[] { "first", "second" };
+        this._textIndex = 0;
+    }
+
+    /**
+     * Changes the text of the leaf definition of the deepest level.
+     */
+    @Benchmark
+    public void setTextDeepestLeaf() {
+        this._textIndex = 1 - this._textIndex;
+        this._leaf.setText(this._texts[this._textIndex]);
+    }
+
+    /**
+     * The leaf definition whose text is changed.
+     */
+    private DocumentPart _leaf;
+
+    /**
+     * The texts set alternately.
+     */
+    private String[] _texts;
+
+    /**
+     * The index of the text set last.
+     */
+    private int _textIndex;
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package de.renew.netdoc.benchmarks;
+
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.model.document.DocumentPart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks parsing TeX documents of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentParserBenchmark {
+
+    /**
+     * The shape of the parsed document.
+     */
+    @Param({ "SMALL", "TYPICAL", "HUGE" })
+    public DocumentShape shape;
+
+    /**
+     * Creates the parser and the text of the document to be parsed.
+     */
+    @Setup
+    public void setUp() {
+        this._parser = new TexDocumentParser();
+        this._text = this.shape.createDocument().toString();
+    }
+
+    /**
+     * Parses the document text.
+     * @return the parsed document.
+     * @throws IOException if the document could not be parsed.
+     */
+    @Benchmark
+    public DocumentPart parseFrom() throws IOException {
+        return this._parser.parseFrom(new StringReader(this._text));
+    }
+
+    /**
+     * The parser used.
+     */
+    private TexDocumentParser _parser;
+
+    /**
+     * The text of the document to be parsed.
+     */
+    private String _text;
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package de.renew.netdoc.benchmarks;
+
+import de.renew.netdoc.model.document.documents.LinearDocument;
+
+
+/**
+ * Shapes of the synthetic documents used as benchmark parameters.
+ */
+public enum DocumentShape {
+
+    /**
+     * A short document with a single level, like a freshly created one.
+     */
+    SMALL(1, 4, 64),
+
+    /**
+     * A document of the size typically written for a net.
+     */
+    TYPICAL(3, 16, 512),
+
+    /**
+     * A large document stressing parser and serialisation.
+     */
+    HUGE(6, 64, 4096),
+
+    /**
+     * A narrow but deeply nested document.
+     */
+    DEEP(64, 2, 32),
+
+    /**
+     * A flat document with many definitions on a single level.
+     */
+    WIDE(1, 1024, 32);
+
+
+    /**
+     * Creates a new shape.
+     * @param depth the number of nested levels.
+     * @param width the number of definitions per level.
+     * @param textLength the text length of each definition.
+     */
+    private DocumentShape(int depth, int width, int textLength) {
+        this._depth = depth;
+        this._width = width;
+        this._textLength = textLength;
+    }
+
+    /**
+     * Returns the number of nested levels of this shape.
+     * @return the number of nested levels.
+     */
+    public int getDepth() {
+        return this._depth;
+    }
+
+    /**
+     * Returns the number of definitions per level of this shape.
+     * @return the number of definitions per level.
+     */
+    public int getWidth() {
+        return this._width;
+    }
+
+    /**
+     * Returns the text length of each definition of this shape.
+     * @return the text length of each definition.
+     */
+    public int getTextLength() {
+        return this._textLength;
+    }
+
+    /**
+     * Creates a new synthetic document of this shape.
+     * @return the new document.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public LinearDocument createDocument() {
+        return SyntheticDocuments.createDocument(this.getDepth(),
+                        this.getWidth(), this.getTextLength());
+    }
+
+    /**
+     * The number of nested levels.
+     */
+    private final int _depth;
+
+    /**
+     * The number of definitions per level.
+     */
+    private final int _width;
+
+    /**
+     * The text length of each definition.
+     */
+    private final int _textLength;
+}
\ No newline at end of file
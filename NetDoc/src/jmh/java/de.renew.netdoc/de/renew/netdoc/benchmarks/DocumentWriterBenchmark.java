@@ -0,0 +1,102 @@
+package de.renew.netdoc.benchmarks;
+
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.documentformatters.TexExportFormatter;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.managers.SimpleIOManager;
+import de.renew.netdoc.model.document.documents.LinearDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks serialising, copying and exporting documents of different
+ * sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentWriterBenchmark {
+
+    /**
+     * The shape of the processed document.
+     */
+    @Param({ "SMALL", "TYPICAL", "HUGE" })
+    public DocumentShape shape;
+
+    /**
+     * Creates the document and the Input/Output manager used for exporting.
+     */
+    @Setup
+    public void setUp() {
+        this._document = this.shape.createDocument();
+        this._ioManager = new SimpleIOManager(new TexExportFormatter(), null,
+                        null, new TexDocumentParser(),
+                        DocumentFiles.FILENAME_EXTENSION);
+    }
+
+    /**
+     * Converts the document to its string representation.
+     * @return the string representation.
+     */
+    @Benchmark
+    public String toStringDocument() {
+        return this._document.toString();
+    }
+
+    /**
+     * Writes the document to a discarding writer.
+     * @throws IOException if the document could not be written.
+     */
+    @Benchmark
+    public void writeTo() throws IOException {
+        this._document.writeTo(Writer.nullWriter());
+    }
+
+    /**
+     * Creates a deep copy of the document.
+     * @return the copy.
+     */
+    @Benchmark
+    public Object cloneDocument() {
+        return this._document.clone();
+    }
+
+    /**
+     * Exports the document to a discarding writer, including the export
+     * formatting.
+     * @throws IOException if the document could not be exported.
+     */
+    @Benchmark
+    public void exportDocumentPartTo() throws IOException {
+        this._ioManager.exportDocumentPartTo(this._document,
+                        Writer.nullWriter());
+    }
+
+    /**
+     * The processed document.
+     */
+    private LinearDocument _document;
+
+    /**
+     * The Input/Output manager used for exporting.
+     */
+    private IOManager _ioManager;
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package de.renew.netdoc.benchmarks;
+
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks looking up sub parts by name in deep and wide part trees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartLookupBenchmark {
+
+    /**
+     * The shape of the searched document.
+     */
+    @Param({ "DEEP", "WIDE", "TYPICAL" })
+    public DocumentShape shape;
+
+    /**
+     * Creates the searched document.
+     */
+    @Setup
+    public void setUp() {
+        this._document = this.shape.createDocument();
+        this._deepestLevel = SyntheticDocuments.getDeepestLevel(this._document,
+                        this.shape.getDepth());
+        this._lastItemName = SyntheticDocuments
+                        .getItemName(this.shape.getWidth() - 1);
+    }
+
+    /**
+     * Walks from the document down to the block of the deepest level.
+     * @return the block of the deepest level.
+     */
+    @Benchmark
+    public DocumentPart getPartDeep() {
+        DocumentPart returnValue = this._document
+                        .getPart(DocumentParts.NAME_NETDOC_MAIN);
+        for (int level = 0; level < this.shape.getDepth(); level++) {
+            returnValue = returnValue
+                            .getPart(SyntheticDocuments.getLevelName(level));
+        }
+        return returnValue;
+    }
+
+    /**
+     * Looks up the last definition of the deepest level.
+     * @return the definition found.
+     */
+    @Benchmark
+    public DocumentPart getPartWide() {
+        return this._deepestLevel.getPart(this._lastItemName);
+    }
+
+    /**
+     * Looks up a definition missing in the deepest level.
+     * @return {@code false}.
+     */
+    @Benchmark
+    public boolean containsPartMissing() {
+        return this._deepestLevel
+                        .containsPart(PartLookupBenchmark.MISSING_PART_NAME);
+    }
+
+    /**
+     * Name of a part contained in no generated document.
+     */
+    private static final String MISSING_PART_NAME = "netdocMissing";
+
+    /**
+     * The searched document.
+     */
+    private DocumentPart _document;
+
+    /**
+     * The block of the deepest level of the document.
+     */
+    private DocumentPart _deepestLevel;
+
+    /**
+     * The name of the last definition of each level.
+     */
+    private String _lastItemName;
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package de.renew.netdoc.benchmarks;
+
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.documents.LinearDocument;
+import de.renew.netdoc.model.document.documents.linear.TexDocument;
+import de.renew.netdoc.model.document.parts.LinearDocumentPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexBlockDefinitionPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+
+
+/**
+ * Generator of synthetic NetDoc TeX documents used by the benchmarks. The
+ * generated documents are deterministic; their shape is controlled by the
+ * nesting depth, the number of definitions per level and the text size of
+ * each definition.
+ */
+public abstract class SyntheticDocuments {
+
+    /**
+     * Prefix of the names of the nested block definitions.
+     */
+    public static final String LEVEL_NAME_PREFIX = "netdocLevel";
+
+    /**
+     * Prefix of the names of the definitions of each level.
+     */
+    public static final String ITEM_NAME_PREFIX = "netdocItem";
+
+    /**
+     * The words generated texts are made of.
+     */
+    private static final String[] WORDS = { "place", "transition", "arc",
+                    "token", "net", "inscription", "guard", "channel",
+                    "synchronous", "marking" };
+
+
+    /**
+     * Creates a new document containing the main block and the specified
+     * number of nested levels. Each level holds {@code width} definitions
+     * followed by the block of the next level.
+     * @param depth the number of nested levels.
+     * @param width the number of definitions per level.
+     * @param textLength the length of the text of each definition.
+     * @return the new document.
+     * @de.renew.require (depth >= 0)
+     * @de.renew.require (width >= 0)
+     * @de.renew.require (textLength >= 0)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static LinearDocument createDocument(int depth, int width,
+                                                int textLength) {
+        assert (depth >= 0) : "Precondition violated: (depth >= 0)";
+        assert (width >= 0) : "Precondition violated: (width >= 0)";
+        assert (textLength >= 0) : "Precondition violated: (textLength >= 0)";
+
+        LinearDocumentPart main = new TexBlockDefinitionPart(
+                        DocumentParts.NAME_NETDOC_MAIN);
+        main.appendPart(new TexDefinitionPart(DocumentParts.NAME_NETDOC_TITLE,
+                        "Synthetic document " + depth + "x" + width));
+        main.appendPart(new TexDefinitionPart(
+                        DocumentParts.NAME_NETDOC_DESCRIPTION,
+                        SyntheticDocuments.createText(textLength, 0)));
+
+        LinearDocumentPart parent = main;
+        for (int level = 0; level < depth; level++) {
+            LinearDocumentPart block = new TexBlockDefinitionPart(
+                            SyntheticDocuments.getLevelName(level));
+            for (int item = 0; item < width; item++) {
+                block.appendPart(new TexDefinitionPart(
+                                SyntheticDocuments.getItemName(item),
+                                SyntheticDocuments.createText(textLength,
+                                                level * width + item)));
+            }
+            parent.appendPart(block);
+            parent = block;
+        }
+
+        LinearDocument returnValue = new TexDocument();
+        returnValue.appendPart(main);
+        return returnValue;
+    }
+
+    /**
+     * Returns the block of the deepest level of the specified document
+     * created by {@link #createDocument(int,int,int)}.
+     * @param document the generated document.
+     * @param depth the depth the document was generated with.
+     * @return the block of the deepest level;<br>
+     * or the main block, if the depth is zero.
+     * @de.renew.require (document != null)
+     * @de.renew.require (depth >= 0)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static DocumentPart getDeepestLevel(DocumentPart document,
+                                               int depth) {
+        DocumentPart returnValue = document
+                        .getPart(DocumentParts.NAME_NETDOC_MAIN);
+        for (int level = 0; level < depth; level++) {
+            returnValue = returnValue
+                            .getPart(SyntheticDocuments.getLevelName(level));
+        }
+        return returnValue;
+    }
+
+    /**
+     * Returns the name of the block of the specified level.
+     * @param level the level, starting with {@code 0}.
+     * @return the block name.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String getLevelName(int level) {
+        return SyntheticDocuments.LEVEL_NAME_PREFIX + level;
+    }
+
+    /**
+     * Returns the name of the definition at the specified position of a
+     * level.
+     * @param item the position, starting with {@code 0}.
+     * @return the definition name.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String getItemName(int item) {
+        return SyntheticDocuments.ITEM_NAME_PREFIX + item;
+    }
+
+    /**
+     * Creates a text of the specified length made of words. The text contains
+     * no TeX control characters and no line breaks, since the parser only
+     * recognises definitions closed on their first line.
+     * @param length the length of the text.
+     * @param seed the index of the first word.
+     * @return the new text.
+     * @de.renew.require (length >= 0)
+     * @de.renew.ensure (returnValue.length() == length)
+     */
+    public static String createText(int length, int seed) {
+        StringBuilder builder = new StringBuilder(length + 16);
+        int word = seed;
+        while (builder.length() < length) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(SyntheticDocuments.WORDS[word
+                            % SyntheticDocuments.WORDS.length]);
+            word++;
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+}
\ No newline at end of file
@@ -6,18 +6,25 @@ import de.renew.netdoc.gui.Component;
 import de.renew.netdoc.model.container.ContainerException;
 import de.renew.netdoc.model.container.event.DocumentContainerEvent;
 import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentHistory;
 import de.renew.netdoc.model.document.DocumentPart;
 import de.renew.netdoc.model.document.DocumentParts;
 import de.renew.netdoc.model.document.event.DocumentChangeEvent;
+import de.renew.netdoc.model.document.event.PartSubscriptions;
 import de.renew.netdoc.model.document.event.StructureChangeAdapter;
 import de.renew.netdoc.model.document.event.StructureChangeEvent;
+import de.renew.netdoc.model.document.event.TextChangeAdapter;
 import de.renew.netdoc.model.document.event.TextChangeEvent;
 import de.renew.netdoc.model.document.event.TextChangeListener;
+import de.renew.netdoc.model.document.histories.BoundedDocumentHistory;
 import de.renew.netdoc.model.document.parts.DocumentPartWrapper;
 
 import java.awt.BorderLayout;
 import java.awt.GridLayout;
+import java.awt.event.ActionEvent;
 
+import javax.swing.AbstractAction;
+import javax.swing.Action;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
@@ -51,14 +58,42 @@ public class DocumentEditor extends SingleDocumentContainerComponent {
      * @param parent the parent of the new editor.
      */
     public DocumentEditor(Component parent) {
+        this(parent, null);
+    }
+
+    /**
+     * Creates a new DocumentEditor with the specified parent using the
+     * specified history of the document to be edited. A history given here
+     * is kept by its owner when the editor is closed, so that the edits can
+     * still be undone in a later editor of the same document.
+     *
+     * @param parent the parent of the new editor.
+     * @param history the history of the document to be edited;<br>
+     *            or {@code null}, if the editor is to create and dispose
+     *            the history itself.
+     */
+    public DocumentEditor(Component parent, DocumentHistory history) {
         super(parent);
 
         this._document = null;
+        this._fieldSubscriptions = null;
+        this._sharedHistory = history;
+        this._history = null;
         this._mainPanel = new JPanel();
-        this._titleField = new JUndoTextField();
-        this._authorField = new JUndoTextField();
-        this._descriptionArea = new JUndoTextArea();
-        this._descriptionArea.setLineWrap(true);
+        JUndoTextField titleField = new JUndoTextField();
+        JUndoTextField authorField = new JUndoTextField();
+        JUndoTextArea descriptionArea = new JUndoTextArea();
+        descriptionArea.setLineWrap(true);
+
+        // share one document history between all fields
+        Action undoAction = this.createUndoAction();
+        Action redoAction = this.createRedoAction();
+        titleField.setHistoryActions(undoAction, redoAction);
+        authorField.setHistoryActions(undoAction, redoAction);
+        descriptionArea.setHistoryActions(undoAction, redoAction);
+        this._titleField = titleField;
+        this._authorField = authorField;
+        this._descriptionArea = descriptionArea;
 
         // update the editor components
         this.setDocument(this._document);
@@ -350,18 +385,39 @@ public class DocumentEditor extends SingleDocumentContainerComponent {
      *            or {@code null}, if the editor is to be disabled.
      */
     protected void setDocument(Document document) {
-        if (this._document != null) {
-            this.removeListeners(this._document);
-            this.removeEditorParts(this._document);
+        // swapping the editor parts leaves the texts unchanged
+        if (this._sharedHistory != null) {
+            this._sharedHistory.setRecording(false);
         }
-        this.updateComponents(document);
-        if (document != null) {
-            this.addEditorParts(document);
-            this.addListeners(document);
+        try {
+            if (this._document != null) {
+                this.removeListeners(this._document);
+                this.removeEditorParts(this._document);
+            }
+            this.updateComponents(document);
+            if (document != null) {
+                this.addEditorParts(document);
+                this.addListeners(document);
+            }
+        } finally {
+            if (this._sharedHistory != null) {
+                this._sharedHistory.setRecording(true);
+            }
         }
         this._document = document;
     }
 
+    /**
+     * Returns the undo history of the document this editor is working on.
+     * The history covers all fields of this editor.
+     *
+     * @return the history of the document;<br>
+     *         or {@code null}, if no document is edited.
+     */
+    public DocumentHistory getHistory() {
+        return this._history;
+    }
+
     /**
      * Returns the main panel of this editor.
      *
@@ -454,6 +510,20 @@ public class DocumentEditor extends SingleDocumentContainerComponent {
                         (DocumentListener) document.getPart(
                                         DocumentParts.NAME_NETDOC_DESCRIPTION));
 
+        this._fieldSubscriptions = new PartSubscriptions(document);
+        this._fieldSubscriptions.addTextChangeListener(
+                        DocumentParts.NAME_NETDOC_AUTHOR,
+                        this.new FieldBinding(this.getAuthorTextField()));
+        this._fieldSubscriptions.addTextChangeListener(
+                        DocumentParts.NAME_NETDOC_TITLE,
+                        this.new FieldBinding(this.getTitleTextField()));
+        this._fieldSubscriptions.addTextChangeListener(
+                        DocumentParts.NAME_NETDOC_DESCRIPTION,
+                        this.new FieldBinding(this.getDescriptionArea()));
+
+        this._history = (this._sharedHistory != null) ? this._sharedHistory
+                        : new BoundedDocumentHistory(document);
+
         document.addStructureChangeListener(this.getChangeListener());
         document.addTextChangeListener(this.getChangeListener());
     }
@@ -469,6 +539,15 @@ public class DocumentEditor extends SingleDocumentContainerComponent {
         document.removeStructureChangeListener(this.getChangeListener());
         document.removeTextChangeListener(this.getChangeListener());
 
+        if ((this._history != null) && (this._history != this._sharedHistory)) {
+            this._history.dispose();
+        }
+        this._history = null;
+        if (this._fieldSubscriptions != null) {
+            this._fieldSubscriptions.dispose();
+            this._fieldSubscriptions = null;
+        }
+
         this.getAuthorTextField().getDocument().removeDocumentListener(
                         (DocumentListener) document.getPart(
                                         DocumentParts.NAME_NETDOC_AUTHOR));
@@ -510,6 +589,44 @@ public class DocumentEditor extends SingleDocumentContainerComponent {
         }
     }
 
+    /**
+     * Creates the undo action shared by the fields of this editor.
+     *
+     * @return the undo action - not {@code null}.
+     */
+    protected Action createUndoAction() {
+        return new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                DocumentHistory history = DocumentEditor.this.getHistory();
+                if ((history != null) && history.canUndo()) {
+                    history.undo();
+                }
+            }
+
+            private static final long serialVersionUID = 1L;
+        };
+    }
+
+    /**
+     * Creates the redo action shared by the fields of this editor.
+     *
+     * @return the redo action - not {@code null}.
+     */
+    protected Action createRedoAction() {
+        return new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent event) {
+                DocumentHistory history = DocumentEditor.this.getHistory();
+                if ((history != null) && history.canRedo()) {
+                    history.redo();
+                }
+            }
+
+            private static final long serialVersionUID = 1L;
+        };
+    }
+
     /**
      * Returns the document text and structure change listener used by this
      * component.
@@ -555,6 +672,25 @@ public class DocumentEditor extends SingleDocumentContainerComponent {
      */
     private ChangeListener _changeListener;
 
+    /**
+     * The subscriptions binding the text components to the parts of the
+     * document;<br>
+     * or {@code null}, if no document is edited.
+     */
+    private PartSubscriptions _fieldSubscriptions;
+
+    /**
+     * The undo history of the document this editor is working on;<br>
+     * or {@code null}, if no document is edited.
+     */
+    private DocumentHistory _history;
+
+    /**
+     * The history of the edited document kept by the owner of this editor;
+     * or {@code null}, if this editor creates its own history.
+     */
+    private DocumentHistory _sharedHistory;
+
 
     /**
      * The document part used by this editor replacing the original part while
@@ -651,6 +787,41 @@ public class DocumentEditor extends SingleDocumentContainerComponent {
         private JTextComponent _associatedComponent;
     }
 
+    /**
+     * Binding of a text component to the document part it edits. Updates the
+     * component, if the text of the part is changed by other means than the
+     * component itself.
+     */
+    protected class FieldBinding extends TextChangeAdapter {
+
+        /**
+         * Creates a new FieldBinding of the specified text component.
+         * @param component the text component to be updated.
+         * @de.renew.require (component != null)
+         */
+        public FieldBinding(JTextComponent component) {
+            assert (component != null) : "Precondition violated: (component != null)";
+
+            this._component = component;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected void textChangedImpl(TextChangeEvent event) {
+            // changes made by the component itself are not written back
+            if (!this._component.getText().equals(event.getNewText())) {
+                this._component.setText(event.getNewText());
+            }
+        }
+
+        /**
+         * The text component updated by this binding.
+         */
+        private JTextComponent _component;
+    }
+
     /**
      * Observer listening to structure and text change events of the document
      * this editor is working on. Notfies all document change listener of this
@@ -5,6 +5,7 @@ import de.renew.netdoc.model.container.ContainerException;
 import de.renew.netdoc.model.container.event.DocumentContainerAdapter;
 import de.renew.netdoc.model.container.event.DocumentContainerEvent;
 import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentHistory;
 import de.renew.netdoc.model.document.event.DocumentChangeEvent;
 import de.renew.netdoc.model.document.event.DocumentChangeListener;
 
@@ -36,10 +37,22 @@ public class NetDocPanel extends SingleDocumentContainerComponent {
      * @param parent  the parent of the new panel.
      */
     public NetDocPanel(Component parent) {
+        this(parent, null);
+    }
+
+    /**
+     * Creates a new NetDocPanel with the specified parent using the
+     * specified history of the document to be edited.
+     * @param parent  the parent of the new panel.
+     * @param history the history of the document to be edited, kept by the
+     * caller when the panel is closed;<br>
+     * or {@code null}, if the editor is to create its own history.
+     */
+    public NetDocPanel(Component parent, DocumentHistory history) {
         super(parent);
 
         this._panel = new JPanel();
-        this._editor = new DocumentEditor(this);
+        this._editor = new DocumentEditor(this, history);
 
         this.getPanel().setLayout(new BorderLayout());
         this.getPanel().add(this.getEditor().getJavaComponent(),
@@ -1,16 +1,25 @@
 package de.renew.netdoc.gui.event;
 
 import java.awt.Frame;
+import java.awt.Rectangle;
 import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.util.concurrent.Semaphore;
+
+import javax.swing.Timer;
 
 
 /**
- * Window connection listener.
+ * <p>Window connection listener.</p>
+ * <p>Moving or resizing one of the connected windows does not update the
+ * opposite window at once. The changes are coalesced into a single update
+ * per {@link #SYNC_DELAY_MILLIS}, which sets the bounds of the opposite
+ * window in one step. The component events caused by this update are
+ * recognised as echoes and dropped.</p>
  *
  * @author Christian Bracker,
  * <a href="mailto:1bracker@informatik.uni-hamburg.de">
@@ -44,6 +53,12 @@ public class WindowConnectionListener extends WindowAdapter
      */
     public static final Object STATE_NOT_CONNECTED = "not-connected";
 
+    /**
+     * Delay in milliseconds by which the opposite window follows a move or
+     * resize, about one frame.
+     */
+    public static final int SYNC_DELAY_MILLIS = 16;
+
 
     /**
      * Returns the first WindowConnectionListener found within the specified
@@ -130,11 +145,18 @@ public class WindowConnectionListener extends WindowAdapter
         this._stateChanged = true;
         this._defaultHeight = 0;
         this._defaultWidth = 0;
-        this._oldX1 = Integer.MIN_VALUE;
-        this._oldX2 = Integer.MIN_VALUE;
-        this._oldY1 = Integer.MIN_VALUE;
-        this._oldY2 = Integer.MIN_VALUE;
-        this._updateSemaphore = new Semaphore(1, true);
+        this._expectedBounds1 = null;
+        this._expectedBounds2 = null;
+        this._leader = null;
+        this._resizePending = false;
+        this._syncTimer = new Timer(WindowConnectionListener.SYNC_DELAY_MILLIS,
+                        new ActionListener() {
+                            @Override
+                            public void actionPerformed(ActionEvent event) {
+                                WindowConnectionListener.this.synchronize();
+                            }
+                        });
+        this._syncTimer.setRepeats(false);
     }
 
 
@@ -258,11 +280,13 @@ public class WindowConnectionListener extends WindowAdapter
 
     /**
      * Tells this listener to update its connection. This is done by updating
-     * the size and position of the first window.
+     * the size and position of the first window at once.
      */
     public void update() {
-        this.updateSize(this.getWindow1(), this.getWindow2());
-        this.updatePosition(this.getWindow1(), this.getWindow2());
+        this._syncTimer.stop();
+        this._leader = null;
+        this._resizePending = false;
+        this.follow(this.getWindow1(), this.getWindow2(), true);
     }
 
 
@@ -276,9 +300,8 @@ public class WindowConnectionListener extends WindowAdapter
                         .equals(WindowConnectionListener.STATE_NOT_CONNECTED)) {
             try {
                 Window movedWindow = (Window) event.getComponent();
-                if (movedWindow != null) {
-                    this.updatePosition(this.getOppositeWindow(movedWindow),
-                                    movedWindow);
+                if ((movedWindow != null) && !this.isEcho(movedWindow)) {
+                    this.scheduleSync(movedWindow, false);
                 }
             } catch (Exception e) {
             }
@@ -295,11 +318,8 @@ public class WindowConnectionListener extends WindowAdapter
                         .equals(WindowConnectionListener.STATE_NOT_CONNECTED)) {
             try {
                 Window resizedWindow = (Window) event.getComponent();
-                if (resizedWindow != null) {
-                    Window oppositeWindow = this
-                                    .getOppositeWindow(resizedWindow);
-                    this.updatePosition(oppositeWindow, resizedWindow);
-                    this.updateSize(oppositeWindow, resizedWindow);
+                if ((resizedWindow != null) && !this.isEcho(resizedWindow)) {
+                    this.scheduleSync(resizedWindow, true);
                 }
             } catch (Exception e) {
             }
@@ -384,27 +404,18 @@ public class WindowConnectionListener extends WindowAdapter
     }
 
     /**
-     * Determines the x-position of the specified window after the last update.
-     * @param window the window whose former position is to determine.
-     * @return the former x-position.
-     * @de.renew.require (window != null)
-     * @de.renew.require ((window == this.getWindow1()) ||
-     *         (window == this.getWindow2()))
-     */
-    protected int getOldX(Window window) {
-        return (window == this.getWindow1()) ? this._oldX1 : this._oldX2;
-    }
-
-    /**
-     * Determines the y-position of the specified window after the last update.
-     * @param window the window whose former position is to determine.
-     * @return the former y-position.
+     * Returns the bounds the specified window was last set to by this
+     * listener.
+     * @param window the window whose expected bounds are to determine.
+     * @return the expected bounds;<br>
+     * or {@code null}, if no update of the window is pending.
      * @de.renew.require (window != null)
      * @de.renew.require ((window == this.getWindow1()) ||
      *         (window == this.getWindow2()))
      */
-    protected int getOldY(Window window) {
-        return (window == this.getWindow1()) ? this._oldY1 : this._oldY2;
+    protected Rectangle getExpectedBounds(Window window) {
+        return (window == this.getWindow1()) ? this._expectedBounds1
+                        : this._expectedBounds2;
     }
 
     /**
@@ -425,155 +436,172 @@ public class WindowConnectionListener extends WindowAdapter
     }
 
     /**
-     * Sets the former x-position of the specified window.
-     * @param window the window whose former position is to set.
-     * @param oldX the new former x-position.
+     * Sets the bounds the specified window was last set to by this listener.
+     * @param window the window whose expected bounds are to set.
+     * @param bounds the expected bounds;<br>
+     * or {@code null}, if no update of the window is pending.
      * @de.renew.require (window != null)
      * @de.renew.require ((window == this.getWindow1()) ||
      *         (window == this.getWindow2()))
      */
-    protected void setOldX(Window window, int oldX) {
+    protected void setExpectedBounds(Window window, Rectangle bounds) {
         if (window == this.getWindow1()) {
-            this._oldX1 = oldX;
+            this._expectedBounds1 = bounds;
         } else {
-            this._oldX2 = oldX;
+            this._expectedBounds2 = bounds;
         }
     }
 
     /**
-     * Sets the former y-position of the specified window.
-     * @param window the window whose former position is to set.
-     * @param oldY the new former y-position.
+     * Determines whether a component event of the specified window has been
+     * caused by an update of this listener. Any other event clears the
+     * expected bounds of the window.
+     * @param window the window that has been moved or resized.
+     * @return {@code true}, if the window has the bounds it was last set to
+     * by this listener;<br>
+     * {@code false} otherwise.
      * @de.renew.require (window != null)
      * @de.renew.require ((window == this.getWindow1()) ||
      *         (window == this.getWindow2()))
      */
-    protected void setOldY(Window window, int oldY) {
-        if (window == this.getWindow1()) {
-            this._oldY1 = oldY;
-        } else {
-            this._oldY2 = oldY;
+    protected boolean isEcho(Window window) {
+        Rectangle expected = this.getExpectedBounds(window);
+        if ((expected != null) && expected.equals(window.getBounds())) {
+            return true;
         }
+        this.setExpectedBounds(window, null);
+        return false;
     }
 
     /**
-     * Updates the position of the specified window depending on the position
-     * of the specified connected window and the current connection state.
-     * @param windowToUpdate  the window whose position is to be updated.
-     * @param oppositeWindow  the connected window.
+     * Schedules the opposite window of the specified window to follow it
+     * with the next synchronisation. Further changes until then are
+     * coalesced; the window changed last leads.
+     * @param leader the window that has been moved or resized.
+     * @param resized {@code true}, if the window has been resized;<br>
+     * {@code false}, if it has been moved only.
+     * @de.renew.require (leader != null)
+     */
+    protected void scheduleSync(Window leader, boolean resized) {
+        if (leader != this._leader) {
+            this._resizePending = false;
+        }
+        this._leader = leader;
+        this._resizePending = this._resizePending || resized;
+        if (!this._syncTimer.isRunning()) {
+            this._syncTimer.start();
+        }
+    }
+
+    /**
+     * Lets the opposite window of the latest changed window follow it.
+     */
+    protected void synchronize() {
+        Window leader = this._leader;
+        boolean resized = this._resizePending;
+        this._leader = null;
+        this._resizePending = false;
+        if (leader != null) {
+            this.follow(this.getOppositeWindow(leader), leader, resized);
+        }
+    }
+
+    /**
+     * Moves and, if requested, resizes the specified window so that it is
+     * attached to the specified connected window. The new bounds are set in
+     * one step and remembered to recognise the resulting events.
+     * @param windowToUpdate the window whose bounds are to be updated.
+     * @param oppositeWindow the connected window.
+     * @param resize {@code true}, if the size is to be updated as well;<br>
+     * {@code false}, if the position is to be updated only.
      * @de.renew.require (windowToUpdate != null)
      * @de.renew.require (oppositeWindow != null)
      */
-    protected synchronized void updatePosition(Window windowToUpdate,
-                                               Window oppositeWindow) {
-        try {
-            this._updateSemaphore.acquire();
-        } catch (InterruptedException e) {
+    protected synchronized void follow(Window windowToUpdate,
+                                       Window oppositeWindow, boolean resize) {
+        Object connectionState = this.getConnectionState(windowToUpdate);
+        if (connectionState
+                        .equals(WindowConnectionListener.STATE_NOT_CONNECTED)) {
             return;
         }
-        try {
-            Object connectionState = this.getConnectionState(windowToUpdate);
-            if (connectionState.equals(
-                            WindowConnectionListener.STATE_NOT_CONNECTED)) {
-                return;
-            }
-
-            if ((this.getOldX(oppositeWindow) == oppositeWindow.getX())
-                            && (this.getOldY(oppositeWindow) == oppositeWindow
-                                            .getY())) {
-                this.setOldX(oppositeWindow, Integer.MIN_VALUE);
-                this.setOldY(oppositeWindow, Integer.MIN_VALUE);
-                return;
-            }
 
-            int newX = 0;
-            int newY = 0;
-
-            if (connectionState.equals(
-                            WindowConnectionListener.STATE_CONNECTED_BOTTOM)) {
-                newX = oppositeWindow.getX();
-                newY = oppositeWindow.getY() + oppositeWindow.getHeight();
-            } else if (connectionState.equals(
-                            WindowConnectionListener.STATE_CONNECTED_LEFT)) {
-                newX = oppositeWindow.getX() - windowToUpdate.getWidth();
-                newY = oppositeWindow.getY();
-            } else if (connectionState.equals(
-                            WindowConnectionListener.STATE_CONNECTED_RIGHT)) {
-                newX = oppositeWindow.getX() + oppositeWindow.getWidth();
-                newY = oppositeWindow.getY();
-            } else { // if (connectionState.equals(
-                     //       WindowConnectionListener.STATE_CONNECTED_TOP)) {
-                newX = oppositeWindow.getX();
-                newY = oppositeWindow.getY() - windowToUpdate.getHeight();
-            }
+        Rectangle bounds = windowToUpdate.getBounds();
+        if (resize) {
+            this.updateSize(bounds, windowToUpdate, oppositeWindow);
+        }
+        this.updatePosition(bounds, windowToUpdate, oppositeWindow);
 
-            if ((windowToUpdate.getX() != newX)
-                            || (windowToUpdate.getY() != newY)) {
-                this.setOldX(windowToUpdate, windowToUpdate.getX());
-                this.setOldY(windowToUpdate, windowToUpdate.getY());
-                windowToUpdate.setLocation(newX, newY);
-            }
-        } finally {
-            this._updateSemaphore.release();
+        if (!bounds.equals(windowToUpdate.getBounds())) {
+            this.setExpectedBounds(windowToUpdate, bounds);
+            windowToUpdate.setBounds(bounds);
         }
     }
 
     /**
-     * Updates the size of the specified window depending on the size of the
-     * specified connected window and the current connection state.
-     * @param windowToUpdate  the window whose size is to be updated.
+     * Updates the position within the specified bounds of a window depending
+     * on the position of the specified connected window and the current
+     * connection state.
+     * @param bounds the bounds of the window to be updated.
+     * @param windowToUpdate  the window whose position is to be updated.
      * @param oppositeWindow  the connected window.
+     * @de.renew.require (bounds != null)
      * @de.renew.require (windowToUpdate != null)
      * @de.renew.require (oppositeWindow != null)
      */
-    protected synchronized void updateSize(Window windowToUpdate,
-                                           Window oppositeWindow) {
-        try {
-            this._updateSemaphore.acquire();
-        } catch (InterruptedException e) {
-            return;
+    protected void updatePosition(Rectangle bounds, Window windowToUpdate,
+                                  Window oppositeWindow) {
+        Object connectionState = this.getConnectionState(windowToUpdate);
+        if (connectionState.equals(
+                        WindowConnectionListener.STATE_CONNECTED_BOTTOM)) {
+            bounds.x = oppositeWindow.getX();
+            bounds.y = oppositeWindow.getY() + oppositeWindow.getHeight();
+        } else if (connectionState.equals(
+                        WindowConnectionListener.STATE_CONNECTED_LEFT)) {
+            bounds.x = oppositeWindow.getX() - bounds.width;
+            bounds.y = oppositeWindow.getY();
+        } else if (connectionState.equals(
+                        WindowConnectionListener.STATE_CONNECTED_RIGHT)) {
+            bounds.x = oppositeWindow.getX() + oppositeWindow.getWidth();
+            bounds.y = oppositeWindow.getY();
+        } else if (connectionState.equals(
+                        WindowConnectionListener.STATE_CONNECTED_TOP)) {
+            bounds.x = oppositeWindow.getX();
+            bounds.y = oppositeWindow.getY() - bounds.height;
         }
-        try {
-            Object connectionState = this.getConnectionState(windowToUpdate);
-            if (connectionState.equals(
-                            WindowConnectionListener.STATE_NOT_CONNECTED)) {
-                return;
-            }
+    }
 
-            int newHeight = 0;
-            int newWidth = 0;
-
-            if (connectionState.equals(
-                            WindowConnectionListener.STATE_CONNECTED_BOTTOM)
-                            || connectionState.equals(
-                                            WindowConnectionListener.STATE_CONNECTED_TOP)) {
-                if (this._stateChanged
-                                && (windowToUpdate == this.getWindow1())) {
-                    newHeight = this.getDefaultHeight();
-                    this._stateChanged = false;
-                }
-                if (newHeight == 0) {
-                    newHeight = windowToUpdate.getHeight();
-                }
-                newWidth = oppositeWindow.getWidth();
-            } else {
-                if (this._stateChanged
-                                && (windowToUpdate == this.getWindow1())) {
-                    newWidth = this.getDefaultWidth();
-                    this._stateChanged = false;
-                }
-                if (newWidth == 0) {
-                    newWidth = windowToUpdate.getWidth();
-                }
-                newHeight = oppositeWindow.getHeight();
+    /**
+     * Updates the size within the specified bounds of a window depending on
+     * the size of the specified connected window and the current connection
+     * state.
+     * @param bounds the bounds of the window to be updated.
+     * @param windowToUpdate  the window whose size is to be updated.
+     * @param oppositeWindow  the connected window.
+     * @de.renew.require (bounds != null)
+     * @de.renew.require (windowToUpdate != null)
+     * @de.renew.require (oppositeWindow != null)
+     */
+    protected void updateSize(Rectangle bounds, Window windowToUpdate,
+                              Window oppositeWindow) {
+        Object connectionState = this.getConnectionState(windowToUpdate);
+        if (connectionState.equals(
+                        WindowConnectionListener.STATE_CONNECTED_BOTTOM)
+                        || connectionState.equals(
+                                        WindowConnectionListener.STATE_CONNECTED_TOP)) {
+            if (this._stateChanged && (windowToUpdate == this.getWindow1())
+                            && (this.getDefaultHeight() != 0)) {
+                bounds.height = this.getDefaultHeight();
             }
-
-            if ((windowToUpdate.getHeight() != newHeight)
-                            || (windowToUpdate.getWidth() != newWidth)) {
-                windowToUpdate.setSize(newWidth, newHeight);
+            bounds.width = oppositeWindow.getWidth();
+        } else {
+            if (this._stateChanged && (windowToUpdate == this.getWindow1())
+                            && (this.getDefaultWidth() != 0)) {
+                bounds.width = this.getDefaultWidth();
             }
-        } finally {
-            this._updateSemaphore.release();
+            bounds.height = oppositeWindow.getHeight();
+        }
+        if (windowToUpdate == this.getWindow1()) {
+            this._stateChanged = false;
         }
     }
 
@@ -672,27 +700,31 @@ public class WindowConnectionListener extends WindowAdapter
     private int _defaultWidth;
 
     /**
-     * The x-position of the first window after the last position update.
+     * The bounds the first window was last set to by this listener;<br>
+     * or {@code null}, if no update of the first window is pending.
      */
-    private int _oldX1;
+    private Rectangle _expectedBounds1;
 
     /**
-     * The x-position of the second window after the last position update.
+     * The bounds the second window was last set to by this listener;<br>
+     * or {@code null}, if no update of the second window is pending.
      */
-    private int _oldX2;
+    private Rectangle _expectedBounds2;
 
     /**
-     * The y-position of the first window after the last position update.
+     * The window changed last before the next synchronisation;<br>
+     * or {@code null}, if no synchronisation is pending.
      */
-    private int _oldY1;
+    private Window _leader;
 
     /**
-     * The y-position of the second window after the last position update.
+     * Specifies whether the leading window has been resized since the last
+     * synchronisation.
      */
-    private int _oldY2;
+    private boolean _resizePending;
 
     /**
-     * Sempahore used for position and size updates.
+     * The timer coalescing the changes until the next synchronisation.
      */
-    private Semaphore _updateSemaphore;
+    private Timer _syncTimer;
 }
\ No newline at end of file
@@ -194,6 +194,32 @@ public class JUndoTextArea extends JTextArea {
         return returnValue;
     }
 
+    /**
+     * Replaces the undo and redo actions of this text area by the specified
+     * actions, so that the keystrokes act on a history shared with other
+     * components. The own UndoManager stops recording edits meanwhile.
+     *
+     * @param undoAction the action undoing the last edit;<br>
+     *            or {@code null}, if the own UndoManager is to be used again.
+     * @param redoAction the action redoing the last undone edit;<br>
+     *            or {@code null}, if the own UndoManager is to be used again.
+     */
+    public void setHistoryActions(Action undoAction, Action redoAction) {
+        this.getDocument().removeUndoableEditListener(this.getUndoManager());
+        this.getUndoManager().discardAllEdits();
+        this._historyShared = (undoAction != null) && (redoAction != null);
+        if (this._historyShared) {
+            this.getActionMap().put(JUndoTextArea.ACTION_KEY_UNDO, undoAction);
+            this.getActionMap().put(JUndoTextArea.ACTION_KEY_REDO, redoAction);
+        } else {
+            this.getDocument().addUndoableEditListener(this.getUndoManager());
+            this.getActionMap().put(JUndoTextArea.ACTION_KEY_UNDO,
+                            this.createUndoAction());
+            this.getActionMap().put(JUndoTextArea.ACTION_KEY_REDO,
+                            this.createRedoAction());
+        }
+    }
+
     /**
      * Associates this text area with the specified text document.
      *
@@ -208,7 +234,9 @@ public class JUndoTextArea extends JTextArea {
                             .removeUndoableEditListener(this.getUndoManager());
             this.getUndoManager().discardAllEdits();
         }
-        document.addUndoableEditListener(this.getUndoManager());
+        if (!this._historyShared) {
+            document.addUndoableEditListener(this.getUndoManager());
+        }
         super.setDocument(document);
     }
 
@@ -306,6 +334,12 @@ public class JUndoTextArea extends JTextArea {
      */
     private UndoManager _undoManager;
 
+    /**
+     * Specifies whether the undo and redo actions are replaced by actions of
+     * a shared history.
+     */
+    private boolean _historyShared;
+
     /**
      * Serial Version UID of this class.
      */
@@ -5,8 +5,12 @@ import de.renew.netdoc.model.container.ContainerException;
 import de.renew.netdoc.model.container.event.DocumentContainerAdapter;
 import de.renew.netdoc.model.container.event.DocumentContainerEvent;
 import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentParts;
 import de.renew.netdoc.model.document.event.DocumentChangeEvent;
 import de.renew.netdoc.model.document.event.DocumentChangeListener;
+import de.renew.netdoc.model.document.event.PartSubscriptions;
+import de.renew.netdoc.model.document.event.TextChangeAdapter;
+import de.renew.netdoc.model.document.event.TextChangeEvent;
 
 import java.awt.Dimension;
 import java.util.Collections;
@@ -44,6 +48,7 @@ public class NetDocWindow extends SingleDocumentContainerWindow {
     public NetDocWindow() {
         this._frame = new NetDocWindow.Frame();
         this._panel = new NetDocPanel(this);
+        this._titleSubscriptions = null;
 
         ((JComponent) this.getPanel().getJavaComponent())
                         .setBorder(new EmptyBorder(4, 2, 2, 2));
@@ -150,6 +155,26 @@ public class NetDocWindow extends SingleDocumentContainerWindow {
         return this._containerListener;
     }
 
+    /**
+     * Subscribes this window to the title part of the specified document, so
+     * that the window title follows the document title.
+     * @param document the document opened;<br>
+     * or {@code null}, if no document is open.
+     */
+    protected void subscribeTitle(Document document) {
+        if (this._titleSubscriptions != null) {
+            this._titleSubscriptions.dispose();
+            this._titleSubscriptions = null;
+        }
+        if (document != null) {
+            this._titleSubscriptions = new PartSubscriptions(document);
+            this._titleSubscriptions.addTextChangeListener(
+                            DocumentParts.NAME_NETDOC_TITLE,
+                            new NetDocWindow.TitleListener());
+        }
+        this.updateTitle();
+    }
+
 
     /**
      * The java frame used by this window.
@@ -166,6 +191,12 @@ public class NetDocWindow extends SingleDocumentContainerWindow {
      */
     private ContainerListener _containerListener;
 
+    /**
+     * The subscription to the title part of the open document;<br>
+     * or {@code null}, if no document is open.
+     */
+    private PartSubscriptions _titleSubscriptions;
+
 
     /**
      * Observer listening to document change events of the panel component.
@@ -225,6 +256,7 @@ public class NetDocWindow extends SingleDocumentContainerWindow {
          */
         @Override
         protected void documentClosedImpl(DocumentContainerEvent event) {
+            NetDocWindow.this.subscribeTitle(null);
             NetDocWindow.this.fireDocumentContainerEvent(
                             new DocumentContainerEvent(event.getType(),
                                             NetDocWindow.this,
@@ -247,6 +279,7 @@ public class NetDocWindow extends SingleDocumentContainerWindow {
          */
         @Override
         protected void documentOpenedImpl(DocumentContainerEvent event) {
+            NetDocWindow.this.subscribeTitle(event.getInvolvedDocument());
             NetDocWindow.this.fireDocumentContainerEvent(
                             new DocumentContainerEvent(event.getType(),
                                             NetDocWindow.this,
@@ -254,10 +287,31 @@ public class NetDocWindow extends SingleDocumentContainerWindow {
         }
     }
 
+    /**
+     * Observer listening to text changes of the title part of the open
+     * document.
+     */
+    protected class TitleListener extends TextChangeAdapter {
+
+        /**
+         * Creates a new TitleListener.
+         */
+        public TitleListener() {
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected void textChangedImpl(TextChangeEvent event) {
+            NetDocWindow.this.updateTitle();
+        }
+    }
+
 
     /**
      * The internal frame using the default height and width as preferred size
-     * and the document name as title.
+     * and the document name, followed by the document title if set, as title.
      */
     protected class Frame extends JFrame {
 
@@ -283,7 +337,14 @@ public class NetDocWindow extends SingleDocumentContainerWindow {
         @Override
         public String getTitle() {
             try {
-                return NetDocWindow.this.getDocument().getName() + " - NetDoc";
+                Document document = NetDocWindow.this.getDocument();
+                String title = DocumentParts.findPartText(document,
+                                DocumentParts.NAME_NETDOC_TITLE);
+                if ((title == null) || title.trim().isEmpty()) {
+                    return document.getName() + " - NetDoc";
+                }
+                return document.getName() + " (" + title.trim()
+                                + ") - NetDoc";
             } catch (NullPointerException e) {
                 return "NetDoc";
             }
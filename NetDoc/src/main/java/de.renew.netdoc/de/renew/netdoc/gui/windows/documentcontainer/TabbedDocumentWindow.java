@@ -0,0 +1,772 @@
+package de.renew.netdoc.gui.windows.documentcontainer;
+
+import de.renew.netdoc.gui.components.documentcontainer.NetDocPanel;
+import de.renew.netdoc.gui.windows.DocumentContainerWindow;
+import de.renew.netdoc.model.container.ContainerException;
+import de.renew.netdoc.model.container.event.DocumentContainerEvent;
+import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentHistory;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.event.DocumentChangeEvent;
+import de.renew.netdoc.model.document.event.DocumentChangeListener;
+import de.renew.netdoc.model.document.event.PartSubscriptions;
+import de.renew.netdoc.model.document.event.TextChangeAdapter;
+import de.renew.netdoc.model.document.event.TextChangeEvent;
+import de.renew.netdoc.model.document.histories.BoundedDocumentHistory;
+
+import org.apache.log4j.Logger;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
+import javax.swing.Timer;
+import javax.swing.WindowConstants;
+import javax.swing.border.EmptyBorder;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+
+/**
+ * <p>Single-Window-Mode NetDoc GUI window holding any number of documents in
+ * the tabs of one frame.</p>
+ * <p>The editor panel of a document is created when its tab is shown for the
+ * first time. Editors of tabs that have not been shown for longer than the
+ * idle time of this window are released again, so that only the recently
+ * used tabs hold Swing components. The undo history of a document belongs
+ * to its tab, so that it survives the release of the editor.</p>
+ */
+public class TabbedDocumentWindow extends DocumentContainerWindow {
+
+    /**
+     * The Logger for this class.
+     */
+    private static final Logger logger = Logger
+                    .getLogger(TabbedDocumentWindow.class);
+
+    /**
+     * Default time in milliseconds after which the editor of a hidden tab is
+     * released.
+     */
+    public static final long DEFAULT_IDLE_MILLIS = 120000L;
+
+    /**
+     * Shortest interval in milliseconds between two sweeps for idle editors.
+     */
+    private static final int MIN_SWEEP_MILLIS = 1000;
+
+    /**
+     * Default width of a TabbedDocumentWindow.
+     */
+    private static final int WIDTH = 500;
+
+    /**
+     * Default height of a TabbedDocumentWindow.
+     */
+    private static final int HEIGHT = 260;
+
+
+    /**
+     * Creates a new TabbedDocumentWindow releasing hidden editors after the
+     * default idle time.
+     */
+    public TabbedDocumentWindow() {
+        this(TabbedDocumentWindow.DEFAULT_IDLE_MILLIS);
+    }
+
+    /**
+     * Creates a new TabbedDocumentWindow releasing hidden editors after the
+     * specified idle time.
+     * @param idleMillis the time in milliseconds after which the editor of a
+     * hidden tab is released.
+     * @de.renew.require (idleMillis > 0)
+     */
+    public TabbedDocumentWindow(long idleMillis) {
+        assert (idleMillis > 0) : "Precondition violated: (idleMillis > 0)";
+
+        this._idleMillis = idleMillis;
+        this._tabs = new ArrayList<Tab>();
+        this._tabbedPane = new JTabbedPane(JTabbedPane.TOP,
+                        JTabbedPane.SCROLL_TAB_LAYOUT);
+        this._frame = new TabbedDocumentWindow.Frame();
+        this._titleSubscriptions = null;
+        this._isOpened = false;
+        this._isClosed = false;
+
+        this.getTabbedPane().addChangeListener(
+                        new TabbedDocumentWindow.SelectionListener());
+
+        this.getFrame().addWindowListener(
+                        new TabbedDocumentWindow.FrameListener());
+        this.getFrame().getContentPane().add(this.getTabbedPane());
+        this.getFrame().setDefaultCloseOperation(
+                        WindowConstants.DO_NOTHING_ON_CLOSE);
+        this.getFrame().pack();
+
+        int sweepMillis = (int) Math.min(Integer.MAX_VALUE,
+                        Math.max(TabbedDocumentWindow.MIN_SWEEP_MILLIS,
+                                        idleMillis / 2));
+        this._sweepTimer = new Timer(sweepMillis,
+                        new TabbedDocumentWindow.SweepListener());
+        this._sweepTimer.start();
+    }
+
+
+    /**
+     * Returns the time after which the editor of a hidden tab is released.
+     * @return the idle time in milliseconds.
+     * @de.renew.ensure (returnValue > 0)
+     */
+    public long getIdleMillis() {
+        return this._idleMillis;
+    }
+
+    /**
+     * Returns the number of tabs currently holding an editor.
+     * @return the number of created editors.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getEditorCount() {
+        int returnValue = 0;
+        for (Tab tab : this._tabs) {
+            if (tab.getPanel() != null) {
+                returnValue++;
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * Determines whether this window has been closed.
+     * @return {@code true}, if this window has been closed;<br>
+     * {@code false} otherwise.
+     */
+    public boolean isClosed() {
+        return this._isClosed;
+    }
+
+    /**
+     * Updates the title of this window and the titles of its tabs.
+     */
+    public void updateTitle() {
+        for (int index = 0; index < this._tabs.size(); index++) {
+            this.getTabbedPane().setTitleAt(index,
+                            this._tabs.get(index).getDocument().getName());
+        }
+        this.getFrame().updateTitle();
+    }
+
+    /**
+     * Releases the editors of all hidden tabs that have not been shown for
+     * longer than the idle time of this window.
+     */
+    public void releaseIdleEditors() {
+        long now = System.currentTimeMillis();
+        Tab selected = this.getSelectedTab();
+        for (Tab tab : this._tabs) {
+            if ((tab != selected) && (tab.getPanel() != null)
+                            && (now - tab.getLastShown() >= this
+                                            .getIdleMillis())) {
+                this.releaseEditor(tab);
+            }
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void close(boolean forceClose) {
+        List<Document> documents = new ArrayList<Document>(
+                        this.getDocuments());
+        for (Document document : documents) {
+            this.closeDocument(document, forceClose);
+        }
+
+        if (forceClose) {
+            if (!this.isClosed()) {
+                this._isClosed = true;
+                this._sweepTimer.stop();
+                this.getJavaFrame().dispose();
+                this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                                DocumentContainerEvent.CONTAINER_CLOSED, this));
+            }
+        } else {
+            if (this._tabs.isEmpty() && !this.isClosed()) {
+                this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                                DocumentContainerEvent.CONTAINER_CLOSING,
+                                this));
+            }
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Document getCurrentDocument() {
+        Tab selected = this.getSelectedTab();
+        return (selected == null) ? null : selected.getDocument();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void openDocumentImpl(Document documentToOpen)
+                    throws ContainerException {
+        if (this.isClosed()) {
+            throw new ContainerException("Container already closed");
+        }
+        Tab tab = this.getTab(documentToOpen);
+        if (tab == null) {
+            tab = this.new Tab(documentToOpen);
+            documentToOpen.addDocumentChangeListener(this.getChangeListener());
+            this._tabs.add(tab);
+            this.getTabbedPane().addTab(documentToOpen.getName(),
+                            tab.getHolder());
+            this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                            DocumentContainerEvent.DOCUMENT_OPENED, this,
+                            documentToOpen));
+        }
+        this.getTabbedPane().setSelectedComponent(tab.getHolder());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void closeDocumentImpl(Document documentToClose,
+                                     boolean forceClose) {
+        Tab tab = this.getTab(documentToClose);
+        if (tab == null) {
+            return;
+        }
+        if (forceClose) {
+            this.releaseEditor(tab);
+            tab.getHistory().dispose();
+            documentToClose.removeDocumentChangeListener(
+                            this.getChangeListener());
+            this._tabs.remove(tab);
+            this.getTabbedPane().remove(tab.getHolder());
+            this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                            DocumentContainerEvent.DOCUMENT_CLOSED, this,
+                            documentToClose));
+        } else {
+            this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                            DocumentContainerEvent.DOCUMENT_CLOSING, this,
+                            documentToClose));
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void focusOnDocumentImpl(Document document) {
+        Tab tab = this.getTab(document);
+        if (tab != null) {
+            super.focusOnDocumentImpl(document);
+            this.getTabbedPane().setSelectedComponent(tab.getHolder());
+            this.createEditor(tab);
+            if (tab.getPanel() != null) {
+                tab.getPanel().focusOnDocument(document);
+            }
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected Collection<Document> getDocumentsImpl() {
+        ArrayList<Document> documents = new ArrayList<Document>();
+        for (Tab tab : this._tabs) {
+            documents.add(tab.getDocument());
+        }
+        return documents;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected List<NetDocPanel> getChildrenImpl() {
+        ArrayList<NetDocPanel> panels = new ArrayList<NetDocPanel>();
+        for (Tab tab : this._tabs) {
+            if (tab.getPanel() != null) {
+                panels.add(tab.getPanel());
+            }
+        }
+        return panels;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected final JFrame getJavaFrameImpl() {
+        return this.getFrame();
+    }
+
+    /**
+     * Returns the frame containing the tabs.
+     * @return the frame containing the tabs.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected TabbedDocumentWindow.Frame getFrame() {
+        return this._frame;
+    }
+
+    /**
+     * Returns the tabbed pane holding one tab per document.
+     * @return the tabbed pane used by this window.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected JTabbedPane getTabbedPane() {
+        return this._tabbedPane;
+    }
+
+    /**
+     * Returns the tab of the specified document.
+     * @param document the document to look up.
+     * @return the tab showing the document;<br>
+     * or {@code null}, if the document is not contained in this window.
+     */
+    protected Tab getTab(Document document) {
+        for (Tab tab : this._tabs) {
+            if (tab.getDocument() == document) {
+                return tab;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the tab currently selected.
+     * @return the selected tab;<br>
+     * or {@code null}, if this window is empty.
+     */
+    protected Tab getSelectedTab() {
+        int index = this.getTabbedPane().getSelectedIndex();
+        return (index < 0 || index >= this._tabs.size()) ? null
+                        : this._tabs.get(index);
+    }
+
+    /**
+     * Creates the editor panel of the specified tab, unless already present.
+     * While the panel exists, the change events of the document are
+     * forwarded by the panel instead of the document itself. The modified
+     * state of the document is kept.
+     * @param tab the tab to be shown.
+     * @de.renew.require (tab != null)
+     */
+    protected void createEditor(Tab tab) {
+        tab.setLastShown(System.currentTimeMillis());
+        if (tab.getPanel() != null) {
+            return;
+        }
+        Document document = tab.getDocument();
+        boolean isModified = document.isModified();
+        NetDocPanel panel = new NetDocPanel(this, tab.getHistory());
+        ((JComponent) panel.getJavaComponent())
+                        .setBorder(new EmptyBorder(4, 2, 2, 2));
+        try {
+            panel.openDocument(document);
+        } catch (ContainerException e) {
+            logger.error("Unable to create editor for " + document.getName(),
+                            e);
+            return;
+        }
+        document.setModified(isModified);
+        document.removeDocumentChangeListener(this.getChangeListener());
+        panel.addDocumentChangeListener(this.getChangeListener());
+        tab.setPanel(panel);
+        tab.getHolder().add(panel.getJavaComponent(), BorderLayout.CENTER);
+        tab.getHolder().revalidate();
+    }
+
+    /**
+     * Releases the editor panel of the specified tab, if present, and lets
+     * the document itself forward its change events again. The modified
+     * state and the undo history of the document are kept.
+     * @param tab the tab to be hidden.
+     * @de.renew.require (tab != null)
+     */
+    protected void releaseEditor(Tab tab) {
+        NetDocPanel panel = tab.getPanel();
+        if (panel == null) {
+            return;
+        }
+        Document document = tab.getDocument();
+        boolean isModified = document.isModified();
+        panel.removeDocumentChangeListener(this.getChangeListener());
+        panel.closeDocument(document, true);
+        document.setModified(isModified);
+        document.addDocumentChangeListener(this.getChangeListener());
+        tab.setPanel(null);
+        tab.getHolder().removeAll();
+        tab.getHolder().revalidate();
+    }
+
+    /**
+     * Returns the listener forwarding the change events of the documents to
+     * the listeners of this window.
+     * @return the document change listener used by this window.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected DocumentChangeListener getChangeListener() {
+        if (this._changeListener == null) {
+            this._changeListener = new DocumentChangeListener() {
+                @Override
+                public void documentChanged(DocumentChangeEvent event) {
+                    TabbedDocumentWindow.this.fireDocumentChangeEvent(event);
+                }
+            };
+        }
+        return this._changeListener;
+    }
+
+    /**
+     * Subscribes this window to the title part of the specified document, so
+     * that the window title follows the title of the selected document.
+     * @param document the document selected;<br>
+     * or {@code null}, if no document is selected.
+     */
+    protected void subscribeTitle(Document document) {
+        if (this._titleSubscriptions != null) {
+            this._titleSubscriptions.dispose();
+            this._titleSubscriptions = null;
+        }
+        if (document != null) {
+            this._titleSubscriptions = new PartSubscriptions(document);
+            this._titleSubscriptions.addTextChangeListener(
+                            DocumentParts.NAME_NETDOC_TITLE,
+                            new TabbedDocumentWindow.TitleListener());
+        }
+        this.getFrame().updateTitle();
+    }
+
+
+    /**
+     * The time in milliseconds after which the editor of a hidden tab is
+     * released.
+     */
+    private long _idleMillis;
+
+    /**
+     * The tabs of this window in the order of the tabbed pane.
+     */
+    private List<Tab> _tabs;
+
+    /**
+     * The java frame used by this window.
+     */
+    private TabbedDocumentWindow.Frame _frame;
+
+    /**
+     * The tabbed pane holding one tab per document.
+     */
+    private JTabbedPane _tabbedPane;
+
+    /**
+     * The timer periodically releasing idle editors.
+     */
+    private Timer _sweepTimer;
+
+    /**
+     * The listener forwarding the change events of the documents.
+     */
+    private DocumentChangeListener _changeListener;
+
+    /**
+     * The subscription to the title part of the selected document;<br>
+     * or {@code null}, if no document is selected.
+     */
+    private PartSubscriptions _titleSubscriptions;
+
+    /**
+     * Specifies whether the container-opened event has been fired.
+     */
+    private boolean _isOpened;
+
+    /**
+     * Specifies whether this window has been closed.
+     */
+    private boolean _isClosed;
+
+
+    /**
+     * Tab of a single document. The tab always holds a lightweight holder
+     * panel; the editor panel inside it exists only while the tab is in use.
+     */
+    protected class Tab {
+
+        /**
+         * Creates a new Tab for the specified document without an editor.
+         * @param document the document shown by the new tab.
+         * @de.renew.require (document != null)
+         */
+        public Tab(Document document) {
+            this._document = document;
+            this._history = new BoundedDocumentHistory(document);
+            this._holder = new JPanel(new BorderLayout());
+            this._panel = null;
+            this._lastShown = System.currentTimeMillis();
+        }
+
+        /**
+         * Returns the document shown by this tab.
+         * @return the document shown by this tab.
+         * @de.renew.ensure (returnValue != null)
+         */
+        public Document getDocument() {
+            return this._document;
+        }
+
+        /**
+         * Returns the undo history of the document shown by this tab. The
+         * history is handed to every editor created for the tab.
+         * @return the history of the document.
+         * @de.renew.ensure (returnValue != null)
+         */
+        public DocumentHistory getHistory() {
+            return this._history;
+        }
+
+        /**
+         * Returns the panel added to the tabbed pane for this tab.
+         * @return the holder panel of this tab.
+         * @de.renew.ensure (returnValue != null)
+         */
+        public JPanel getHolder() {
+            return this._holder;
+        }
+
+        /**
+         * Returns the editor panel of this tab.
+         * @return the editor panel;<br>
+         * or {@code null}, if no editor has been created.
+         */
+        public NetDocPanel getPanel() {
+            return this._panel;
+        }
+
+        /**
+         * Sets the editor panel of this tab.
+         * @param panel the editor panel;<br>
+         * or {@code null}, if the editor has been released.
+         */
+        public void setPanel(NetDocPanel panel) {
+            this._panel = panel;
+        }
+
+        /**
+         * Returns the time this tab was shown last.
+         * @return the time in milliseconds.
+         */
+        public long getLastShown() {
+            return this._lastShown;
+        }
+
+        /**
+         * Sets the time this tab was shown last.
+         * @param lastShown the time in milliseconds.
+         */
+        public void setLastShown(long lastShown) {
+            this._lastShown = lastShown;
+        }
+
+        /**
+         * The document shown by this tab.
+         */
+        private Document _document;
+
+        /**
+         * The undo history of the document shown by this tab.
+         */
+        private DocumentHistory _history;
+
+        /**
+         * The panel added to the tabbed pane for this tab.
+         */
+        private JPanel _holder;
+
+        /**
+         * The editor panel of this tab;<br>
+         * or {@code null}, if no editor has been created.
+         */
+        private NetDocPanel _panel;
+
+        /**
+         * The time this tab was shown last in milliseconds.
+         */
+        private long _lastShown;
+    }
+
+    /**
+     * Observer creating the editor of a tab as soon as it is selected.
+     */
+    protected class SelectionListener implements ChangeListener {
+
+        /**
+         * Creates a new SelectionListener.
+         */
+        public SelectionListener() {
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void stateChanged(ChangeEvent event) {
+            Tab selected = TabbedDocumentWindow.this.getSelectedTab();
+            if (selected != null) {
+                TabbedDocumentWindow.this.createEditor(selected);
+                TabbedDocumentWindow.this
+                                .subscribeTitle(selected.getDocument());
+            } else {
+                TabbedDocumentWindow.this.subscribeTitle(null);
+            }
+        }
+    }
+
+    /**
+     * Observer of the sweep timer releasing idle editors.
+     */
+    protected class SweepListener implements ActionListener {
+
+        /**
+         * Creates a new SweepListener.
+         */
+        public SweepListener() {
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void actionPerformed(ActionEvent event) {
+            TabbedDocumentWindow.this.releaseIdleEditors();
+        }
+    }
+
+    /**
+     * Observer listening to window events of the frame.
+     */
+    protected class FrameListener extends WindowAdapter {
+
+        /**
+         * Creates a new FrameListener.
+         */
+        public FrameListener() {
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void windowClosing(WindowEvent event) {
+            TabbedDocumentWindow.this.close(false);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void windowOpened(WindowEvent event) {
+            if (!TabbedDocumentWindow.this._isOpened) {
+                TabbedDocumentWindow.this._isOpened = true;
+                TabbedDocumentWindow.this.fireDocumentContainerEvent(
+                                new DocumentContainerEvent(
+                                                DocumentContainerEvent.CONTAINER_OPENED,
+                                                TabbedDocumentWindow.this));
+            }
+        }
+    }
+
+    /**
+     * Observer listening to text changes of the title part of the selected
+     * document.
+     */
+    protected class TitleListener extends TextChangeAdapter {
+
+        /**
+         * Creates a new TitleListener.
+         */
+        public TitleListener() {
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected void textChangedImpl(TextChangeEvent event) {
+            TabbedDocumentWindow.this.getFrame().updateTitle();
+        }
+    }
+
+
+    /**
+     * The internal frame using the default height and width as preferred size
+     * and the name and title of the selected document as title.
+     */
+    protected class Frame extends JFrame {
+
+        /**
+         * Creates a new Frame.
+         */
+        public Frame() {
+        }
+
+        /**
+         * Returns the preferred size of this frame.
+         * @return the preferred size of this frame.
+         * @de.renew.ensure (returnValue != null)
+         */
+        @Override
+        public Dimension getPreferredSize() {
+            return new Dimension(TabbedDocumentWindow.WIDTH,
+                            TabbedDocumentWindow.HEIGHT);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public String getTitle() {
+            Document document = TabbedDocumentWindow.this.getCurrentDocument();
+            if (document == null) {
+                return "NetDoc";
+            }
+            String title = DocumentParts.findPartText(document,
+                            DocumentParts.NAME_NETDOC_TITLE);
+            if ((title == null) || title.trim().isEmpty()) {
+                return document.getName() + " - NetDoc";
+            }
+            return document.getName() + " (" + title.trim() + ") - NetDoc";
+        }
+
+        /**
+         * Updates the title of this frame.
+         */
+        public void updateTitle() {
+            this.setTitle(this.getTitle());
+        }
+
+        /**
+         * Serial Version UID of this class.
+         */
+        private static final long serialVersionUID = 1L;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package de.renew.netdoc.io;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Summary of a document build.
+ */
+public class DocumentBuildResult {
+
+    /**
+     * Creates a new DocumentBuildResult using the specified values.
+     * @param exported the paths of the documents exported by the build.
+     * @param removed the paths of the documents whose exports were removed.
+     * @param unchangedCount the number of documents whose exports were up to
+     * date.
+     * @de.renew.require (exported != null)
+     * @de.renew.require (removed != null)
+     * @de.renew.require (unchangedCount >= 0)
+     */
+    public DocumentBuildResult(Collection<String> exported,
+                               Collection<String> removed, int unchangedCount) {
+        assert (exported != null) : "Precondition violated: (exported != null)";
+        assert (removed != null) : "Precondition violated: (removed != null)";
+        assert (unchangedCount >= 0) : "Precondition violated: (unchangedCount >= 0)";
+
+        this._exported = Collections
+                        .unmodifiableList(new ArrayList<String>(exported));
+        this._removed = Collections
+                        .unmodifiableList(new ArrayList<String>(removed));
+        this._unchangedCount = unchangedCount;
+    }
+
+    /**
+     * Returns the paths of the documents exported by the build.
+     * @return an unmodifiable list containing the document paths relative to
+     * the package root.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public List<String> getExported() {
+        return this._exported;
+    }
+
+    /**
+     * Returns the paths of the documents whose exports were removed, because
+     * the documents no longer exist.
+     * @return an unmodifiable list containing the document paths relative to
+     * the package root.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public List<String> getRemoved() {
+        return this._removed;
+    }
+
+    /**
+     * Returns the number of documents whose exports were up to date.
+     * @return the number of unchanged documents.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getUnchangedCount() {
+        return this._unchangedCount;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return this.getExported().size() + " exported, "
+                        + this.getRemoved().size() + " removed, "
+                        + this.getUnchangedCount() + " unchanged";
+    }
+
+    /**
+     * The paths of the documents exported by the build.
+     */
+    private List<String> _exported;
+
+    /**
+     * The paths of the documents whose exports were removed.
+     */
+    private List<String> _removed;
+
+    /**
+     * The number of documents whose exports were up to date.
+     */
+    private int _unchangedCount;
+}
\ No newline at end of file
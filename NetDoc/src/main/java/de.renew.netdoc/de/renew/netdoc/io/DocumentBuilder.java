@@ -0,0 +1,28 @@
+package de.renew.netdoc.io;
+
+import java.io.File;
+import java.io.IOException;
+
+
+/**
+ * Builder exporting the NetDoc documents of a package into an output
+ * directory. Each document is exported to its own file whose path mirrors the
+ * document path below the package root.
+ */
+public interface DocumentBuilder {
+
+    /**
+     * Exports the documents found below the specified package root into the
+     * specified output directory.
+     * @param packageRoot the directory to be searched for documents.
+     * @param outputDirectory the directory the exports are written to.
+     * @return the summary of the build.
+     * @throws IOException if a document could not be exported or an I/O error
+     * occured while writing the exports.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.require (outputDirectory != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DocumentBuildResult build(File packageRoot, File outputDirectory)
+                    throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package de.renew.netdoc.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+
+/**
+ * Bundle collecting the exported documents of a workspace into a single
+ * output. Documents are added in the order they should appear in the bundle.
+ * Closing the bundle completes and closes its output.
+ */
+public interface DocumentBundle extends Closeable {
+
+    /**
+     * Adds the specified exported document to this bundle.
+     * @param path the document path relative to the package root, using
+     * {@code '/'} as separator.
+     * @param targetName the name of the documentation target of the document.
+     * @param content the exported document.
+     * @throws IOException if an I/O error occured while writing the document.
+     * @de.renew.require (path != null)
+     * @de.renew.require (targetName != null)
+     * @de.renew.require (content != null)
+     */
+    public void addDocument(String path, String targetName, String content)
+                    throws IOException;
+
+    /**
+     * Returns the number of documents added to this bundle so far.
+     * @return the number of added documents.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getDocumentCount();
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package de.renew.netdoc.io;
+
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.net.URL;
+
+
+/**
+ * Cache of parsed NetDoc document parts. Entries are bound to the state of
+ * the stream location they were parsed from and become invalid as soon as
+ * the underlying resource changes.
+ */
+public interface DocumentCache {
+
+    /**
+     * Returns a copy of the document part cached for the specified location.
+     * @param location the stream location of the document part.
+     * @return a copy of the cached document part;<br>
+     * or {@code null}, if no valid entry exists for that location.
+     * @de.renew.require (location != null)
+     */
+    public DocumentPart get(URL location);
+
+    /**
+     * Returns the current state of the resource at the specified location.
+     * The stamp has to be determined before the resource is opened for
+     * parsing and passed to {@link #put(URL, Object, DocumentPart)}, so that a
+     * resource changed while being parsed is not cached.
+     * @param location the stream location of the resource.
+     * @return the opaque stamp of the resource;<br>
+     * or {@code null}, if documents from that location are not cached.
+     * @de.renew.require (location != null)
+     */
+    public Object getStamp(URL location);
+
+    /**
+     * Caches a copy of the specified document part for the specified location.
+     * The entry is bound to the specified state of the resource at that
+     * location. Nothing is cached, if the resource no longer is in that
+     * state.
+     * @param location the stream location the document part was parsed from.
+     * @param stamp the state of the resource before it was parsed, as
+     * returned by {@link #getStamp(URL)}.
+     * @param part the document part to be cached.
+     * @de.renew.require (location != null)
+     * @de.renew.require (stamp != null)
+     * @de.renew.require (part != null)
+     */
+    public void put(URL location, Object stamp, DocumentPart part);
+
+    /**
+     * Removes the entry cached for the specified location, if any.
+     * @param location the stream location whose entry is to be removed.
+     * @de.renew.require (location != null)
+     */
+    public void invalidate(URL location);
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public void clear();
+
+    /**
+     * Returns the number of entries currently held by this cache.
+     * @return the number of entries currently held by this cache.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getSize();
+
+    /**
+     * Returns the number of lookups answered by this cache.
+     * @return the number of cache hits.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getHitCount();
+
+    /**
+     * Returns the number of lookups not answered by this cache.
+     * @return the number of cache misses.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getMissCount();
+
+    /**
+     * Returns the number of entries removed to respect the size limits of
+     * this cache.
+     * @return the number of evicted entries.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getEvictionCount();
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package de.renew.netdoc.io;
+
+import java.io.IOException;
+import java.util.Collection;
+
+
+/**
+ * Catalog summarizing all NetDoc documents of a package. A catalog allows
+ * listing and filtering the documents of a package without parsing them.
+ */
+public interface DocumentCatalog {
+
+    /**
+     * Returns the entry for the document with the specified path.
+     * @param path the document path relative to the package root, using
+     * {@code '/'} as separator.
+     * @return the corresponding entry;<br>
+     * or {@code null}, if this catalog contains no such entry.
+     * @de.renew.require (path != null)
+     */
+    public DocumentCatalogEntry getEntry(String path);
+
+    /**
+     * Returns all entries of this catalog ordered by their path.
+     * @return a collection containing {@link DocumentCatalogEntry} instances.
+     * @de.renew.ensure (returnValue != null)
+     * @de.renew.ensure ! returnValue.contains(null)
+     */
+    public Collection<DocumentCatalogEntry> getEntries();
+
+    /**
+     * Adds the specified entry to this catalog. An entry with the same path
+     * is replaced.
+     * @param entry the entry to be added.
+     * @de.renew.require (entry != null)
+     */
+    public void putEntry(DocumentCatalogEntry entry);
+
+    /**
+     * Removes the entry for the document with the specified path, if any.
+     * @param path the document path relative to the package root.
+     * @de.renew.require (path != null)
+     */
+    public void removeEntry(String path);
+
+    /**
+     * Reloads this catalog from its persistent representation.
+     * @throws IOException if an I/O error occured while loading the catalog.
+     */
+    public void load() throws IOException;
+
+    /**
+     * Writes this catalog to its persistent representation.
+     * @throws IOException if an I/O error occured while storing the catalog.
+     */
+    public void store() throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package de.renew.netdoc.io;
+
+/**
+ * Immutable catalog record summarizing a single NetDoc document of a package.
+ */
+public class DocumentCatalogEntry {
+
+    /**
+     * Creates a new DocumentCatalogEntry using the specified values.
+     * @param path the document path relative to the package root, using
+     * {@code '/'} as separator.
+     * @param targetName the name of the documentation target.
+     * @param title the document title.
+     * @param author the document author.
+     * @param dateCreation the creation date of the document.
+     * @param dateLastModified the last modification date of the document.
+     * @param size the size of the document file in bytes.
+     * @param hash the content hash of the document file.
+     * @de.renew.require (path != null)
+     * @de.renew.require (targetName != null)
+     * @de.renew.require (title != null)
+     * @de.renew.require (author != null)
+     * @de.renew.require (dateCreation != null)
+     * @de.renew.require (dateLastModified != null)
+     * @de.renew.require (size >= 0)
+     * @de.renew.require (hash != null)
+     */
+    public DocumentCatalogEntry(String path, String targetName, String title,
+                                String author, String dateCreation,
+                                String dateLastModified, long size,
+                                String hash) {
+        assert (path != null) : "Precondition violated: (path != null)";
+        assert (targetName != null) : "Precondition violated: (targetName != null)";
+        assert (title != null) : "Precondition violated: (title != null)";
+        assert (author != null) : "Precondition violated: (author != null)";
+        assert (dateCreation != null) : "Precondition violated: (dateCreation != null)";
+        assert (dateLastModified != null) : "Precondition violated: (dateLastModified != null)";
+        assert (size >= 0) : "Precondition violated: (size >= 0)";
+        assert (hash != null) : "Precondition violated: (hash != null)";
+
+        this._path = path;
+        this._targetName = targetName;
+        this._title = title;
+        this._author = author;
+        this._dateCreation = dateCreation;
+        this._dateLastModified = dateLastModified;
+        this._size = size;
+        this._hash = hash;
+    }
+
+    /**
+     * Returns the document path relative to the package root.
+     * @return the document path, using {@code '/'} as separator.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getPath() {
+        return this._path;
+    }
+
+    /**
+     * Returns the name of the documentation target.
+     * @return the name of the documentation target.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getTargetName() {
+        return this._targetName;
+    }
+
+    /**
+     * Returns the document title.
+     * @return the document title.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getTitle() {
+        return this._title;
+    }
+
+    /**
+     * Returns the document author.
+     * @return the document author.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getAuthor() {
+        return this._author;
+    }
+
+    /**
+     * Returns the creation date of the document in NetDoc representation.
+     * @return the creation date.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getDateCreation() {
+        return this._dateCreation;
+    }
+
+    /**
+     * Returns the last modification date of the document in NetDoc
+     * representation.
+     * @return the last modification date.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getDateLastModified() {
+        return this._dateLastModified;
+    }
+
+    /**
+     * Returns the size of the document file.
+     * @return the size in bytes.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getSize() {
+        return this._size;
+    }
+
+    /**
+     * Returns the content hash of the document file.
+     * @return the hexadecimal content hash.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getHash() {
+        return this._hash;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof DocumentCatalogEntry)) {
+            return false;
+        }
+        DocumentCatalogEntry entry = (DocumentCatalogEntry) object;
+        return this.getPath().equals(entry.getPath())
+                        && this.getTargetName().equals(entry.getTargetName())
+                        && this.getTitle().equals(entry.getTitle())
+                        && this.getAuthor().equals(entry.getAuthor())
+                        && this.getDateCreation()
+                                        .equals(entry.getDateCreation())
+                        && this.getDateLastModified()
+                                        .equals(entry.getDateLastModified())
+                        && (this.getSize() == entry.getSize())
+                        && this.getHash().equals(entry.getHash());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        return this.getPath().hashCode() ^ this.getHash().hashCode();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return this.getPath() + " (" + this.getTargetName() + ")";
+    }
+
+    /**
+     * The document path relative to the package root.
+     */
+    private String _path;
+
+    /**
+     * The name of the documentation target.
+     */
+    private String _targetName;
+
+    /**
+     * The document title.
+     */
+    private String _title;
+
+    /**
+     * The document author.
+     */
+    private String _author;
+
+    /**
+     * The creation date of the document.
+     */
+    private String _dateCreation;
+
+    /**
+     * The last modification date of the document.
+     */
+    private String _dateLastModified;
+
+    /**
+     * The size of the document file in bytes.
+     */
+    private long _size;
+
+    /**
+     * The content hash of the document file.
+     */
+    private String _hash;
+}
\ No newline at end of file
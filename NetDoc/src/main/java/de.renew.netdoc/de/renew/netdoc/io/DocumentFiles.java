@@ -0,0 +1,418 @@
+package de.renew.netdoc.io;
+
+import de.renew.netdoc.model.doctarget.DocTarget;
+import de.renew.netdoc.model.doctarget.targets.FileTarget;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Helper providing access to the NetDoc document files of a package.
+ */
+public abstract class DocumentFiles {
+
+    /**
+     * Filename extension of NetDoc document files.
+     */
+    public static final String FILENAME_EXTENSION = ".doctex";
+
+    /**
+     * The filename of the file specifying the root package of the targets.
+     */
+    public static final String PACKAGE_ROOT_FILENAME = "package-root.doctex";
+
+    /**
+     * The character encoding of all files read and written by NetDoc,
+     * independent of the platform default.
+     */
+    public static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    /**
+     * The character encoding documents written by former versions in the
+     * platform default encoding are read with, if they are no valid
+     * {@link #CHARSET} content. Such documents are converted on their next
+     * save.
+     */
+    public static final Charset LEGACY_CHARSET = Charset.forName("windows-1252");
+
+    /**
+     * The algorithm used to compute content hashes.
+     */
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+
+    /**
+     * Returns all document files below the specified directory ordered by
+     * their path. Package root files are not included.
+     * @param directory the directory to be searched.
+     * @return a list containing the document files.
+     * @throws IOException if a directory could not be listed.
+     * @de.renew.require (directory != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static List<File> findDocuments(File directory) throws IOException {
+        assert (directory != null) : "Precondition violated: (directory != null)";
+
+        List<File> returnValue = new ArrayList<File>();
+        DocumentFiles.findDocuments(directory, returnValue);
+        return returnValue;
+    }
+
+    /**
+     * Returns the nearest directory containing a package root file at or
+     * above the directory of the specified document file.
+     * @param document the document file.
+     * @return the package root directory;<br>
+     * or {@code null}, if no package root exists above the document.
+     * @de.renew.require (document != null)
+     */
+    public static File findPackageRoot(File document) {
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        File directory = document.getAbsoluteFile().getParentFile();
+        while ((directory != null) && !new File(directory,
+                        DocumentFiles.PACKAGE_ROOT_FILENAME).exists()) {
+            directory = directory.getParentFile();
+        }
+        return directory;
+    }
+
+    /**
+     * Returns the path of the specified document file relative to the
+     * specified package root.
+     * @param packageRoot the package root directory.
+     * @param document the document file.
+     * @return the relative path using {@code '/'} as separator;<br>
+     * or {@code null}, if the document is not located below the package root.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.require (document != null)
+     */
+    public static String getRelativePath(File packageRoot, File document) {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        Path root = packageRoot.getAbsoluteFile().toPath().normalize();
+        Path path = document.getAbsoluteFile().toPath().normalize();
+        if (!path.startsWith(root)) {
+            return null;
+        }
+        return root.relativize(path).toString().replace(File.separatorChar,
+                        '/');
+    }
+
+    /**
+     * Returns the specified path with its filename extension replaced by the
+     * specified extension.
+     * @param path the path using {@code '/'} as separator.
+     * @param extension the new extension including the leading dot.
+     * @return the path with the new extension.
+     * @de.renew.require (path != null)
+     * @de.renew.require (extension != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String exchangeExtension(String path, String extension) {
+        assert (path != null) : "Precondition violated: (path != null)";
+        assert (extension != null) : "Precondition violated: (extension != null)";
+
+        int extensionIndex = path.lastIndexOf('.');
+        if (extensionIndex > path.lastIndexOf('/') + 1) {
+            path = path.substring(0, extensionIndex);
+        }
+        return path + extension;
+    }
+
+    /**
+     * Returns the name of the documentation target of the specified document
+     * stored at the specified location.
+     * @param location the stream location of the document.
+     * @param document the document to be processed.
+     * @return the name of the assigned target;<br>
+     * or the text of the target name part, if no target is assigned;<br>
+     * or the filename of the location without extension, if the document
+     * specifies no target name.
+     * @de.renew.require (location != null)
+     * @de.renew.require (document != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String getTargetName(URL location, DocumentPart document) {
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        DocTarget target = document.getTarget();
+        if (target != null) {
+            return target.getName();
+        }
+        String returnValue = DocumentParts.findPartText(document,
+                        DocumentParts.NAME_NETDOC_TARGET_NAME);
+        if ((returnValue != null) && !returnValue.trim().isEmpty()) {
+            return returnValue.trim();
+        }
+        returnValue = URLs.getFilename(location);
+        int extensionIndex = returnValue.lastIndexOf('.');
+        return (extensionIndex > 0) ? returnValue.substring(0, extensionIndex)
+                        : returnValue;
+    }
+
+    /**
+     * Parses the specified document file using the specified parser.
+     * @param document the document file to be parsed.
+     * @param parser the parser to be used.
+     * @return the parsed document part.
+     * @throws IOException if an I/O error occured while parsing the file.
+     * @de.renew.require (document != null)
+     * @de.renew.require (parser != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static DocumentPart parse(File document, DocumentParser parser)
+                    throws IOException {
+        assert (document != null) : "Precondition violated: (document != null)";
+        assert (parser != null) : "Precondition violated: (parser != null)";
+
+        return parser.parseFrom(new StringReader(DocumentFiles.read(document)));
+    }
+
+    /**
+     * Imports the specified document file using the specified Input/Output
+     * manager. The imported document part is assigned a {@link FileTarget}
+     * for the file, so that target name and package can be derived without
+     * an open drawing.
+     * @param document the document file to be imported.
+     * @param ioManager the Input/Output manager to be used.
+     * @return the imported document part.
+     * @throws IOException if an I/O error occured while importing the file.
+     * @de.renew.require (document != null)
+     * @de.renew.require (ioManager != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static DocumentPart importDocument(File document,
+                                              IOManager ioManager)
+                    throws IOException {
+        assert (document != null) : "Precondition violated: (document != null)";
+        assert (ioManager != null) : "Precondition violated: (ioManager != null)";
+
+        DocumentPart returnValue = ioManager.importDocumentPartFrom(
+                        new StringReader(DocumentFiles.read(document)));
+        returnValue.setTarget(new FileTarget(document));
+        return returnValue;
+    }
+
+    /**
+     * Reads the content of the specified document file, see {@link
+     * #decode(byte[])}.
+     * @param document the document file to be read.
+     * @return the content of the file.
+     * @throws IOException if an I/O error occured while reading the file or
+     * its content could not be decoded.
+     * @de.renew.require (document != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String read(File document) throws IOException {
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        InputStream stream = URLs.openInputStream(
+                        URLs.create(document.getAbsoluteFile()));
+        try {
+            return DocumentFiles.decode(stream.readAllBytes());
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Returns a reader providing the remaining content of the specified
+     * stream, see {@link #decode(byte[])}. The stream is read completely but
+     * not closed.
+     * @param stream the stream to be read.
+     * @return the reader providing the decoded content.
+     * @throws IOException if an I/O error occured while reading the stream or
+     * its content could not be decoded.
+     * @de.renew.require (stream != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static Reader createReader(InputStream stream) throws IOException {
+        assert (stream != null) : "Precondition violated: (stream != null)";
+
+        return new StringReader(DocumentFiles.decode(stream.readAllBytes()));
+    }
+
+    /**
+     * Decodes the specified content of a document file. The content is
+     * decoded as {@link #CHARSET}, or as {@link #LEGACY_CHARSET}, if it is
+     * not valid in the former. Malformed or unmappable bytes are reported
+     * rather than replaced, so that a document is never saved with
+     * replacement characters instead of its original text.
+     * @param content the bytes to be decoded.
+     * @return the decoded content.
+     * @throws CharacterCodingException if the content is valid in neither
+     * encoding.
+     * @de.renew.require (content != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String decode(byte[] content)
+                    throws CharacterCodingException {
+        assert (content != null) : "Precondition violated: (content != null)";
+
+        try {
+            return DocumentFiles.decode(content, DocumentFiles.CHARSET);
+        } catch (CharacterCodingException e) {
+            return DocumentFiles.decode(content, DocumentFiles.LEGACY_CHARSET);
+        }
+    }
+
+    /**
+     * Decodes the specified bytes using the specified character encoding,
+     * reporting malformed and unmappable bytes.
+     * @param content the bytes to be decoded.
+     * @param charset the character encoding to be used.
+     * @return the decoded content.
+     * @throws CharacterCodingException if the content is not valid in the
+     * character encoding.
+     * @de.renew.require (content != null)
+     * @de.renew.require (charset != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    private static String decode(byte[] content, Charset charset)
+                    throws CharacterCodingException {
+        return charset.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPORT)
+                        .onUnmappableCharacter(CodingErrorAction.REPORT)
+                        .decode(ByteBuffer.wrap(content)).toString();
+    }
+
+    /**
+     * Computes the hexadecimal content hash of the specified bytes.
+     * @param content the bytes to be hashed.
+     * @return the hexadecimal content hash.
+     * @de.renew.require (content != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String hash(byte[] content) {
+        assert (content != null) : "Precondition violated: (content != null)";
+
+        try {
+            byte[] digest = MessageDigest
+                            .getInstance(DocumentFiles.HASH_ALGORITHM)
+                            .digest(content);
+            StringBuilder buffer = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                buffer.append(Character.forDigit((b >> 4) & 0xF, 16));
+                buffer.append(Character.forDigit(b & 0xF, 16));
+            }
+            return buffer.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Escapes tabs, line breaks and backslashes of the specified value, so
+     * that it can be stored as a column of a tab separated file.
+     * @param value the value to be escaped.
+     * @return the escaped value.
+     * @de.renew.require (value != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String escape(String value) {
+        assert (value != null) : "Precondition violated: (value != null)";
+
+        StringBuilder buffer = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '\\':
+                buffer.append("\\\\");
+                break;
+            case '\t':
+                buffer.append("\\t");
+                break;
+            case '\n':
+                buffer.append("\\n");
+                break;
+            case '\r':
+                buffer.append("\\r");
+                break;
+            default:
+                buffer.append(c);
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Reverts {@link #escape(String)}.
+     * @param value the value to be unescaped.
+     * @return the unescaped value.
+     * @de.renew.require (value != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String unescape(String value) {
+        assert (value != null) : "Precondition violated: (value != null)";
+
+        StringBuilder buffer = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c == '\\') && (i + 1 < value.length())) {
+                char next = value.charAt(++i);
+                switch (next) {
+                case 't':
+                    buffer.append('\t');
+                    break;
+                case 'n':
+                    buffer.append('\n');
+                    break;
+                case 'r':
+                    buffer.append('\r');
+                    break;
+                default:
+                    buffer.append(next);
+                }
+            } else {
+                buffer.append(c);
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Adds all document files below the specified directory to the specified
+     * list.
+     * @param directory the directory to be searched.
+     * @param files the document files found so far.
+     * @throws IOException if the directory could not be listed.
+     */
+    private static void findDocuments(File directory, List<File> files)
+                    throws IOException {
+        File[] children = directory.listFiles();
+        if (children == null) {
+            throw new IOException("Cannot list " + directory);
+        }
+        Arrays.sort(children);
+        for (File child : children) {
+            if (child.isDirectory()) {
+                DocumentFiles.findDocuments(child, files);
+            } else if (child.getName().endsWith(DocumentFiles.FILENAME_EXTENSION)
+                            && !child.getName().equals(
+                                            DocumentFiles.PACKAGE_ROOT_FILENAME)) {
+                files.add(child);
+            }
+        }
+    }
+}
\ No newline at end of file
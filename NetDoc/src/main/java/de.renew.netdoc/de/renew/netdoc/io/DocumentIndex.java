@@ -0,0 +1,74 @@
+package de.renew.netdoc.io;
+
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.Future;
+
+
+/**
+ * Full-text index over NetDoc documents. Documents are identified by their
+ * stream location.
+ */
+public interface DocumentIndex {
+
+    /**
+     * Indexes the specified document stored at the specified location. A
+     * previously indexed version of that document is replaced.
+     * @param location the stream location of the document.
+     * @param document the document to be indexed.
+     * @de.renew.require (location != null)
+     * @de.renew.require (document != null)
+     */
+    public void update(URL location, DocumentPart document);
+
+    /**
+     * Removes the document stored at the specified location from this index.
+     * @param location the stream location of the document.
+     * @de.renew.require (location != null)
+     */
+    public void remove(URL location);
+
+    /**
+     * Removes all documents from this index.
+     */
+    public void clear();
+
+    /**
+     * Returns the number of documents currently indexed.
+     * @return the number of indexed documents.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getDocumentCount();
+
+    /**
+     * Starts indexing all documents found below the specified package root
+     * in the background.
+     * @param packageRoot the directory to be searched for documents.
+     * @return the pending result providing the number of indexed documents.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Future<Integer> startBuild(File packageRoot);
+
+    /**
+     * Stops all running and pending background builds of this index.
+     */
+    public void shutdown();
+
+    /**
+     * Returns the documents matching all terms of the specified query ordered
+     * by descending relevance. A term ending with {@code '*'} matches all
+     * terms starting with it.
+     * @param query the query to be answered.
+     * @param maxResults the maximum number of results to be returned.
+     * @return a list containing {@link DocumentSearchResult} instances.
+     * @de.renew.require (query != null)
+     * @de.renew.require (maxResults >= 0)
+     * @de.renew.ensure (returnValue != null)
+     * @de.renew.ensure (returnValue.size() <= maxResults)
+     */
+    public List<DocumentSearchResult> search(String query, int maxResults);
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package de.renew.netdoc.io;
+
+import java.net.URL;
+
+
+/**
+ * Consistency problem found in a NetDoc document by a {@link DocumentLinter}.
+ */
+public class DocumentLintFinding {
+
+    /**
+     * Kind of a consistency problem.
+     */
+    public static enum Kind {
+
+        /**
+         * A required document part is missing.
+         */
+        MISSING_PART,
+
+        /**
+         * The version header is missing or older than the current version.
+         */
+        OUTDATED_VERSION,
+
+        /**
+         * The documented drawing file does not exist.
+         */
+        ORPHANED_DOCUMENT,
+
+        /**
+         * A block is not closed or closed by a non-matching end.
+         */
+        UNBALANCED_BLOCK,
+
+        /**
+         * The document could not be read or parsed.
+         */
+        UNREADABLE
+    }
+
+
+    /**
+     * Creates a new DocumentLintFinding using the specified values.
+     * @param location the stream location of the document.
+     * @param kind the kind of the problem.
+     * @param line the line the problem was found in, starting with 1;<br>
+     * or 0, if the problem is not related to a line.
+     * @param message the description of the problem.
+     * @de.renew.require (location != null)
+     * @de.renew.require (kind != null)
+     * @de.renew.require (line >= 0)
+     * @de.renew.require (message != null)
+     */
+    public DocumentLintFinding(URL location, Kind kind, int line,
+                               String message) {
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (kind != null) : "Precondition violated: (kind != null)";
+        assert (line >= 0) : "Precondition violated: (line >= 0)";
+        assert (message != null) : "Precondition violated: (message != null)";
+
+        this._location = location;
+        this._kind = kind;
+        this._line = line;
+        this._message = message;
+    }
+
+    /**
+     * Returns the stream location of the document.
+     * @return the stream location of the document.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public URL getLocation() {
+        return this._location;
+    }
+
+    /**
+     * Returns the kind of the problem.
+     * @return the kind of the problem.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Kind getKind() {
+        return this._kind;
+    }
+
+    /**
+     * Returns the line the problem was found in.
+     * @return the line starting with 1;<br>
+     * or 0, if the problem is not related to a line.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getLine() {
+        return this._line;
+    }
+
+    /**
+     * Returns the description of the problem.
+     * @return the description of the problem.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getMessage() {
+        return this._message;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof DocumentLintFinding)) {
+            return false;
+        }
+        DocumentLintFinding finding = (DocumentLintFinding) object;
+        return this.getLocation().toExternalForm()
+                        .equals(finding.getLocation().toExternalForm())
+                        && (this.getKind() == finding.getKind())
+                        && (this.getLine() == finding.getLine())
+                        && this.getMessage().equals(finding.getMessage());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int hashCode() {
+        return ((this.getLocation().toExternalForm().hashCode() * 31
+                        + this.getKind().hashCode()) * 31 + this.getLine())
+                        * 31 + this.getMessage().hashCode();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        String position = (this.getLine() > 0) ? ":" + this.getLine() : "";
+        return URLs.getFilename(this.getLocation()) + position + ": "
+                        + this.getMessage();
+    }
+
+    /**
+     * The stream location of the document.
+     */
+    private URL _location;
+
+    /**
+     * The kind of the problem.
+     */
+    private Kind _kind;
+
+    /**
+     * The line the problem was found in; or 0, if not related to a line.
+     */
+    private int _line;
+
+    /**
+     * The description of the problem.
+     */
+    private String _message;
+}
@@ -0,0 +1,24 @@
+package de.renew.netdoc.io;
+
+import java.net.URL;
+import java.util.List;
+
+
+/**
+ * Observer of the findings of a {@link DocumentLinter}. Listeners are
+ * notified in the background threads of the linter, never in the AWT event
+ * dispatch thread.
+ */
+public interface DocumentLintListener {
+
+    /**
+     * Invoked when the findings of a document have changed.
+     * @param location the stream location of the document.
+     * @param findings the current findings of the document;<br>
+     * or an empty list, if the document is consistent or has been removed.
+     * @de.renew.require (location != null)
+     * @de.renew.require (findings != null)
+     */
+    public void findingsChanged(URL location,
+                                List<DocumentLintFinding> findings);
+}
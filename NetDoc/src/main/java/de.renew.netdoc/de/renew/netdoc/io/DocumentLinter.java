@@ -0,0 +1,106 @@
+package de.renew.netdoc.io;
+
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.Future;
+
+
+/**
+ * Background service checking NetDoc documents for consistency problems.
+ * All checks run in low-priority background threads; the methods of this
+ * interface return at once.
+ */
+public interface DocumentLinter {
+
+    /**
+     * Re-checks the specified document stored at the specified location.
+     * Only the problems visible in the document parts are checked; findings
+     * about the file content are kept until the file is checked again.
+     * Pending updates of the same document are coalesced. The document is
+     * read before this method returns, never afterwards.
+     * @param location the stream location of the document.
+     * @param document the document to be checked.
+     * @de.renew.require (location != null)
+     * @de.renew.require (document != null)
+     */
+    public void update(URL location, DocumentPart document);
+
+    /**
+     * Re-checks the specified document file. If the file no longer exists,
+     * its findings are removed.
+     * @param document the document file to be checked.
+     * @de.renew.require (document != null)
+     */
+    public void check(File document);
+
+    /**
+     * Removes the findings of the document stored at the specified location.
+     * @param location the stream location of the document.
+     * @de.renew.require (location != null)
+     */
+    public void remove(URL location);
+
+    /**
+     * Removes the findings of all documents.
+     */
+    public void clear();
+
+    /**
+     * Starts checking all documents below the specified package root in the
+     * background. Documents unchanged since their last check are skipped,
+     * findings of documents no longer present are removed.
+     * @param packageRoot the directory to be searched for documents.
+     * @return the future number of checked documents.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Future<Integer> startCheck(File packageRoot);
+
+    /**
+     * Checks all documents below the specified package root now and then
+     * periodically with the specified period, until {@link #shutdown()} is
+     * called.
+     * @param packageRoot the directory to be searched for documents.
+     * @param periodMillis the period between two checks in milliseconds.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.require (periodMillis > 0)
+     */
+    public void schedule(File packageRoot, long periodMillis);
+
+    /**
+     * Stops all running and scheduled checks of this linter.
+     */
+    public void shutdown();
+
+    /**
+     * Returns the findings of all documents.
+     * @return a list containing the findings.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public List<DocumentLintFinding> getFindings();
+
+    /**
+     * Returns the findings of the document stored at the specified location.
+     * @param location the stream location of the document.
+     * @return a list containing the findings of the document.
+     * @de.renew.require (location != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public List<DocumentLintFinding> getFindings(URL location);
+
+    /**
+     * Adds the specified lint listener to this linter.
+     * @param listenerToAdd the listener to be added.
+     * @de.renew.require (listenerToAdd != null)
+     */
+    public void addLintListener(DocumentLintListener listenerToAdd);
+
+    /**
+     * Removes the specified lint listener from this linter.
+     * @param listenerToRemove the listener to be removed.
+     */
+    public void removeLintListener(DocumentLintListener listenerToRemove);
+}
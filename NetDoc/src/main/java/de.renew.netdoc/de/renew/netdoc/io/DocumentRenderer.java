@@ -0,0 +1,64 @@
+package de.renew.netdoc.io;
+
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.IOException;
+import java.io.Writer;
+
+
+/**
+ * Renderer exporting NetDoc documents in a publishing format other than the
+ * stored TeX form, e.g. HTML or Markdown. Documents are streamed from the
+ * document part tree to a writer; several documents may be rendered into a
+ * single output between {@link #beginOutput} and {@link #endOutput}.
+ * <p>Renderers keep no state between calls and may be used by several
+ * threads at the same time.</p>
+ */
+public interface DocumentRenderer {
+
+    /**
+     * Returns the name of the format produced by this renderer, e.g.
+     * {@code "html"}.
+     * @return the format name.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getFormatName();
+
+    /**
+     * Returns the filename extension of files in the format produced by this
+     * renderer, including the leading dot.
+     * @return the filename extension.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getFilenameExtension();
+
+    /**
+     * Writes the beginning of an output containing rendered documents.
+     * @param title the title of the output.
+     * @param writer the writer the output is written to.
+     * @throws IOException if an I/O error occured.
+     * @de.renew.require (title != null)
+     * @de.renew.require (writer != null)
+     */
+    public void beginOutput(String title, Writer writer) throws IOException;
+
+    /**
+     * Renders the specified document part and its sub parts to the specified
+     * writer.
+     * @param document the document part to be rendered.
+     * @param writer the writer the rendered document is written to.
+     * @throws IOException if an I/O error occured.
+     * @de.renew.require (document != null)
+     * @de.renew.require (writer != null)
+     */
+    public void renderDocument(DocumentPart document, Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the end of an output containing rendered documents.
+     * @param writer the writer the output is written to.
+     * @throws IOException if an I/O error occured.
+     * @de.renew.require (writer != null)
+     */
+    public void endOutput(Writer writer) throws IOException;
+}
@@ -0,0 +1,123 @@
+package de.renew.netdoc.io;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Single hit of a full-text query against a document index.
+ */
+public class DocumentSearchResult implements Comparable<DocumentSearchResult> {
+
+    /**
+     * Creates a new DocumentSearchResult using the specified values.
+     * @param location the stream location of the matching document.
+     * @param targetName the name of the documentation target of the matching
+     * document.
+     * @param partNames the names of the document parts containing query terms.
+     * @param score the relevance of the matching document.
+     * @de.renew.require (location != null)
+     * @de.renew.require (targetName != null)
+     * @de.renew.require (partNames != null)
+     * @de.renew.require ! partNames.contains(null)
+     */
+    public DocumentSearchResult(URL location, String targetName,
+                                Collection<String> partNames, double score) {
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (targetName != null) : "Precondition violated: (targetName != null)";
+        assert (partNames != null) : "Precondition violated: (partNames != null)";
+
+        List<String> partNameList = new ArrayList<String>(partNames);
+        assert !partNameList.contains(null) : "Precondition violated: ! partNames.contains(null)";
+
+        this._location = location;
+        this._targetName = targetName;
+        this._partNames = Collections.unmodifiableList(partNameList);
+        this._score = score;
+    }
+
+    /**
+     * Returns the stream location of the matching document.
+     * @return the stream location of the matching document.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public URL getLocation() {
+        return this._location;
+    }
+
+    /**
+     * Returns the name of the documentation target of the matching document.
+     * @return the name of the documentation target.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getTargetName() {
+        return this._targetName;
+    }
+
+    /**
+     * Returns the names of the document parts containing query terms.
+     * @return an unmodifiable collection containing the part names.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Collection<String> getPartNames() {
+        return this._partNames;
+    }
+
+    /**
+     * Returns the relevance of the matching document. Higher values denote
+     * more relevant documents.
+     * @return the relevance score.
+     */
+    public double getScore() {
+        return this._score;
+    }
+
+    /**
+     * Orders results by descending relevance and ascending location.
+     * @param result the result to be compared.
+     * @return a negative integer, zero, or a positive integer as this result
+     * ranks before, equal to, or after the specified result.
+     * @de.renew.require (result != null)
+     */
+    @Override
+    public int compareTo(DocumentSearchResult result) {
+        int returnValue = Double.compare(result.getScore(), this.getScore());
+        if (returnValue == 0) {
+            returnValue = this.getLocation().toString()
+                            .compareTo(result.getLocation().toString());
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return this.getTargetName() + " " + this.getPartNames() + " ("
+                        + this.getScore() + ")";
+    }
+
+    /**
+     * The stream location of the matching document.
+     */
+    private URL _location;
+
+    /**
+     * The name of the documentation target of the matching document.
+     */
+    private String _targetName;
+
+    /**
+     * The names of the document parts containing query terms.
+     */
+    private Collection<String> _partNames;
+
+    /**
+     * The relevance of the matching document.
+     */
+    private double _score;
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package de.renew.netdoc.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+
+/**
+ * Upgrader converting the stored form of outdated NetDoc documents to the
+ * current document version.
+ */
+public interface DocumentUpgrader {
+
+    /**
+     * Returns the document version produced by this upgrader.
+     * @return the current document version.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getCurrentVersion();
+
+    /**
+     * Determines the version of the specified stored document.
+     * @param content the stored document.
+     * @return the version of the document;<br>
+     * or {@code null}, if the content is not a versioned NetDoc document.
+     * @de.renew.require (content != null)
+     */
+    public String getVersion(String content);
+
+    /**
+     * Determines whether the specified stored document has an outdated
+     * version.
+     * @param content the stored document.
+     * @return {@code true}, if the document can be upgraded;<br>
+     * {@code false} otherwise.
+     * @de.renew.require (content != null)
+     */
+    public boolean isOutdated(String content);
+
+    /**
+     * Converts the specified stored document to the current version.
+     * @param content the stored document.
+     * @return the upgraded document;<br>
+     * or the specified content, if the document is not outdated.
+     * @de.renew.require (content != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String upgrade(String content);
+
+    /**
+     * Returns a reader providing the document read from the specified reader
+     * converted to the current version. Outdated documents are converted
+     * while being read, without reading them completely in advance.
+     * @param content the reader providing the stored document.
+     * @return a reader providing the upgraded document;<br>
+     * or a reader providing the unchanged document, if it is not outdated.
+     * @throws IOException if an I/O error occured while determining the
+     * version of the document.
+     * @de.renew.require (content != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Reader upgrade(Reader content) throws IOException;
+}
\ No newline at end of file
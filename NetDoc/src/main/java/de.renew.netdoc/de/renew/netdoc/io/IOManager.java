@@ -1,11 +1,14 @@
 package de.renew.netdoc.io;
 
+import de.renew.netdoc.io.event.DocumentIOListener;
 import de.renew.netdoc.model.doctarget.DocTarget;
 import de.renew.netdoc.model.document.DocumentPart;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.net.URL;
+import java.util.Collection;
 
 
 /**
@@ -45,6 +48,48 @@ public interface IOManager {
      */
     public DocumentParser getDocumentParser();
 
+    /**
+     * Returns the cache of parsed documents used by this manager.
+     * @return the document cache used by this manager;<br>
+     * or {@code null}, if no cache is used.
+     */
+    public DocumentCache getDocumentCache();
+
+    /**
+     * Returns the upgrader converting outdated documents while they are
+     * imported.
+     * @return the document upgrader used by this manager;<br>
+     * or {@code null}, if outdated documents are imported unchanged.
+     */
+    public DocumentUpgrader getDocumentUpgrader();
+
+    /**
+     * Returns the document renderer registered with this manager for the
+     * specified format.
+     * @param formatName the name of the format, e.g. {@code "html"}.
+     * @return the document renderer for that format;<br>
+     * or {@code null}, if no renderer is registered for that format.
+     * @de.renew.require (formatName != null)
+     */
+    public DocumentRenderer getDocumentRenderer(String formatName);
+
+    /**
+     * Returns all document renderers registered with this manager.
+     * @return the document renderers in the order of their registration.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Collection<DocumentRenderer> getDocumentRenderers();
+
+    /**
+     * Returns the stream location of the document part corresponding to the
+     * specified documentation target.
+     * @param docTarget the documentation target to be processed.
+     * @return the stream location;<br>
+     * or {@code null}, if no location is specified for that target.
+     * @de.renew.require (docTarget != null)
+     */
+    public URL getDocumentLocation(DocTarget docTarget);
+
     /**
      * Determines whether a document part for the specified documentation
      * target already exists.
@@ -115,4 +160,19 @@ public interface IOManager {
     public void exportDocumentPartTo(DocumentPart partToExport,
                                      Writer outputStream)
                     throws IOException;
+
+    /**
+     * Adds the specified listener to the list of listeners being notified
+     * whenever this manager has loaded or saved a document part.
+     * @param listenerToAdd the listener to be added.
+     * @de.renew.require (listenerToAdd != null)
+     */
+    public void addDocumentIOListener(DocumentIOListener listenerToAdd);
+
+    /**
+     * Removes the specified listener from the list of listeners being
+     * notified whenever this manager has loaded or saved a document part.
+     * @param listenerToRemove the listener to be removed.
+     */
+    public void removeDocumentIOListener(DocumentIOListener listenerToRemove);
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package de.renew.netdoc.io;
+
+import de.renew.netdoc.model.document.DocumentParts;
+
+
+/**
+ * Metadata field of a NetDoc document, corresponding to a document part
+ * named in {@link DocumentParts}.
+ */
+public enum MetadataField {
+
+    /**
+     * The name of the documentation target.
+     */
+    TARGET_NAME(DocumentParts.NAME_NETDOC_TARGET_NAME, false),
+
+    /**
+     * The package of the documentation target.
+     */
+    TARGET_PACKAGE(DocumentParts.NAME_NETDOC_TARGET_PACKAGE, false),
+
+    /**
+     * The document title.
+     */
+    TITLE(DocumentParts.NAME_NETDOC_TITLE, false),
+
+    /**
+     * The document author.
+     */
+    AUTHOR(DocumentParts.NAME_NETDOC_AUTHOR, false),
+
+    /**
+     * The creation date of the document.
+     */
+    DATE_CREATION(DocumentParts.NAME_NETDOC_DATE_CREATION, true),
+
+    /**
+     * The last modification date of the document.
+     */
+    DATE_LAST_MODIFIED(DocumentParts.NAME_NETDOC_DATE_LAST_MODIFIED, true),
+
+    /**
+     * The document description.
+     */
+    DESCRIPTION(DocumentParts.NAME_NETDOC_DESCRIPTION, false);
+
+
+    /**
+     * Creates a new MetadataField using the specified values.
+     * @param partName the name of the corresponding document part.
+     * @param isDate specifies whether the field holds a NetDoc date.
+     */
+    private MetadataField(String partName, boolean isDate) {
+        this._partName = partName;
+        this._isDate = isDate;
+    }
+
+    /**
+     * Returns the name of the document part corresponding to this field.
+     * @return the document part name.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getPartName() {
+        return this._partName;
+    }
+
+    /**
+     * Determines whether this field holds a NetDoc date.
+     * @return {@code true}, if this field holds a date;<br>
+     * {@code false} otherwise.
+     */
+    public boolean isDate() {
+        return this._isDate;
+    }
+
+    /**
+     * The name of the document part corresponding to this field.
+     */
+    private final String _partName;
+
+    /**
+     * Specifies whether this field holds a NetDoc date.
+     */
+    private final boolean _isDate;
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package de.renew.netdoc.io;
+
+import java.util.Date;
+import java.util.List;
+import java.util.SortedMap;
+
+
+/**
+ * Query over the documents of a metadata store. Filters are combined by
+ * conjunction; sort keys apply in the order they were added. A query is
+ * evaluated each time one of its result methods is invoked.
+ */
+public interface MetadataQuery {
+
+    /**
+     * Restricts this query to documents whose field equals the specified
+     * text.
+     * @param field the field to be compared.
+     * @param text the required text.
+     * @return this query.
+     * @de.renew.require (field != null)
+     * @de.renew.require (text != null)
+     * @de.renew.ensure (returnValue == this)
+     */
+    public MetadataQuery whereEquals(MetadataField field, String text);
+
+    /**
+     * Restricts this query to documents whose field contains the specified
+     * text ignoring case.
+     * @param field the field to be searched.
+     * @param text the required text.
+     * @return this query.
+     * @de.renew.require (field != null)
+     * @de.renew.require (text != null)
+     * @de.renew.ensure (returnValue == this)
+     */
+    public MetadataQuery whereContains(MetadataField field, String text);
+
+    /**
+     * Restricts this query to documents whose field is empty or consists of
+     * whitespace only.
+     * @param field the field to be verified.
+     * @return this query.
+     * @de.renew.require (field != null)
+     * @de.renew.ensure (returnValue == this)
+     */
+    public MetadataQuery whereEmpty(MetadataField field);
+
+    /**
+     * Restricts this query to documents whose field is not empty.
+     * @param field the field to be verified.
+     * @return this query.
+     * @de.renew.require (field != null)
+     * @de.renew.ensure (returnValue == this)
+     */
+    public MetadataQuery whereNotEmpty(MetadataField field);
+
+    /**
+     * Restricts this query to documents whose date field is not before the
+     * specified date. Documents without a valid date are excluded.
+     * @param field the date field to be compared.
+     * @param date the earliest date accepted.
+     * @return this query.
+     * @de.renew.require (field != null)
+     * @de.renew.require field.isDate()
+     * @de.renew.require (date != null)
+     * @de.renew.ensure (returnValue == this)
+     */
+    public MetadataQuery whereSince(MetadataField field, Date date);
+
+    /**
+     * Restricts this query to documents whose date field is before the
+     * specified date. Documents without a valid date are excluded.
+     * @param field the date field to be compared.
+     * @param date the first date rejected.
+     * @return this query.
+     * @de.renew.require (field != null)
+     * @de.renew.require field.isDate()
+     * @de.renew.require (date != null)
+     * @de.renew.ensure (returnValue == this)
+     */
+    public MetadataQuery whereBefore(MetadataField field, Date date);
+
+    /**
+     * Adds a sort key to this query. Text fields are ordered ignoring case,
+     * date fields chronologically with invalid dates first.
+     * @param field the field to sort by.
+     * @param ascending {@code true} for ascending, {@code false} for
+     * descending order.
+     * @return this query.
+     * @de.renew.require (field != null)
+     * @de.renew.ensure (returnValue == this)
+     */
+    public MetadataQuery orderBy(MetadataField field, boolean ascending);
+
+    /**
+     * Limits the number of records returned by {@link #list()}.
+     * @param maxResults the maximum number of records.
+     * @return this query.
+     * @de.renew.require (maxResults >= 0)
+     * @de.renew.ensure (returnValue == this)
+     */
+    public MetadataQuery limit(int maxResults);
+
+    /**
+     * Returns the records matching this query in the requested order.
+     * @return a list containing {@link MetadataRecord} instances.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public List<MetadataRecord> list();
+
+    /**
+     * Returns the number of documents matching this query.
+     * @return the number of matching documents.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int count();
+
+    /**
+     * Returns the records matching this query grouped by the text of the
+     * specified field. Each group keeps the requested order.
+     * @param field the field to group by.
+     * @return a map using field texts as keys.
+     * @de.renew.require (field != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public SortedMap<String, List<MetadataRecord>> groupBy(MetadataField field);
+
+    /**
+     * Returns the number of documents matching this query per text of the
+     * specified field.
+     * @param field the field to group by.
+     * @return a map using field texts as keys.
+     * @de.renew.require (field != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public SortedMap<String, Integer> countBy(MetadataField field);
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package de.renew.netdoc.io;
+
+import de.renew.netdoc.model.document.DocumentParts;
+
+import java.net.URL;
+import java.util.Date;
+
+
+/**
+ * Metadata of a single NetDoc document as returned by a metadata query.
+ */
+public class MetadataRecord {
+
+    /**
+     * Creates a new MetadataRecord using the specified values.
+     * @param location the stream location of the document.
+     * @param values the field values indexed by the ordinal of their field.
+     * @de.renew.require (location != null)
+     * @de.renew.require (values != null)
+     * @de.renew.require (values.length == MetadataField.values().length)
+     */
+    public MetadataRecord(URL location, String[] values) {
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (values != null) : "Precondition violated: (values != null)";
+        assert (values.length == MetadataField
+                        .values().length) : "Precondition violated: (values.length == MetadataField.values().length)";
+
+        this._location = location;
+        this._values = values.clone();
+    }
+
+    /**
+     * Returns the stream location of the document.
+     * @return the stream location of the document.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public URL getLocation() {
+        return this._location;
+    }
+
+    /**
+     * Returns the text of the specified field.
+     * @param field the field to be returned.
+     * @return the text of the field; an empty string, if the document does
+     * not specify that field.
+     * @de.renew.require (field != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getText(MetadataField field) {
+        assert (field != null) : "Precondition violated: (field != null)";
+
+        return this._values[field.ordinal()];
+    }
+
+    /**
+     * Returns the date of the specified date field.
+     * @param field the date field to be returned.
+     * @return the date of the field;<br>
+     * or {@code null}, if the field does not hold a valid NetDoc date.
+     * @de.renew.require (field != null)
+     * @de.renew.require field.isDate()
+     */
+    public Date getDate(MetadataField field) {
+        assert (field != null) : "Precondition violated: (field != null)";
+        assert field.isDate() : "Precondition violated: field.isDate()";
+
+        return DocumentParts.parseDate(this.getText(field));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return this.getText(MetadataField.TARGET_NAME) + " ("
+                        + this.getLocation() + ")";
+    }
+
+    /**
+     * The stream location of the document.
+     */
+    private URL _location;
+
+    /**
+     * The field values indexed by the ordinal of their field.
+     */
+    private String[] _values;
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package de.renew.netdoc.io;
+
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.File;
+import java.net.URL;
+import java.util.concurrent.Future;
+
+
+/**
+ * Store holding the metadata fields of NetDoc documents. Queries are
+ * answered from the store without loading the documents.
+ */
+public interface MetadataStore {
+
+    /**
+     * Extracts the metadata of the specified document stored at the
+     * specified location. Previously stored metadata of that document is
+     * replaced.
+     * @param location the stream location of the document.
+     * @param document the document to be processed.
+     * @de.renew.require (location != null)
+     * @de.renew.require (document != null)
+     */
+    public void update(URL location, DocumentPart document);
+
+    /**
+     * Removes the metadata of the document stored at the specified location.
+     * @param location the stream location of the document.
+     * @de.renew.require (location != null)
+     */
+    public void remove(URL location);
+
+    /**
+     * Removes the metadata of all documents.
+     */
+    public void clear();
+
+    /**
+     * Returns the number of documents held by this store.
+     * @return the number of documents.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getDocumentCount();
+
+    /**
+     * Starts extracting the metadata of all documents found below the
+     * specified package root in the background.
+     * @param packageRoot the directory to be searched for documents.
+     * @return the pending result providing the number of processed documents.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Future<Integer> startBuild(File packageRoot);
+
+    /**
+     * Stops all running and pending background builds of this store.
+     */
+    public void shutdown();
+
+    /**
+     * Creates a new query over all documents of this store.
+     * @return the new query.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public MetadataQuery query();
+}
\ No newline at end of file
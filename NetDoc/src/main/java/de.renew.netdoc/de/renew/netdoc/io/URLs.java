@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 
 /**
@@ -91,6 +92,31 @@ public class URLs {
         }
     }
 
+    /**
+     * Returns the file denoted by the specified URL. Percent-encoded URLs,
+     * e.g. those created by {@link File#toURI()}, are decoded; URLs holding
+     * the plain path, e.g. those created by {@link #create(File)}, are taken
+     * as they are.
+     *
+     * @param url the URL to be converted.
+     * @return the file denoted by the URL; or {@code null}, if the URL does not
+     * use the file-protocol.
+     * @de.renew.require (url ! = null)
+     */
+    public static File toFile(URL url) {
+        assert (url != null) : "Precondition violated: (url != null)";
+
+        if (!url.getProtocol().equals("file")) {
+            return null;
+        }
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // not a valid hierarchical URI, e.g. a plain or relative path
+            return new File(url.toExternalForm().substring(5));
+        }
+    }
+
     /**
      * Returns the filename part of the path of the specified URL.
      *
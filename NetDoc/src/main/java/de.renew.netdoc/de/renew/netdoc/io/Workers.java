@@ -0,0 +1,108 @@
+package de.renew.netdoc.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * Toolkit creating the worker threads of the background and batch
+ * operations on documents and waiting for their results.
+ */
+public class Workers {
+
+    /**
+     * This class cannot be instantiated.
+     */
+    private Workers() {
+    }
+
+    /**
+     * Returns a factory creating daemon threads of normal priority with the
+     * specified name, so that workers never keep the application alive.
+     * @param threadName the name of the created threads.
+     * @return the new thread factory.
+     * @de.renew.require (threadName != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static ThreadFactory createThreadFactory(String threadName) {
+        return Workers.createThreadFactory(threadName, Thread.NORM_PRIORITY);
+    }
+
+    /**
+     * Returns a factory creating daemon threads with the specified name and
+     * priority, so that workers never keep the application alive.
+     * @param threadName the name of the created threads.
+     * @param priority the priority of the created threads.
+     * @return the new thread factory.
+     * @de.renew.require (threadName != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static ThreadFactory createThreadFactory(final String threadName,
+                                                    final int priority) {
+        assert (threadName != null) : "Precondition violated: (threadName != null)";
+
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread returnValue = new Thread(runnable, threadName);
+                returnValue.setDaemon(true);
+                returnValue.setPriority(priority);
+                return returnValue;
+            }
+        };
+    }
+
+    /**
+     * Creates a pool of the specified number of daemon threads with the
+     * specified name.
+     * @param threadName the name of the worker threads.
+     * @param threadCount the number of worker threads.
+     * @return the new executor.
+     * @de.renew.require (threadName != null)
+     * @de.renew.require (threadCount > 0)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static ExecutorService createPool(String threadName,
+                                             int threadCount) {
+        assert (threadCount > 0) : "Precondition violated: (threadCount > 0)";
+
+        return Executors.newFixedThreadPool(threadCount,
+                        Workers.createThreadFactory(threadName));
+    }
+
+    /**
+     * Waits for the result of the specified task. An {@link IOException}
+     * thrown by the task is rethrown as is, any other failure is wrapped
+     * into an {@link IOException}.
+     * @param pending the pending task.
+     * @param operation the name of the operation the task belongs to, used
+     * in the message of an interruption.
+     * @return the result of the task.
+     * @throws IOException if the task failed or the calling thread was
+     * interrupted.
+     * @de.renew.require (pending != null)
+     * @de.renew.require (operation != null)
+     */
+    public static <T> T await(Future<T> pending, String operation)
+                    throws IOException {
+        assert (pending != null) : "Precondition violated: (pending != null)";
+        assert (operation != null) : "Precondition violated: (operation != null)";
+
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(operation + " interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
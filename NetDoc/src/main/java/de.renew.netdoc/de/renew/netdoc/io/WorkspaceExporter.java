@@ -0,0 +1,28 @@
+package de.renew.netdoc.io;
+
+import java.io.File;
+import java.io.IOException;
+
+
+/**
+ * Exporter writing all NetDoc documents of a package into a single document
+ * bundle.
+ */
+public interface WorkspaceExporter {
+
+    /**
+     * Exports all documents found below the specified package root into the
+     * specified bundle. The documents are added ordered by their path. The
+     * bundle is not closed.
+     * @param packageRoot the directory to be searched for documents.
+     * @param bundle the bundle the exported documents are added to.
+     * @return the number of exported documents.
+     * @throws IOException if a document could not be exported or an I/O error
+     * occured while writing the bundle.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.require (bundle != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int export(File packageRoot, DocumentBundle bundle)
+                    throws IOException;
+}
\ No newline at end of file
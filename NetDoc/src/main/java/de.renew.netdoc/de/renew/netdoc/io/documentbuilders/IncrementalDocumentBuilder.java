@@ -0,0 +1,414 @@
+package de.renew.netdoc.io.documentbuilders;
+
+import de.renew.netdoc.io.DocumentBuildResult;
+import de.renew.netdoc.io.DocumentBuilder;
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.Workers;
+import de.renew.netdoc.model.doctarget.targets.FileTarget;
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+
+/**
+ * Document builder exporting only the documents whose inputs changed since
+ * the previous build. A manifest in the output directory records the inputs
+ * of every export: the content hash of the document file, the name of the
+ * documentation target and the resolved package root. A document is exported
+ * again if any of these inputs changed or its export is missing. Exports of
+ * deleted documents are removed. Stale documents are exported in parallel.
+ */
+public class IncrementalDocumentBuilder implements DocumentBuilder {
+
+    /**
+     * The filename of the build manifest inside the output directory.
+     */
+    public static final String MANIFEST_FILENAME = "netdoc-build.manifest";
+
+    /**
+     * Filename extension of the exported documents.
+     */
+    public static final String EXPORT_EXTENSION = ".tex";
+
+    /**
+     * The header line of the build manifest. Manifests with another header
+     * are discarded, forcing a full build.
+     */
+    private static final String MANIFEST_HEADER = "# NetDoc Build Manifest v1.0";
+
+    /**
+     * Number of columns of a manifest line.
+     */
+    private static final int COLUMN_COUNT = 4;
+
+
+    /**
+     * Creates a new IncrementalDocumentBuilder using the specified
+     * Input/Output manager and one thread per available processor.
+     * @param ioManager the Input/Output manager used to import and export the
+     * documents.
+     * @de.renew.require (ioManager != null)
+     */
+    public IncrementalDocumentBuilder(IOManager ioManager) {
+        this(ioManager, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new IncrementalDocumentBuilder using the specified values.
+     * @param ioManager the Input/Output manager used to import and export the
+     * documents. Must be safe for concurrent use.
+     * @param threadCount the number of threads exporting documents.
+     * @de.renew.require (ioManager != null)
+     * @de.renew.require (threadCount > 0)
+     */
+    public IncrementalDocumentBuilder(IOManager ioManager, int threadCount) {
+        assert (ioManager != null) : "Precondition violated: (ioManager != null)";
+        assert (threadCount > 0) : "Precondition violated: (threadCount > 0)";
+
+        this._ioManager = ioManager;
+        this._threadCount = threadCount;
+    }
+
+    /**
+     * Returns the file the specified document is exported to.
+     * @param outputDirectory the output directory of the build.
+     * @param path the document path relative to the package root.
+     * @return the export file.
+     * @de.renew.require (outputDirectory != null)
+     * @de.renew.require (path != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public File getExportFile(File outputDirectory, String path) {
+        assert (outputDirectory != null) : "Precondition violated: (outputDirectory != null)";
+        assert (path != null) : "Precondition violated: (path != null)";
+
+        return new File(outputDirectory, DocumentFiles.exchangeExtension(path,
+                        IncrementalDocumentBuilder.EXPORT_EXTENSION));
+    }
+
+    /**
+     * Exports all documents whose inputs changed since the previous build and
+     * updates the manifest. Documents which could not be exported are left out
+     * of the manifest, so that they are retried by the next build.
+     * @param packageRoot the directory to be searched for documents.
+     * @param outputDirectory the directory the exports are written to.
+     * @return the summary of the build.
+     * @throws IOException if a document could not be exported or an I/O error
+     * occured while writing the exports or the manifest.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.require (outputDirectory != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    @Override
+    public DocumentBuildResult build(File packageRoot, File outputDirectory)
+                    throws IOException {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+        assert (outputDirectory != null) : "Precondition violated: (outputDirectory != null)";
+
+        Files.createDirectories(outputDirectory.toPath());
+        File manifestFile = new File(outputDirectory,
+                        IncrementalDocumentBuilder.MANIFEST_FILENAME);
+        Map<String, Inputs> previous = IncrementalDocumentBuilder
+                        .loadManifest(manifestFile);
+        Map<String, Inputs> current = new TreeMap<String, Inputs>();
+
+        // determine stale documents
+        Map<String, File> stale = new TreeMap<String, File>();
+        for (File document : DocumentFiles.findDocuments(packageRoot)) {
+            String path = DocumentFiles.getRelativePath(packageRoot, document);
+            Inputs inputs = IncrementalDocumentBuilder.getInputs(document);
+            current.put(path, inputs);
+            if (!inputs.equals(previous.get(path))
+                            || !this.getExportFile(outputDirectory, path)
+                                            .isFile()) {
+                stale.put(path, document);
+            }
+        }
+
+        // remove exports of deleted documents
+        List<String> removed = new ArrayList<String>();
+        for (String path : previous.keySet()) {
+            if (!current.containsKey(path)) {
+                Files.deleteIfExists(this.getExportFile(outputDirectory, path)
+                                .toPath());
+                removed.add(path);
+            }
+        }
+
+        // export stale documents
+        List<String> exported = new ArrayList<String>();
+        IOException failure = null;
+        int failureCount = 0;
+        ExecutorService executor = Workers.createPool("NetDoc document build",
+                        this._threadCount);
+        try {
+            Map<String, Future<Void>> pending = new TreeMap<String, Future<Void>>();
+            for (Map.Entry<String, File> entry : stale.entrySet()) {
+                pending.put(entry.getKey(), executor.submit(new ExportTask(
+                                entry.getValue(), this.getExportFile(
+                                                outputDirectory, entry.getKey()))));
+            }
+            Iterator<Map.Entry<String, Future<Void>>> it = pending.entrySet()
+                            .iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Future<Void>> entry = it.next();
+                try {
+                    Workers.await(entry.getValue(), "Document build");
+                    exported.add(entry.getKey());
+                } catch (InterruptedIOException e) {
+                    throw e;
+                } catch (IOException e) {
+                    current.remove(entry.getKey());
+                    if (failure == null) {
+                        failure = e;
+                    }
+                    failureCount++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        IncrementalDocumentBuilder.storeManifest(manifestFile, current);
+        if (failure != null) {
+            throw new IOException(failureCount
+                            + " document(s) could not be exported, first: "
+                            + failure.getMessage(), failure);
+        }
+        return new DocumentBuildResult(exported, removed,
+                        current.size() - exported.size());
+    }
+
+    /**
+     * Exports the specified document file to the specified export file. The
+     * export is written to a temporary file first and then moved into place.
+     * @param document the document file to be exported.
+     * @param exportFile the file the export is written to.
+     * @throws IOException if the document could not be imported or exported.
+     * @de.renew.require (document != null)
+     * @de.renew.require (exportFile != null)
+     */
+    protected void exportDocument(File document, File exportFile)
+                    throws IOException {
+        DocumentPart part = DocumentFiles.importDocument(document,
+                        this._ioManager);
+        Files.createDirectories(exportFile.getParentFile().toPath());
+        File tempFile = new File(exportFile.getParentFile(),
+                        exportFile.getName() + ".tmp");
+        Writer writer = new OutputStreamWriter(
+                        Files.newOutputStream(tempFile.toPath()),
+                        DocumentFiles.CHARSET);
+        try {
+            this._ioManager.exportDocumentPartTo(part, writer);
+        } finally {
+            writer.close();
+        }
+        Files.move(tempFile.toPath(), exportFile.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Determines the current inputs of the export of the specified document.
+     * @param document the document file.
+     * @return the current inputs.
+     * @throws IOException if the document file could not be read.
+     */
+    private static Inputs getInputs(File document) throws IOException {
+        File packageRoot = DocumentFiles.findPackageRoot(document);
+        return new Inputs(
+                        DocumentFiles.hash(Files.readAllBytes(document.toPath())),
+                        new FileTarget(document).getName(),
+                        (packageRoot == null) ? "" : packageRoot.getPath());
+    }
+
+    /**
+     * Loads the specified manifest.
+     * @param file the manifest file.
+     * @return a map containing the recorded inputs using the document paths
+     * as keys;<br>
+     * or an empty map, if the manifest does not exist or has another version.
+     * @throws IOException if an I/O error occured while reading the manifest.
+     */
+    private static Map<String, Inputs> loadManifest(File file)
+                    throws IOException {
+        Map<String, Inputs> returnValue = new TreeMap<String, Inputs>();
+        if (!file.isFile()) {
+            return returnValue;
+        }
+        BufferedReader reader = Files.newBufferedReader(file.toPath(),
+                        DocumentFiles.CHARSET);
+        try {
+            if (!IncrementalDocumentBuilder.MANIFEST_HEADER
+                            .equals(reader.readLine())) {
+                return returnValue;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t", -1);
+                if (columns.length != IncrementalDocumentBuilder.COLUMN_COUNT) {
+                    // discard malformed manifests, forcing a full build
+                    returnValue.clear();
+                    return returnValue;
+                }
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = DocumentFiles.unescape(columns[i]);
+                }
+                returnValue.put(columns[0],
+                                new Inputs(columns[1], columns[2], columns[3]));
+            }
+        } finally {
+            reader.close();
+        }
+        return returnValue;
+    }
+
+    /**
+     * Stores the specified inputs into the specified manifest. The manifest
+     * is written to a temporary file first and then moved into place.
+     * @param file the manifest file.
+     * @param inputs the inputs using the document paths as keys.
+     * @throws IOException if an I/O error occured while writing the manifest.
+     */
+    private static void storeManifest(File file, Map<String, Inputs> inputs)
+                    throws IOException {
+        File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+        BufferedWriter writer = Files.newBufferedWriter(tempFile.toPath(),
+                        DocumentFiles.CHARSET);
+        try {
+            writer.write(IncrementalDocumentBuilder.MANIFEST_HEADER);
+            writer.newLine();
+            for (Map.Entry<String, Inputs> entry : inputs.entrySet()) {
+                writer.write(DocumentFiles.escape(entry.getKey()));
+                for (String value : entry.getValue().getValues()) {
+                    writer.write('\t');
+                    writer.write(DocumentFiles.escape(value));
+                }
+                writer.newLine();
+            }
+        } finally {
+            writer.close();
+        }
+        Files.move(tempFile.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * The Input/Output manager used to import and export the documents.
+     */
+    private IOManager _ioManager;
+
+    /**
+     * The number of threads exporting documents.
+     */
+    private int _threadCount;
+
+
+    /**
+     * Inputs the export of a single document depends on.
+     */
+    private static class Inputs {
+
+        /**
+         * Creates a new Inputs instance using the specified values.
+         * @param contentHash the content hash of the document file.
+         * @param targetName the name of the documentation target.
+         * @param packageRoot the path of the resolved package root.
+         */
+        public Inputs(String contentHash, String targetName,
+                      String packageRoot) {
+            this._values = new String[] { contentHash, targetName,
+                            packageRoot };
+        }
+
+        /**
+         * Returns the values of these inputs in manifest column order.
+         * @return the input values.
+         */
+        public String[] getValues() {
+            return this._values;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public boolean equals(Object object) {
+            return (object instanceof Inputs)
+                            && Arrays.equals(this._values,
+                                            ((Inputs) object)._values);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this._values);
+        }
+
+        /**
+         * The input values in manifest column order.
+         */
+        private String[] _values;
+    }
+
+
+    /**
+     * Task exporting a single document file.
+     */
+    private class ExportTask implements Callable<Void> {
+
+        /**
+         * Creates a new ExportTask using the specified values.
+         * @param document the document file to be exported.
+         * @param exportFile the file the export is written to.
+         */
+        public ExportTask(File document, File exportFile) {
+            this._document = document;
+            this._exportFile = exportFile;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public Void call() throws IOException {
+            try {
+                IncrementalDocumentBuilder.this.exportDocument(this._document,
+                                this._exportFile);
+                return null;
+            } catch (IOException e) {
+                throw new IOException("Cannot export " + this._document + ": "
+                                + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * The document file to be exported.
+         */
+        private File _document;
+
+        /**
+         * The file the export is written to.
+         */
+        private File _exportFile;
+    }
+}
\ No newline at end of file
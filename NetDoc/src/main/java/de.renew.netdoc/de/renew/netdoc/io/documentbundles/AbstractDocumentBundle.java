@@ -0,0 +1,127 @@
+package de.renew.netdoc.io.documentbundles;
+
+import de.renew.netdoc.io.DocumentBundle;
+
+import java.io.IOException;
+
+
+/**
+ * Abstract document bundle arranging the exported documents as sections of a
+ * LaTeX master document.
+ */
+public abstract class AbstractDocumentBundle implements DocumentBundle {
+
+    /**
+     * Returns the specified text with all LaTeX special characters escaped.
+     * @param text the text to be escaped.
+     * @return the escaped text.
+     * @de.renew.require (text != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String escape(String text) {
+        assert (text != null) : "Precondition violated: (text != null)";
+
+        StringBuilder returnValue = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            switch (current) {
+            case '\\':
+                returnValue.append("\\textbackslash{}");
+                break;
+            case '~':
+                returnValue.append("\\textasciitilde{}");
+                break;
+            case '^':
+                returnValue.append("\\textasciicircum{}");
+                break;
+            case '{':
+            case '}':
+            case '$':
+            case '&':
+            case '#':
+            case '_':
+            case '%':
+                returnValue.append('\\').append(current);
+                break;
+            default:
+                returnValue.append(current);
+            }
+        }
+        return returnValue.toString();
+    }
+
+
+    /**
+     * Creates a new empty AbstractDocumentBundle.
+     */
+    protected AbstractDocumentBundle() {
+        this._documentCount = 0;
+    }
+
+    /**
+     * <p>Adds the specified exported document to this bundle.</p>
+     * <p>To override implement {@link
+     * #addDocumentImpl(String,String,String)}.</p>
+     * @param path the document path relative to the package root.
+     * @param targetName the name of the documentation target of the document.
+     * @param content the exported document.
+     * @throws IOException if an I/O error occured while writing the document.
+     * @de.renew.require (path != null)
+     * @de.renew.require (targetName != null)
+     * @de.renew.require (content != null)
+     */
+    @Override
+    public final void addDocument(String path, String targetName,
+                                  String content)
+                    throws IOException {
+        assert (path != null) : "Precondition violated: (path != null)";
+        assert (targetName != null) : "Precondition violated: (targetName != null)";
+        assert (content != null) : "Precondition violated: (content != null)";
+
+        this.addDocumentImpl(path, targetName, content);
+        this._documentCount++;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int getDocumentCount() {
+        return this._documentCount;
+    }
+
+    /**
+     * Adds the specified exported document to this bundle.
+     * @param path the document path relative to the package root.
+     * @param targetName the name of the documentation target of the document.
+     * @param content the exported document.
+     * @throws IOException if an I/O error occured while writing the document.
+     * @de.renew.require (path != null)
+     * @de.renew.require (targetName != null)
+     * @de.renew.require (content != null)
+     */
+    protected abstract void addDocumentImpl(String path, String targetName,
+                                            String content)
+                    throws IOException;
+
+    /**
+     * Returns the LaTeX section header introducing the specified document in
+     * the master document.
+     * @param path the document path relative to the package root.
+     * @param targetName the name of the documentation target of the document.
+     * @return the section header including the line separator.
+     * @de.renew.require (path != null)
+     * @de.renew.require (targetName != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected String getSectionHeader(String path, String targetName) {
+        return "\\section{" + AbstractDocumentBundle.escape(targetName)
+                        + "}\\label{netdoc:" + path.replaceAll("[^A-Za-z0-9/.-]", "-")
+                        + "}\n";
+    }
+
+    /**
+     * The number of documents added to this bundle.
+     */
+    private int _documentCount;
+}
\ No newline at end of file
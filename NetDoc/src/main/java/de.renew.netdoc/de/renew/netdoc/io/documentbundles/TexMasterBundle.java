@@ -0,0 +1,54 @@
+package de.renew.netdoc.io.documentbundles;
+
+import java.io.IOException;
+import java.io.Writer;
+
+
+/**
+ * Document bundle writing all exported documents into a single LaTeX master
+ * document, one section per document. The master document contains no
+ * preamble and is meant to be included by the documentation build.
+ */
+public class TexMasterBundle extends AbstractDocumentBundle {
+
+    /**
+     * Creates a new TexMasterBundle writing to the specified writer. The
+     * writer is closed when the bundle is closed.
+     * @param writer the writer the master document is written to.
+     * @de.renew.require (writer != null)
+     */
+    public TexMasterBundle(Writer writer) {
+        assert (writer != null) : "Precondition violated: (writer != null)";
+
+        this._writer = writer;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void close() throws IOException {
+        this._writer.close();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void addDocumentImpl(String path, String targetName,
+                                   String content)
+                    throws IOException {
+        this._writer.write(this.getSectionHeader(path, targetName));
+        this._writer.write("% " + path + "\n");
+        this._writer.write(content);
+        if (!content.endsWith("\n")) {
+            this._writer.write("\n");
+        }
+        this._writer.write("\n");
+    }
+
+    /**
+     * The writer the master document is written to.
+     */
+    private Writer _writer;
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package de.renew.netdoc.io.documentbundles;
+
+import de.renew.netdoc.io.DocumentFiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+
+/**
+ * Document bundle writing each exported document into its own entry of a zip
+ * archive. On closing, a master document including all entries in the order
+ * they were added is appended to the archive.
+ */
+public class ZipDocumentBundle extends AbstractDocumentBundle {
+
+    /**
+     * Name of the master document entry.
+     */
+    public static final String MASTER_ENTRY_NAME = "netdoc-bundle.tex";
+
+    /**
+     * Filename extension of the document entries.
+     */
+    public static final String ENTRY_EXTENSION = ".tex";
+
+
+    /**
+     * Creates a new ZipDocumentBundle writing to the specified stream. The
+     * stream is closed when the bundle is closed.
+     * @param stream the stream the archive is written to.
+     * @de.renew.require (stream != null)
+     */
+    public ZipDocumentBundle(OutputStream stream) {
+        assert (stream != null) : "Precondition violated: (stream != null)";
+
+        this._stream = new ZipOutputStream(stream);
+        this._master = new StringBuilder();
+    }
+
+    /**
+     * Returns the name of the archive entry holding the document with the
+     * specified path.
+     * @param path the document path relative to the package root.
+     * @return the entry name.
+     * @de.renew.require (path != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getEntryName(String path) {
+        assert (path != null) : "Precondition violated: (path != null)";
+
+        return DocumentFiles.exchangeExtension(path,
+                        ZipDocumentBundle.ENTRY_EXTENSION);
+    }
+
+    /**
+     * Appends the master document and closes the archive.
+     * @throws IOException if an I/O error occured while writing the archive.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.writeEntry(ZipDocumentBundle.MASTER_ENTRY_NAME,
+                            this._master.toString());
+        } finally {
+            this._stream.close();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void addDocumentImpl(String path, String targetName,
+                                   String content)
+                    throws IOException {
+        String entryName = this.getEntryName(path);
+        this.writeEntry(entryName, content);
+
+        this._master.append(this.getSectionHeader(path, targetName));
+        this._master.append("\\input{").append(entryName).append("}\n\n");
+    }
+
+    /**
+     * Writes an archive entry using the specified values.
+     * @param entryName the name of the entry.
+     * @param content the content of the entry.
+     * @throws IOException if an I/O error occured while writing the entry.
+     */
+    private void writeEntry(String entryName, String content)
+                    throws IOException {
+        this._stream.putNextEntry(new ZipEntry(entryName));
+        this._stream.write(content.getBytes(DocumentFiles.CHARSET));
+        this._stream.closeEntry();
+    }
+
+    /**
+     * The stream the archive is written to.
+     */
+    private ZipOutputStream _stream;
+
+    /**
+     * The master document collected so far.
+     */
+    private StringBuilder _master;
+}
\ No newline at end of file
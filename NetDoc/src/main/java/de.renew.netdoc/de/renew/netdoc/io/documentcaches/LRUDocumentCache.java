@@ -0,0 +1,404 @@
+package de.renew.netdoc.io.documentcaches;
+
+import de.renew.netdoc.io.DocumentCache;
+import de.renew.netdoc.io.URLs;
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Bounded least-recently-used document cache. Entries are keyed by the
+ * resolved file of their location and are only answered as long as the
+ * modification time and the size of that file are unchanged. Only locations
+ * using the file-protocol are cached.
+ */
+public class LRUDocumentCache implements DocumentCache {
+
+    /**
+     * Default maximum number of cached entries.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    /**
+     * Default maximum accumulated file size of all cached entries in bytes.
+     */
+    public static final long DEFAULT_MAX_BYTES = 8L * 1024L * 1024L;
+
+
+    /**
+     * Creates a new LRUDocumentCache using the default size limits.
+     */
+    public LRUDocumentCache() {
+        this(LRUDocumentCache.DEFAULT_MAX_ENTRIES,
+                        LRUDocumentCache.DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a new LRUDocumentCache using the specified size limits.
+     * @param maxEntries the maximum number of entries held by the new cache.
+     * @param maxBytes the maximum accumulated file size of the documents held
+     * by the new cache.
+     * @de.renew.require (maxEntries >= 0)
+     * @de.renew.require (maxBytes >= 0)
+     */
+    public LRUDocumentCache(int maxEntries, long maxBytes) {
+        assert (maxEntries >= 0) : "Precondition violated: (maxEntries >= 0)";
+        assert (maxBytes >= 0) : "Precondition violated: (maxBytes >= 0)";
+
+        this._maxEntries = maxEntries;
+        this._maxBytes = maxBytes;
+        this._entries = new LinkedHashMap<File, Entry>(16, 0.75f, true);
+        this._bytes = 0;
+    }
+
+    /**
+     * Returns the maximum number of entries held by this cache.
+     * @return the maximum number of entries held by this cache.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getMaxEntries() {
+        return this._maxEntries;
+    }
+
+    /**
+     * Returns the maximum accumulated file size of the documents held by this
+     * cache.
+     * @return the maximum accumulated file size in bytes.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getMaxBytes() {
+        return this._maxBytes;
+    }
+
+    /**
+     * Returns the accumulated file size of the documents currently held by
+     * this cache.
+     * @return the accumulated file size in bytes.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public synchronized long getBytes() {
+        return this._bytes;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized DocumentPart get(URL location) {
+        assert (location != null) : "Precondition violated: (location != null)";
+
+        File file = LRUDocumentCache.resolve(location);
+        Entry entry = (file == null) ? null : this._entries.get(file);
+        if ((entry != null) && !entry.getStamp().equals(new Stamp(file))) {
+            this.remove(file);
+            entry = null;
+        }
+        if (entry == null) {
+            this._missCount++;
+            return null;
+        }
+        this._hitCount++;
+        return (DocumentPart) entry.getPart().clone();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Object getStamp(URL location) {
+        assert (location != null) : "Precondition violated: (location != null)";
+
+        File file = LRUDocumentCache.resolve(location);
+        if ((file == null) || !file.isFile()) {
+            return null;
+        }
+        return new Stamp(file);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void put(URL location, Object stamp,
+                                 DocumentPart part) {
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (stamp != null) : "Precondition violated: (stamp != null)";
+        assert (part != null) : "Precondition violated: (part != null)";
+
+        File file = LRUDocumentCache.resolve(location);
+        if (file == null) {
+            return;
+        }
+        if (!stamp.equals(new Stamp(file))) {
+            // changed while being parsed; the next load parses it again
+            this.remove(file);
+            return;
+        }
+        Entry entry = new Entry((Stamp) stamp, (DocumentPart) part.clone());
+        if ((entry.getSize() > this.getMaxBytes())
+                        || (this.getMaxEntries() == 0)) {
+            this.remove(file);
+            return;
+        }
+        this.remove(file);
+        this._entries.put(file, entry);
+        this._bytes += entry.getSize();
+        this.evict();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void invalidate(URL location) {
+        assert (location != null) : "Precondition violated: (location != null)";
+
+        File file = LRUDocumentCache.resolve(location);
+        if (file != null) {
+            this.remove(file);
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void clear() {
+        this._entries.clear();
+        this._bytes = 0;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized int getSize() {
+        return this._entries.size();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized long getHitCount() {
+        return this._hitCount;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized long getMissCount() {
+        return this._missCount;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized long getEvictionCount() {
+        return this._evictionCount;
+    }
+
+    /**
+     * Removes the least recently used entries until the size limits of this
+     * cache are respected.
+     */
+    private void evict() {
+        Iterator<Entry> entryIterator = this._entries.values().iterator();
+        while (entryIterator.hasNext()
+                        && ((this._entries.size() > this.getMaxEntries())
+                                        || (this._bytes > this.getMaxBytes()))) {
+            Entry eldest = entryIterator.next();
+            entryIterator.remove();
+            this._bytes -= eldest.getSize();
+            this._evictionCount++;
+        }
+    }
+
+    /**
+     * Removes the entry cached for the specified file, if any.
+     * @param file the file whose entry is to be removed.
+     * @de.renew.require (file != null)
+     */
+    private void remove(File file) {
+        Entry removed = this._entries.remove(file);
+        if (removed != null) {
+            this._bytes -= removed.getSize();
+        }
+    }
+
+    /**
+     * Resolves the file denoted by the specified location.
+     * @param location the location to be resolved.
+     * @return the canonical file denoted by the location;<br>
+     * or {@code null}, if the location does not use the file-protocol.
+     * @de.renew.require (location != null)
+     */
+    private static File resolve(URL location) {
+        File file = URLs.toFile(location);
+        if (file == null) {
+            return null;
+        }
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file.getAbsoluteFile();
+        }
+    }
+
+    /**
+     * The maximum number of entries held by this cache.
+     */
+    private int _maxEntries;
+
+    /**
+     * The maximum accumulated file size of all entries held by this cache.
+     */
+    private long _maxBytes;
+
+    /**
+     * The accumulated file size of all entries held by this cache.
+     */
+    private long _bytes;
+
+    /**
+     * The number of cache hits.
+     */
+    private long _hitCount;
+
+    /**
+     * The number of cache misses.
+     */
+    private long _missCount;
+
+    /**
+     * The number of evicted entries.
+     */
+    private long _evictionCount;
+
+    /**
+     * The cached entries in access order. Uses resolved files as keys.
+     */
+    private Map<File, Entry> _entries;
+
+
+    /**
+     * State of a file given by its modification time and size.
+     */
+    private static class Stamp {
+
+        /**
+         * Creates a new Stamp holding the current state of the specified
+         * file.
+         * @param file the file whose state is to be held.
+         * @de.renew.require (file != null)
+         */
+        public Stamp(File file) {
+            this._lastModified = file.lastModified();
+            this._size = file.length();
+        }
+
+        /**
+         * Returns the file size held by this stamp.
+         * @return the file size in bytes.
+         */
+        public long getSize() {
+            return this._size;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Stamp)) {
+                return false;
+            }
+            Stamp other = (Stamp) object;
+            return (other._lastModified == this._lastModified)
+                            && (other._size == this._size);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public int hashCode() {
+            return Long.hashCode(this._lastModified) * 31
+                            + Long.hashCode(this._size);
+        }
+
+        /**
+         * The modification time of the file.
+         */
+        private long _lastModified;
+
+        /**
+         * The size of the file.
+         */
+        private long _size;
+    }
+
+
+    /**
+     * Cached document part bound to the state of its file.
+     */
+    private static class Entry {
+
+        /**
+         * Creates a new Entry for the specified file state and document part.
+         * @param stamp the state of the file the document part was parsed
+         * from.
+         * @param part the document part to be held by the new entry.
+         * @de.renew.require (stamp != null)
+         * @de.renew.require (part != null)
+         */
+        public Entry(Stamp stamp, DocumentPart part) {
+            this._stamp = stamp;
+            this._part = part;
+        }
+
+        /**
+         * Returns the state of the file this entry is bound to.
+         * @return the file state.
+         * @de.renew.ensure (returnValue != null)
+         */
+        public Stamp getStamp() {
+            return this._stamp;
+        }
+
+        /**
+         * Returns the cached document part.
+         * @return the cached document part.
+         * @de.renew.ensure (returnValue != null)
+         */
+        public DocumentPart getPart() {
+            return this._part;
+        }
+
+        /**
+         * Returns the file size this entry is bound to.
+         * @return the file size in bytes.
+         */
+        public long getSize() {
+            return this._stamp.getSize();
+        }
+
+        /**
+         * The state of the file this entry is bound to.
+         */
+        private Stamp _stamp;
+
+        /**
+         * The cached document part.
+         */
+        private DocumentPart _part;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,463 @@
+package de.renew.netdoc.io.documentcatalogs;
+
+import de.renew.netdoc.io.DocumentCatalog;
+import de.renew.netdoc.io.DocumentCatalogEntry;
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.URLs;
+import de.renew.netdoc.model.doctarget.DocTarget;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+
+/**
+ * Document catalog stored as a tab separated text file next to the
+ * {@code package-root.doctex} file of a package. Each line holds one entry;
+ * tabs, line breaks and backslashes inside values are escaped.
+ */
+public class FileDocumentCatalog implements DocumentCatalog {
+
+    /**
+     * The filename of the file specifying the root package of the targets.
+     */
+    public static final String PACKAGE_ROOT_FILENAME = DocumentFiles.PACKAGE_ROOT_FILENAME;
+
+    /**
+     * The filename of the catalog file.
+     */
+    public static final String CATALOG_FILENAME = "package-catalog.tsv";
+
+    /**
+     * The header line identifying the catalog format.
+     */
+    private static final String CATALOG_HEADER = "# NetDoc Package Catalog v1.0";
+
+    /**
+     * The number of columns of each catalog line.
+     */
+    private static final int COLUMN_COUNT = 8;
+
+    /**
+     * The shared catalogs by their canonical package root. A catalog no
+     * longer referenced elsewhere is dropped and loaded again on request.
+     */
+    private static final Map<File, WeakReference<FileDocumentCatalog>> CATALOGS = new HashMap<File, WeakReference<FileDocumentCatalog>>();
+
+
+    /**
+     * Creates a new FileDocumentCatalog for the package root in the specified
+     * directory. The catalog is initially empty; use {@link #load()} to read
+     * an existing catalog file.
+     * @param packageRoot the directory containing the package root file.
+     * @de.renew.require (packageRoot != null)
+     */
+    public FileDocumentCatalog(File packageRoot) {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+
+        this._packageRoot = packageRoot;
+        this._entries = new TreeMap<String, DocumentCatalogEntry>();
+    }
+
+    /**
+     * Returns the catalog responsible for the document at the specified
+     * location. The catalog is located next to the nearest
+     * {@code package-root.doctex} above the document.
+     * @param documentLocation the location of the document.
+     * @return the loaded catalog;<br>
+     * or {@code null}, if the location does not use the file-protocol or no
+     * package root exists above it.
+     * @throws IOException if an I/O error occured while loading the catalog.
+     * @de.renew.require (documentLocation != null)
+     * @see #forPackageRoot(File)
+     */
+    public static FileDocumentCatalog findFor(URL documentLocation)
+                    throws IOException {
+        assert (documentLocation != null) : "Precondition violated: (documentLocation != null)";
+
+        File document = URLs.toFile(documentLocation);
+        if (document == null) {
+            return null;
+        }
+        File directory = DocumentFiles.findPackageRoot(document);
+        if (directory == null) {
+            return null;
+        }
+        return FileDocumentCatalog.forPackageRoot(directory);
+    }
+
+    /**
+     * Returns the shared catalog of the package root in the specified
+     * directory. There is at most one catalog per package root, so that
+     * concurrent updates of that package are serialised by the catalog. The
+     * catalog file is loaded when the catalog is first requested, and again
+     * once the catalog has been dropped for no longer being referenced.
+     * @param packageRoot the directory containing the package root file.
+     * @return the loaded catalog.
+     * @throws IOException if an I/O error occured while loading the catalog.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static FileDocumentCatalog forPackageRoot(File packageRoot)
+                    throws IOException {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+
+        File key = packageRoot.getCanonicalFile();
+        synchronized (FileDocumentCatalog.CATALOGS) {
+            Iterator<WeakReference<FileDocumentCatalog>> references = FileDocumentCatalog.CATALOGS
+                            .values().iterator();
+            while (references.hasNext()) {
+                if (references.next().get() == null) {
+                    references.remove();
+                }
+            }
+            WeakReference<FileDocumentCatalog> reference = FileDocumentCatalog.CATALOGS
+                            .get(key);
+            FileDocumentCatalog returnValue = (reference == null) ? null
+                            : reference.get();
+            if (returnValue == null) {
+                returnValue = new FileDocumentCatalog(packageRoot);
+                returnValue.load();
+                FileDocumentCatalog.CATALOGS.put(key,
+                                new WeakReference<FileDocumentCatalog>(
+                                                returnValue));
+            }
+            return returnValue;
+        }
+    }
+
+    /**
+     * Returns the directory containing the package root file.
+     * @return the package root directory.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public File getPackageRoot() {
+        return this._packageRoot;
+    }
+
+    /**
+     * Returns the catalog file.
+     * @return the catalog file.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public File getFile() {
+        return new File(this.getPackageRoot(),
+                        FileDocumentCatalog.CATALOG_FILENAME);
+    }
+
+    /**
+     * Returns the path of the specified document file relative to the
+     * package root of this catalog.
+     * @param document the document file.
+     * @return the relative path, using {@code '/'} as separator;<br>
+     * or {@code null}, if the file is not located below the package root.
+     * @de.renew.require (document != null)
+     */
+    public String getRelativePath(File document) {
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        return DocumentFiles.getRelativePath(this.getPackageRoot(), document);
+    }
+
+    /**
+     * Creates the catalog entry describing the specified document stored at
+     * the specified location. Size and content hash are taken from the
+     * stored file.
+     * @param documentLocation the location the document was stored at.
+     * @param document the stored document.
+     * @return the new catalog entry;<br>
+     * or {@code null}, if the location is not a file below the package root.
+     * @throws IOException if an I/O error occured while reading the file.
+     * @de.renew.require (documentLocation != null)
+     * @de.renew.require (document != null)
+     */
+    public DocumentCatalogEntry createEntry(URL documentLocation,
+                                            DocumentPart document)
+                    throws IOException {
+        assert (documentLocation != null) : "Precondition violated: (documentLocation != null)";
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        File file = URLs.toFile(documentLocation);
+        String path = (file == null) ? null : this.getRelativePath(file);
+        if ((path == null) || !file.isFile()) {
+            return null;
+        }
+        byte[] content = Files.readAllBytes(file.toPath());
+
+        String targetName;
+        DocTarget target = document.getTarget();
+        if (target != null) {
+            targetName = target.getName();
+        } else {
+            targetName = FileDocumentCatalog.getText(document,
+                            DocumentParts.NAME_NETDOC_TARGET_NAME);
+        }
+        return new DocumentCatalogEntry(path, targetName,
+                        FileDocumentCatalog.getText(document,
+                                        DocumentParts.NAME_NETDOC_TITLE),
+                        FileDocumentCatalog.getText(document,
+                                        DocumentParts.NAME_NETDOC_AUTHOR),
+                        FileDocumentCatalog.getText(document,
+                                        DocumentParts.NAME_NETDOC_DATE_CREATION),
+                        FileDocumentCatalog.getText(document,
+                                        DocumentParts.NAME_NETDOC_DATE_LAST_MODIFIED),
+                        content.length, DocumentFiles.hash(content));
+    }
+
+    /**
+     * Updates the entry of the specified document stored at the specified
+     * location and writes this catalog. Only the entry of that document is
+     * recomputed.
+     * @param documentLocation the location the document was stored at.
+     * @param document the stored document.
+     * @throws IOException if an I/O error occured while updating the catalog.
+     * @de.renew.require (documentLocation != null)
+     * @de.renew.require (document != null)
+     */
+    public synchronized void update(URL documentLocation,
+                                    DocumentPart document)
+                    throws IOException {
+        assert (documentLocation != null) : "Precondition violated: (documentLocation != null)";
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        DocumentCatalogEntry entry = this.createEntry(documentLocation,
+                        document);
+        if ((entry != null) && !entry.equals(this.getEntry(entry.getPath()))) {
+            this.putEntry(entry);
+            this.store();
+        }
+    }
+
+    /**
+     * Brings this catalog in line with the documents below its package root
+     * and writes it, if it changed. Entries are created for documents
+     * missing from the catalog and recomputed for documents whose size or
+     * content hash differs from their entry; entries of documents that no
+     * longer exist are removed. Only those documents are parsed, so that
+     * synchronising an up-to-date catalog merely lists the package and
+     * hashes the documents.
+     * @param ioManager the Input/Output manager used to parse the documents.
+     * @return the number of added, recomputed or removed entries.
+     * @throws IOException if the package could not be listed or the catalog
+     * could not be written.
+     * @de.renew.require (ioManager != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public synchronized int synchronize(IOManager ioManager)
+                    throws IOException {
+        assert (ioManager != null) : "Precondition violated: (ioManager != null)";
+
+        int returnValue = 0;
+        Set<String> paths = new HashSet<String>();
+        for (File document : DocumentFiles.findDocuments(this.getPackageRoot())) {
+            String path = this.getRelativePath(document);
+            if (path == null) {
+                continue;
+            }
+            paths.add(path);
+            DocumentCatalogEntry entry = this.getEntry(path);
+            if ((entry == null) || (entry.getSize() != document.length())
+                            || !entry.getHash().equals(DocumentFiles.hash(
+                                            Files.readAllBytes(document.toPath())))) {
+                entry = this.createEntry(URLs.create(document),
+                                DocumentFiles.importDocument(document,
+                                                ioManager));
+                if (entry != null) {
+                    this.putEntry(entry);
+                    returnValue++;
+                }
+            }
+        }
+        int entryCount = this._entries.size();
+        this._entries.keySet().retainAll(paths);
+        returnValue += entryCount - this._entries.size();
+        if (returnValue != 0) {
+            this.store();
+        }
+        return returnValue;
+    }
+
+    /**
+     * Returns the entries of this catalog matching the specified filter
+     * ordered by their path. An entry matches, if its target name, title or
+     * author contains the filter ignoring case.
+     * @param filter the text to be looked for; the empty string matches all
+     * entries.
+     * @return a collection containing {@link DocumentCatalogEntry} instances.
+     * @de.renew.require (filter != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public synchronized Collection<DocumentCatalogEntry> getEntries(String filter) {
+        assert (filter != null) : "Precondition violated: (filter != null)";
+
+        String lowerFilter = filter.trim().toLowerCase();
+        Collection<DocumentCatalogEntry> returnValue = new ArrayList<DocumentCatalogEntry>();
+        for (DocumentCatalogEntry entry : this._entries.values()) {
+            if (entry.getTargetName().toLowerCase().contains(lowerFilter)
+                            || entry.getTitle().toLowerCase().contains(lowerFilter)
+                            || entry.getAuthor().toLowerCase().contains(lowerFilter)) {
+                returnValue.add(entry);
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized DocumentCatalogEntry getEntry(String path) {
+        assert (path != null) : "Precondition violated: (path != null)";
+
+        return this._entries.get(path);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized Collection<DocumentCatalogEntry> getEntries() {
+        return new ArrayList<DocumentCatalogEntry>(this._entries.values());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void putEntry(DocumentCatalogEntry entry) {
+        assert (entry != null) : "Precondition violated: (entry != null)";
+
+        this._entries.put(entry.getPath(), entry);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void removeEntry(String path) {
+        assert (path != null) : "Precondition violated: (path != null)";
+
+        this._entries.remove(path);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void load() throws IOException {
+        this._entries.clear();
+        File file = this.getFile();
+        if (!file.isFile()) {
+            return;
+        }
+        BufferedReader reader = Files.newBufferedReader(file.toPath(),
+                        DocumentFiles.CHARSET);
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                if (columns.length != FileDocumentCatalog.COLUMN_COUNT) {
+                    throw new IOException("Malformed catalog line: " + line);
+                }
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = DocumentFiles.unescape(columns[i]);
+                }
+                try {
+                    this.putEntry(new DocumentCatalogEntry(columns[0],
+                                    columns[1], columns[2], columns[3],
+                                    columns[4], columns[5],
+                                    Long.parseLong(columns[6]), columns[7]));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Malformed catalog line: " + line,
+                                    e);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void store() throws IOException {
+        File file = this.getFile();
+        File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+        BufferedWriter writer = Files.newBufferedWriter(tempFile.toPath(),
+                        DocumentFiles.CHARSET);
+        try {
+            writer.write(FileDocumentCatalog.CATALOG_HEADER);
+            writer.newLine();
+            for (DocumentCatalogEntry entry : this._entries.values()) {
+                writer.write(DocumentFiles.escape(entry.getPath()));
+                writer.write('\t');
+                writer.write(DocumentFiles
+                                .escape(entry.getTargetName()));
+                writer.write('\t');
+                writer.write(DocumentFiles.escape(entry.getTitle()));
+                writer.write('\t');
+                writer.write(DocumentFiles.escape(entry.getAuthor()));
+                writer.write('\t');
+                writer.write(DocumentFiles
+                                .escape(entry.getDateCreation()));
+                writer.write('\t');
+                writer.write(DocumentFiles
+                                .escape(entry.getDateLastModified()));
+                writer.write('\t');
+                writer.write(Long.toString(entry.getSize()));
+                writer.write('\t');
+                writer.write(entry.getHash());
+                writer.newLine();
+            }
+        } finally {
+            writer.close();
+        }
+        Files.move(tempFile.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns the text of the named part of the specified document.
+     * @param document the document to be searched.
+     * @param partName the name of the part.
+     * @return the text of the part;<br>
+     * or an empty string, if no such part exists.
+     * @de.renew.require (document != null)
+     * @de.renew.require (partName != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    private static String getText(DocumentPart document, String partName) {
+        String returnValue = DocumentParts.findPartText(document, partName);
+        return (returnValue == null) ? "" : returnValue.trim();
+    }
+
+    /**
+     * The directory containing the package root file.
+     */
+    private File _packageRoot;
+
+    /**
+     * The entries of this catalog. Uses the document paths as keys.
+     */
+    private Map<String, DocumentCatalogEntry> _entries;
+}
\ No newline at end of file
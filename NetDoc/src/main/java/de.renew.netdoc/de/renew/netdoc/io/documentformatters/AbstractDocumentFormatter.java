@@ -3,6 +3,7 @@ package de.renew.netdoc.io.documentformatters;
 import de.renew.netdoc.io.DocumentFormatException;
 import de.renew.netdoc.io.DocumentFormatter;
 import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.monitor.events.DocumentFormatEvent;
 
 
 /**
@@ -27,7 +28,15 @@ public abstract class AbstractDocumentFormatter implements DocumentFormatter {
                     throws DocumentFormatException {
         assert (targetPart != null) : "Precondition violated: (targetPart != null)";
 
+        DocumentFormatEvent event = new DocumentFormatEvent();
+        event.begin();
         this.formatImpl(targetPart);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFormatter(this.getClass().getName());
+            event.setDocument(targetPart);
+            event.commit();
+        }
     }
 
     /**
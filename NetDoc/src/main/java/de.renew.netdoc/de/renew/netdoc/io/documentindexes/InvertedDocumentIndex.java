@@ -0,0 +1,577 @@
+package de.renew.netdoc.io.documentindexes;
+
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.DocumentIndex;
+import de.renew.netdoc.io.DocumentParser;
+import de.renew.netdoc.io.DocumentSearchResult;
+import de.renew.netdoc.io.URLs;
+import de.renew.netdoc.io.Workers;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.traversal.DocumentPartCursor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * In-memory inverted document index. Every term maps to the documents
+ * containing it together with the term frequency and the names of the
+ * containing document parts. Results are ranked using BM25.
+ */
+public class InvertedDocumentIndex implements DocumentIndex {
+
+    /**
+     * BM25 term frequency saturation parameter.
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * BM25 document length normalisation parameter.
+     */
+    private static final double B = 0.75;
+
+
+    /**
+     * Creates a new InvertedDocumentIndex using the specified parser for
+     * background builds.
+     * @param parser the parser used to read documents during a build.
+     * @de.renew.require (parser != null)
+     */
+    public InvertedDocumentIndex(DocumentParser parser) {
+        assert (parser != null) : "Precondition violated: (parser != null)";
+
+        this._parser = parser;
+        this._tokenizer = new TexTokenizer();
+        this._lock = new ReentrantReadWriteLock();
+        this._terms = new TreeMap<String, Map<Entry, Posting>>();
+        this._entries = new HashMap<String, Entry>();
+        this._totalLength = 0;
+    }
+
+    /**
+     * Returns the tokenizer used by this index.
+     * @return the tokenizer used by this index.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public TexTokenizer getTokenizer() {
+        return this._tokenizer;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void update(URL location, DocumentPart document) {
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        // tokenize outside of the lock
+        Map<String, Posting> postings = new HashMap<String, Posting>();
+        int length = this.collect(document, postings);
+        Entry entry = new Entry(location,
+                        DocumentFiles.getTargetName(location, document),
+                        length, postings.keySet());
+
+        this._lock.writeLock().lock();
+        try {
+            this.removeEntry(InvertedDocumentIndex.getKey(location));
+            this._entries.put(InvertedDocumentIndex.getKey(location), entry);
+            for (Map.Entry<String, Posting> current : postings.entrySet()) {
+                Map<Entry, Posting> termPostings = this._terms
+                                .get(current.getKey());
+                if (termPostings == null) {
+                    termPostings = new HashMap<Entry, Posting>();
+                    this._terms.put(current.getKey(), termPostings);
+                }
+                termPostings.put(entry, current.getValue());
+            }
+            this._totalLength += length;
+        } finally {
+            this._lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void remove(URL location) {
+        assert (location != null) : "Precondition violated: (location != null)";
+
+        this._lock.writeLock().lock();
+        try {
+            this.removeEntry(InvertedDocumentIndex.getKey(location));
+        } finally {
+            this._lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void clear() {
+        this._lock.writeLock().lock();
+        try {
+            this._terms.clear();
+            this._entries.clear();
+            this._totalLength = 0;
+        } finally {
+            this._lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int getDocumentCount() {
+        this._lock.readLock().lock();
+        try {
+            return this._entries.size();
+        } finally {
+            this._lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Future<Integer> startBuild(final File packageRoot) {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+
+        return this.getExecutor().submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws IOException {
+                return Integer.valueOf(InvertedDocumentIndex.this
+                                .build(packageRoot));
+            }
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (this._executor != null) {
+            this._executor.shutdownNow();
+            this._executor = null;
+        }
+    }
+
+    /**
+     * Indexes all documents found below the specified package root in the
+     * calling thread. Documents which cannot be parsed are skipped.
+     * @param packageRoot the directory to be searched for documents.
+     * @return the number of indexed documents.
+     * @throws IOException if an I/O error occured while listing the
+     * documents.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int build(File packageRoot) throws IOException {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+
+        int returnValue = 0;
+        for (File file : DocumentFiles.findDocuments(packageRoot)) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            try {
+                this.update(URLs.create(file.getAbsoluteFile()),
+                                DocumentFiles.parse(file, this._parser));
+                returnValue++;
+            } catch (IOException e) {
+                // skip unreadable document
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public List<DocumentSearchResult> search(String query, int maxResults) {
+        assert (query != null) : "Precondition violated: (query != null)";
+        assert (maxResults >= 0) : "Precondition violated: (maxResults >= 0)";
+
+        this._lock.readLock().lock();
+        try {
+            List<Map<Entry, Posting>> clauses = this.getClauses(query);
+            if (clauses.isEmpty() || (maxResults == 0)) {
+                return new ArrayList<DocumentSearchResult>();
+            }
+
+            // start with the most selective clause
+            Map<Entry, Posting> smallest = clauses.get(0);
+            for (Map<Entry, Posting> clause : clauses) {
+                if (clause.size() < smallest.size()) {
+                    smallest = clause;
+                }
+            }
+
+            int documentCount = this._entries.size();
+            double averageLength = (documentCount == 0) ? 1.0
+                            : Math.max(1.0, (double) this._totalLength
+                                            / documentCount);
+            List<DocumentSearchResult> returnValue = new ArrayList<DocumentSearchResult>();
+            for (Entry entry : smallest.keySet()) {
+                double score = 0.0;
+                Set<String> partNames = new TreeSet<String>();
+                boolean matches = true;
+                for (Map<Entry, Posting> clause : clauses) {
+                    Posting posting = clause.get(entry);
+                    if (posting == null) {
+                        matches = false;
+                        break;
+                    }
+                    double idf = Math.log(1.0
+                                    + (documentCount - clause.size() + 0.5)
+                                                    / (clause.size() + 0.5));
+                    double norm = InvertedDocumentIndex.K1
+                                    * (1.0 - InvertedDocumentIndex.B
+                                                    + InvertedDocumentIndex.B
+                                                                    * entry.getLength()
+                                                                    / averageLength);
+                    score += idf * posting.getFrequency()
+                                    * (InvertedDocumentIndex.K1 + 1.0)
+                                    / (posting.getFrequency() + norm);
+                    partNames.addAll(posting.getPartNames());
+                }
+                if (matches) {
+                    returnValue.add(new DocumentSearchResult(
+                                    entry.getLocation(), entry.getTargetName(),
+                                    partNames, score));
+                }
+            }
+            Collections.sort(returnValue);
+            if (returnValue.size() > maxResults) {
+                returnValue = new ArrayList<DocumentSearchResult>(
+                                returnValue.subList(0, maxResults));
+            }
+            return returnValue;
+        } finally {
+            this._lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the postings of every clause of the specified query. Prefix
+     * clauses merge the postings of all matching terms. Must be called while
+     * holding the read lock.
+     * @param query the query to be processed.
+     * @return the postings per clause;<br>
+     * or an empty list, if any clause matches no document.
+     */
+    private List<Map<Entry, Posting>> getClauses(String query) {
+        List<Map<Entry, Posting>> returnValue = new ArrayList<Map<Entry, Posting>>();
+        for (String word : query.trim().split("\\s+")) {
+            boolean isPrefix = word.endsWith("*");
+            List<String> terms = this.getTokenizer().tokenize(word);
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Entry, Posting> postings;
+                if (isPrefix && (i == terms.size() - 1)) {
+                    postings = this.getPrefixPostings(terms.get(i));
+                } else {
+                    postings = this._terms.get(terms.get(i));
+                }
+                if ((postings == null) || postings.isEmpty()) {
+                    return new ArrayList<Map<Entry, Posting>>();
+                }
+                returnValue.add(postings);
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * Returns the merged postings of all terms starting with the specified
+     * prefix. Must be called while holding the read lock.
+     * @param prefix the prefix of the terms.
+     * @return the merged postings.
+     */
+    private Map<Entry, Posting> getPrefixPostings(String prefix) {
+        NavigableMap<String, Map<Entry, Posting>> matching = this._terms
+                        .subMap(prefix, true, prefix + Character.MAX_VALUE,
+                                        false);
+        if (matching.size() == 1) {
+            return matching.firstEntry().getValue();
+        }
+        Map<Entry, Posting> returnValue = new HashMap<Entry, Posting>();
+        for (Map<Entry, Posting> postings : matching.values()) {
+            for (Map.Entry<Entry, Posting> current : postings.entrySet()) {
+                Posting merged = returnValue.get(current.getKey());
+                if (merged == null) {
+                    merged = new Posting();
+                    returnValue.put(current.getKey(), merged);
+                }
+                merged.add(current.getValue());
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * Collects the postings of all terms of the specified document part and
+     * its sub parts.
+     * @param part the document part to be processed.
+     * @param postings the postings collected so far, using terms as keys.
+     * @return the number of terms of the document part.
+     */
+    private int collect(DocumentPart part, Map<String, Posting> postings) {
+        int returnValue = 0;
+        DocumentPartCursor cursor = new DocumentPartCursor(part);
+        while (cursor.next()) {
+            String text = cursor.getText();
+            if (text == null) {
+                continue;
+            }
+            for (String term : this.getTokenizer().tokenize(text)) {
+                Posting posting = postings.get(term);
+                if (posting == null) {
+                    posting = new Posting();
+                    postings.put(term, posting);
+                }
+                posting.add(cursor.getName());
+                returnValue++;
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * Removes the entry with the specified key together with its postings.
+     * Must be called while holding the write lock.
+     * @param key the key of the entry.
+     */
+    private void removeEntry(String key) {
+        Entry entry = this._entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        for (String term : entry.getTerms()) {
+            Map<Entry, Posting> termPostings = this._terms.get(term);
+            if (termPostings != null) {
+                termPostings.remove(entry);
+                if (termPostings.isEmpty()) {
+                    this._terms.remove(term);
+                }
+            }
+        }
+        this._totalLength -= entry.getLength();
+    }
+
+    /**
+     * Returns the executor running background builds.
+     * @return the executor running background builds.
+     */
+    private synchronized ExecutorService getExecutor() {
+        if (this._executor == null) {
+            this._executor = Executors.newSingleThreadExecutor(
+                            Workers.createThreadFactory("NetDoc index build"));
+        }
+        return this._executor;
+    }
+
+    /**
+     * Returns the key identifying the document at the specified location.
+     * @param location the stream location of the document.
+     * @return the normalised file path of the location;<br>
+     * or the location itself, if it does not use the file-protocol.
+     */
+    private static String getKey(URL location) {
+        File file = URLs.toFile(location);
+        if (file == null) {
+            return location.toExternalForm();
+        }
+        return file.getAbsoluteFile().toPath().normalize().toString();
+    }
+
+    /**
+     * The parser used to read documents during a build.
+     */
+    private DocumentParser _parser;
+
+    /**
+     * The tokenizer used by this index.
+     */
+    private TexTokenizer _tokenizer;
+
+    /**
+     * The lock guarding the index structures.
+     */
+    private ReadWriteLock _lock;
+
+    /**
+     * The postings of all terms. Uses terms as keys.
+     */
+    private TreeMap<String, Map<Entry, Posting>> _terms;
+
+    /**
+     * The indexed documents. Uses normalised locations as keys.
+     */
+    private Map<String, Entry> _entries;
+
+    /**
+     * The accumulated number of terms of all indexed documents.
+     */
+    private long _totalLength;
+
+    /**
+     * The executor running background builds.
+     */
+    private ExecutorService _executor;
+
+
+    /**
+     * Indexed document.
+     */
+    private static class Entry {
+
+        /**
+         * Creates a new Entry using the specified values.
+         * @param location the stream location of the document.
+         * @param targetName the name of the documentation target.
+         * @param length the number of terms of the document.
+         * @param terms the distinct terms of the document.
+         */
+        public Entry(URL location, String targetName, int length,
+                     Set<String> terms) {
+            this._location = location;
+            this._targetName = targetName;
+            this._length = length;
+            this._terms = terms.toArray(new String[terms.size()]);
+        }
+
+        /**
+         * Returns the stream location of the document.
+         * @return the stream location of the document.
+         */
+        public URL getLocation() {
+            return this._location;
+        }
+
+        /**
+         * Returns the name of the documentation target.
+         * @return the name of the documentation target.
+         */
+        public String getTargetName() {
+            return this._targetName;
+        }
+
+        /**
+         * Returns the number of terms of the document.
+         * @return the number of terms of the document.
+         */
+        public int getLength() {
+            return this._length;
+        }
+
+        /**
+         * Returns the distinct terms of the document.
+         * @return the distinct terms of the document.
+         */
+        public String[] getTerms() {
+            return this._terms;
+        }
+
+        /**
+         * The stream location of the document.
+         */
+        private URL _location;
+
+        /**
+         * The name of the documentation target.
+         */
+        private String _targetName;
+
+        /**
+         * The number of terms of the document.
+         */
+        private int _length;
+
+        /**
+         * The distinct terms of the document.
+         */
+        private String[] _terms;
+    }
+
+
+    /**
+     * Occurrences of a term in a single document.
+     */
+    private static class Posting {
+
+        /**
+         * Creates a new empty Posting.
+         */
+        public Posting() {
+            this._partNames = new TreeSet<String>();
+        }
+
+        /**
+         * Records an occurrence in the document part with the specified name.
+         * @param partName the name of the document part.
+         */
+        public void add(String partName) {
+            this._frequency++;
+            if (partName != null) {
+                this._partNames.add(partName);
+            }
+        }
+
+        /**
+         * Merges the occurrences of the specified posting into this posting.
+         * @param posting the posting to be merged.
+         */
+        public void add(Posting posting) {
+            this._frequency += posting.getFrequency();
+            this._partNames.addAll(posting.getPartNames());
+        }
+
+        /**
+         * Returns the number of occurrences.
+         * @return the number of occurrences.
+         */
+        public int getFrequency() {
+            return this._frequency;
+        }
+
+        /**
+         * Returns the names of the document parts containing the term.
+         * @return the names of the document parts.
+         */
+        public Set<String> getPartNames() {
+            return this._partNames;
+        }
+
+        /**
+         * The number of occurrences.
+         */
+        private int _frequency;
+
+        /**
+         * The names of the document parts containing the term.
+         */
+        private Set<String> _partNames;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+package de.renew.netdoc.io.documentindexes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Tokenizer splitting TeX text into lower case index terms. Comments,
+ * control words and the environment names of {@code \begin} and
+ * {@code \end} are skipped; umlaut accents ({@code \"a}) and {@code \ss} are
+ * resolved to their characters and escaped special characters act as
+ * separators.
+ */
+public class TexTokenizer {
+
+    /**
+     * The minimum length of a term.
+     */
+    public static final int MIN_TERM_LENGTH = 2;
+
+
+    /**
+     * Creates a new TexTokenizer.
+     */
+    public TexTokenizer() {
+    }
+
+    /**
+     * Splits the specified TeX text into index terms.
+     * @param text the text to be tokenized.
+     * @return a list containing the terms in order of occurrence.
+     * @de.renew.require (text != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public List<String> tokenize(String text) {
+        assert (text != null) : "Precondition violated: (text != null)";
+
+        List<String> returnValue = new ArrayList<String>();
+        StringBuilder term = new StringBuilder();
+        int length = text.length();
+        int index = 0;
+        while (index < length) {
+            char c = text.charAt(index);
+            if (c == '%') {
+                // skip comment
+                this.addTerm(returnValue, term);
+                while ((index < length) && (text.charAt(index) != '\n')) {
+                    index++;
+                }
+            } else if (c == '\\') {
+                index = this.processControlSequence(text, index + 1, term,
+                                returnValue);
+                continue;
+            } else if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else {
+                this.addTerm(returnValue, term);
+            }
+            index++;
+        }
+        this.addTerm(returnValue, term);
+        return returnValue;
+    }
+
+    /**
+     * Processes the control sequence starting at the specified index.
+     * @param text the text being tokenized.
+     * @param index the index following the backslash.
+     * @param term the buffer holding the current term.
+     * @param terms the terms found so far.
+     * @return the index following the control sequence.
+     */
+    private int processControlSequence(String text, int index,
+                                       StringBuilder term, List<String> terms) {
+        int length = text.length();
+        if (index >= length) {
+            return index;
+        }
+        char c = text.charAt(index);
+        if (!Character.isLetter(c)) {
+            if ((c == '"') || (c == '\'') || (c == '`') || (c == '^')
+                            || (c == '~')) {
+                return this.processAccent(text, index + 1, c, term);
+            }
+            // control symbol such as \% or \\
+            this.addTerm(terms, term);
+            return index + 1;
+        }
+
+        int end = index;
+        while ((end < length) && Character.isLetter(text.charAt(end))) {
+            end++;
+        }
+        String word = text.substring(index, end);
+        if (word.equals("ss")) {
+            term.append("ss");
+            return this.skipEmptyGroup(text, end);
+        }
+        this.addTerm(terms, term);
+        if (word.equals("begin") || word.equals("end")) {
+            while ((end < length) && Character.isWhitespace(text.charAt(end))) {
+                end++;
+            }
+            if ((end < length) && (text.charAt(end) == '{')) {
+                int close = text.indexOf('}', end);
+                if (close >= 0) {
+                    return close + 1;
+                }
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Processes the accent starting at the specified index.
+     * @param text the text being tokenized.
+     * @param index the index following the accent character.
+     * @param accent the accent character.
+     * @param term the buffer holding the current term.
+     * @return the index following the accented letter.
+     */
+    private int processAccent(String text, int index, char accent,
+                              StringBuilder term) {
+        int length = text.length();
+        boolean isGroup = (index < length) && (text.charAt(index) == '{');
+        int letterIndex = isGroup ? index + 1 : index;
+        if ((letterIndex >= length)
+                        || !Character.isLetter(text.charAt(letterIndex))) {
+            return index;
+        }
+        char letter = text.charAt(letterIndex);
+        if (accent == '"') {
+            switch (Character.toLowerCase(letter)) {
+            case 'a':
+                letter = '\u00e4';
+                break;
+            case 'o':
+                letter = '\u00f6';
+                break;
+            case 'u':
+                letter = '\u00fc';
+                break;
+            default:
+            }
+        }
+        term.append(letter);
+        int returnValue = letterIndex + 1;
+        if (isGroup && (returnValue < length)
+                        && (text.charAt(returnValue) == '}')) {
+            returnValue++;
+        }
+        return returnValue;
+    }
+
+    /**
+     * Skips an empty group {@code {}} starting at the specified index.
+     * @param text the text being tokenized.
+     * @param index the index to start at.
+     * @return the index following the empty group, if any.
+     */
+    private int skipEmptyGroup(String text, int index) {
+        if (text.startsWith("{}", index)) {
+            return index + 2;
+        }
+        return index;
+    }
+
+    /**
+     * Adds the current term to the specified terms, if long enough, and
+     * resets the term buffer.
+     * @param terms the terms found so far.
+     * @param term the buffer holding the current term.
+     */
+    private void addTerm(List<String> terms, StringBuilder term) {
+        if (term.length() >= TexTokenizer.MIN_TERM_LENGTH) {
+            terms.add(term.toString().toLowerCase(Locale.ROOT));
+        }
+        term.setLength(0);
+    }
+}
\ No newline at end of file
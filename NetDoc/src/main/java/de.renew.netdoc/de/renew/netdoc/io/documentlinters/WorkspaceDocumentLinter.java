@@ -0,0 +1,826 @@
+package de.renew.netdoc.io.documentlinters;
+
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.DocumentLintFinding;
+import de.renew.netdoc.io.DocumentLintFinding.Kind;
+import de.renew.netdoc.io.DocumentLintListener;
+import de.renew.netdoc.io.DocumentLinter;
+import de.renew.netdoc.io.DocumentParser;
+import de.renew.netdoc.io.URLs;
+import de.renew.netdoc.io.Workers;
+import de.renew.netdoc.io.documentupgraders.TexDocumentUpgrader;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.event.ListenerList;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * Linter checking the NetDoc documents of a workspace. Whole-workspace
+ * checks are distributed over a pool of low-priority worker threads and skip
+ * documents whose file and drawing file are unchanged since their last check.
+ */
+public class WorkspaceDocumentLinter implements DocumentLinter {
+
+    /**
+     * Filename extension of the documented drawing files.
+     */
+    public static final String DRAWING_FILENAME_EXTENSION = ".rnw";
+
+    /**
+     * The names of the document parts every document has to contain.
+     */
+    private static final String[] REQUIRED_PART_NAMES = {
+        DocumentParts.NAME_NETDOC_MAIN, DocumentParts.NAME_NETDOC_TITLE,
+        DocumentParts.NAME_NETDOC_AUTHOR };
+
+    /**
+     * The pattern of lines beginning or ending a block, as recognised by the
+     * TeX document parser.
+     */
+    private static final Pattern BLOCK_PATTERN = Pattern
+                    .compile("^\\\\(begin|end)\\{(netdoc[^}]*)\\}");
+
+
+    /**
+     * Creates a new WorkspaceDocumentLinter using the specified parser and
+     * one worker thread per available processor.
+     * @param parser the parser used to read document files.
+     * @de.renew.require (parser != null)
+     */
+    public WorkspaceDocumentLinter(DocumentParser parser) {
+        this(parser, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new WorkspaceDocumentLinter using the specified parser and
+     * number of worker threads.
+     * @param parser the parser used to read document files.
+     * @param threadCount the number of worker threads.
+     * @de.renew.require (parser != null)
+     * @de.renew.require (threadCount > 0)
+     */
+    public WorkspaceDocumentLinter(DocumentParser parser, int threadCount) {
+        assert (parser != null) : "Precondition violated: (parser != null)";
+        assert (threadCount > 0) : "Precondition violated: (threadCount > 0)";
+
+        this._parser = parser;
+        this._threadCount = threadCount;
+        this._upgrader = new TexDocumentUpgrader();
+        this._lock = new ReentrantReadWriteLock();
+        this._entries = new TreeMap<String, Entry>();
+        this._pendingUpdates = new ConcurrentHashMap<String, List<DocumentLintFinding>>();
+        this._listeners = new ListenerList<DocumentLintListener>(
+                        DocumentLintListener.class);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void update(final URL location, DocumentPart document) {
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        // the calling thread owns the document, so its parts are checked
+        // here; the workers only store the findings and notify the listeners
+        final String key = WorkspaceDocumentLinter.getKey(location);
+        if (this._pendingUpdates.put(key,
+                        this.checkParts(location, document)) == null) {
+            this.getWorkers().execute(new Runnable() {
+                @Override
+                public void run() {
+                    List<DocumentLintFinding> pending = WorkspaceDocumentLinter.this._pendingUpdates
+                                    .remove(key);
+                    if (pending != null) {
+                        WorkspaceDocumentLinter.this.store(location, null,
+                                        null, pending);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void check(final File document) {
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        this.getWorkers().execute(new Runnable() {
+            @Override
+            public void run() {
+                WorkspaceDocumentLinter.this.checkFile(document, true);
+            }
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void remove(URL location) {
+        assert (location != null) : "Precondition violated: (location != null)";
+
+        String key = WorkspaceDocumentLinter.getKey(location);
+        this._pendingUpdates.remove(key);
+        Entry entry;
+        this._lock.writeLock().lock();
+        try {
+            entry = this._entries.remove(key);
+        } finally {
+            this._lock.writeLock().unlock();
+        }
+        if ((entry != null) && !entry.getFindings().isEmpty()) {
+            this.fireFindingsChanged(entry.getLocation(),
+                            new ArrayList<DocumentLintFinding>());
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void clear() {
+        this._pendingUpdates.clear();
+        List<Entry> entries;
+        this._lock.writeLock().lock();
+        try {
+            entries = new ArrayList<Entry>(this._entries.values());
+            this._entries.clear();
+        } finally {
+            this._lock.writeLock().unlock();
+        }
+        for (Entry entry : entries) {
+            if (!entry.getFindings().isEmpty()) {
+                this.fireFindingsChanged(entry.getLocation(),
+                                new ArrayList<DocumentLintFinding>());
+            }
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Future<Integer> startCheck(final File packageRoot) {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+
+        return this.getScheduler().submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws IOException {
+                return Integer.valueOf(WorkspaceDocumentLinter.this
+                                .checkAll(packageRoot));
+            }
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void schedule(final File packageRoot, long periodMillis) {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+        assert (periodMillis > 0) : "Precondition violated: (periodMillis > 0)";
+
+        // a delay instead of a rate, so that slow checks never pile up
+        this.getScheduler().scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    WorkspaceDocumentLinter.this.checkAll(packageRoot);
+                } catch (IOException e) {
+                    // retry with the next check
+                }
+            }
+        }, 0, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (this._scheduler != null) {
+            this._scheduler.shutdownNow();
+            this._scheduler = null;
+        }
+        if (this._workers != null) {
+            this._workers.shutdownNow();
+            this._workers = null;
+        }
+        this._pendingUpdates.clear();
+    }
+
+    /**
+     * Checks all documents below the specified package root in the calling
+     * thread using the worker threads of this linter. Documents unchanged
+     * since their last check are skipped, findings of documents no longer
+     * present below the package root are removed.
+     * @param packageRoot the directory to be searched for documents.
+     * @return the number of checked documents.
+     * @throws IOException if an I/O error occured while listing the
+     * documents or the calling thread was interrupted.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int checkAll(File packageRoot) throws IOException {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+
+        List<File> documents = DocumentFiles.findDocuments(packageRoot);
+        Set<String> keys = new HashSet<String>();
+        List<Future<Boolean>> pending = new ArrayList<Future<Boolean>>();
+        ExecutorService workers = this.getWorkers();
+        for (final File document : documents) {
+            keys.add(WorkspaceDocumentLinter.getKey(document));
+            pending.add(workers.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return Boolean.valueOf(WorkspaceDocumentLinter.this
+                                    .checkFile(document, false));
+                }
+            }));
+        }
+
+        int returnValue = 0;
+        try {
+            for (Future<Boolean> future : pending) {
+                if (future.get().booleanValue()) {
+                    returnValue++;
+                }
+            }
+        } catch (InterruptedException e) {
+            for (Future<Boolean> future : pending) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        Path root = packageRoot.getAbsoluteFile().toPath().normalize();
+        for (Entry entry : this.getEntries()) {
+            File file = URLs.toFile(entry.getLocation());
+            if ((file != null)
+                            && file.getAbsoluteFile().toPath().normalize()
+                                            .startsWith(root)
+                            && !keys.contains(WorkspaceDocumentLinter
+                                            .getKey(entry.getLocation()))) {
+                this.remove(entry.getLocation());
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public List<DocumentLintFinding> getFindings() {
+        List<DocumentLintFinding> returnValue = new ArrayList<DocumentLintFinding>();
+        for (Entry entry : this.getEntries()) {
+            returnValue.addAll(entry.getFindings());
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public List<DocumentLintFinding> getFindings(URL location) {
+        assert (location != null) : "Precondition violated: (location != null)";
+
+        this._lock.readLock().lock();
+        try {
+            Entry entry = this._entries
+                            .get(WorkspaceDocumentLinter.getKey(location));
+            return (entry == null) ? new ArrayList<DocumentLintFinding>()
+                            : entry.getFindings();
+        } finally {
+            this._lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void addLintListener(DocumentLintListener listenerToAdd) {
+        assert (listenerToAdd != null) : "Precondition violated: (listenerToAdd != null)";
+
+        this._listeners.add(listenerToAdd);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void removeLintListener(DocumentLintListener listenerToRemove) {
+        this._listeners.remove(listenerToRemove);
+    }
+
+    /**
+     * Checks the specified document file in the calling thread. If the file
+     * no longer exists, its findings are removed.
+     * @param document the document file to be checked.
+     * @param force specifies whether the file should be checked even if it
+     * is unchanged since its last check.
+     * @return {@code true}, if the file has been checked;<br>
+     * {@code false}, if it has been skipped or no longer exists.
+     */
+    protected boolean checkFile(File document, boolean force) {
+        URL location;
+        try {
+            location = URLs.create(document.getAbsoluteFile());
+        } catch (IOException e) {
+            return false;
+        }
+        if (!document.isFile()) {
+            this.remove(location);
+            return false;
+        }
+
+        File drawing = new File(document.getAbsoluteFile().getParentFile(),
+                        DocumentFiles.exchangeExtension(document.getName(),
+                                        WorkspaceDocumentLinter.DRAWING_FILENAME_EXTENSION));
+        Stamp stamp = new Stamp(document.lastModified(), document.length(),
+                        drawing.exists());
+        if (!force) {
+            this._lock.readLock().lock();
+            try {
+                Entry entry = this._entries
+                                .get(WorkspaceDocumentLinter.getKey(document));
+                if ((entry != null) && stamp.equals(entry.getStamp())) {
+                    return false;
+                }
+            } finally {
+                this._lock.readLock().unlock();
+            }
+        }
+
+        List<DocumentLintFinding> contentFindings = new ArrayList<DocumentLintFinding>();
+        List<DocumentLintFinding> partFindings = new ArrayList<DocumentLintFinding>();
+        if (!stamp.hasDrawing()) {
+            contentFindings.add(new DocumentLintFinding(location,
+                            Kind.ORPHANED_DOCUMENT, 0, "Drawing "
+                                            + drawing.getName() + " not found"));
+        }
+        try {
+            String content = DocumentFiles.decode(
+                            Files.readAllBytes(document.toPath()));
+            this.checkVersion(location, content, contentFindings);
+            boolean isBalanced = this.checkBlocks(location, content,
+                            contentFindings);
+            try {
+                partFindings = this.checkParts(location, this._parser
+                                .parseFrom(new StringReader(content)));
+            } catch (IOException | RuntimeException e) {
+                // unbalanced blocks already explain the parse failure
+                if (isBalanced) {
+                    contentFindings.add(new DocumentLintFinding(location,
+                                    Kind.UNREADABLE, 0, "Cannot parse: "
+                                                    + e.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            contentFindings.add(new DocumentLintFinding(location,
+                            Kind.UNREADABLE, 0, "Cannot read: "
+                                            + e.getMessage()));
+        }
+        this.store(location, stamp, contentFindings, partFindings);
+        return true;
+    }
+
+    /**
+     * Returns the findings about missing parts of the specified document.
+     * @param location the stream location of the document.
+     * @param document the document to be checked.
+     * @return a list containing the findings.
+     * @de.renew.require (location != null)
+     * @de.renew.require (document != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected List<DocumentLintFinding> checkParts(URL location,
+                                                   DocumentPart document) {
+        List<DocumentLintFinding> returnValue = new ArrayList<DocumentLintFinding>();
+        for (String partName : WorkspaceDocumentLinter.REQUIRED_PART_NAMES) {
+            if (DocumentParts.findPart(document, partName) == null) {
+                returnValue.add(new DocumentLintFinding(location,
+                                Kind.MISSING_PART, 0, "Missing part "
+                                                + partName));
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * Adds a finding to the specified list, if the version header of the
+     * specified stored document is missing or outdated.
+     * @param location the stream location of the document.
+     * @param content the stored document.
+     * @param findings the findings of the document.
+     */
+    private void checkVersion(URL location, String content,
+                              List<DocumentLintFinding> findings) {
+        String version = this._upgrader.getVersion(content);
+        if (version == null) {
+            findings.add(new DocumentLintFinding(location,
+                            Kind.OUTDATED_VERSION, 1,
+                            "Missing version header"));
+        } else if (this._upgrader.isOutdated(content)) {
+            findings.add(new DocumentLintFinding(location,
+                            Kind.OUTDATED_VERSION, 1, "Version " + version
+                                            + " is older than "
+                                            + this._upgrader.getCurrentVersion()));
+        }
+    }
+
+    /**
+     * Adds a finding to the specified list for every block of the specified
+     * stored document which is not closed or closed by a non-matching end.
+     * @param location the stream location of the document.
+     * @param content the stored document.
+     * @param findings the findings of the document.
+     * @return {@code true}, if all blocks are balanced;<br>
+     * {@code false} otherwise.
+     */
+    private boolean checkBlocks(URL location, String content,
+                                List<DocumentLintFinding> findings) {
+        int findingCount = findings.size();
+        Deque<String> names = new ArrayDeque<String>();
+        Deque<Integer> lines = new ArrayDeque<Integer>();
+        String[] contentLines = content.split("\r?\n");
+        for (int i = 0; i < contentLines.length; i++) {
+            Matcher matcher = WorkspaceDocumentLinter.BLOCK_PATTERN
+                            .matcher(contentLines[i]);
+            if (!matcher.find()) {
+                continue;
+            }
+            String name = matcher.group(2);
+            if (matcher.group(1).equals("begin")) {
+                names.push(name);
+                lines.push(Integer.valueOf(i + 1));
+            } else if (names.isEmpty()) {
+                findings.add(new DocumentLintFinding(location,
+                                Kind.UNBALANCED_BLOCK, i + 1, "\\end{" + name
+                                                + "} without \\begin"));
+            } else {
+                String openName = names.pop();
+                int openLine = lines.pop().intValue();
+                if (!openName.equals(name)) {
+                    findings.add(new DocumentLintFinding(location,
+                                    Kind.UNBALANCED_BLOCK, i + 1, "\\end{"
+                                                    + name + "} closes \\begin{"
+                                                    + openName + "} of line "
+                                                    + openLine));
+                }
+            }
+        }
+        while (!names.isEmpty()) {
+            findings.add(new DocumentLintFinding(location,
+                            Kind.UNBALANCED_BLOCK, lines.pop().intValue(),
+                            "\\begin{" + names.pop() + "} is not closed"));
+        }
+        return (findings.size() == findingCount);
+    }
+
+    /**
+     * Stores the specified findings of the document at the specified
+     * location and notifies the listeners, if the findings have changed.
+     * @param location the stream location of the document.
+     * @param stamp the state of the checked files;<br>
+     * or {@code null}, if only the document parts have been checked.
+     * @param contentFindings the findings about the file content;<br>
+     * or {@code null}, if the previous findings should be kept.
+     * @param partFindings the findings about the document parts.
+     */
+    private void store(URL location, Stamp stamp,
+                       List<DocumentLintFinding> contentFindings,
+                       List<DocumentLintFinding> partFindings) {
+        String key = WorkspaceDocumentLinter.getKey(location);
+        List<DocumentLintFinding> oldFindings;
+        List<DocumentLintFinding> newFindings;
+        this._lock.writeLock().lock();
+        try {
+            Entry entry = this._entries.get(key);
+            if (entry == null) {
+                entry = new Entry(location);
+                this._entries.put(key, entry);
+            }
+            oldFindings = entry.getFindings();
+            if (contentFindings != null) {
+                entry.setContentFindings(stamp, contentFindings);
+            }
+            entry.setPartFindings(partFindings);
+            newFindings = entry.getFindings();
+        } finally {
+            this._lock.writeLock().unlock();
+        }
+        if (!newFindings.equals(oldFindings)) {
+            this.fireFindingsChanged(location, newFindings);
+        }
+    }
+
+    /**
+     * Notifies all lint listeners of this linter about the specified
+     * findings.
+     * @param location the stream location of the document.
+     * @param findings the current findings of the document.
+     */
+    private void fireFindingsChanged(URL location,
+                                     List<DocumentLintFinding> findings) {
+        List<DocumentLintFinding> unmodifiable = Collections
+                        .unmodifiableList(findings);
+        for (DocumentLintListener listener : this._listeners.getListeners()) {
+            listener.findingsChanged(location, unmodifiable);
+        }
+    }
+
+    /**
+     * Returns a snapshot of all entries ordered by their keys.
+     * @return a list containing the entries.
+     */
+    private List<Entry> getEntries() {
+        this._lock.readLock().lock();
+        try {
+            return new ArrayList<Entry>(this._entries.values());
+        } finally {
+            this._lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the executor running the checks of single documents.
+     * @return the executor running the checks of single documents.
+     */
+    private synchronized ExecutorService getWorkers() {
+        if (this._workers == null) {
+            this._workers = Executors.newFixedThreadPool(this._threadCount,
+                            Workers.createThreadFactory("NetDoc lint",
+                                            Thread.MIN_PRIORITY));
+        }
+        return this._workers;
+    }
+
+    /**
+     * Returns the executor running whole-workspace checks.
+     * @return the executor running whole-workspace checks.
+     */
+    private synchronized ScheduledExecutorService getScheduler() {
+        if (this._scheduler == null) {
+            this._scheduler = Executors.newSingleThreadScheduledExecutor(
+                            Workers.createThreadFactory("NetDoc lint",
+                                            Thread.MIN_PRIORITY));
+        }
+        return this._scheduler;
+    }
+
+    /**
+     * Returns the key identifying the specified document file.
+     * @param document the document file.
+     * @return the normalised path of the file.
+     */
+    private static String getKey(File document) {
+        return document.getAbsoluteFile().toPath().normalize().toString();
+    }
+
+    /**
+     * Returns the key identifying the document at the specified location.
+     * @param location the stream location of the document.
+     * @return the normalised file path of the location;<br>
+     * or the location itself, if it does not use the file-protocol.
+     */
+    private static String getKey(URL location) {
+        File file = URLs.toFile(location);
+        if (file == null) {
+            return location.toExternalForm();
+        }
+        return WorkspaceDocumentLinter.getKey(file);
+    }
+
+    /**
+     * The parser used to read document files.
+     */
+    private DocumentParser _parser;
+
+    /**
+     * The number of worker threads.
+     */
+    private int _threadCount;
+
+    /**
+     * The upgrader used to determine the version of documents.
+     */
+    private TexDocumentUpgrader _upgrader;
+
+    /**
+     * The lock guarding the entries.
+     */
+    private ReadWriteLock _lock;
+
+    /**
+     * The checked documents. Uses normalised locations as keys.
+     */
+    private Map<String, Entry> _entries;
+
+    /**
+     * The latest part findings not yet stored. Uses normalised locations as
+     * keys.
+     */
+    private Map<String, List<DocumentLintFinding>> _pendingUpdates;
+
+    /**
+     * The lint listeners of this linter.
+     */
+    private ListenerList<DocumentLintListener> _listeners;
+
+    /**
+     * The executor running the checks of single documents.
+     */
+    private ExecutorService _workers;
+
+    /**
+     * The executor running whole-workspace checks.
+     */
+    private ScheduledExecutorService _scheduler;
+
+
+    /**
+     * State of a document file and its drawing file at the time of a check.
+     */
+    private static class Stamp {
+
+        /**
+         * Creates a new Stamp using the specified values.
+         * @param lastModified the modification time of the document file.
+         * @param length the length of the document file.
+         * @param hasDrawing specifies whether the drawing file exists.
+         */
+        public Stamp(long lastModified, long length, boolean hasDrawing) {
+            this._lastModified = lastModified;
+            this._length = length;
+            this._hasDrawing = hasDrawing;
+        }
+
+        /**
+         * Determines whether the drawing file exists.
+         * @return {@code true}, if the drawing file exists;<br>
+         * {@code false} otherwise.
+         */
+        public boolean hasDrawing() {
+            return this._hasDrawing;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Stamp)) {
+                return false;
+            }
+            Stamp stamp = (Stamp) object;
+            return (this._lastModified == stamp._lastModified)
+                            && (this._length == stamp._length)
+                            && (this._hasDrawing == stamp._hasDrawing);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public int hashCode() {
+            return Long.hashCode(this._lastModified * 31 + this._length)
+                            + (this._hasDrawing ? 1 : 0);
+        }
+
+        /**
+         * The modification time of the document file.
+         */
+        private long _lastModified;
+
+        /**
+         * The length of the document file.
+         */
+        private long _length;
+
+        /**
+         * Specifies whether the drawing file exists.
+         */
+        private boolean _hasDrawing;
+    }
+
+
+    /**
+     * Checked document.
+     */
+    private static class Entry {
+
+        /**
+         * Creates a new Entry without findings.
+         * @param location the stream location of the document.
+         */
+        public Entry(URL location) {
+            this._location = location;
+            this._contentFindings = new ArrayList<DocumentLintFinding>();
+            this._partFindings = new ArrayList<DocumentLintFinding>();
+        }
+
+        /**
+         * Returns the stream location of the document.
+         * @return the stream location of the document.
+         */
+        public URL getLocation() {
+            return this._location;
+        }
+
+        /**
+         * Returns the state of the files at their last check.
+         * @return the state of the files;<br>
+         * or {@code null}, if the file has not been checked yet.
+         */
+        public Stamp getStamp() {
+            return this._stamp;
+        }
+
+        /**
+         * Sets the findings about the file content.
+         * @param stamp the state of the checked files.
+         * @param contentFindings the findings about the file content.
+         */
+        public void setContentFindings(Stamp stamp,
+                                       List<DocumentLintFinding> contentFindings) {
+            this._stamp = stamp;
+            this._contentFindings = contentFindings;
+        }
+
+        /**
+         * Sets the findings about the document parts.
+         * @param partFindings the findings about the document parts.
+         */
+        public void setPartFindings(List<DocumentLintFinding> partFindings) {
+            this._partFindings = partFindings;
+        }
+
+        /**
+         * Returns all findings of the document.
+         * @return a new list containing the findings.
+         */
+        public List<DocumentLintFinding> getFindings() {
+            List<DocumentLintFinding> returnValue = new ArrayList<DocumentLintFinding>(
+                            this._contentFindings);
+            returnValue.addAll(this._partFindings);
+            return returnValue;
+        }
+
+        /**
+         * The stream location of the document.
+         */
+        private URL _location;
+
+        /**
+         * The state of the files at their last check.
+         */
+        private Stamp _stamp;
+
+        /**
+         * The findings about the file content.
+         */
+        private List<DocumentLintFinding> _contentFindings;
+
+        /**
+         * The findings about the document parts.
+         */
+        private List<DocumentLintFinding> _partFindings;
+    }
+}
@@ -8,6 +8,8 @@ import de.renew.netdoc.model.document.parts.LinearDocumentPart;
 import de.renew.netdoc.model.document.parts.linear.TextDocumentPart;
 import de.renew.netdoc.model.document.parts.linear.tex.TexBlockDefinitionPart;
 import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+import de.renew.netdoc.monitor.CountingReader;
+import de.renew.netdoc.monitor.events.DocumentParseEvent;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -54,12 +56,23 @@ public class TexDocumentParser extends AbstractDocumentParser {
     @Override
     protected DocumentPart parseFromImpl(Reader documentReader)
                     throws IOException {
+        DocumentParseEvent event = new DocumentParseEvent();
+        event.begin();
+
+        // characters are only counted below the buffer created here, since
+        // buffering a given buffered reader again would read ahead of it
+        CountingReader counter = null;
         BufferedReader bufferedReader = null;
         boolean bufferCreated = false;
         if (documentReader instanceof BufferedReader) {
             bufferedReader = (BufferedReader) documentReader;
         } else {
-            bufferedReader = new BufferedReader(documentReader);
+            if (event.isEnabled()) {
+                counter = new CountingReader(documentReader);
+                bufferedReader = new BufferedReader(counter);
+            } else {
+                bufferedReader = new BufferedReader(documentReader);
+            }
             bufferCreated = true;
         }
 
@@ -69,6 +82,15 @@ public class TexDocumentParser extends AbstractDocumentParser {
             bufferedReader.close();
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            if (counter != null) {
+                event.setByteCount(counter.getCount());
+            }
+            event.setDocument(returnValue);
+            event.commit();
+        }
+
         return returnValue;
     }
 
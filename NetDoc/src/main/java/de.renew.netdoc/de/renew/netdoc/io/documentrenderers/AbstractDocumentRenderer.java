@@ -0,0 +1,840 @@
+package de.renew.netdoc.io.documentrenderers;
+
+import de.renew.netdoc.io.DocumentRenderer;
+import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.parts.LinearDocumentPart;
+import de.renew.netdoc.model.document.parts.linear.TextDocumentPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexBlockDefinitionPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexCommentPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+
+/**
+ * Abstract document renderer providing the pipeline shared by all formats.
+ * The part tree is walked by index and each part is dispatched to the
+ * structural hooks: the title, the fields given by leaf definitions and the
+ * sections given by block definitions. The TeX markup within the texts is
+ * translated while scanning the text, calling the inline hooks for plain
+ * character runs, styles, line breaks, paragraphs and lists, so no
+ * intermediate strings are built.
+ * <p>Subclasses implement the hooks for their format and must not keep
+ * state between calls.</p>
+ */
+public abstract class AbstractDocumentRenderer implements DocumentRenderer {
+
+    /**
+     * Style of a TeX group without formatting.
+     */
+    protected static final int STYLE_PLAIN = 0;
+
+    /**
+     * Style of emphasised text, e.g. {@code \emph} or {@code \textit}.
+     */
+    protected static final int STYLE_EMPHASIS = 1;
+
+    /**
+     * Style of strong text, e.g. {@code \textbf}.
+     */
+    protected static final int STYLE_STRONG = 2;
+
+    /**
+     * Style of code text, e.g. {@code \texttt}.
+     */
+    protected static final int STYLE_CODE = 3;
+
+    /**
+     * Creates a new AbstractDocumentRenderer.
+     */
+    protected AbstractDocumentRenderer() {
+    }
+
+    /**
+     * <p>Renders the specified document part and its sub parts to the
+     * specified writer.</p>
+     * <p>To override implement the structural and inline hooks.</p>
+     * @param document the document part to be rendered.
+     * @param writer the writer the rendered document is written to.
+     * @throws IOException if an I/O error occured.
+     * @de.renew.require (document != null)
+     * @de.renew.require (writer != null)
+     */
+    @Override
+    public final void renderDocument(DocumentPart document, Writer writer)
+                    throws IOException {
+        assert (document != null) : "Precondition violated: (document != null)";
+        assert (writer != null) : "Precondition violated: (writer != null)";
+
+        this.beginDocument(writer);
+        this.renderContainer(document, 1, writer);
+        this.endDocument(writer);
+    }
+
+    /**
+     * Renders the sub parts of the specified container part: first its
+     * title, then its fields and finally its sections.
+     * @param container the container part to be rendered.
+     * @param level the heading level of the container.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     * @de.renew.require (container != null)
+     * @de.renew.require (level > 0)
+     * @de.renew.require (writer != null)
+     */
+    protected void renderContainer(DocumentPart container, int level,
+                                   Writer writer)
+                    throws IOException {
+        if (!(container instanceof LinearDocumentPart)) {
+            return;
+        }
+        LinearDocumentPart parts = (LinearDocumentPart) container;
+        int count = parts.getPartCount();
+
+        for (int i = 0; i < count; i++) {
+            DocumentPart part = parts.getPartAt(i);
+            if (DocumentParts.NAME_NETDOC_TITLE.equals(part.getName())) {
+                this.beginTitle(level, writer);
+                this.writeTex(part.getText(), false, writer);
+                this.endTitle(level, writer);
+            }
+        }
+
+        boolean hasFields = false;
+        for (int i = 0; i < count; i++) {
+            DocumentPart part = parts.getPartAt(i);
+            if (this.getKind(part) == AbstractDocumentRenderer.KIND_FIELD) {
+                if (!hasFields) {
+                    this.beginFields(writer);
+                    hasFields = true;
+                }
+                this.beginField(part.getName(), writer);
+                this.writeTex(part.getText(), false, writer);
+                this.endField(part.getName(), writer);
+            }
+        }
+        if (hasFields) {
+            this.endFields(writer);
+        }
+
+        for (int i = 0; i < count; i++) {
+            DocumentPart part = parts.getPartAt(i);
+            switch (this.getKind(part)) {
+            case KIND_CONTAINER:
+                this.renderContainer(part, level, writer);
+                break;
+            case KIND_SECTION:
+                this.beginSection(part.getName(), level + 1, writer);
+                this.writeTex(part.getText(), true, writer);
+                this.renderContainer(part, level + 1, writer);
+                this.endSection(part.getName(), level + 1, writer);
+                break;
+            case KIND_TEXT:
+                this.writeTex(part.getText(), true, writer);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Writes the specified TeX text, translating its markup by calling the
+     * inline hooks. Supported are the styles {@code \emph}, {@code \textit},
+     * {@code \textbf} and {@code \texttt}, line breaks, blank lines
+     * separating paragraphs, {@code itemize} and {@code enumerate} lists,
+     * escaped special characters, comments and non-breaking spaces. Other
+     * macros are dropped while their arguments are kept.
+     * @param text the TeX text to be written; may be {@code null}.
+     * @param isBlock {@code true}, if paragraphs and lists are to be
+     * rendered;<br>
+     * {@code false}, if the text is rendered inline.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     * @de.renew.require (writer != null)
+     */
+    protected void writeTex(String text, boolean isBlock, Writer writer)
+                    throws IOException {
+        if (text == null) {
+            return;
+        }
+        TexState state = new TexState(isBlock);
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char current = text.charAt(i);
+            switch (current) {
+            case '%':
+                while ((i < length) && (text.charAt(i) != '\n')) {
+                    i++;
+                }
+                i++;
+                break;
+            case ' ':
+            case '\t':
+            case '\r':
+            case '\n':
+                int newlines = 0;
+                while ((i < length) && AbstractDocumentRenderer
+                                .isWhitespace(text.charAt(i))) {
+                    if (text.charAt(i) == '\n') {
+                        newlines++;
+                    }
+                    i++;
+                }
+                if ((newlines > 1) && isBlock) {
+                    this.closeParagraph(state, writer);
+                } else if (state._isInParagraph) {
+                    state._isSpacePending = true;
+                }
+                break;
+            case '{':
+                this.openGroup(state, AbstractDocumentRenderer.STYLE_PLAIN,
+                                writer);
+                i++;
+                break;
+            case '}':
+                this.closeGroup(state, writer);
+                i++;
+                break;
+            case '$':
+                i++;
+                break;
+            case '~':
+                this.beginContent(state, writer);
+                this.writeText(AbstractDocumentRenderer.SPACE, 0, 1, writer);
+                i++;
+                break;
+            case '\\':
+                i = this.writeCommand(text, i, state, writer);
+                break;
+            default:
+                int runEnd = i + 1;
+                while ((runEnd < length) && !AbstractDocumentRenderer
+                                .isSpecial(text.charAt(runEnd))) {
+                    runEnd++;
+                }
+                this.beginContent(state, writer);
+                this.writeText(text, i, runEnd, writer);
+                i = runEnd;
+                break;
+            }
+        }
+
+        while (state._groupDepth > 0) {
+            this.closeGroup(state, writer);
+        }
+        this.closeParagraph(state, writer);
+        while (state._listDepth > 0) {
+            state._listDepth--;
+            this.endList(state.isOrderedList(state._listDepth),
+                            state._listDepth, writer);
+        }
+    }
+
+    /**
+     * Writes the label of the specified part name: the prefix
+     * {@code netdoc} is dropped and the camel case words are separated.
+     * @param partName the part name to be labelled.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     * @de.renew.require (partName != null)
+     * @de.renew.require (writer != null)
+     */
+    protected void writeLabel(String partName, Writer writer)
+                    throws IOException {
+        int start = partName.startsWith(AbstractDocumentRenderer.NAME_PREFIX)
+                        && (partName.length() > AbstractDocumentRenderer.NAME_PREFIX
+                                        .length())
+                                                        ? AbstractDocumentRenderer.NAME_PREFIX
+                                                                        .length()
+                                                        : 0;
+        int wordStart = start;
+        for (int i = start + 1; i <= partName.length(); i++) {
+            if ((i == partName.length())
+                            || Character.isUpperCase(partName.charAt(i))) {
+                if (wordStart > start) {
+                    this.writeText(" ", 0, 1, writer);
+                }
+                this.writeText(String.valueOf(Character.toUpperCase(partName
+                                .charAt(wordStart))), 0, 1, writer);
+                this.writeText(partName, wordStart + 1, i, writer);
+                wordStart = i;
+            }
+        }
+    }
+
+    /**
+     * Writes the beginning of a rendered document. Does nothing by default.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected void beginDocument(Writer writer) throws IOException {
+    }
+
+    /**
+     * Writes the end of a rendered document. Does nothing by default.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected void endDocument(Writer writer) throws IOException {
+    }
+
+    /**
+     * Writes the beginning of a title heading.
+     * @param level the heading level, starting at 1.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void beginTitle(int level, Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the end of a title heading.
+     * @param level the heading level, starting at 1.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void endTitle(int level, Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the beginning of a list of fields.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void beginFields(Writer writer) throws IOException;
+
+    /**
+     * Writes the beginning of the field with the specified part name,
+     * including its label.
+     * @param partName the name of the field part.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void beginField(String partName, Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the end of the field with the specified part name.
+     * @param partName the name of the field part.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void endField(String partName, Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the end of a list of fields.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void endFields(Writer writer) throws IOException;
+
+    /**
+     * Writes the beginning of the section with the specified part name,
+     * including its heading.
+     * @param partName the name of the section part.
+     * @param level the heading level, starting at 2.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void beginSection(String partName, int level,
+                                         Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the end of the section with the specified part name.
+     * @param partName the name of the section part.
+     * @param level the heading level, starting at 2.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void endSection(String partName, int level,
+                                       Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the specified range of plain text, escaping it for the format.
+     * @param text the text containing the range.
+     * @param start the start index of the range, inclusive.
+     * @param end the end index of the range, exclusive.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void writeText(String text, int start, int end,
+                                      Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the beginning of a paragraph.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void beginParagraph(Writer writer) throws IOException;
+
+    /**
+     * Writes the end of a paragraph.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void endParagraph(Writer writer) throws IOException;
+
+    /**
+     * Writes a line break within a paragraph.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void writeLineBreak(Writer writer) throws IOException;
+
+    /**
+     * Writes the beginning of the specified style.
+     * @param style one of the {@code STYLE_} constants except
+     * {@link #STYLE_PLAIN}.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void beginStyle(int style, Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the end of the specified style.
+     * @param style one of the {@code STYLE_} constants except
+     * {@link #STYLE_PLAIN}.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void endStyle(int style, Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the beginning of a list.
+     * @param isOrdered {@code true}, if the list is numbered.
+     * @param depth the nesting depth of the list, starting at 0.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void beginList(boolean isOrdered, int depth,
+                                      Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the beginning of a list item, ending the previous item of the
+     * list, if any.
+     * @param isOrdered {@code true}, if the list is numbered.
+     * @param depth the nesting depth of the list, starting at 0.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void writeListItem(boolean isOrdered, int depth,
+                                          Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the end of a list, ending its last item, if any.
+     * @param isOrdered {@code true}, if the list is numbered.
+     * @param depth the nesting depth of the list, starting at 0.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    protected abstract void endList(boolean isOrdered, int depth,
+                                    Writer writer)
+                    throws IOException;
+
+    /**
+     * Writes the command starting at the specified index of the text.
+     * @param text the TeX text containing the command.
+     * @param start the index of the backslash starting the command.
+     * @param state the state of the translation.
+     * @param writer the writer to be written to.
+     * @return the index following the command.
+     * @throws IOException if an I/O error occured.
+     */
+    private int writeCommand(String text, int start, TexState state,
+                             Writer writer)
+                    throws IOException {
+        int length = text.length();
+        int nameStart = start + 1;
+        if (nameStart >= length) {
+            return length;
+        }
+        char symbol = text.charAt(nameStart);
+        if (!Character.isLetter(symbol)) {
+            if (symbol == '\\') {
+                if (state._isInParagraph) {
+                    this.writeLineBreak(writer);
+                    state._isSpacePending = false;
+                }
+            } else if (AbstractDocumentRenderer.isWhitespace(symbol)) {
+                state._isSpacePending = state._isInParagraph;
+            } else {
+                this.beginContent(state, writer);
+                this.writeText(text, nameStart, nameStart + 1, writer);
+            }
+            return nameStart + 1;
+        }
+
+        int nameEnd = nameStart + 1;
+        while ((nameEnd < length) && Character.isLetter(text.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        if (AbstractDocumentRenderer.isCommand(text, nameStart, nameEnd, "begin")
+                        || AbstractDocumentRenderer.isCommand(text, nameStart,
+                                        nameEnd, "end")) {
+            int argumentEnd = text.indexOf('}', nameEnd);
+            if ((argumentEnd < 0) || (text.charAt(nameEnd) != '{')) {
+                return nameEnd;
+            }
+            boolean isOrdered = AbstractDocumentRenderer.isCommand(text,
+                            nameEnd + 1, argumentEnd, "enumerate");
+            if (state._isBlock && (isOrdered || AbstractDocumentRenderer
+                            .isCommand(text, nameEnd + 1, argumentEnd,
+                                            "itemize"))) {
+                this.closeParagraph(state, writer);
+                if (text.charAt(nameStart) == 'b') {
+                    state.setOrderedList(state._listDepth, isOrdered);
+                    this.beginList(isOrdered, state._listDepth, writer);
+                    state._listDepth++;
+                } else if (state._listDepth > 0) {
+                    state._listDepth--;
+                    this.endList(isOrdered, state._listDepth, writer);
+                }
+            }
+            return argumentEnd + 1;
+        }
+        if (AbstractDocumentRenderer.isCommand(text, nameStart, nameEnd, "item")) {
+            if (state._isBlock && (state._listDepth > 0)) {
+                this.closeParagraph(state, writer);
+                this.writeListItem(state.isOrderedList(state._listDepth - 1),
+                                state._listDepth - 1, writer);
+            }
+        } else if (AbstractDocumentRenderer.isCommand(text, nameStart, nameEnd,
+                        "par")) {
+            this.closeParagraph(state, writer);
+        } else {
+            int style = AbstractDocumentRenderer.getStyle(text, nameStart,
+                            nameEnd);
+            if ((style != AbstractDocumentRenderer.STYLE_PLAIN)
+                            && (nameEnd < length)
+                            && (text.charAt(nameEnd) == '{')) {
+                this.openGroup(state, style, writer);
+                return nameEnd + 1;
+            }
+        }
+
+        // TeX skips the blanks following a control word
+        while ((nameEnd < length) && ((text.charAt(nameEnd) == ' ')
+                        || (text.charAt(nameEnd) == '\t'))) {
+            nameEnd++;
+        }
+        return nameEnd;
+    }
+
+    /**
+     * Prepares the output of content: opens a paragraph and its styles, if
+     * needed, and writes a pending space.
+     * @param state the state of the translation.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    private void beginContent(TexState state, Writer writer)
+                    throws IOException {
+        if (!state._isInParagraph) {
+            state._isInParagraph = true;
+            if (state._isBlock) {
+                this.beginParagraph(writer);
+                for (int i = 0; i < state._groupDepth; i++) {
+                    if (state._groups[i] != AbstractDocumentRenderer.STYLE_PLAIN) {
+                        this.beginStyle(state._groups[i], writer);
+                    }
+                }
+            }
+        } else if (state._isSpacePending) {
+            this.writeText(AbstractDocumentRenderer.SPACE, 0, 1, writer);
+        }
+        state._isSpacePending = false;
+    }
+
+    /**
+     * Closes the open paragraph, if any, ending its open styles first.
+     * Inline texts have no paragraphs.
+     * @param state the state of the translation.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    private void closeParagraph(TexState state, Writer writer)
+                    throws IOException {
+        if (state._isBlock && state._isInParagraph) {
+            for (int i = state._groupDepth - 1; i >= 0; i--) {
+                if (state._groups[i] != AbstractDocumentRenderer.STYLE_PLAIN) {
+                    this.endStyle(state._groups[i], writer);
+                }
+            }
+            this.endParagraph(writer);
+            state._isInParagraph = false;
+            state._isSpacePending = false;
+        }
+    }
+
+    /**
+     * Opens a TeX group with the specified style.
+     * @param state the state of the translation.
+     * @param style one of the {@code STYLE_} constants.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    private void openGroup(TexState state, int style, Writer writer)
+                    throws IOException {
+        if (style != AbstractDocumentRenderer.STYLE_PLAIN) {
+            this.beginContent(state, writer);
+            this.beginStyle(style, writer);
+        }
+        if (state._groupDepth == state._groups.length) {
+            state._groups = Arrays.copyOf(state._groups, state._groupDepth * 2);
+        }
+        state._groups[state._groupDepth] = style;
+        state._groupDepth++;
+    }
+
+    /**
+     * Closes the innermost TeX group, if any, ending its style.
+     * @param state the state of the translation.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    private void closeGroup(TexState state, Writer writer)
+                    throws IOException {
+        if (state._groupDepth > 0) {
+            state._groupDepth--;
+            int style = state._groups[state._groupDepth];
+            if ((style != AbstractDocumentRenderer.STYLE_PLAIN)
+                            && state._isInParagraph) {
+                this.endStyle(style, writer);
+            }
+        }
+    }
+
+    /**
+     * Determines how the specified part is rendered.
+     * @param part the part to be classified.
+     * @return one of the {@code KIND_} constants.
+     */
+    private int getKind(DocumentPart part) {
+        String name = part.getName();
+        if ((part instanceof TexCommentPart)
+                        || DocumentParts.NAME_NETDOC_TITLE.equals(name)) {
+            return AbstractDocumentRenderer.KIND_SKIPPED;
+        }
+        if ((part instanceof Document)
+                        || DocumentParts.NAME_NETDOC_DOCUMENT.equals(name)
+                        || DocumentParts.NAME_NETDOC_MAIN.equals(name)) {
+            return AbstractDocumentRenderer.KIND_CONTAINER;
+        }
+        if (part instanceof TexBlockDefinitionPart) {
+            return AbstractDocumentRenderer.KIND_SECTION;
+        }
+        if (part.getPartCount() != 0) {
+            return AbstractDocumentRenderer.KIND_CONTAINER;
+        }
+        if ((part instanceof TextDocumentPart)
+                        && !(part instanceof TexDefinitionPart)) {
+            return AbstractDocumentRenderer.KIND_TEXT;
+        }
+        return AbstractDocumentRenderer.KIND_FIELD;
+    }
+
+    /**
+     * Determines whether the specified range of the text equals the specified
+     * command name.
+     * @param text the text containing the range.
+     * @param start the start index of the range, inclusive.
+     * @param end the end index of the range, exclusive.
+     * @param command the command name to be compared with.
+     * @return {@code true}, if the range equals the command name;<br>
+     * {@code false} otherwise.
+     */
+    private static boolean isCommand(String text, int start, int end,
+                                     String command) {
+        return ((end - start) == command.length())
+                        && text.regionMatches(start, command, 0, end - start);
+    }
+
+    /**
+     * Returns the style applied to the argument of the specified command.
+     * @param text the text containing the command name.
+     * @param start the start index of the command name, inclusive.
+     * @param end the end index of the command name, exclusive.
+     * @return one of the {@code STYLE_} constants.
+     */
+    private static int getStyle(String text, int start, int end) {
+        if (AbstractDocumentRenderer.isCommand(text, start, end, "emph")
+                        || AbstractDocumentRenderer.isCommand(text, start, end,
+                                        "textit")) {
+            return AbstractDocumentRenderer.STYLE_EMPHASIS;
+        }
+        if (AbstractDocumentRenderer.isCommand(text, start, end, "textbf")) {
+            return AbstractDocumentRenderer.STYLE_STRONG;
+        }
+        if (AbstractDocumentRenderer.isCommand(text, start, end, "texttt")) {
+            return AbstractDocumentRenderer.STYLE_CODE;
+        }
+        return AbstractDocumentRenderer.STYLE_PLAIN;
+    }
+
+    /**
+     * Determines whether the specified character ends a run of plain text.
+     * @param current the character to be checked.
+     * @return {@code true}, if the character has a TeX meaning;<br>
+     * {@code false} otherwise.
+     */
+    private static boolean isSpecial(char current) {
+        switch (current) {
+        case '\\':
+        case '{':
+        case '}':
+        case '%':
+        case '~':
+        case '$':
+        case ' ':
+        case '\t':
+        case '\r':
+        case '\n':
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Determines whether the specified character is a blank or a line
+     * separator.
+     * @param current the character to be checked.
+     * @return {@code true}, if the character is white space;<br>
+     * {@code false} otherwise.
+     */
+    private static boolean isWhitespace(char current) {
+        return (current == ' ') || (current == '\t') || (current == '\r')
+                        || (current == '\n');
+    }
+
+    /**
+     * The prefix of the NetDoc part names dropped in labels.
+     */
+    private static final String NAME_PREFIX = "netdoc";
+
+    /**
+     * The text of a single space.
+     */
+    private static final String SPACE = " ";
+
+    /**
+     * The initial capacity of the group stack of a translation.
+     */
+    private static final int INITIAL_GROUP_DEPTH = 8;
+
+    /**
+     * Kind of parts not rendered by themselves.
+     */
+    private static final int KIND_SKIPPED = 0;
+
+    /**
+     * Kind of parts whose sub parts are rendered in place.
+     */
+    private static final int KIND_CONTAINER = 1;
+
+    /**
+     * Kind of leaf parts rendered as labelled fields.
+     */
+    private static final int KIND_FIELD = 2;
+
+    /**
+     * Kind of block parts rendered as sections with a heading.
+     */
+    private static final int KIND_SECTION = 3;
+
+    /**
+     * Kind of plain text parts rendered as paragraphs.
+     */
+    private static final int KIND_TEXT = 4;
+
+    /**
+     * State of a single translation of a TeX text, kept apart from the
+     * renderer so that renderers remain stateless.
+     */
+    private static final class TexState {
+
+        /**
+         * Creates a new TexState.
+         * @param isBlock specifies whether paragraphs and lists are rendered.
+         */
+        TexState(boolean isBlock) {
+            this._isBlock = isBlock;
+            this._groups = new int[AbstractDocumentRenderer.INITIAL_GROUP_DEPTH];
+        }
+
+        /**
+         * Determines whether the list at the specified depth is numbered.
+         * @param depth the nesting depth of the list.
+         * @return {@code true}, if the list is numbered;<br>
+         * {@code false} otherwise.
+         */
+        boolean isOrderedList(int depth) {
+            return (depth < Long.SIZE) && ((this._orderedLists & (1L << depth)) != 0);
+        }
+
+        /**
+         * Records whether the list at the specified depth is numbered.
+         * @param depth the nesting depth of the list.
+         * @param isOrdered {@code true}, if the list is numbered.
+         */
+        void setOrderedList(int depth, boolean isOrdered) {
+            if (depth < Long.SIZE) {
+                if (isOrdered) {
+                    this._orderedLists |= (1L << depth);
+                } else {
+                    this._orderedLists &= ~(1L << depth);
+                }
+            }
+        }
+
+        /**
+         * Specifies whether paragraphs and lists are rendered.
+         */
+        private final boolean _isBlock;
+
+        /**
+         * The styles of the open groups, outermost first.
+         */
+        private int[] _groups;
+
+        /**
+         * The number of open groups.
+         */
+        private int _groupDepth;
+
+        /**
+         * The number of open lists.
+         */
+        private int _listDepth;
+
+        /**
+         * One bit per open list, set if the list is numbered.
+         */
+        private long _orderedLists;
+
+        /**
+         * Specifies whether content has been written to the current
+         * paragraph, or to the inline text.
+         */
+        private boolean _isInParagraph;
+
+        /**
+         * Specifies whether a space is to be written before further content.
+         */
+        private boolean _isSpacePending;
+    }
+}
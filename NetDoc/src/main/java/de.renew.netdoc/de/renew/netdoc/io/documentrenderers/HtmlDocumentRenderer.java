@@ -0,0 +1,302 @@
+package de.renew.netdoc.io.documentrenderers;
+
+import java.io.IOException;
+import java.io.Writer;
+
+
+/**
+ * Document renderer producing HTML. Each document is rendered as an
+ * {@code article} element: the title as heading, the fields as definition
+ * list and the block definitions as {@code section} elements.
+ */
+public class HtmlDocumentRenderer extends AbstractDocumentRenderer {
+
+    /**
+     * The name of the format produced by this renderer.
+     */
+    public static final String FORMAT_NAME = "html";
+
+    /**
+     * The filename extension of HTML files.
+     */
+    public static final String FILENAME_EXTENSION = ".html";
+
+    /**
+     * Creates a new HtmlDocumentRenderer.
+     */
+    public HtmlDocumentRenderer() {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String getFormatName() {
+        return HtmlDocumentRenderer.FORMAT_NAME;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String getFilenameExtension() {
+        return HtmlDocumentRenderer.FILENAME_EXTENSION;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void beginOutput(String title, Writer writer) throws IOException {
+        assert (title != null) : "Precondition violated: (title != null)";
+        assert (writer != null) : "Precondition violated: (writer != null)";
+
+        writer.write("<!DOCTYPE html>\n<html>\n<head>\n"
+                        + "<meta charset=\"UTF-8\">\n<title>");
+        this.writeText(title, 0, title.length(), writer);
+        writer.write("</title>\n</head>\n<body>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void endOutput(Writer writer) throws IOException {
+        assert (writer != null) : "Precondition violated: (writer != null)";
+
+        writer.write("</body>\n</html>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginDocument(Writer writer) throws IOException {
+        writer.write("<article>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endDocument(Writer writer) throws IOException {
+        writer.write("</article>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginTitle(int level, Writer writer) throws IOException {
+        this.writeHeadingTag(level, false, writer);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endTitle(int level, Writer writer) throws IOException {
+        this.writeHeadingTag(level, true, writer);
+        writer.write('\n');
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginFields(Writer writer) throws IOException {
+        writer.write("<dl>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginField(String partName, Writer writer)
+                    throws IOException {
+        writer.write("<dt>");
+        this.writeLabel(partName, writer);
+        writer.write("</dt><dd>");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endField(String partName, Writer writer)
+                    throws IOException {
+        writer.write("</dd>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endFields(Writer writer) throws IOException {
+        writer.write("</dl>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginSection(String partName, int level, Writer writer)
+                    throws IOException {
+        writer.write("<section>\n");
+        this.writeHeadingTag(level, false, writer);
+        this.writeLabel(partName, writer);
+        this.writeHeadingTag(level, true, writer);
+        writer.write('\n');
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endSection(String partName, int level, Writer writer)
+                    throws IOException {
+        writer.write("</section>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void writeText(String text, int start, int end, Writer writer)
+                    throws IOException {
+        int runStart = start;
+        for (int i = start; i < end; i++) {
+            String entity;
+            switch (text.charAt(i)) {
+            case '&':
+                entity = "&amp;";
+                break;
+            case '<':
+                entity = "&lt;";
+                break;
+            case '>':
+                entity = "&gt;";
+                break;
+            case '"':
+                entity = "&quot;";
+                break;
+            default:
+                continue;
+            }
+            writer.write(text, runStart, i - runStart);
+            writer.write(entity);
+            runStart = i + 1;
+        }
+        writer.write(text, runStart, end - runStart);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginParagraph(Writer writer) throws IOException {
+        writer.write("<p>");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endParagraph(Writer writer) throws IOException {
+        writer.write("</p>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void writeLineBreak(Writer writer) throws IOException {
+        writer.write("<br>\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginStyle(int style, Writer writer) throws IOException {
+        writer.write('<');
+        writer.write(HtmlDocumentRenderer.getStyleTag(style));
+        writer.write('>');
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endStyle(int style, Writer writer) throws IOException {
+        writer.write("</");
+        writer.write(HtmlDocumentRenderer.getStyleTag(style));
+        writer.write('>');
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginList(boolean isOrdered, int depth, Writer writer)
+                    throws IOException {
+        writer.write(isOrdered ? "<ol>\n" : "<ul>\n");
+    }
+
+    /**
+     * Writes the start tag of a list item. The end tag of the previous item
+     * is implied by HTML.
+     * @inheritDoc
+     */
+    @Override
+    protected void writeListItem(boolean isOrdered, int depth, Writer writer)
+                    throws IOException {
+        writer.write("<li>");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endList(boolean isOrdered, int depth, Writer writer)
+                    throws IOException {
+        writer.write(isOrdered ? "</ol>\n" : "</ul>\n");
+    }
+
+    /**
+     * Writes the start or end tag of a heading of the specified level.
+     * Levels beyond the HTML headings are rendered as the lowest heading.
+     * @param level the heading level, starting at 1.
+     * @param isEnd {@code true}, if the end tag is to be written.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    private void writeHeadingTag(int level, boolean isEnd, Writer writer)
+                    throws IOException {
+        writer.write(isEnd ? "</h" : "<h");
+        writer.write('0' + Math.min(level, HtmlDocumentRenderer.MAX_LEVEL));
+        writer.write('>');
+    }
+
+    /**
+     * Returns the element name of the specified style.
+     * @param style one of the {@code STYLE_} constants except
+     * {@link #STYLE_PLAIN}.
+     * @return the element name.
+     */
+    private static String getStyleTag(int style) {
+        switch (style) {
+        case STYLE_STRONG:
+            return "strong";
+        case STYLE_CODE:
+            return "code";
+        default:
+            return "em";
+        }
+    }
+
+    /**
+     * The lowest heading level of HTML.
+     */
+    private static final int MAX_LEVEL = 6;
+}
@@ -0,0 +1,273 @@
+package de.renew.netdoc.io.documentrenderers;
+
+import java.io.IOException;
+import java.io.Writer;
+
+
+/**
+ * Document renderer producing Markdown as understood by common wikis. The
+ * title is rendered as heading, the fields as bulleted list with bold
+ * labels and the block definitions as sub headings. Characters having a
+ * meaning in Markdown are escaped with a backslash.
+ */
+public class MarkdownDocumentRenderer extends AbstractDocumentRenderer {
+
+    /**
+     * The name of the format produced by this renderer.
+     */
+    public static final String FORMAT_NAME = "markdown";
+
+    /**
+     * The filename extension of Markdown files.
+     */
+    public static final String FILENAME_EXTENSION = ".md";
+
+    /**
+     * Creates a new MarkdownDocumentRenderer.
+     */
+    public MarkdownDocumentRenderer() {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String getFormatName() {
+        return MarkdownDocumentRenderer.FORMAT_NAME;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String getFilenameExtension() {
+        return MarkdownDocumentRenderer.FILENAME_EXTENSION;
+    }
+
+    /**
+     * Writes nothing, since Markdown has no document frame and every
+     * rendered document carries its own heading.
+     * @inheritDoc
+     */
+    @Override
+    public void beginOutput(String title, Writer writer) throws IOException {
+        assert (title != null) : "Precondition violated: (title != null)";
+        assert (writer != null) : "Precondition violated: (writer != null)";
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void endOutput(Writer writer) throws IOException {
+        assert (writer != null) : "Precondition violated: (writer != null)";
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginTitle(int level, Writer writer) throws IOException {
+        this.writeHeadingMarker(level, writer);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endTitle(int level, Writer writer) throws IOException {
+        writer.write("\n\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginFields(Writer writer) throws IOException {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginField(String partName, Writer writer)
+                    throws IOException {
+        writer.write("- **");
+        this.writeLabel(partName, writer);
+        writer.write(":** ");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endField(String partName, Writer writer)
+                    throws IOException {
+        writer.write('\n');
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endFields(Writer writer) throws IOException {
+        writer.write('\n');
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginSection(String partName, int level, Writer writer)
+                    throws IOException {
+        this.writeHeadingMarker(level, writer);
+        this.writeLabel(partName, writer);
+        writer.write("\n\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endSection(String partName, int level, Writer writer)
+                    throws IOException {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void writeText(String text, int start, int end, Writer writer)
+                    throws IOException {
+        int runStart = start;
+        for (int i = start; i < end; i++) {
+            if (MarkdownDocumentRenderer.SPECIAL_CHARACTERS
+                            .indexOf(text.charAt(i)) >= 0) {
+                writer.write(text, runStart, i - runStart);
+                writer.write('\\');
+                runStart = i;
+            }
+        }
+        writer.write(text, runStart, end - runStart);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginParagraph(Writer writer) throws IOException {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endParagraph(Writer writer) throws IOException {
+        writer.write("\n\n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void writeLineBreak(Writer writer) throws IOException {
+        writer.write("  \n");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginStyle(int style, Writer writer) throws IOException {
+        writer.write(MarkdownDocumentRenderer.getStyleMarker(style, false));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endStyle(int style, Writer writer) throws IOException {
+        writer.write(MarkdownDocumentRenderer.getStyleMarker(style, true));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void beginList(boolean isOrdered, int depth, Writer writer)
+                    throws IOException {
+    }
+
+    /**
+     * Writes the marker of a list item, indented by its depth. The marker
+     * of numbered lists is always {@code 1.}, leaving the numbering to the
+     * Markdown processor.
+     * @inheritDoc
+     */
+    @Override
+    protected void writeListItem(boolean isOrdered, int depth, Writer writer)
+                    throws IOException {
+        for (int i = 0; i < depth; i++) {
+            writer.write(MarkdownDocumentRenderer.LIST_INDENT);
+        }
+        writer.write(isOrdered ? "1. " : "- ");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void endList(boolean isOrdered, int depth, Writer writer)
+                    throws IOException {
+        writer.write('\n');
+    }
+
+    /**
+     * Writes the marker of a heading of the specified level.
+     * @param level the heading level, starting at 1.
+     * @param writer the writer to be written to.
+     * @throws IOException if an I/O error occured.
+     */
+    private void writeHeadingMarker(int level, Writer writer)
+                    throws IOException {
+        for (int i = 0; i < Math.min(level, MarkdownDocumentRenderer.MAX_LEVEL); i++) {
+            writer.write('#');
+        }
+        writer.write(' ');
+    }
+
+    /**
+     * Returns the markup beginning or ending the specified style. Code is
+     * marked by HTML elements, so that escaped characters within it are
+     * still unescaped by the Markdown processor.
+     * @param style one of the {@code STYLE_} constants except
+     * {@link #STYLE_PLAIN}.
+     * @param isEnd {@code true}, if the style is ended.
+     * @return the markup of the style.
+     */
+    private static String getStyleMarker(int style, boolean isEnd) {
+        switch (style) {
+        case STYLE_STRONG:
+            return "**";
+        case STYLE_CODE:
+            return isEnd ? "</code>" : "<code>";
+        default:
+            return "*";
+        }
+    }
+
+    /**
+     * The characters escaped in Markdown texts.
+     */
+    private static final String SPECIAL_CHARACTERS = "\\`*_[]<>#|";
+
+    /**
+     * The indentation of nested list items per depth.
+     */
+    private static final String LIST_INDENT = "    ";
+
+    /**
+     * The lowest heading level of Markdown.
+     */
+    private static final int MAX_LEVEL = 6;
+}
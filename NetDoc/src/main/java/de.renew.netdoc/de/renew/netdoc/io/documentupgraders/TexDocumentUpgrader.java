@@ -0,0 +1,318 @@
+package de.renew.netdoc.io.documentupgraders;
+
+import de.renew.netdoc.io.DocumentUpgrader;
+import de.renew.netdoc.model.document.DocumentParts;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * Upgrader converting NetDoc TeX documentation units of the versions 0.8 and
+ * 0.9 to the current version. Replaces the {@code convert.pl} script. All
+ * conversions are line-local, so that documents are upgraded while being
+ * read.
+ */
+public class TexDocumentUpgrader implements DocumentUpgrader {
+
+    /**
+     * The header line of version 0.8 documents.
+     */
+    private static final String HEADER_0_8 = "% NetDoc IFA drawing documentation file v1.0";
+
+    /**
+     * The header line of version 0.9 documents.
+     */
+    private static final String HEADER_0_9 = "% NetDoc documentation unit v1.0";
+
+    /**
+     * The pattern of versioned header lines.
+     */
+    private static final Pattern HEADER_PATTERN = Pattern.compile("^% "
+                    + Pattern.quote(DocumentParts.NETDOC_TEX_UNIT_VERSION_PREFIX)
+                    + "(\\d\\.\\d)$");
+
+    /**
+     * The renamed commands of version 0.8 documents. Each entry maps the old
+     * command prefix to the new one.
+     */
+    private static final String[][] RENAMED_COMMANDS_0_8 = {
+        { "\\netdoc-date-c", "\\netdocDateC" },
+        { "\\netdoc-date-last-m", "\\netdocDateLastM" },
+        { "\\netdoc-drawing-n", "\\netdocDrawingN" },
+        { "\\netdoc-drawing-p", "\\netdocDrawingP" },
+        { "\\netdoc-author", "\\netdocAuthor" },
+        { "\\netdoc-title", "\\netdocTitle" } };
+
+    /**
+     * The pattern of version 0.8 environment commands.
+     */
+    private static final Pattern ENVIRONMENT_PATTERN_0_8 = Pattern
+                    .compile("^\\\\netdoc-(begin|end)(\\{netdoc)-d(.*)$");
+
+
+    /**
+     * The maximum number of characters read to determine the version of a
+     * streamed document.
+     */
+    private static final int HEADER_READ_AHEAD_LIMIT = 256;
+
+
+    /**
+     * Creates a new TexDocumentUpgrader.
+     */
+    public TexDocumentUpgrader() {
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String getCurrentVersion() {
+        return DocumentParts.NETDOC_TEX_UNIT_VERSION_NUMBER;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String getVersion(String content) {
+        assert (content != null) : "Precondition violated: (content != null)";
+
+        int lineEnd = content.indexOf('\n');
+        String header = (lineEnd < 0) ? content : content.substring(0, lineEnd);
+        if (header.endsWith("\r")) {
+            header = header.substring(0, header.length() - 1);
+        }
+        if (header.equals(TexDocumentUpgrader.HEADER_0_8)) {
+            return "0.8";
+        }
+        if (header.equals(TexDocumentUpgrader.HEADER_0_9)) {
+            return "0.9";
+        }
+        Matcher matcher = TexDocumentUpgrader.HEADER_PATTERN.matcher(header);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isOutdated(String content) {
+        assert (content != null) : "Precondition violated: (content != null)";
+
+        String version = this.getVersion(content);
+        return (version != null)
+                        && (version.compareTo(this.getCurrentVersion()) < 0);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String upgrade(String content) {
+        assert (content != null) : "Precondition violated: (content != null)";
+
+        if (!this.isOutdated(content)) {
+            return content;
+        }
+        StringBuilder returnValue = new StringBuilder(content.length() + 64);
+        try {
+            Reader reader = this.upgrade(new StringReader(content));
+            char[] buffer = new char[4096];
+            int count;
+            while ((count = reader.read(buffer)) >= 0) {
+                returnValue.append(buffer, 0, count);
+            }
+        } catch (IOException e) {
+            // string readers do not fail
+            throw new IllegalStateException(e);
+        }
+        return returnValue.toString();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Reader upgrade(Reader content) throws IOException {
+        assert (content != null) : "Precondition violated: (content != null)";
+
+        BufferedReader reader = (content instanceof BufferedReader)
+                        ? (BufferedReader) content
+                        : new BufferedReader(content);
+        reader.mark(TexDocumentUpgrader.HEADER_READ_AHEAD_LIMIT);
+        StringBuilder header = new StringBuilder();
+        int c = reader.read();
+        while ((c >= 0) && (c != '\n')
+                        && (header.length() < TexDocumentUpgrader.HEADER_READ_AHEAD_LIMIT - 1)) {
+            header.append((char) c);
+            c = reader.read();
+        }
+        reader.reset();
+
+        String version = this.getVersion(header.toString());
+        if ((version == null)
+                        || (version.compareTo(this.getCurrentVersion()) >= 0)) {
+            return reader;
+        }
+        return new UpgradingReader(reader, version);
+    }
+
+    /**
+     * Adds the specified line of a version 0.8 document converted to version
+     * 0.9 to the specified list. The header line is not handled.
+     * @param line the line to be converted.
+     * @param lines the converted lines.
+     */
+    private static void upgradeFrom08(String line, List<String> lines) {
+        if (line.equals("\\netdoc-begin{netdoc-document}")) {
+            lines.add("\\begin{netdocDocument}");
+            lines.add("\\begin{netdocMain}");
+        } else if (line.equals("\\netdoc-end{netdoc-document}")) {
+            lines.add("\\end{netdocMain}");
+            lines.add("\\end{netdocDocument}");
+        } else {
+            lines.add(TexDocumentUpgrader.renameCommand08(line));
+        }
+    }
+
+    /**
+     * Renames the version 0.8 command at the beginning of the specified line.
+     * @param line the line to be converted.
+     * @return the converted line;<br>
+     * or the line itself, if it does not start with a renamed command.
+     */
+    private static String renameCommand08(String line) {
+        for (String[] renaming : TexDocumentUpgrader.RENAMED_COMMANDS_0_8) {
+            if (line.startsWith(renaming[0])) {
+                return renaming[1] + line.substring(renaming[0].length());
+            }
+        }
+        Matcher matcher = TexDocumentUpgrader.ENVIRONMENT_PATTERN_0_8
+                        .matcher(line);
+        if (matcher.matches()) {
+            return "\\" + matcher.group(1) + matcher.group(2) + "D"
+                            + matcher.group(3);
+        }
+        return line;
+    }
+
+
+    /**
+     * Reader converting the lines of an outdated document to the current
+     * version while they are read. Every line is terminated by {@code '\n'}.
+     */
+    private static class UpgradingReader extends Reader {
+
+        /**
+         * Creates a new UpgradingReader reading from the specified reader.
+         * @param source the reader providing the outdated document.
+         * @param version the version of the outdated document.
+         */
+        public UpgradingReader(BufferedReader source, String version) {
+            this._source = source;
+            this._version = version;
+            this._lines = new ArrayList<String>(2);
+            this._buffer = new StringBuilder();
+            this._isHeaderRead = false;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public int read(char[] target, int offset, int length)
+                        throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (this._position >= this._buffer.length()) {
+                if (!this.fill()) {
+                    return -1;
+                }
+            }
+            int returnValue = Math.min(length,
+                            this._buffer.length() - this._position);
+            this._buffer.getChars(this._position,
+                            this._position + returnValue, target, offset);
+            this._position += returnValue;
+            return returnValue;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void close() throws IOException {
+            this._source.close();
+        }
+
+        /**
+         * Replaces the buffer by the conversion of the next source line.
+         * @return {@code true}, if a line has been converted;<br>
+         * {@code false}, if the end of the source has been reached.
+         * @throws IOException if an I/O error occured while reading the
+         * source.
+         */
+        private boolean fill() throws IOException {
+            String line = this._source.readLine();
+            if (line == null) {
+                return false;
+            }
+            this._lines.clear();
+            if (!this._isHeaderRead) {
+                this._lines.add("% "
+                                + DocumentParts.NETDOC_TEX_UNIT_VERSION_PREFIX
+                                + DocumentParts.NETDOC_TEX_UNIT_VERSION_NUMBER);
+                this._isHeaderRead = true;
+            } else if (this._version.equals("0.8")) {
+                TexDocumentUpgrader.upgradeFrom08(line, this._lines);
+            } else {
+                this._lines.add(line);
+            }
+            this._buffer.setLength(0);
+            this._position = 0;
+            for (String current : this._lines) {
+                this._buffer.append(current).append('\n');
+            }
+            return true;
+        }
+
+        /**
+         * The reader providing the outdated document.
+         */
+        private BufferedReader _source;
+
+        /**
+         * The version of the outdated document.
+         */
+        private String _version;
+
+        /**
+         * The converted lines of the current source line.
+         */
+        private List<String> _lines;
+
+        /**
+         * The characters of the converted lines not read yet.
+         */
+        private StringBuilder _buffer;
+
+        /**
+         * The position of the next character of the buffer to be read.
+         */
+        private int _position;
+
+        /**
+         * Specifies whether the header line has been read.
+         */
+        private boolean _isHeaderRead;
+    }
+}
@@ -0,0 +1,79 @@
+package de.renew.netdoc.io.event;
+
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.net.URL;
+
+
+/**
+ * Event fired by an Input/Output manager after a document part has been
+ * loaded from or saved to its stream location.
+ */
+public class DocumentIOEvent {
+
+    /**
+     * Creates a new DocumentIOEvent.
+     * @param location the stream location the document part was loaded
+     * from or saved to.
+     * @param documentPart the loaded or saved document part.
+     * @de.renew.require (location != null)
+     * @de.renew.require (documentPart != null)
+     */
+    public DocumentIOEvent(URL location, DocumentPart documentPart) {
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (documentPart != null) : "Precondition violated: (documentPart != null)";
+
+        this._location = location;
+        this._documentPart = documentPart;
+    }
+
+    /**
+     * Returns the stream location the document part was loaded from or
+     * saved to.
+     * @return the stream location.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public URL getLocation() {
+        return this._location;
+    }
+
+    /**
+     * Returns the loaded or saved document part.
+     * @return the document part.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DocumentPart getDocumentPart() {
+        return this._documentPart;
+    }
+
+    /**
+     * Returns an event of the same location holding a copy of the document
+     * part of this event. Listeners notified later than the document part
+     * was loaded or saved receive such a copy, so that they never read a
+     * document part being edited meanwhile.
+     * @return the new event.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DocumentIOEvent snapshot() {
+        return new DocumentIOEvent(this.getLocation(),
+                        (DocumentPart) this.getDocumentPart().clone());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return "DocumentIOEvent[" + this.getLocation() + "]";
+    }
+
+    /**
+     * The stream location of the document part.
+     */
+    private URL _location;
+
+    /**
+     * The loaded or saved document part.
+     */
+    private DocumentPart _documentPart;
+}
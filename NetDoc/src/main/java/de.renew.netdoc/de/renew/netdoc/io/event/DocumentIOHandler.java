@@ -0,0 +1,31 @@
+package de.renew.netdoc.io.event;
+
+import de.renew.netdoc.model.event.EventHandler;
+
+
+/**
+ * Handlers of document I/O events.
+ */
+public enum DocumentIOHandler
+                implements EventHandler<DocumentIOListener, DocumentIOEvent> {
+
+    /**
+     * Handler of events of loaded document parts.
+     */
+    DOCUMENT_LOADED {
+        @Override
+        public void dispatch(DocumentIOListener listener, DocumentIOEvent event) {
+            listener.documentLoaded(event);
+        }
+    },
+
+    /**
+     * Handler of events of saved document parts.
+     */
+    DOCUMENT_SAVED {
+        @Override
+        public void dispatch(DocumentIOListener listener, DocumentIOEvent event) {
+            listener.documentSaved(event);
+        }
+    }
+}
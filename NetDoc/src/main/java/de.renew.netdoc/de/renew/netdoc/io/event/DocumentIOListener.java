@@ -0,0 +1,24 @@
+package de.renew.netdoc.io.event;
+
+
+/**
+ * Observer of the document parts loaded and saved by an Input/Output
+ * manager. Listeners are notified in the thread loading or saving the
+ * document part, once the operation has succeeded.
+ */
+public interface DocumentIOListener {
+
+    /**
+     * Invoked when a document part has been loaded.
+     * @param event the corresponding event.
+     * @de.renew.require (event != null)
+     */
+    public void documentLoaded(DocumentIOEvent event);
+
+    /**
+     * Invoked when a document part has been saved.
+     * @param event the corresponding event.
+     * @de.renew.require (event != null)
+     */
+    public void documentSaved(DocumentIOEvent event);
+}
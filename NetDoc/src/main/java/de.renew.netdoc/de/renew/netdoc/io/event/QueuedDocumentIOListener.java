@@ -0,0 +1,75 @@
+package de.renew.netdoc.io.event;
+
+import de.renew.netdoc.model.event.DeliveryMode;
+import de.renew.netdoc.model.event.DeliveryQueue;
+
+
+/**
+ * Document I/O listener forwarding the events it receives to another
+ * listener through a {@link DeliveryQueue}. Unless delivered synchronously,
+ * the listener receives a copy of the document part taken when the event
+ * was fired, since the document part itself may be edited by then. Events
+ * are keyed by their location, so that pending events of the same location
+ * are coalesced in coalescing modes.
+ * <p>To unregister, the queued listener has to be removed, not the listener
+ * it forwards to.</p>
+ */
+public class QueuedDocumentIOListener implements DocumentIOListener {
+
+    /**
+     * Creates a new QueuedDocumentIOListener forwarding to the specified
+     * listener in the specified mode.
+     * @param listener the listener to be notified.
+     * @param mode the delivery mode.
+     * @de.renew.require (listener != null)
+     * @de.renew.require (mode != null)
+     */
+    public QueuedDocumentIOListener(DocumentIOListener listener,
+                                    DeliveryMode mode) {
+        this._queue = new DeliveryQueue<DocumentIOListener>(listener, mode);
+    }
+
+    /**
+     * Returns the queue delivering the events of this listener.
+     * @return the delivery queue.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DeliveryQueue<DocumentIOListener> getQueue() {
+        return this._queue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void documentLoaded(DocumentIOEvent event) {
+        this.post(DocumentIOHandler.DOCUMENT_LOADED, event);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void documentSaved(DocumentIOEvent event) {
+        this.post(DocumentIOHandler.DOCUMENT_SAVED, event);
+    }
+
+    /**
+     * Posts the specified event, or a snapshot of it if the event is
+     * delivered later.
+     * @param handler the handler delivering the event.
+     * @param event the event to be posted.
+     */
+    private void post(DocumentIOHandler handler, DocumentIOEvent event) {
+        if (!this.getQueue().getMode().isSynchronous()) {
+            event = event.snapshot();
+        }
+        this.getQueue().post(handler, event,
+                        event.getLocation().toExternalForm());
+    }
+
+    /**
+     * The queue delivering the events of this listener.
+     */
+    private DeliveryQueue<DocumentIOListener> _queue;
+}
@@ -1,15 +1,25 @@
 package de.renew.netdoc.io.managers;
 
+import de.renew.netdoc.io.DocumentCache;
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.DocumentUpgrader;
 import de.renew.netdoc.io.IOManager;
 import de.renew.netdoc.io.URLs;
+import de.renew.netdoc.io.event.DocumentIOEvent;
+import de.renew.netdoc.io.event.DocumentIOHandler;
+import de.renew.netdoc.io.event.DocumentIOListener;
 import de.renew.netdoc.model.doctarget.DocTarget;
 import de.renew.netdoc.model.doctarget.targets.ResourceTarget;
 import de.renew.netdoc.model.document.Document;
 import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.event.ListenerList;
+import de.renew.netdoc.monitor.CountingOutputStream;
+import de.renew.netdoc.monitor.NetDocMetrics;
+import de.renew.netdoc.monitor.events.DocumentWriteEvent;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
@@ -26,10 +36,19 @@ import java.net.URL;
  */
 public abstract class AbstractIOManager implements IOManager {
 
+    /**
+     * The maximum number of characters read to determine whether a loaded
+     * document is outdated.
+     */
+    private static final int HEADER_READ_AHEAD_LIMIT = 256;
+
+
     /**
      * Creates a new AbstractInputOutputManager.
      */
     protected AbstractIOManager() {
+        this._documentIOListeners = new ListenerList<DocumentIOListener>(
+                        DocumentIOListener.class);
     }
 
     /**
@@ -51,7 +70,7 @@ public abstract class AbstractIOManager implements IOManager {
 
     /**
      * <p>Loads the NetDoc document part correspoding to the specified
-     * documentation target.</p>
+     * documentation target and notifies the document I/O listeners.</p>
      * <p>To override implement {@link #loadDocumentPartImpl(DocTarget)}.</p>
      * @param correspondingTarget the documentation target specifying the
      * NetDoc document part to be loaded.
@@ -66,15 +85,28 @@ public abstract class AbstractIOManager implements IOManager {
                     throws IOException {
         assert (correspondingTarget != null) : "Precondition violated: (correspondingTarget != null)";
 
-        DocumentPart returnValue = this
-                        .loadDocumentPartImpl(correspondingTarget);
+        long startNanos = System.nanoTime();
+        boolean succeeded = false;
+        DocumentPart returnValue;
+        try {
+            returnValue = this.loadDocumentPartImpl(correspondingTarget);
+            succeeded = true;
+        } finally {
+            NetDocMetrics.recordLatency(NetDocMetrics.LOAD, startNanos,
+                            succeeded);
+        }
         assert (returnValue != null) : "Postcondition violated: (returnValue != null)";
 
+        this.fireDocumentIOEvent(DocumentIOHandler.DOCUMENT_LOADED,
+                        this.getDefaultDocumentLocation(correspondingTarget),
+                        returnValue);
+
         return returnValue;
     }
 
     /**
-     * <p>Saves the specified NetDoc document part to its default location.</p>
+     * <p>Saves the specified NetDoc document part to its default location
+     * and notifies the document I/O listeners.</p>
      * <p>To override implement {@link #saveDocumentPartImpl(DocumentPart)}.</p>
      * @param partToSave the NetDoc document part to be saved.
      * @throws IOException if an I/O error occured while saving the document
@@ -86,7 +118,18 @@ public abstract class AbstractIOManager implements IOManager {
                     throws IOException {
         assert (partToSave != null) : "Precondition violated: (partToSave != null)";
 
-        this.saveDocumentPartImpl(partToSave);
+        long startNanos = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            this.saveDocumentPartImpl(partToSave);
+            succeeded = true;
+        } finally {
+            NetDocMetrics.recordLatency(NetDocMetrics.SAVE, startNanos,
+                            succeeded);
+        }
+        this.fireDocumentIOEvent(DocumentIOHandler.DOCUMENT_SAVED,
+                        this.getDefaultDocumentLocation(partToSave),
+                        partToSave);
     }
 
     /**
@@ -104,7 +147,16 @@ public abstract class AbstractIOManager implements IOManager {
                     throws IOException {
         assert (inputStream != null) : "Precondition violated: (inputStream != null)";
 
-        DocumentPart returnValue = this.importDocumentPartFromImpl(inputStream);
+        long startNanos = System.nanoTime();
+        boolean succeeded = false;
+        DocumentPart returnValue;
+        try {
+            returnValue = this.importDocumentPartFromImpl(inputStream);
+            succeeded = true;
+        } finally {
+            NetDocMetrics.recordLatency(NetDocMetrics.IMPORT, startNanos,
+                            succeeded);
+        }
         assert (returnValue != null) : "Postcondition violated: (returnValue != null)";
 
         return returnValue;
@@ -150,6 +202,41 @@ public abstract class AbstractIOManager implements IOManager {
         this.exportDocumentPartToImpl(partToExport, outputStream);
     }
 
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void addDocumentIOListener(DocumentIOListener listenerToAdd) {
+        assert (listenerToAdd != null) : "Precondition violated: (listenerToAdd != null)";
+
+        this._documentIOListeners.add(listenerToAdd);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void removeDocumentIOListener(DocumentIOListener listenerToRemove) {
+        this._documentIOListeners.remove(listenerToRemove);
+    }
+
+    /**
+     * <p>Returns the stream location of the document part corresponding to
+     * the specified documentation target.</p>
+     * <p>To override implement {@link
+     * #getDefaultDocumentLocation(DocTarget)}.</p>
+     * @param docTarget the documentation target to be processed.
+     * @return the stream location;<br>
+     * or {@code null}, if no location is specified for that target.
+     * @de.renew.require (docTarget != null)
+     */
+    @Override
+    public final URL getDocumentLocation(DocTarget docTarget) {
+        assert (docTarget != null) : "Precondition violated: (docTarget != null)";
+
+        return this.getDefaultDocumentLocation(docTarget);
+    }
+
     /**
      * Determines whether a document part for the specified documentation
      * target already exists.
@@ -166,7 +253,10 @@ public abstract class AbstractIOManager implements IOManager {
 
     /**
      * Loads the NetDoc document part correspoding to the specified
-     * documentation target.
+     * documentation target. If a document cache is used, an unchanged document
+     * is taken from the cache instead of being parsed again. An outdated
+     * document is written back in the current version, if {@link
+     * #isPersistingUpgrades()} is set.
      * @param correspondingTarget the documentation target specifying the
      * NetDoc document part to be loaded.
      * @return the loaded document part.
@@ -182,19 +272,44 @@ public abstract class AbstractIOManager implements IOManager {
             throw new IOException("No default import location specified");
         }
 
+        DocumentCache cache = this.getDocumentCache();
+        Object stamp = null;
+        if (cache != null) {
+            DocumentPart cached = cache.get(path);
+            if (cached != null) {
+                cached.setTarget(correspondingTarget);
+                return cached;
+            }
+            stamp = cache.getStamp(path);
+        }
+
+        DocumentPart part;
+        boolean isOutdated = false;
         InputStream stream = URLs.openInputStream(path);
         try {
-            InputStreamReader reader = new InputStreamReader(stream);
+            BufferedReader reader = new BufferedReader(
+                            DocumentFiles.createReader(stream));
             try {
-                DocumentPart part = this.importDocumentPartFrom(reader);
-                part.setTarget(correspondingTarget);
-                return part;
+                if (this.isPersistingUpgrades()
+                                && (this.getDocumentUpgrader() != null)) {
+                    isOutdated = this.isOutdated(reader);
+                }
+                part = this.importDocumentPartFrom(reader);
             } finally {
                 reader.close();
             }
         } finally {
             stream.close();
         }
+        part.setTarget(correspondingTarget);
+        if (isOutdated) {
+            this.exportDocumentPart(part);
+            stamp = (cache != null) ? cache.getStamp(path) : null;
+        }
+        if (stamp != null) {
+            cache.put(path, stamp, part);
+        }
+        return part;
     }
 
     /**
@@ -210,7 +325,9 @@ public abstract class AbstractIOManager implements IOManager {
     }
 
     /**
-     * Imports a NetDoc document part from the specified input stream.
+     * Imports a NetDoc document part from the specified input stream. If a
+     * document upgrader is used, an outdated document is upgraded while
+     * being parsed.
      * @param inputStream the input stream to parse the document part from.
      * @return the parsed document part.
      * @throws IOException if an I/O error occured while importing the document
@@ -223,6 +340,9 @@ public abstract class AbstractIOManager implements IOManager {
         if (this.getDocumentParser() == null) {
             throw new IOException("No parser available");
         }
+        if (this.getDocumentUpgrader() != null) {
+            inputStream = this.getDocumentUpgrader().upgrade(inputStream);
+        }
         DocumentPart returnValue = this.getDocumentParser()
                         .parseFrom(inputStream);
         if (this.getDocumentInputFormatter() != null) {
@@ -231,9 +351,42 @@ public abstract class AbstractIOManager implements IOManager {
         return returnValue;
     }
 
+    /**
+     * Determines whether outdated documents are written back in the current
+     * version when being loaded.
+     * @return {@code true}, if upgrades are persisted;<br>
+     * {@code false} otherwise.
+     */
+    protected boolean isPersistingUpgrades() {
+        return false;
+    }
+
+    /**
+     * Determines whether the document provided by the specified reader is
+     * outdated, without consuming any characters of the reader.
+     * @param reader the reader providing the document.
+     * @return {@code true}, if the document is outdated;<br>
+     * {@code false} otherwise.
+     * @throws IOException if an I/O error occured while reading the header.
+     * @de.renew.require (this.getDocumentUpgrader() != null)
+     */
+    private boolean isOutdated(BufferedReader reader) throws IOException {
+        reader.mark(AbstractIOManager.HEADER_READ_AHEAD_LIMIT);
+        char[] header = new char[AbstractIOManager.HEADER_READ_AHEAD_LIMIT];
+        int length = 0;
+        int count;
+        while ((length < header.length) && ((count = reader.read(header,
+                        length, header.length - length)) >= 0)) {
+            length += count;
+        }
+        reader.reset();
+        return this.getDocumentUpgrader()
+                        .isOutdated(new String(header, 0, length));
+    }
+
     /**
      * Exports the specified NetDoc document part to the default export
-     * location.
+     * location. Invalidates the cached document of that location.
      * @param partToExport the NetDoc document part to be exported.
      * @throws IOException if an I/O error occured while exporting the document
      * part.
@@ -245,10 +398,21 @@ public abstract class AbstractIOManager implements IOManager {
         if (path == null) {
             throw new IOException("No default export location specified");
         }
+        if (this.getDocumentCache() != null) {
+            this.getDocumentCache().invalidate(path);
+        }
 
+        DocumentWriteEvent event = new DocumentWriteEvent();
+        event.begin();
         OutputStream stream = URLs.openOutputStream(path);
+        CountingOutputStream counter = null;
+        if (event.isEnabled()) {
+            counter = new CountingOutputStream(stream);
+            stream = counter;
+        }
         try {
-            OutputStreamWriter writer = new OutputStreamWriter(stream);
+            OutputStreamWriter writer = new OutputStreamWriter(stream,
+                            DocumentFiles.CHARSET);
             try {
                 this.exportDocumentPartTo(partToExport, writer);
             } finally {
@@ -257,6 +421,15 @@ public abstract class AbstractIOManager implements IOManager {
         } finally {
             stream.close();
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setLocation(path.toString());
+            if (counter != null) {
+                event.setByteCount(counter.getCount());
+            }
+            event.setDocument(partToExport);
+            event.commit();
+        }
     }
 
     /**
@@ -344,4 +517,28 @@ public abstract class AbstractIOManager implements IOManager {
     protected String getDocumentFilenameExtension(DocTarget docTarget) {
         return "";
     }
+
+    /**
+     * Notifies all document I/O listeners registered to this manager that
+     * the specified document part has been loaded from or saved to the
+     * specified location. Nothing is fired without a location.
+     * @param handler the handler delivering the event.
+     * @param location the location of the document part;<br>
+     * or {@code null}, if unknown.
+     * @param documentPart the loaded or saved document part.
+     * @de.renew.require (handler != null)
+     * @de.renew.require (documentPart != null)
+     */
+    private void fireDocumentIOEvent(DocumentIOHandler handler, URL location,
+                                     DocumentPart documentPart) {
+        if ((location != null) && !this._documentIOListeners.isEmpty()) {
+            this._documentIOListeners.fire(handler,
+                            new DocumentIOEvent(location, documentPart));
+        }
+    }
+
+    /**
+     * The document I/O listeners registered to this manager.
+     */
+    private ListenerList<DocumentIOListener> _documentIOListeners;
 }
\ No newline at end of file
@@ -1,9 +1,17 @@
 package de.renew.netdoc.io.managers;
 
+import de.renew.netdoc.io.DocumentCache;
 import de.renew.netdoc.io.DocumentFormatter;
 import de.renew.netdoc.io.DocumentParser;
+import de.renew.netdoc.io.DocumentRenderer;
+import de.renew.netdoc.io.DocumentUpgrader;
 import de.renew.netdoc.model.doctarget.DocTarget;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 
 /**
  * Abstract Input/Output manager.
@@ -52,6 +60,7 @@ public class SimpleIOManager extends AbstractIOManager {
         this._documentOutputFormatter = documentOutputFormatter;
         this._documentParser = documentParser;
         this._documentFilenameExtension = documentFilenameExtension;
+        this._documentRenderers = new LinkedHashMap<String, DocumentRenderer>();
     }
 
     /**
@@ -86,6 +95,22 @@ public class SimpleIOManager extends AbstractIOManager {
         return this._documentParser;
     }
 
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public DocumentCache getDocumentCache() {
+        return this._documentCache;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public DocumentUpgrader getDocumentUpgrader() {
+        return this._documentUpgrader;
+    }
+
     /**
      * <p>Returns the default document filename extension used by this manager.
      * </p>
@@ -155,6 +180,76 @@ public class SimpleIOManager extends AbstractIOManager {
         this._documentParser = newParser;
     }
 
+    /**
+     * Sets the cache of parsed documents used by this manager to the specified
+     * cache.
+     * @param newCache the new document cache to be used by this manager; or
+     * {@code null}, if no cache is to be used.
+     */
+    public void setDocumentCache(DocumentCache newCache) {
+        this._documentCache = newCache;
+    }
+
+    /**
+     * Sets the upgrader converting outdated documents while they are imported
+     * to the specified upgrader.
+     * @param newUpgrader the new document upgrader to be used by this
+     * manager; or {@code null}, if outdated documents are to be imported
+     * unchanged.
+     */
+    public void setDocumentUpgrader(DocumentUpgrader newUpgrader) {
+        this._documentUpgrader = newUpgrader;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public DocumentRenderer getDocumentRenderer(String formatName) {
+        assert (formatName != null) : "Precondition violated: (formatName != null)";
+
+        return this._documentRenderers.get(formatName);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Collection<DocumentRenderer> getDocumentRenderers() {
+        return Collections.unmodifiableCollection(
+                        this._documentRenderers.values());
+    }
+
+    /**
+     * Registers the specified document renderer with this manager,
+     * replacing any renderer registered for the same format.
+     * @param renderer the document renderer to be registered.
+     * @de.renew.require (renderer != null)
+     */
+    public void addDocumentRenderer(DocumentRenderer renderer) {
+        assert (renderer != null) : "Precondition violated: (renderer != null)";
+
+        this._documentRenderers.put(renderer.getFormatName(), renderer);
+    }
+
+    /**
+     * Specifies whether outdated documents are written back in the current
+     * version when being loaded.
+     * @param isPersisting {@code true}, if upgrades are to be persisted;<br>
+     * {@code false} otherwise.
+     */
+    public void setPersistingUpgrades(boolean isPersisting) {
+        this._isPersistingUpgrades = isPersisting;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected boolean isPersistingUpgrades() {
+        return this._isPersistingUpgrades;
+    }
+
     /**
      * @inheritDoc
      */
@@ -206,4 +301,24 @@ public class SimpleIOManager extends AbstractIOManager {
      * The document parser used by this manager.
      */
     private DocumentParser _documentParser;
-}
\ No newline at end of file
+
+    /**
+     * The cache of parsed documents used by this manager.
+     */
+    private DocumentCache _documentCache;
+
+    /**
+     * The upgrader converting outdated documents used by this manager.
+     */
+    private DocumentUpgrader _documentUpgrader;
+
+    /**
+     * Specifies whether outdated documents are written back when loaded.
+     */
+    private boolean _isPersistingUpgrades;
+
+    /**
+     * The document renderers registered with this manager by format name.
+     */
+    private Map<String, DocumentRenderer> _documentRenderers;
+}
@@ -0,0 +1,957 @@
+package de.renew.netdoc.io.metadatastores;
+
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.DocumentParser;
+import de.renew.netdoc.io.MetadataField;
+import de.renew.netdoc.io.MetadataQuery;
+import de.renew.netdoc.io.MetadataRecord;
+import de.renew.netdoc.io.MetadataStore;
+import de.renew.netdoc.io.URLs;
+import de.renew.netdoc.io.Workers;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * Metadata store keeping one column per metadata field. Text columns are
+ * dictionary encoded, so equality and emptiness filters compare integer codes
+ * and substring filters test each distinct value once. Dictionaries count
+ * the rows using each value and drop values no longer used. Date fields
+ * additionally keep a column of timestamps.
+ */
+public class ColumnarMetadataStore implements MetadataStore {
+
+    /**
+     * Timestamp stored for fields without a valid date.
+     */
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    /**
+     * Initial number of rows allocated per column.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+
+    /**
+     * Creates a new empty ColumnarMetadataStore using the specified parser
+     * for background builds.
+     * @param parser the parser used to read documents during a build.
+     * @de.renew.require (parser != null)
+     */
+    public ColumnarMetadataStore(DocumentParser parser) {
+        assert (parser != null) : "Precondition violated: (parser != null)";
+
+        this._parser = parser;
+        this._lock = new ReentrantReadWriteLock();
+        this.clear();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void update(URL location, DocumentPart document) {
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        // extract outside of the lock
+        MetadataField[] fields = MetadataField.values();
+        String[] values = new String[fields.length];
+        for (MetadataField field : fields) {
+            String text;
+            if (field == MetadataField.TARGET_NAME) {
+                text = DocumentFiles.getTargetName(location, document);
+            } else {
+                text = DocumentParts.findPartText(document,
+                                field.getPartName());
+            }
+            values[field.ordinal()] = (text == null) ? "" : text.trim();
+        }
+
+        this._lock.writeLock().lock();
+        try {
+            String key = ColumnarMetadataStore.getKey(location);
+            Integer row = this._rows.get(key);
+            boolean isNew = (row == null);
+            if (isNew) {
+                row = Integer.valueOf(this.allocateRow());
+                this._rows.put(key, row);
+            }
+            this._locations[row.intValue()] = location;
+            for (MetadataField field : fields) {
+                String text = values[field.ordinal()];
+                int oldCode = this._codes[field.ordinal()][row.intValue()];
+                this._codes[field.ordinal()][row.intValue()] = this
+                                .encode(field, text);
+                if (!isNew) {
+                    // encode first, so that an unchanged value is kept
+                    this._dictionaries[field.ordinal()].release(oldCode);
+                }
+                if (field.isDate()) {
+                    Date date = DocumentParts.parseDate(text);
+                    this._times[field.ordinal()][row.intValue()] = (date == null)
+                                    ? ColumnarMetadataStore.NO_TIME
+                                    : date.getTime();
+                }
+            }
+        } finally {
+            this._lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void remove(URL location) {
+        assert (location != null) : "Precondition violated: (location != null)";
+
+        this._lock.writeLock().lock();
+        try {
+            Integer row = this._rows
+                            .remove(ColumnarMetadataStore.getKey(location));
+            if (row != null) {
+                this._live.clear(row.intValue());
+                this._locations[row.intValue()] = null;
+                for (int i = 0; i < this._codes.length; i++) {
+                    this._dictionaries[i].release(this._codes[i][row.intValue()]);
+                }
+            }
+        } finally {
+            this._lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void clear() {
+        this._lock.writeLock().lock();
+        try {
+            int fieldCount = MetadataField.values().length;
+            this._rows = new HashMap<String, Integer>();
+            this._live = new BitSet();
+            this._rowCount = 0;
+            this._locations = new URL[ColumnarMetadataStore.INITIAL_CAPACITY];
+            this._codes = new int[fieldCount][ColumnarMetadataStore.INITIAL_CAPACITY];
+            this._times = new long[fieldCount][];
+            this._dictionaries = new Dictionary[fieldCount];
+            for (MetadataField field : MetadataField.values()) {
+                this._dictionaries[field.ordinal()] = new Dictionary();
+                if (field.isDate()) {
+                    this._times[field.ordinal()] = new long[ColumnarMetadataStore.INITIAL_CAPACITY];
+                }
+            }
+        } finally {
+            this._lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int getDocumentCount() {
+        this._lock.readLock().lock();
+        try {
+            return this._rows.size();
+        } finally {
+            this._lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct values of the specified field held by
+     * the stored documents.
+     * @param field the field to be processed.
+     * @return the number of distinct values.
+     * @de.renew.require (field != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getValueCount(MetadataField field) {
+        assert (field != null) : "Precondition violated: (field != null)";
+
+        this._lock.readLock().lock();
+        try {
+            return this._dictionaries[field.ordinal()].getTextCount();
+        } finally {
+            this._lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Future<Integer> startBuild(final File packageRoot) {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+
+        return this.getExecutor().submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws IOException {
+                return Integer.valueOf(
+                                ColumnarMetadataStore.this.build(packageRoot));
+            }
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (this._executor != null) {
+            this._executor.shutdownNow();
+            this._executor = null;
+        }
+    }
+
+    /**
+     * Extracts the metadata of all documents found below the specified
+     * package root in the calling thread. Documents which cannot be parsed
+     * are skipped.
+     * @param packageRoot the directory to be searched for documents.
+     * @return the number of processed documents.
+     * @throws IOException if an I/O error occured while listing the
+     * documents.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int build(File packageRoot) throws IOException {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+
+        int returnValue = 0;
+        for (File file : DocumentFiles.findDocuments(packageRoot)) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            try {
+                this.update(URLs.create(file.getAbsoluteFile()),
+                                DocumentFiles.parse(file, this._parser));
+                returnValue++;
+            } catch (IOException e) {
+                // skip unreadable document
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public MetadataQuery query() {
+        return this.new Query();
+    }
+
+    /**
+     * Returns the code of the specified text in the dictionary of the
+     * specified field, adding the text if necessary. Must be called while
+     * holding the write lock.
+     * @param field the field whose dictionary is used.
+     * @param text the text to be encoded.
+     * @return the code of the text.
+     */
+    private int encode(MetadataField field, String text) {
+        return this._dictionaries[field.ordinal()].encode(text);
+    }
+
+    /**
+     * Returns a free row, growing the columns if necessary. Must be called
+     * while holding the write lock.
+     * @return the index of the allocated row.
+     */
+    private int allocateRow() {
+        int returnValue = this._live.nextClearBit(0);
+        if (returnValue >= this._locations.length) {
+            int capacity = this._locations.length * 2;
+            this._locations = Arrays.copyOf(this._locations, capacity);
+            for (int i = 0; i < this._codes.length; i++) {
+                this._codes[i] = Arrays.copyOf(this._codes[i], capacity);
+                if (this._times[i] != null) {
+                    this._times[i] = Arrays.copyOf(this._times[i], capacity);
+                }
+            }
+        }
+        this._live.set(returnValue);
+        this._rowCount = Math.max(this._rowCount, returnValue + 1);
+        return returnValue;
+    }
+
+    /**
+     * Returns the executor running background builds.
+     * @return the executor running background builds.
+     */
+    private synchronized ExecutorService getExecutor() {
+        if (this._executor == null) {
+            this._executor = Executors.newSingleThreadExecutor(
+                            Workers.createThreadFactory("NetDoc metadata build"));
+        }
+        return this._executor;
+    }
+
+    /**
+     * Returns the key identifying the document at the specified location.
+     * @param location the stream location of the document.
+     * @return the normalised file path of the location;<br>
+     * or the location itself, if it does not use the file-protocol.
+     */
+    private static String getKey(URL location) {
+        File file = URLs.toFile(location);
+        if (file == null) {
+            return location.toExternalForm();
+        }
+        return file.getAbsoluteFile().toPath().normalize().toString();
+    }
+
+    /**
+     * The parser used to read documents during a build.
+     */
+    private DocumentParser _parser;
+
+    /**
+     * The lock guarding the columns.
+     */
+    private ReadWriteLock _lock;
+
+    /**
+     * The rows of all documents. Uses normalised locations as keys.
+     */
+    private Map<String, Integer> _rows;
+
+    /**
+     * The rows currently holding a document.
+     */
+    private BitSet _live;
+
+    /**
+     * The number of rows ever allocated.
+     */
+    private int _rowCount;
+
+    /**
+     * The location column.
+     */
+    private URL[] _locations;
+
+    /**
+     * The dictionary code columns indexed by field ordinal.
+     */
+    private int[][] _codes;
+
+    /**
+     * The timestamp columns indexed by field ordinal; {@code null} for text
+     * fields.
+     */
+    private long[][] _times;
+
+    /**
+     * The dictionaries indexed by field ordinal.
+     */
+    private Dictionary[] _dictionaries;
+
+    /**
+     * The executor running background builds.
+     */
+    private ExecutorService _executor;
+
+
+    /**
+     * Dictionary mapping the distinct texts of a column to integer codes.
+     * Each text counts the rows using it; a text no longer used is dropped
+     * and its code is reused for the next new text.
+     */
+    private static class Dictionary {
+
+        /**
+         * Creates a new empty Dictionary.
+         */
+        public Dictionary() {
+            this._texts = new ArrayList<String>();
+            this._codes = new HashMap<String, Integer>();
+            this._useCounts = new int[ColumnarMetadataStore.INITIAL_CAPACITY];
+            this._freeCodes = new ArrayDeque<Integer>();
+        }
+
+        /**
+         * Returns the code of the specified text for one more row using it,
+         * adding the text if necessary.
+         * @param text the text to be encoded.
+         * @return the code of the text.
+         */
+        public int encode(String text) {
+            Integer returnValue = this._codes.get(text);
+            if (returnValue == null) {
+                returnValue = this._freeCodes.pollFirst();
+                if (returnValue == null) {
+                    returnValue = Integer.valueOf(this._texts.size());
+                    this._texts.add(text);
+                    if (this._useCounts.length < this._texts.size()) {
+                        this._useCounts = Arrays.copyOf(this._useCounts,
+                                        this._useCounts.length * 2);
+                    }
+                } else {
+                    this._texts.set(returnValue.intValue(), text);
+                }
+                this._codes.put(text, returnValue);
+            }
+            this._useCounts[returnValue.intValue()]++;
+            return returnValue.intValue();
+        }
+
+        /**
+         * Releases the specified code for one row no longer using it. The
+         * text is dropped once no row uses it.
+         * @param code the code to be released.
+         */
+        public void release(int code) {
+            if (--this._useCounts[code] == 0) {
+                this._codes.remove(this._texts.get(code));
+                this._texts.set(code, null);
+                this._freeCodes.addLast(Integer.valueOf(code));
+            }
+        }
+
+        /**
+         * Returns the code of the specified text.
+         * @param text the text to be looked up.
+         * @return the code of the text;<br>
+         * or {@code -1}, if the text is unknown.
+         */
+        public int lookup(String text) {
+            Integer returnValue = this._codes.get(text);
+            return (returnValue == null) ? -1 : returnValue.intValue();
+        }
+
+        /**
+         * Returns the text of the specified code.
+         * @param code the code to be decoded.
+         * @return the text of the code;<br>
+         * or {@code null}, if the code is currently unused.
+         */
+        public String decode(int code) {
+            return this._texts.get(code);
+        }
+
+        /**
+         * Returns the number of codes, including unused ones.
+         * @return the upper bound of the codes.
+         */
+        public int size() {
+            return this._texts.size();
+        }
+
+        /**
+         * Returns the number of distinct texts currently used.
+         * @return the number of distinct texts.
+         */
+        public int getTextCount() {
+            return this._codes.size();
+        }
+
+        /**
+         * The distinct texts indexed by their code.
+         */
+        private List<String> _texts;
+
+        /**
+         * The codes of the distinct texts.
+         */
+        private Map<String, Integer> _codes;
+
+        /**
+         * The number of rows using each code.
+         */
+        private int[] _useCounts;
+
+        /**
+         * The codes currently unused.
+         */
+        private ArrayDeque<Integer> _freeCodes;
+    }
+
+
+    /**
+     * Row filter of a query.
+     */
+    private static interface RowFilter {
+
+        /**
+         * Determines whether the specified row is accepted.
+         * @param row the row to be verified.
+         * @return {@code true}, if the row is accepted;<br>
+         * {@code false} otherwise.
+         */
+        public boolean accept(int row);
+    }
+
+
+    /**
+     * Query evaluated against the columns of this store.
+     */
+    private class Query implements MetadataQuery {
+
+        /**
+         * Creates a new unrestricted Query.
+         */
+        public Query() {
+            this._filters = new ArrayList<FilterFactory>();
+            this._sortFields = new ArrayList<MetadataField>();
+            this._sortAscending = new ArrayList<Boolean>();
+            this._limit = Integer.MAX_VALUE;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public MetadataQuery whereEquals(final MetadataField field,
+                                         final String text) {
+            assert (field != null) : "Precondition violated: (field != null)";
+            assert (text != null) : "Precondition violated: (text != null)";
+
+            this._filters.add(new FilterFactory() {
+                @Override
+                public RowFilter create() {
+                    final int code = ColumnarMetadataStore.this._dictionaries[field
+                                    .ordinal()].lookup(text.trim());
+                    final int[] codes = ColumnarMetadataStore.this._codes[field
+                                    .ordinal()];
+                    return new RowFilter() {
+                        @Override
+                        public boolean accept(int row) {
+                            return codes[row] == code;
+                        }
+                    };
+                }
+            });
+            return this;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public MetadataQuery whereContains(final MetadataField field,
+                                           final String text) {
+            assert (field != null) : "Precondition violated: (field != null)";
+            assert (text != null) : "Precondition violated: (text != null)";
+
+            final String lowerText = text.toLowerCase(Locale.ROOT);
+            return this.addDictionaryFilter(field, new TextPredicate() {
+                @Override
+                public boolean accept(String value) {
+                    return value.toLowerCase(Locale.ROOT).contains(lowerText);
+                }
+            });
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public MetadataQuery whereEmpty(MetadataField field) {
+            assert (field != null) : "Precondition violated: (field != null)";
+
+            return this.addDictionaryFilter(field, new TextPredicate() {
+                @Override
+                public boolean accept(String value) {
+                    return value.trim().isEmpty();
+                }
+            });
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public MetadataQuery whereNotEmpty(MetadataField field) {
+            assert (field != null) : "Precondition violated: (field != null)";
+
+            return this.addDictionaryFilter(field, new TextPredicate() {
+                @Override
+                public boolean accept(String value) {
+                    return !value.trim().isEmpty();
+                }
+            });
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public MetadataQuery whereSince(MetadataField field, Date date) {
+            assert (field != null) : "Precondition violated: (field != null)";
+            assert field.isDate() : "Precondition violated: field.isDate()";
+            assert (date != null) : "Precondition violated: (date != null)";
+
+            return this.addTimeFilter(field, date.getTime(), Long.MAX_VALUE);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public MetadataQuery whereBefore(MetadataField field, Date date) {
+            assert (field != null) : "Precondition violated: (field != null)";
+            assert field.isDate() : "Precondition violated: field.isDate()";
+            assert (date != null) : "Precondition violated: (date != null)";
+
+            return this.addTimeFilter(field, ColumnarMetadataStore.NO_TIME + 1,
+                            date.getTime() - 1);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public MetadataQuery orderBy(MetadataField field, boolean ascending) {
+            assert (field != null) : "Precondition violated: (field != null)";
+
+            this._sortFields.add(field);
+            this._sortAscending.add(Boolean.valueOf(ascending));
+            return this;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public MetadataQuery limit(int maxResults) {
+            assert (maxResults >= 0) : "Precondition violated: (maxResults >= 0)";
+
+            this._limit = maxResults;
+            return this;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public List<MetadataRecord> list() {
+            ColumnarMetadataStore.this._lock.readLock().lock();
+            try {
+                int[] rows = this.evaluate();
+                int size = Math.min(rows.length, this._limit);
+                List<MetadataRecord> returnValue = new ArrayList<MetadataRecord>(
+                                size);
+                for (int i = 0; i < size; i++) {
+                    returnValue.add(this.createRecord(rows[i]));
+                }
+                return returnValue;
+            } finally {
+                ColumnarMetadataStore.this._lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public int count() {
+            ColumnarMetadataStore.this._lock.readLock().lock();
+            try {
+                return this.filter().length;
+            } finally {
+                ColumnarMetadataStore.this._lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public SortedMap<String, List<MetadataRecord>> groupBy(MetadataField field) {
+            assert (field != null) : "Precondition violated: (field != null)";
+
+            ColumnarMetadataStore.this._lock.readLock().lock();
+            try {
+                SortedMap<String, List<MetadataRecord>> returnValue = new TreeMap<String, List<MetadataRecord>>();
+                int[] codes = ColumnarMetadataStore.this._codes[field
+                                .ordinal()];
+                Dictionary dictionary = ColumnarMetadataStore.this._dictionaries[field
+                                .ordinal()];
+                for (int row : this.evaluate()) {
+                    String key = dictionary.decode(codes[row]);
+                    List<MetadataRecord> group = returnValue.get(key);
+                    if (group == null) {
+                        group = new ArrayList<MetadataRecord>();
+                        returnValue.put(key, group);
+                    }
+                    group.add(this.createRecord(row));
+                }
+                return returnValue;
+            } finally {
+                ColumnarMetadataStore.this._lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public SortedMap<String, Integer> countBy(MetadataField field) {
+            assert (field != null) : "Precondition violated: (field != null)";
+
+            ColumnarMetadataStore.this._lock.readLock().lock();
+            try {
+                int[] codes = ColumnarMetadataStore.this._codes[field
+                                .ordinal()];
+                Dictionary dictionary = ColumnarMetadataStore.this._dictionaries[field
+                                .ordinal()];
+                int[] counts = new int[dictionary.size()];
+                for (int row : this.filter()) {
+                    counts[codes[row]]++;
+                }
+                SortedMap<String, Integer> returnValue = new TreeMap<String, Integer>();
+                for (int code = 0; code < counts.length; code++) {
+                    if (counts[code] > 0) {
+                        returnValue.put(dictionary.decode(code),
+                                        Integer.valueOf(counts[code]));
+                    }
+                }
+                return returnValue;
+            } finally {
+                ColumnarMetadataStore.this._lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Adds a filter accepting the rows whose dictionary value is accepted
+         * by the specified predicate. The predicate is evaluated once per
+         * distinct value.
+         * @param field the field to be filtered.
+         * @param predicate the predicate to be applied to the values.
+         * @return this query.
+         */
+        private MetadataQuery addDictionaryFilter(final MetadataField field,
+                                                  final TextPredicate predicate) {
+            this._filters.add(new FilterFactory() {
+                @Override
+                public RowFilter create() {
+                    Dictionary dictionary = ColumnarMetadataStore.this._dictionaries[field
+                                    .ordinal()];
+                    final boolean[] accepted = new boolean[dictionary.size()];
+                    for (int code = 0; code < accepted.length; code++) {
+                        String text = dictionary.decode(code);
+                        accepted[code] = (text != null)
+                                        && predicate.accept(text);
+                    }
+                    final int[] codes = ColumnarMetadataStore.this._codes[field
+                                    .ordinal()];
+                    return new RowFilter() {
+                        @Override
+                        public boolean accept(int row) {
+                            return accepted[codes[row]];
+                        }
+                    };
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Adds a filter accepting the rows whose timestamp lies in the
+         * specified inclusive range.
+         * @param field the date field to be filtered.
+         * @param min the minimum timestamp.
+         * @param max the maximum timestamp.
+         * @return this query.
+         */
+        private MetadataQuery addTimeFilter(final MetadataField field,
+                                            final long min, final long max) {
+            this._filters.add(new FilterFactory() {
+                @Override
+                public RowFilter create() {
+                    final long[] times = ColumnarMetadataStore.this._times[field
+                                    .ordinal()];
+                    return new RowFilter() {
+                        @Override
+                        public boolean accept(int row) {
+                            return (times[row] != ColumnarMetadataStore.NO_TIME)
+                                            && (times[row] >= min)
+                                            && (times[row] <= max);
+                        }
+                    };
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Returns the rows accepted by all filters in row order. Must be
+         * called while holding the read lock.
+         * @return the accepted rows.
+         */
+        private int[] filter() {
+            RowFilter[] filters = new RowFilter[this._filters.size()];
+            for (int i = 0; i < filters.length; i++) {
+                filters[i] = this._filters.get(i).create();
+            }
+            BitSet live = ColumnarMetadataStore.this._live;
+            int[] returnValue = new int[live.cardinality()];
+            int size = 0;
+            for (int row = live.nextSetBit(0); row >= 0; row = live
+                            .nextSetBit(row + 1)) {
+                boolean accepted = true;
+                for (int i = 0; (i < filters.length) && accepted; i++) {
+                    accepted = filters[i].accept(row);
+                }
+                if (accepted) {
+                    returnValue[size++] = row;
+                }
+            }
+            return Arrays.copyOf(returnValue, size);
+        }
+
+        /**
+         * Returns the accepted rows in the requested order. Must be called
+         * while holding the read lock.
+         * @return the accepted and sorted rows.
+         */
+        private int[] evaluate() {
+            int[] rows = this.filter();
+            if (this._sortFields.isEmpty()) {
+                return rows;
+            }
+            Integer[] boxed = new Integer[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                boxed[i] = Integer.valueOf(rows[i]);
+            }
+            Arrays.sort(boxed, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer row1, Integer row2) {
+                    return Query.this.compareRows(row1.intValue(),
+                                    row2.intValue());
+                }
+            });
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = boxed[i].intValue();
+            }
+            return rows;
+        }
+
+        /**
+         * Compares the specified rows using the sort keys of this query.
+         * @param row1 the first row.
+         * @param row2 the second row.
+         * @return the comparison result.
+         */
+        private int compareRows(int row1, int row2) {
+            for (int i = 0; i < this._sortFields.size(); i++) {
+                MetadataField field = this._sortFields.get(i);
+                int returnValue;
+                if (field.isDate()) {
+                    long[] times = ColumnarMetadataStore.this._times[field
+                                    .ordinal()];
+                    returnValue = Long.compare(times[row1], times[row2]);
+                } else {
+                    int[] codes = ColumnarMetadataStore.this._codes[field
+                                    .ordinal()];
+                    Dictionary dictionary = ColumnarMetadataStore.this._dictionaries[field
+                                    .ordinal()];
+                    returnValue = (codes[row1] == codes[row2]) ? 0
+                                    : String.CASE_INSENSITIVE_ORDER.compare(
+                                                    dictionary.decode(codes[row1]),
+                                                    dictionary.decode(codes[row2]));
+                }
+                if (returnValue != 0) {
+                    return this._sortAscending.get(i).booleanValue()
+                                    ? returnValue
+                                    : -returnValue;
+                }
+            }
+            return Integer.compare(row1, row2);
+        }
+
+        /**
+         * Creates the record of the specified row. Must be called while
+         * holding the read lock.
+         * @param row the row to be materialised.
+         * @return the new record.
+         */
+        private MetadataRecord createRecord(int row) {
+            MetadataField[] fields = MetadataField.values();
+            String[] values = new String[fields.length];
+            for (MetadataField field : fields) {
+                values[field.ordinal()] = ColumnarMetadataStore.this._dictionaries[field
+                                .ordinal()].decode(
+                                                ColumnarMetadataStore.this._codes[field
+                                                                .ordinal()][row]);
+            }
+            return new MetadataRecord(
+                            ColumnarMetadataStore.this._locations[row], values);
+        }
+
+        /**
+         * The filters of this query.
+         */
+        private List<FilterFactory> _filters;
+
+        /**
+         * The sort fields of this query.
+         */
+        private List<MetadataField> _sortFields;
+
+        /**
+         * The sort directions of the sort fields.
+         */
+        private List<Boolean> _sortAscending;
+
+        /**
+         * The maximum number of listed records.
+         */
+        private int _limit;
+    }
+
+
+    /**
+     * Factory creating a row filter bound to the current columns.
+     */
+    private static interface FilterFactory {
+
+        /**
+         * Creates the row filter. Must be called while holding the read lock.
+         * @return the new row filter.
+         */
+        public RowFilter create();
+    }
+
+
+    /**
+     * Predicate over the distinct texts of a column.
+     */
+    private static interface TextPredicate {
+
+        /**
+         * Determines whether the specified text is accepted.
+         * @param value the text to be verified.
+         * @return {@code true}, if the text is accepted;<br>
+         * {@code false} otherwise.
+         */
+        public boolean accept(String value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,244 @@
+package de.renew.netdoc.io.workspaceexporters;
+
+import de.renew.netdoc.io.DocumentBundle;
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.Workers;
+import de.renew.netdoc.io.WorkspaceExporter;
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+
+/**
+ * Workspace exporter importing and formatting the documents in parallel. The
+ * exported documents are streamed into the bundle in path order as soon as
+ * all preceding documents are written. At most a bounded number of documents
+ * is pending at any time, so only that many document trees and exports are
+ * held in memory regardless of the size of the package.
+ */
+public class ParallelWorkspaceExporter implements WorkspaceExporter {
+
+    /**
+     * Creates a new ParallelWorkspaceExporter using the specified Input/Output
+     * manager, one thread per available processor and twice as many pending
+     * documents.
+     * @param ioManager the Input/Output manager used to import and export the
+     * documents.
+     * @de.renew.require (ioManager != null)
+     */
+    public ParallelWorkspaceExporter(IOManager ioManager) {
+        this(ioManager, Runtime.getRuntime().availableProcessors(),
+                        2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new ParallelWorkspaceExporter using the specified values.
+     * @param ioManager the Input/Output manager used to import and export the
+     * documents. Must be safe for concurrent use.
+     * @param threadCount the number of threads exporting documents.
+     * @param maxPendingDocuments the maximum number of documents being
+     * exported or waiting to be written at the same time.
+     * @de.renew.require (ioManager != null)
+     * @de.renew.require (threadCount > 0)
+     * @de.renew.require (maxPendingDocuments > 0)
+     */
+    public ParallelWorkspaceExporter(IOManager ioManager, int threadCount,
+                                     int maxPendingDocuments) {
+        assert (ioManager != null) : "Precondition violated: (ioManager != null)";
+        assert (threadCount > 0) : "Precondition violated: (threadCount > 0)";
+        assert (maxPendingDocuments > 0) : "Precondition violated: (maxPendingDocuments > 0)";
+
+        this._ioManager = ioManager;
+        this._threadCount = threadCount;
+        this._maxPendingDocuments = maxPendingDocuments;
+    }
+
+    /**
+     * Returns the maximum number of documents pending at the same time.
+     * @return the maximum number of pending documents.
+     * @de.renew.ensure (returnValue > 0)
+     */
+    public int getMaxPendingDocuments() {
+        return this._maxPendingDocuments;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int export(File packageRoot, DocumentBundle bundle)
+                    throws IOException {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+        assert (bundle != null) : "Precondition violated: (bundle != null)";
+
+        Iterator<File> documents = DocumentFiles.findDocuments(packageRoot)
+                        .iterator();
+        Deque<Future<Export>> pending = new ArrayDeque<Future<Export>>();
+        ExecutorService executor = Workers.createPool(
+                        "NetDoc workspace export", this._threadCount);
+        int returnValue = 0;
+        try {
+            while (documents.hasNext() || !pending.isEmpty()) {
+                while (documents.hasNext()
+                                && (pending.size() < this._maxPendingDocuments)) {
+                    pending.addLast(executor.submit(
+                                    new ExportTask(packageRoot, documents.next())));
+                }
+                Export export = Workers.await(pending.removeFirst(),
+                                "Workspace export");
+                bundle.addDocument(export.getPath(), export.getTargetName(),
+                                export.getContent());
+                returnValue++;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return returnValue;
+    }
+
+    /**
+     * Exports the specified document file.
+     * @param packageRoot the package root the file is located in.
+     * @param document the document file to be exported.
+     * @return the export of the document.
+     * @throws IOException if the document could not be imported or exported.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.require (document != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected Export exportDocument(File packageRoot, File document)
+                    throws IOException {
+        DocumentPart part = DocumentFiles.importDocument(document,
+                        this._ioManager);
+        StringWriter writer = new StringWriter();
+        this._ioManager.exportDocumentPartTo(part, writer);
+        return new Export(DocumentFiles.getRelativePath(packageRoot, document),
+                        part.getTarget().getName(), writer.toString());
+    }
+
+    /**
+     * The Input/Output manager used to import and export the documents.
+     */
+    private IOManager _ioManager;
+
+    /**
+     * The number of threads exporting documents.
+     */
+    private int _threadCount;
+
+    /**
+     * The maximum number of documents pending at the same time.
+     */
+    private int _maxPendingDocuments;
+
+
+    /**
+     * Exported document waiting to be added to the bundle.
+     */
+    protected static class Export {
+
+        /**
+         * Creates a new Export using the specified values.
+         * @param path the document path relative to the package root.
+         * @param targetName the name of the documentation target.
+         * @param content the exported document.
+         * @de.renew.require (path != null)
+         * @de.renew.require (targetName != null)
+         * @de.renew.require (content != null)
+         */
+        public Export(String path, String targetName, String content) {
+            this._path = path;
+            this._targetName = targetName;
+            this._content = content;
+        }
+
+        /**
+         * Returns the document path relative to the package root.
+         * @return the document path.
+         */
+        public String getPath() {
+            return this._path;
+        }
+
+        /**
+         * Returns the name of the documentation target.
+         * @return the target name.
+         */
+        public String getTargetName() {
+            return this._targetName;
+        }
+
+        /**
+         * Returns the exported document.
+         * @return the exported document.
+         */
+        public String getContent() {
+            return this._content;
+        }
+
+        /**
+         * The document path relative to the package root.
+         */
+        private String _path;
+
+        /**
+         * The name of the documentation target.
+         */
+        private String _targetName;
+
+        /**
+         * The exported document.
+         */
+        private String _content;
+    }
+
+
+    /**
+     * Task exporting a single document file.
+     */
+    private class ExportTask implements Callable<Export> {
+
+        /**
+         * Creates a new ExportTask using the specified values.
+         * @param packageRoot the package root the file is located in.
+         * @param document the document file to be exported.
+         */
+        public ExportTask(File packageRoot, File document) {
+            this._packageRoot = packageRoot;
+            this._document = document;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public Export call() throws IOException {
+            try {
+                return ParallelWorkspaceExporter.this
+                                .exportDocument(this._packageRoot, this._document);
+            } catch (IOException e) {
+                throw new IOException("Cannot export " + this._document + ": "
+                                + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * The package root the file is located in.
+         */
+        private File _packageRoot;
+
+        /**
+         * The document file to be exported.
+         */
+        private File _document;
+    }
+}
\ No newline at end of file
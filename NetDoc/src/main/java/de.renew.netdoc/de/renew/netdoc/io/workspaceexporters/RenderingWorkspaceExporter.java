@@ -0,0 +1,86 @@
+package de.renew.netdoc.io.workspaceexporters;
+
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.DocumentRenderer;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+
+
+/**
+ * Workspace exporter rendering all documents below a package root into a
+ * single output of a publishing format, e.g. one HTML page for a wiki. The
+ * documents are imported and rendered one after the other in path order and
+ * streamed to the writer, so only a single document tree is held in memory
+ * at any time.
+ */
+public class RenderingWorkspaceExporter {
+
+    /**
+     * Creates a new RenderingWorkspaceExporter using the specified values.
+     * @param ioManager the Input/Output manager used to import the documents.
+     * @param renderer the renderer producing the output format.
+     * @de.renew.require (ioManager != null)
+     * @de.renew.require (renderer != null)
+     */
+    public RenderingWorkspaceExporter(IOManager ioManager,
+                                      DocumentRenderer renderer) {
+        assert (ioManager != null) : "Precondition violated: (ioManager != null)";
+        assert (renderer != null) : "Precondition violated: (renderer != null)";
+
+        this._ioManager = ioManager;
+        this._renderer = renderer;
+    }
+
+    /**
+     * Returns the renderer producing the output format of this exporter.
+     * @return the document renderer.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DocumentRenderer getRenderer() {
+        return this._renderer;
+    }
+
+    /**
+     * Renders all documents below the specified package root to the
+     * specified writer. The output is titled by the name of the package
+     * root. The writer is flushed but not closed.
+     * @param packageRoot the package root directory to be searched.
+     * @param writer the writer the output is written to.
+     * @return the number of documents rendered.
+     * @throws IOException if a document could not be imported or the output
+     * could not be written.
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.require (writer != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int export(File packageRoot, Writer writer) throws IOException {
+        assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+        assert (writer != null) : "Precondition violated: (writer != null)";
+
+        int returnValue = 0;
+        this._renderer.beginOutput(packageRoot.getName(), writer);
+        for (File document : DocumentFiles.findDocuments(packageRoot)) {
+            DocumentPart part = DocumentFiles.importDocument(document,
+                            this._ioManager);
+            this._renderer.renderDocument(part, writer);
+            returnValue++;
+        }
+        this._renderer.endOutput(writer);
+        writer.flush();
+        return returnValue;
+    }
+
+    /**
+     * The Input/Output manager used to import the documents.
+     */
+    private IOManager _ioManager;
+
+    /**
+     * The renderer producing the output format.
+     */
+    private DocumentRenderer _renderer;
+}
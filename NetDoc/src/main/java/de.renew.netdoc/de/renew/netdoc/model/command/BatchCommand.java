@@ -0,0 +1,23 @@
+package de.renew.netdoc.model.command;
+
+
+/**
+ * NetDoc Command consisting of a sequence of independent sub-commands, e.g.
+ * one per open document. Executing the command executes its sub-commands in
+ * order. A {@link CommandExecutor} may execute the sub-commands in batches,
+ * reporting progress and checking for cancellation in between.
+ * <p>A {@link de.renew.netdoc.model.command.exceptions.CommandCancelException}
+ * thrown by a sub-command stops the remaining sub-commands without failing
+ * the command.</p>
+ */
+public interface BatchCommand extends Command {
+
+    /**
+     * Creates the sub-commands to be executed by this command, in execution
+     * order.
+     * @return the new sub-commands.
+     * @de.renew.require this.isExecutable()
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Command[] createSubCommands();
+}
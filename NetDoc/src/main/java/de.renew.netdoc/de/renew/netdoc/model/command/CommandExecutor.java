@@ -0,0 +1,23 @@
+package de.renew.netdoc.model.command;
+
+
+/**
+ * Executor running NetDoc commands asynchronously. A command is executed
+ * step by step: the sub-commands of a {@link BatchCommand} are the steps of
+ * that command, any other command is a single step.
+ */
+public interface CommandExecutor {
+
+    /**
+     * Submits the specified command for execution.
+     * @param command the command to be executed.
+     * @param listener the listener informed about the progress of the
+     * command; or {@code null}, if no listener is to be informed.
+     * @return the future of the command.
+     * @de.renew.require (command != null)
+     * @de.renew.require command.isExecutable()
+     * @de.renew.ensure (returnValue != null)
+     */
+    public CommandFuture submit(Command command,
+                                CommandProgressListener listener);
+}
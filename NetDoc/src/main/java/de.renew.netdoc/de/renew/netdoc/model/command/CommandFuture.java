@@ -0,0 +1,47 @@
+package de.renew.netdoc.model.command;
+
+import java.util.concurrent.Future;
+
+
+/**
+ * <p>Pending result of a command submitted to a {@link CommandExecutor}.</p>
+ * <p>Cancellation is cooperative: cancelling completes the future at once,
+ * but a sub-command already running is finished before the execution
+ * stops. {@link #get()} throws an {@link java.util.concurrent.ExecutionException}
+ * caused by the {@link CommandException} of a failed command.</p>
+ */
+public interface CommandFuture extends Future<Void> {
+
+    /**
+     * Returns the command executed.
+     * @return the command.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Command getCommand();
+
+    /**
+     * Returns the total number of steps of the command, i.e. the number of
+     * its sub-commands.
+     * @return the total work;<br>
+     * or {@code 0}, if the execution has not started yet.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getTotalWork();
+
+    /**
+     * Returns the number of steps of the command completed so far.
+     * @return the completed work.
+     * @de.renew.ensure (returnValue >= 0)
+     * @de.renew.ensure (returnValue <= this.getTotalWork())
+     */
+    public int getCompletedWork();
+
+    /**
+     * Returns the time the command has been executing, including the pauses
+     * between its batches.
+     * @return the elapsed time in nanoseconds; the total time, once the
+     * command has stopped.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getElapsedNanos();
+}
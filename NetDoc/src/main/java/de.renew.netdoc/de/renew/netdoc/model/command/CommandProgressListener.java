@@ -0,0 +1,27 @@
+package de.renew.netdoc.model.command;
+
+
+/**
+ * Listener informed about the progress of commands submitted to a
+ * {@link CommandExecutor}.
+ */
+public interface CommandProgressListener {
+
+    /**
+     * Informs this listener that further work of the specified command has
+     * been completed. Notifications may be coalesced, so the completed work
+     * may have grown by more than one step.
+     * @param future the future of the command.
+     * @de.renew.require (future != null)
+     */
+    public void progressChanged(CommandFuture future);
+
+    /**
+     * Informs this listener that the specified command has stopped, because
+     * it completed, failed or has been cancelled.
+     * @param future the future of the command.
+     * @de.renew.require (future != null)
+     * @de.renew.require future.isDone()
+     */
+    public void commandFinished(CommandFuture future);
+}
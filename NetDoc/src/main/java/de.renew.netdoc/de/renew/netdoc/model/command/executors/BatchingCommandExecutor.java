@@ -0,0 +1,475 @@
+package de.renew.netdoc.model.command.executors;
+
+import de.renew.netdoc.model.command.BatchCommand;
+import de.renew.netdoc.model.command.Command;
+import de.renew.netdoc.model.command.CommandException;
+import de.renew.netdoc.model.command.CommandExecutor;
+import de.renew.netdoc.model.command.CommandFuture;
+import de.renew.netdoc.model.command.CommandProgressListener;
+import de.renew.netdoc.model.command.exceptions.CommandCancelException;
+import de.renew.netdoc.model.event.DeliveryMode;
+import de.renew.netdoc.monitor.NetDocMetrics;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Command executor running the steps of a command in batches of a fixed
+ * size. Each batch is a separate task of the execution mode; between two
+ * batches, progress is reported and cancellation is checked. Executing on
+ * the event dispatch thread therefore keeps the GUI responsive while the
+ * sub-commands, which may open windows, still run on that thread.
+ * <p>The latency of each step and of each command is recorded by
+ * {@link NetDocMetrics#getCommandLatency(String)} under the command name.</p>
+ */
+public class BatchingCommandExecutor implements CommandExecutor {
+
+    /**
+     * The default number of steps executed per batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 4;
+
+    /**
+     * Creates a new BatchingCommandExecutor using the specified modes and
+     * the default batch size.
+     * @param executionMode the mode executing the batches.
+     * @param progressMode the mode delivering the progress notifications.
+     * @de.renew.require (executionMode != null)
+     * @de.renew.require (progressMode != null)
+     */
+    public BatchingCommandExecutor(DeliveryMode executionMode,
+                                   DeliveryMode progressMode) {
+        this(executionMode, progressMode,
+                        BatchingCommandExecutor.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new BatchingCommandExecutor using the specified values.
+     * @param executionMode the mode executing the batches.
+     * @param progressMode the mode delivering the progress notifications.
+     * @param batchSize the maximum number of steps executed per batch.
+     * @de.renew.require (executionMode != null)
+     * @de.renew.require (progressMode != null)
+     * @de.renew.require (batchSize > 0)
+     */
+    public BatchingCommandExecutor(DeliveryMode executionMode,
+                                   DeliveryMode progressMode, int batchSize) {
+        assert (executionMode != null) : "Precondition violated: (executionMode != null)";
+        assert (progressMode != null) : "Precondition violated: (progressMode != null)";
+        assert (batchSize > 0) : "Precondition violated: (batchSize > 0)";
+
+        this._executionMode = executionMode;
+        this._progressMode = progressMode;
+        this._batchSize = batchSize;
+    }
+
+    /**
+     * Returns the maximum number of steps executed per batch.
+     * @return the batch size.
+     * @de.renew.ensure (returnValue > 0)
+     */
+    public int getBatchSize() {
+        return this._batchSize;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CommandFuture submit(Command command,
+                                CommandProgressListener listener) {
+        assert (command != null) : "Precondition violated: (command != null)";
+        assert command.isExecutable() : "Precondition violated: command.isExecutable()";
+
+        Execution returnValue = new Execution(command, listener);
+        this._executionMode.execute(returnValue);
+        return returnValue;
+    }
+
+    /**
+     * The mode executing the batches.
+     */
+    private DeliveryMode _executionMode;
+
+    /**
+     * The mode delivering the progress notifications.
+     */
+    private DeliveryMode _progressMode;
+
+    /**
+     * The maximum number of steps executed per batch.
+     */
+    private int _batchSize;
+
+
+    /**
+     * Execution of a single command, running one batch per call of
+     * {@link #run()}.
+     */
+    private class Execution implements CommandFuture, Runnable {
+
+        /**
+         * Creates a new Execution of the specified command.
+         * @param command the command to be executed.
+         * @param listener the listener to be informed; or {@code null}.
+         */
+        public Execution(Command command, CommandProgressListener listener) {
+            this._command = command;
+            this._listener = listener;
+            this._done = new CountDownLatch(1);
+            this._isProgressPending = new AtomicBoolean();
+        }
+
+        /**
+         * Executes the next batch of steps and schedules the following one.
+         * Executes all batches at once, if the execution mode is synchronous.
+         */
+        @Override
+        public void run() {
+            if (this._steps == null) {
+                Command[] steps = (this._command instanceof BatchCommand)
+                                ? ((BatchCommand) this._command)
+                                                .createSubCommands()
+                                : new Command[] { this._command };
+                synchronized (this) {
+                    this._startNanos = System.nanoTime();
+                    this._steps = steps;
+                    this._totalWork = steps.length;
+                }
+            }
+            boolean isFinished;
+            do {
+                isFinished = this.runBatch();
+                this.fireProgressChanged();
+            } while (!isFinished
+                            && BatchingCommandExecutor.this._executionMode
+                                            .isSynchronous());
+            if (isFinished) {
+                this.fireCommandFinished();
+            } else {
+                BatchingCommandExecutor.this._executionMode.execute(this);
+            }
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public Command getCommand() {
+            return this._command;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public int getTotalWork() {
+            return this._totalWork;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public int getCompletedWork() {
+            return this._completedWork;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public synchronized long getElapsedNanos() {
+            if (this._steps == null) {
+                return 0L;
+            }
+            if (this._state != Execution.STATE_RUNNING) {
+                return this._elapsedNanos;
+            }
+            return System.nanoTime() - this._startNanos;
+        }
+
+        /**
+         * Requests the execution to stop before its next step. The future is
+         * completed at once, while a step already running is finished.
+         * @param mayInterruptIfRunning ignored, since running steps are never
+         * interrupted.
+         * @return {@code true}, if the command has been cancelled;<br>
+         * {@code false}, if it had already stopped.
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!this.finish(Execution.STATE_CANCELLED, null)) {
+                return false;
+            }
+            this._isCancelRequested = true;
+            return true;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public synchronized boolean isCancelled() {
+            return this._state == Execution.STATE_CANCELLED;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public boolean isDone() {
+            return this._done.getCount() == 0;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public Void get() throws InterruptedException, ExecutionException {
+            this._done.await();
+            return this.getResult();
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public Void get(long timeout, TimeUnit unit)
+                        throws InterruptedException, ExecutionException,
+                        TimeoutException {
+            if (!this._done.await(timeout, unit)) {
+                throw new TimeoutException(this._command.getName());
+            }
+            return this.getResult();
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public String toString() {
+            return "CommandFuture[" + this._command.getName() + ", "
+                            + this._completedWork + "/" + this._totalWork
+                            + "]";
+        }
+
+        /**
+         * Executes the next batch of steps.
+         * @return {@code true}, if the execution has stopped;<br>
+         * {@code false}, if steps remain to be executed.
+         */
+        private boolean runBatch() {
+            boolean isTimed = (this._command instanceof BatchCommand);
+            int end = Math.min(this._completedWork
+                            + BatchingCommandExecutor.this._batchSize,
+                            this._steps.length);
+            while (this._completedWork < end) {
+                if (this._isCancelRequested) {
+                    this.stop(Execution.STATE_CANCELLED, null);
+                    return true;
+                }
+                Command step = this._steps[this._completedWork];
+                long startNanos = System.nanoTime();
+                boolean succeeded = false;
+                try {
+                    step.execute();
+                    succeeded = true;
+                } catch (CommandCancelException e) {
+                    this.stop(Execution.STATE_CANCELLED, null);
+                    return true;
+                } catch (CommandException e) {
+                    this.stop(Execution.STATE_FAILED, e);
+                    return true;
+                } catch (RuntimeException e) {
+                    this.stop(Execution.STATE_FAILED,
+                                    new CommandException(step, e));
+                    return true;
+                } finally {
+                    if (isTimed) {
+                        NetDocMetrics.recordLatency(NetDocMetrics
+                                        .getCommandLatency(step.getName()),
+                                        startNanos, succeeded);
+                    }
+                }
+                this._completedWork++;
+            }
+            if (this._completedWork < this._steps.length) {
+                return false;
+            }
+            this.stop(Execution.STATE_COMPLETED, null);
+            return true;
+        }
+
+        /**
+         * Stops this execution in the specified state, unless already
+         * cancelled, and records the latency of the command.
+         * @param state the final state.
+         * @param exception the exception of a failed command; or
+         * {@code null}.
+         */
+        private void stop(int state, CommandException exception) {
+            this.finish(state, exception);
+            NetDocMetrics.recordLatency(NetDocMetrics.getCommandLatency(
+                            this._command.getName()), this._startNanos,
+                            state == Execution.STATE_COMPLETED);
+        }
+
+        /**
+         * Completes this future in the specified state, unless already
+         * completed.
+         * @param state the final state.
+         * @param exception the exception of a failed command; or
+         * {@code null}.
+         * @return {@code true}, if this future has been completed;<br>
+         * {@code false}, if it had already been completed.
+         */
+        private synchronized boolean finish(int state,
+                                            CommandException exception) {
+            if (this._state != Execution.STATE_RUNNING) {
+                return false;
+            }
+            this._state = state;
+            this._exception = exception;
+            this._elapsedNanos = (this._steps == null) ? 0L
+                            : System.nanoTime() - this._startNanos;
+            this._done.countDown();
+            return true;
+        }
+
+        /**
+         * Returns the result of this completed future.
+         * @return {@code null}.
+         * @throws ExecutionException if the command failed.
+         * @throws CancellationException if the command has been cancelled.
+         */
+        private synchronized Void getResult() throws ExecutionException {
+            if (this._state == Execution.STATE_CANCELLED) {
+                throw new CancellationException(this._command.getName());
+            }
+            if (this._state == Execution.STATE_FAILED) {
+                throw new ExecutionException(this._exception);
+            }
+            return null;
+        }
+
+        /**
+         * Informs the listener about the progress of this execution, unless
+         * a notification is still pending.
+         */
+        private void fireProgressChanged() {
+            if ((this._listener == null)
+                            || !this._isProgressPending.compareAndSet(false,
+                                            true)) {
+                return;
+            }
+            BatchingCommandExecutor.this._progressMode.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Execution.this._isProgressPending.set(false);
+                    Execution.this._listener.progressChanged(Execution.this);
+                }
+            });
+        }
+
+        /**
+         * Informs the listener that this execution has stopped.
+         */
+        private void fireCommandFinished() {
+            if (this._listener == null) {
+                return;
+            }
+            BatchingCommandExecutor.this._progressMode.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Execution.this._listener.commandFinished(Execution.this);
+                }
+            });
+        }
+
+        /**
+         * State of an execution still running.
+         */
+        private static final int STATE_RUNNING = 0;
+
+        /**
+         * State of an execution having executed all steps.
+         */
+        private static final int STATE_COMPLETED = 1;
+
+        /**
+         * State of an execution stopped by a failed step.
+         */
+        private static final int STATE_FAILED = 2;
+
+        /**
+         * State of a cancelled execution.
+         */
+        private static final int STATE_CANCELLED = 3;
+
+        /**
+         * The command executed.
+         */
+        private Command _command;
+
+        /**
+         * The listener to be informed; or {@code null}.
+         */
+        private CommandProgressListener _listener;
+
+        /**
+         * The steps of the command; {@code null} until the execution starts.
+         */
+        private Command[] _steps;
+
+        /**
+         * The number of steps.
+         */
+        private volatile int _totalWork;
+
+        /**
+         * The number of steps completed.
+         */
+        private volatile int _completedWork;
+
+        /**
+         * Specifies whether the execution is to stop before its next step.
+         */
+        private volatile boolean _isCancelRequested;
+
+        /**
+         * The state of this execution.
+         */
+        private int _state;
+
+        /**
+         * The exception of a failed command; or {@code null}.
+         */
+        private CommandException _exception;
+
+        /**
+         * The {@link System#nanoTime()} the execution started.
+         */
+        private long _startNanos;
+
+        /**
+         * The total execution time, once stopped.
+         */
+        private long _elapsedNanos;
+
+        /**
+         * Released once this future is completed.
+         */
+        private CountDownLatch _done;
+
+        /**
+         * Specifies whether a progress notification is waiting for delivery.
+         */
+        private AtomicBoolean _isProgressPending;
+    }
+}
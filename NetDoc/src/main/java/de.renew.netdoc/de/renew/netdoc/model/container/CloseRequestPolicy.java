@@ -0,0 +1,40 @@
+package de.renew.netdoc.model.container;
+
+import de.renew.netdoc.model.document.Document;
+
+
+/**
+ * Policy answering the requests of a container manager whether a modified
+ * document is to be saved before it is closed. Interactive managers ask the
+ * user, other managers answer without a user being present.
+ */
+public interface CloseRequestPolicy {
+
+    /**
+     * Answer given if the close operation is to be canceled.
+     */
+    public static final Object ANSWER_CANCEL = "cancel";
+
+    /**
+     * Answer given if the document is to be closed without saving.
+     */
+    public static final Object ANSWER_NO = "no";
+
+    /**
+     * Answer given if the document is to be saved before closing.
+     */
+    public static final Object ANSWER_YES = "yes";
+
+
+    /**
+     * Determines whether the specified document is to be saved before closing
+     * it.
+     * @param modifiedDocument the document to be saved.
+     * @return {@link #ANSWER_YES}, if the document is to be saved;<br>
+     * {@link #ANSWER_NO}, if the changes are to be discarded;<br>
+     * {@link #ANSWER_CANCEL}, if the close operation is to be canceled.
+     * @de.renew.require (modifiedDocument != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Object requestSaveDocument(Document modifiedDocument);
+}
\ No newline at end of file
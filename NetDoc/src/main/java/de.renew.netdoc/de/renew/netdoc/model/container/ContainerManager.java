@@ -1,5 +1,9 @@
 package de.renew.netdoc.model.container;
 
+import de.renew.netdoc.io.DocumentIndex;
+import de.renew.netdoc.io.DocumentLinter;
+import de.renew.netdoc.io.MetadataStore;
+import de.renew.netdoc.io.DocumentSearchResult;
 import de.renew.netdoc.io.IOManager;
 import de.renew.netdoc.model.container.event.CloseRequestListener;
 import de.renew.netdoc.model.container.event.DocumentContainerListener;
@@ -10,6 +14,7 @@ import de.renew.netdoc.model.doctarget.DocTarget;
 
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.List;
 
 
 /**
@@ -108,6 +113,42 @@ public interface ContainerManager {
      */
     public IOManager getIOManager();
 
+    /**
+     * Returns the full-text index used by this manager.
+     * @return the document index used by this manager;<br>
+     * or {@code null}, if no index is used.
+     */
+    public DocumentIndex getDocumentIndex();
+
+    /**
+     * Searches the documents known to the index of this manager for the
+     * specified query. The results are ordered by descending relevance.
+     * @param query the query to be answered, see {@link
+     * DocumentIndex#search(String,int)}.
+     * @param maxResults the maximum number of results to be returned.
+     * @return a list containing {@link DocumentSearchResult} instances;<br>
+     * or an empty list, if no index is used.
+     * @de.renew.require (query != null)
+     * @de.renew.require (maxResults >= 0)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public List<DocumentSearchResult> searchDocuments(String query,
+                                                      int maxResults);
+
+    /**
+     * Returns the metadata store used by this manager.
+     * @return the metadata store used by this manager;<br>
+     * or {@code null}, if no metadata store is used.
+     */
+    public MetadataStore getMetadataStore();
+
+    /**
+     * Returns the linter checking the documents of this manager.
+     * @return the document linter used by this manager;<br>
+     * or {@code null}, if no linter is used.
+     */
+    public DocumentLinter getDocumentLinter();
+
     /**
      * Returns the NetDoc document currently focussed by this manager.
      * @return the NetDoc document currently focussed by this manager;<br>
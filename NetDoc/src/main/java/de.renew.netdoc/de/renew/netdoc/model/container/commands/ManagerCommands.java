@@ -1,5 +1,7 @@
 package de.renew.netdoc.model.container.commands;
 
+import de.renew.netdoc.io.DocumentCatalogEntry;
+import de.renew.netdoc.model.command.BatchCommand;
 import de.renew.netdoc.model.command.Command;
 import de.renew.netdoc.model.command.CommandException;
 import de.renew.netdoc.model.command.exceptions.CommandCancelException;
@@ -13,6 +15,12 @@ import de.renew.netdoc.model.container.commands.manager.CurrentTargetCommand;
 import de.renew.netdoc.model.container.commands.manager.SingleDocumentCommand;
 import de.renew.netdoc.model.container.commands.manager.SingleTargetCommand;
 import de.renew.netdoc.model.doctarget.DocTarget;
+import de.renew.netdoc.model.doctarget.targets.FileTarget;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 
 /**
@@ -74,6 +82,11 @@ public abstract class ManagerCommands {
      */
     private static final String NAME_SAVE_ALL_DOCUMENTS = "Save All Documents";
 
+    /**
+     * Name of the Open-Catalog-Documents command.
+     */
+    private static final String NAME_OPEN_CATALOG_DOCUMENTS = "Open Catalog Documents";
+
 
     /**
      * Returns a Close-Current-Document command for the specified container
@@ -240,6 +253,108 @@ public abstract class ManagerCommands {
         return returnValue;
     }
 
+    /**
+     * Returns an Open-Catalog-Documents command opening the documents of the
+     * specified catalog entries for the specified container manager.
+     * @param containerManager the container manager to be used by the command.
+     * @param packageRoot the package root directory the entry paths are
+     * relative to.
+     * @param entries the catalog entries of the documents to be opened.
+     * @return the command.
+     * @de.renew.require (containerManager != null)
+     * @de.renew.require (packageRoot != null)
+     * @de.renew.require (entries != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static Command getOpenCatalogDocuments(ContainerManager containerManager,
+                                                  File packageRoot,
+                                                  Collection<DocumentCatalogEntry> entries) {
+        Command returnValue = new OpenCatalogDocuments(containerManager,
+                        packageRoot, entries);
+        assert (returnValue != null) : "Postcondition violated: (returnValue != null)";
+
+        return returnValue;
+    }
+
+    /**
+     * Open-Catalog-Documents Command. Opens the documents listed by catalog
+     * entries without their drawings, each by a {@link FileTarget} for its
+     * document file.
+     */
+    public static class OpenCatalogDocuments extends ManagerCommand
+                    implements BatchCommand {
+
+        /**
+         * Creates a new Open-Catalog-Documents Command using the specified
+         * container manager, package root and catalog entries.
+         * @param containerManager the container manager to execute the
+         * command on.
+         * @param packageRoot the package root directory the entry paths are
+         * relative to.
+         * @param entries the catalog entries of the documents to be opened.
+         * @de.renew.require (containerManager != null)
+         * @de.renew.require (packageRoot != null)
+         * @de.renew.require (entries != null)
+         */
+        public OpenCatalogDocuments(ContainerManager containerManager,
+                                    File packageRoot,
+                                    Collection<DocumentCatalogEntry> entries) {
+            super(containerManager);
+            assert (packageRoot != null) : "Precondition violated: (packageRoot != null)";
+            assert (entries != null) : "Precondition violated: (entries != null)";
+
+            this._targets = new ArrayList<DocTarget>(entries.size());
+            for (DocumentCatalogEntry entry : entries) {
+                this._targets.add(new FileTarget(
+                                new File(packageRoot, entry.getPath())));
+            }
+        }
+
+        /**
+         * Creates one command per catalog entry.
+         * @inheritDoc
+         */
+        @Override
+        public Command[] createSubCommands() {
+            Command[] returnValue = new Command[this._targets.size()];
+            for (int index = 0; index < returnValue.length; index++) {
+                returnValue[index] = new OpenDocumentByTarget(
+                                this.getContainerManager(),
+                                this._targets.get(index));
+            }
+            return returnValue;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected void executeImpl() throws CommandException {
+            Command[] subCommands = this.createSubCommands();
+
+            try {
+                for (int index = 0; index < subCommands.length; index++) {
+                    subCommands[index].execute();
+                }
+            } catch (CommandCancelException e) {
+                // do not throw exception on command cancel
+            }
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected String getNameImpl() {
+            return ManagerCommands.NAME_OPEN_CATALOG_DOCUMENTS;
+        }
+
+        /**
+         * The targets of the documents to be opened.
+         */
+        private List<DocTarget> _targets;
+    }
+
     /**
      * Close-Document Command.
      */
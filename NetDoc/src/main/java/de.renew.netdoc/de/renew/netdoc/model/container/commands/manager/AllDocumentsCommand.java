@@ -1,5 +1,6 @@
 package de.renew.netdoc.model.container.commands.manager;
 
+import de.renew.netdoc.model.command.BatchCommand;
 import de.renew.netdoc.model.command.Command;
 import de.renew.netdoc.model.command.CommandException;
 import de.renew.netdoc.model.command.exceptions.CommandCancelException;
@@ -15,7 +16,8 @@ import de.renew.netdoc.model.container.commands.ManagerCommand;
  * <a href="mailto:1bracker@informatik.uni-hamburg.de">
  * 1bracker@informatik.uni-hamburg.de</a>
  */
-public abstract class AllDocumentsCommand extends ManagerCommand {
+public abstract class AllDocumentsCommand extends ManagerCommand
+                implements BatchCommand {
 
     /**
      * Creates a new All-Documents Command using the specified container
@@ -28,16 +30,31 @@ public abstract class AllDocumentsCommand extends ManagerCommand {
     }
 
     /**
+     * Creates one command per document held by the container manager at the
+     * time of the call.
      * @inheritDoc
      */
     @Override
-    protected void executeImpl() throws CommandException {
+    public Command[] createSubCommands() {
         Document[] documents = this.getContainerManager().getDocumentMap()
                         .getDocuments().toArray(new Document[0]);
+        Command[] returnValue = new Command[documents.length];
+        for (int index = 0; index < documents.length; index++) {
+            returnValue[index] = this.createCommand(documents[index]);
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void executeImpl() throws CommandException {
+        Command[] subCommands = this.createSubCommands();
 
         try {
-            for (int index = 0; index < documents.length; index++) {
-                this.createCommand(documents[index]).execute();
+            for (int index = 0; index < subCommands.length; index++) {
+                subCommands[index].execute();
             }
         } catch (CommandCancelException e) {
             // do not throw exception on command cancel
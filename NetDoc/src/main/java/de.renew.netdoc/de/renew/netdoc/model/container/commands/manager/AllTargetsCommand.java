@@ -1,5 +1,6 @@
 package de.renew.netdoc.model.container.commands.manager;
 
+import de.renew.netdoc.model.command.BatchCommand;
 import de.renew.netdoc.model.command.Command;
 import de.renew.netdoc.model.command.CommandException;
 import de.renew.netdoc.model.command.exceptions.CommandCancelException;
@@ -15,7 +16,8 @@ import de.renew.netdoc.model.doctarget.DocTarget;
  * <a href="mailto:1bracker@informatik.uni-hamburg.de">
  * 1bracker@informatik.uni-hamburg.de</a>
  */
-public abstract class AllTargetsCommand extends ManagerCommand {
+public abstract class AllTargetsCommand extends ManagerCommand
+                implements BatchCommand {
 
     /**
      * Creates a new All-Targets Command using the specified container
@@ -28,16 +30,31 @@ public abstract class AllTargetsCommand extends ManagerCommand {
     }
 
     /**
+     * Creates one command per target held by the container manager at the
+     * time of the call.
      * @inheritDoc
      */
     @Override
-    protected void executeImpl() throws CommandException {
+    public Command[] createSubCommands() {
         DocTarget[] targets = this.getContainerManager().getDocumentMap()
                         .getTargets().toArray(new DocTarget[0]);
+        Command[] returnValue = new Command[targets.length];
+        for (int index = 0; index < targets.length; index++) {
+            returnValue[index] = this.createCommand(targets[index]);
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void executeImpl() throws CommandException {
+        Command[] subCommands = this.createSubCommands();
 
         try {
-            for (int index = 0; index < targets.length; index++) {
-                this.createCommand(targets[index]).execute();
+            for (int index = 0; index < subCommands.length; index++) {
+                subCommands[index].execute();
             }
         } catch (CommandCancelException e) {
             // do not throw exception on command cancel
@@ -1,16 +1,18 @@
 package de.renew.netdoc.model.container.containers;
 
 import de.renew.netdoc.model.container.event.DocumentContainerEvent;
+import de.renew.netdoc.model.container.event.DocumentContainerHandler;
 import de.renew.netdoc.model.container.event.DocumentContainerListener;
 import de.renew.netdoc.model.document.Document;
 import de.renew.netdoc.model.document.event.DocumentChangeEvent;
+import de.renew.netdoc.model.document.event.DocumentChangeHandler;
 import de.renew.netdoc.model.document.event.DocumentChangeListener;
 import de.renew.netdoc.model.container.ContainerException;
 import de.renew.netdoc.model.container.DocumentContainer;
+import de.renew.netdoc.model.event.ListenerList;
+import de.renew.netdoc.monitor.NetDocMetrics;
 
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Enumeration;
 
 
@@ -27,8 +29,10 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
      * Creates a new AbstractDocumentContainer.
      */
     public AbstractDocumentContainer() {
-        this._documentChangeListeners = new DocumentChangeListener[0];
-        this._documentContainerListeners = new DocumentContainerListener[0];
+        this._documentChangeListeners = new ListenerList<DocumentChangeListener>(
+                        DocumentChangeListener.class);
+        this._documentContainerListeners = new ListenerList<DocumentContainerListener>(
+                        DocumentContainerListener.class);
     }
 
     /**
@@ -220,11 +224,10 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
      * @de.renew.require (event != null)
      */
     protected void fireDocumentChangeEvent(DocumentChangeEvent event) {
-        Enumeration<DocumentChangeListener> listenerEnum = this
-                        .getDocumentChangeListeners();
-        while (listenerEnum.hasMoreElements()) {
-            (listenerEnum.nextElement()).documentChanged(event);
-        }
+        NetDocMetrics.recordEvent(NetDocMetrics.EVENT_DOCUMENT_CHANGED,
+                        this._documentChangeListeners.fire(
+                                        DocumentChangeHandler.DOCUMENT_CHANGED,
+                                        event));
     }
 
     /**
@@ -234,38 +237,12 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
      * @de.renew.require (event != null)
      */
     protected void fireDocumentContainerEvent(DocumentContainerEvent event) {
-        Enumeration<DocumentContainerListener> listenerEnum = this
-                        .getDocumentContainerListeners();
-
-        if (event.getType().equals(DocumentContainerEvent.CONTAINER_CLOSED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).containerClosed(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.CONTAINER_CLOSING)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).containerClosing(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.CONTAINER_OPENED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).containerOpened(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.DOCUMENT_CLOSED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).documentClosed(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.DOCUMENT_CLOSING)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).documentClosing(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.DOCUMENT_OPENED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).documentOpened(event);
-            }
+        DocumentContainerHandler handler = DocumentContainerHandler
+                        .forType(event.getType());
+        if (handler != null) {
+            NetDocMetrics.recordContainerEvent(handler,
+                            this._documentContainerListeners.fire(handler,
+                                            event));
         }
     }
 
@@ -276,12 +253,7 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
      * @de.renew.require (listenerToAdd != null)
      */
     protected void addDocumentChangeListenerImpl(DocumentChangeListener listenerToAdd) {
-        DocumentChangeListener[] oldListeners = this._documentChangeListeners;
-        DocumentChangeListener[] newListeners = new DocumentChangeListener[oldListeners.length
-                        + 1];
-        System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
-        newListeners[oldListeners.length] = listenerToAdd;
-        this._documentChangeListeners = newListeners;
+        this._documentChangeListeners.add(listenerToAdd);
     }
 
     /**
@@ -292,16 +264,7 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
      * @de.renew.require (listenerToRemove != null)
      */
     protected void removeDocumentChangeListenerImpl(DocumentChangeListener listenerToRemove) {
-        DocumentChangeListener[] oldListeners = this._documentChangeListeners;
-        int index = Arrays.asList(oldListeners).indexOf(listenerToRemove);
-        if (index >= 0) {
-            DocumentChangeListener[] newListeners = new DocumentChangeListener[oldListeners.length
-                            - 1];
-            System.arraycopy(oldListeners, 0, newListeners, 0, index);
-            System.arraycopy(oldListeners, index + 1, newListeners, index,
-                            newListeners.length - index);
-            this._documentChangeListeners = newListeners;
-        }
+        this._documentChangeListeners.remove(listenerToRemove);
     }
 
     /**
@@ -310,8 +273,7 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
      * @de.renew.ensure (returnValue != null)
      */
     protected Enumeration<DocumentChangeListener> getDocumentChangeListenersImpl() {
-        return Collections.enumeration(
-                        Arrays.asList(this._documentChangeListeners));
+        return this._documentChangeListeners.enumeration();
     }
 
     /**
@@ -321,12 +283,7 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
      * @de.renew.require (listenerToAdd != null)
      */
     protected void addDocumentContainerListenerImpl(DocumentContainerListener listenerToAdd) {
-        DocumentContainerListener[] oldListeners = this._documentContainerListeners;
-        DocumentContainerListener[] newListeners = new DocumentContainerListener[oldListeners.length
-                        + 1];
-        System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
-        newListeners[oldListeners.length] = listenerToAdd;
-        this._documentContainerListeners = newListeners;
+        this._documentContainerListeners.add(listenerToAdd);
     }
 
     /**
@@ -337,16 +294,7 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
      * @de.renew.require (listenerToRemove != null)
      */
     protected void removeDocumentContainerListenerImpl(DocumentContainerListener listenerToRemove) {
-        DocumentContainerListener[] oldListeners = this._documentContainerListeners;
-        int index = Arrays.asList(oldListeners).indexOf(listenerToRemove);
-        if (index >= 0) {
-            DocumentContainerListener[] newListeners = new DocumentContainerListener[oldListeners.length
-                            - 1];
-            System.arraycopy(oldListeners, 0, newListeners, 0, index);
-            System.arraycopy(oldListeners, index + 1, newListeners, index,
-                            newListeners.length - index);
-            this._documentContainerListeners = newListeners;
-        }
+        this._documentContainerListeners.remove(listenerToRemove);
     }
 
     /**
@@ -355,8 +303,7 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
      * @de.renew.ensure (returnValue != null)
      */
     protected Enumeration<DocumentContainerListener> getDocumentContainerListenersImpl() {
-        return Collections.enumeration(
-                        Arrays.asList(this._documentContainerListeners));
+        return this._documentContainerListeners.enumeration();
     }
 
     /**
@@ -413,10 +360,10 @@ public abstract class AbstractDocumentContainer implements DocumentContainer {
     /**
      * The document change listeners registered to this container.
      */
-    private DocumentChangeListener[] _documentChangeListeners;
+    private ListenerList<DocumentChangeListener> _documentChangeListeners;
 
     /**
      * The document container listeners registered to this container.
      */
-    private DocumentContainerListener[] _documentContainerListeners;
+    private ListenerList<DocumentContainerListener> _documentContainerListeners;
 }
\ No newline at end of file
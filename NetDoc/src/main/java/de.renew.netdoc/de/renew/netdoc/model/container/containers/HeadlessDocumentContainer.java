@@ -0,0 +1,207 @@
+package de.renew.netdoc.model.container.containers;
+
+import de.renew.netdoc.model.container.ContainerException;
+import de.renew.netdoc.model.container.event.DocumentContainerEvent;
+import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.event.DocumentChangeEvent;
+import de.renew.netdoc.model.document.event.DocumentChangeListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+
+/**
+ * In-memory document container holding a single document. The container has
+ * no visual representation; it only maintains its document and fires the
+ * same container and change events as a document window.
+ */
+public class HeadlessDocumentContainer extends AbstractDocumentContainer {
+
+    /**
+     * Creates a new empty HeadlessDocumentContainer.
+     */
+    public HeadlessDocumentContainer() {
+        super();
+
+        this._isOpened = false;
+        this._isClosed = false;
+    }
+
+    /**
+     * Returns the document contained in this container.
+     * @return the document contained in this container;<br>
+     * or {@code null}, if this container is empty.
+     */
+    public Document getDocument() {
+        return this._document;
+    }
+
+    /**
+     * Determines whether this container has been closed.
+     * @return {@code true}, if this container has been closed;<br>
+     * {@code false} otherwise.
+     */
+    public boolean isClosed() {
+        return this._isClosed;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void close(boolean forceClose) {
+        Document document = this.getDocument();
+        if (document != null) {
+            this.closeDocument(document, forceClose);
+        }
+
+        if (forceClose) {
+            if (!this.isClosed()) {
+                this._isClosed = true;
+                this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                                DocumentContainerEvent.CONTAINER_CLOSED, this));
+            }
+        } else {
+            if ((this.getDocument() == null) && !this.isClosed()) {
+                this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                                DocumentContainerEvent.CONTAINER_CLOSING,
+                                this));
+            }
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Document getCurrentDocument() {
+        return this.getDocument();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void closeDocumentImpl(Document documentToClose,
+                                     boolean forceClose) {
+        if (documentToClose == this.getDocument()) {
+            if (forceClose) {
+                this.setDocument(null);
+                this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                                DocumentContainerEvent.DOCUMENT_CLOSED, this,
+                                documentToClose));
+            } else {
+                this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                                DocumentContainerEvent.DOCUMENT_CLOSING, this,
+                                documentToClose));
+            }
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void openDocumentImpl(Document documentToOpen)
+                    throws ContainerException {
+        if (this.isClosed()) {
+            throw new ContainerException("Container already closed");
+        }
+        if (documentToOpen == this.getDocument()) {
+            return;
+        }
+        if (this.getDocument() != null) {
+            this.closeDocument(this.getDocument(), false);
+            if (this.getDocument() != null) {
+                throw new ContainerException(
+                                "Unable to close current document");
+            }
+        }
+        this.setDocument(documentToOpen);
+        if (!this._isOpened) {
+            this._isOpened = true;
+            this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                            DocumentContainerEvent.CONTAINER_OPENED, this));
+        }
+        this.fireDocumentContainerEvent(new DocumentContainerEvent(
+                        DocumentContainerEvent.DOCUMENT_OPENED, this,
+                        documentToOpen));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void focusOnDocumentImpl(Document document) {
+        // nothing to focus on without a visual representation
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected Collection<Document> getDocumentsImpl() {
+        Document document = this.getDocument();
+        ArrayList<Document> documents = new ArrayList<Document>();
+        if (document != null) {
+            documents.add(document);
+        }
+        return documents;
+    }
+
+    /**
+     * Sets the document contained in this container and moves the change
+     * listener of this container from the old to the new document.
+     * @param document the new document;<br>
+     * or {@code null}, if this container is to be emptied.
+     */
+    protected void setDocument(Document document) {
+        if (this._document != null) {
+            this._document.removeDocumentChangeListener(
+                            this.getChangeListener());
+        }
+        if (document != null) {
+            document.addDocumentChangeListener(this.getChangeListener());
+        }
+        this._document = document;
+    }
+
+    /**
+     * Returns the listener forwarding the change events of the contained
+     * document to the listeners of this container.
+     * @return the document change listener used by this container.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected DocumentChangeListener getChangeListener() {
+        if (this._changeListener == null) {
+            this._changeListener = new DocumentChangeListener() {
+                @Override
+                public void documentChanged(DocumentChangeEvent event) {
+                    HeadlessDocumentContainer.this
+                                    .fireDocumentChangeEvent(event);
+                }
+            };
+        }
+        return this._changeListener;
+    }
+
+    /**
+     * The document contained in this container.
+     */
+    private Document _document;
+
+    /**
+     * The listener forwarding the change events of the contained document.
+     */
+    private DocumentChangeListener _changeListener;
+
+    /**
+     * Specifies whether the container-opened event has been fired.
+     */
+    private boolean _isOpened;
+
+    /**
+     * Specifies whether this container has been closed.
+     */
+    private boolean _isClosed;
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package de.renew.netdoc.model.container.event;
+
+import de.renew.netdoc.model.event.EventHandler;
+
+
+/**
+ * Handler table of document container events, keyed by event type.
+ */
+public enum DocumentContainerHandler
+                implements EventHandler<DocumentContainerListener, DocumentContainerEvent> {
+
+    /**
+     * Handler of container-closed events.
+     */
+    CONTAINER_CLOSED(DocumentContainerEvent.CONTAINER_CLOSED) {
+        @Override
+        public void dispatch(DocumentContainerListener listener,
+                             DocumentContainerEvent event) {
+            listener.containerClosed(event);
+        }
+    },
+
+    /**
+     * Handler of container-closing events.
+     */
+    CONTAINER_CLOSING(DocumentContainerEvent.CONTAINER_CLOSING) {
+        @Override
+        public void dispatch(DocumentContainerListener listener,
+                             DocumentContainerEvent event) {
+            listener.containerClosing(event);
+        }
+    },
+
+    /**
+     * Handler of container-opened events.
+     */
+    CONTAINER_OPENED(DocumentContainerEvent.CONTAINER_OPENED) {
+        @Override
+        public void dispatch(DocumentContainerListener listener,
+                             DocumentContainerEvent event) {
+            listener.containerOpened(event);
+        }
+    },
+
+    /**
+     * Handler of document-closed events.
+     */
+    DOCUMENT_CLOSED(DocumentContainerEvent.DOCUMENT_CLOSED) {
+        @Override
+        public void dispatch(DocumentContainerListener listener,
+                             DocumentContainerEvent event) {
+            listener.documentClosed(event);
+        }
+    },
+
+    /**
+     * Handler of document-closing events.
+     */
+    DOCUMENT_CLOSING(DocumentContainerEvent.DOCUMENT_CLOSING) {
+        @Override
+        public void dispatch(DocumentContainerListener listener,
+                             DocumentContainerEvent event) {
+            listener.documentClosing(event);
+        }
+    },
+
+    /**
+     * Handler of document-opened events.
+     */
+    DOCUMENT_OPENED(DocumentContainerEvent.DOCUMENT_OPENED) {
+        @Override
+        public void dispatch(DocumentContainerListener listener,
+                             DocumentContainerEvent event) {
+            listener.documentOpened(event);
+        }
+    };
+
+    /**
+     * Returns the handler of the specified document container event type.
+     * @param type the event type.
+     * @return the handler of the event type;<br>
+     * or {@code null}, if the type is unknown.
+     */
+    public static DocumentContainerHandler forType(Object type) {
+        if (type instanceof Integer) {
+            int index = ((Integer) type).intValue() - 1;
+            if ((index >= 0) && (index < DocumentContainerHandler.HANDLERS.length)) {
+                return DocumentContainerHandler.HANDLERS[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a new handler of the specified event type.
+     * @param type the event type handled.
+     */
+    private DocumentContainerHandler(Object type) {
+        this._type = type;
+    }
+
+    /**
+     * Returns the event type handled by this handler.
+     * @return the event type.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Object getType() {
+        return this._type;
+    }
+
+    /**
+     * The handlers indexed by their event type minus one. The constants are
+     * declared in the order of the values of their event types.
+     */
+    private static final DocumentContainerHandler[] HANDLERS = DocumentContainerHandler
+                    .values();
+
+    /**
+     * The event type handled by this handler.
+     */
+    private final Object _type;
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package de.renew.netdoc.model.container.event;
+
+import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.net.URL;
+
+
+/**
+ * Event signalling that the stored version of an open document has been
+ * changed outside of NetDoc.
+ */
+public class ExternalChangeEvent {
+
+    /**
+     * Creates a new ExternalChangeEvent using the specified values.
+     * @param document the open document.
+     * @param location the stream location of the document.
+     * @param externalDocument the document parsed from the changed stored
+     * version.
+     * @de.renew.require (document != null)
+     * @de.renew.require (location != null)
+     * @de.renew.require (externalDocument != null)
+     */
+    public ExternalChangeEvent(Document document, URL location,
+                               DocumentPart externalDocument) {
+        assert (document != null) : "Precondition violated: (document != null)";
+        assert (location != null) : "Precondition violated: (location != null)";
+        assert (externalDocument != null) : "Precondition violated: (externalDocument != null)";
+
+        this._document = document;
+        this._location = location;
+        this._externalDocument = externalDocument;
+    }
+
+    /**
+     * Returns the open document.
+     * @return the open document.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Document getDocument() {
+        return this._document;
+    }
+
+    /**
+     * Returns the stream location of the document.
+     * @return the stream location of the document.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public URL getLocation() {
+        return this._location;
+    }
+
+    /**
+     * Returns the document parsed from the changed stored version.
+     * @return the externally changed document.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DocumentPart getExternalDocument() {
+        return this._externalDocument;
+    }
+
+    /**
+     * The open document.
+     */
+    private Document _document;
+
+    /**
+     * The stream location of the document.
+     */
+    private URL _location;
+
+    /**
+     * The document parsed from the changed stored version.
+     */
+    private DocumentPart _externalDocument;
+}
@@ -0,0 +1,26 @@
+package de.renew.netdoc.model.container.event;
+
+
+/**
+ * Observer listening to external changes of the stored versions of open
+ * documents.
+ */
+public interface ExternalChangeListener {
+
+    /**
+     * Invoked when the external changes of an unmodified document have been
+     * applied to the open document.
+     * @param event the corresponding external change event.
+     * @de.renew.require (event != null)
+     */
+    public void documentReloaded(ExternalChangeEvent event);
+
+    /**
+     * Invoked when the stored version of a document has been changed while
+     * the open document has unsaved modifications. The open document is left
+     * unchanged.
+     * @param event the corresponding external change event.
+     * @de.renew.require (event != null)
+     */
+    public void changeConflicted(ExternalChangeEvent event);
+}
@@ -0,0 +1,98 @@
+package de.renew.netdoc.model.container.event;
+
+import de.renew.netdoc.model.event.DeliveryMode;
+import de.renew.netdoc.model.event.DeliveryQueue;
+
+
+/**
+ * Document container listener forwarding the events it receives to another
+ * listener through a {@link DeliveryQueue}. Container events are delivered
+ * in order and are never coalesced or dropped.
+ * <p>To unregister, the queued listener has to be removed, not the listener
+ * it forwards to.</p>
+ */
+public class QueuedDocumentContainerListener
+                implements DocumentContainerListener {
+
+    /**
+     * Creates a new QueuedDocumentContainerListener forwarding to the
+     * specified listener in the specified mode.
+     * @param listener the listener to be notified.
+     * @param mode the delivery mode.
+     * @de.renew.require (listener != null)
+     * @de.renew.require (mode != null)
+     */
+    public QueuedDocumentContainerListener(DocumentContainerListener listener,
+                                           DeliveryMode mode) {
+        this._queue = new DeliveryQueue<DocumentContainerListener>(listener,
+                        mode);
+    }
+
+    /**
+     * Returns the queue delivering the events of this listener.
+     * @return the delivery queue.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DeliveryQueue<DocumentContainerListener> getQueue() {
+        return this._queue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void containerClosed(DocumentContainerEvent event) {
+        this.getQueue().post(DocumentContainerHandler.CONTAINER_CLOSED, event,
+                        null);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void containerClosing(DocumentContainerEvent event) {
+        this.getQueue().post(DocumentContainerHandler.CONTAINER_CLOSING, event,
+                        null);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void containerOpened(DocumentContainerEvent event) {
+        this.getQueue().post(DocumentContainerHandler.CONTAINER_OPENED, event,
+                        null);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void documentClosed(DocumentContainerEvent event) {
+        this.getQueue().post(DocumentContainerHandler.DOCUMENT_CLOSED, event,
+                        null);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void documentClosing(DocumentContainerEvent event) {
+        this.getQueue().post(DocumentContainerHandler.DOCUMENT_CLOSING, event,
+                        null);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void documentOpened(DocumentContainerEvent event) {
+        this.getQueue().post(DocumentContainerHandler.DOCUMENT_OPENED, event,
+                        null);
+    }
+
+    /**
+     * The queue delivering the events of this listener.
+     */
+    private DeliveryQueue<DocumentContainerListener> _queue;
+}
\ No newline at end of file
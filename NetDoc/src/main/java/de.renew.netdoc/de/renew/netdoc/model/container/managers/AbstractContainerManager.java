@@ -1,26 +1,40 @@
 package de.renew.netdoc.model.container.managers;
 
+import de.renew.netdoc.io.DocumentIndex;
+import de.renew.netdoc.io.DocumentLinter;
+import de.renew.netdoc.io.MetadataStore;
+import de.renew.netdoc.io.DocumentSearchResult;
 import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.event.DocumentIOEvent;
+import de.renew.netdoc.io.event.DocumentIOListener;
+import de.renew.netdoc.io.event.QueuedDocumentIOListener;
 import de.renew.netdoc.model.container.event.CloseRequestListener;
 import de.renew.netdoc.model.container.event.DocumentContainerEvent;
+import de.renew.netdoc.model.container.event.DocumentContainerHandler;
 import de.renew.netdoc.model.container.event.DocumentContainerListener;
 import de.renew.netdoc.model.document.Document;
 import de.renew.netdoc.model.document.DocumentMap;
+import de.renew.netdoc.model.document.DocumentPart;
 import de.renew.netdoc.model.document.event.DocumentChangeEvent;
+import de.renew.netdoc.model.document.event.DocumentChangeHandler;
 import de.renew.netdoc.model.document.event.DocumentChangeListener;
 import de.renew.netdoc.model.document.maps.AbstractDocumentMap;
 import de.renew.netdoc.model.container.ContainerException;
 import de.renew.netdoc.model.container.ContainerManager;
 import de.renew.netdoc.model.container.DocumentContainer;
 import de.renew.netdoc.model.doctarget.DocTarget;
+import de.renew.netdoc.model.event.DeliveryMode;
+import de.renew.netdoc.model.event.ListenerList;
+import de.renew.netdoc.monitor.NetDocMetrics;
 import de.renew.netdoc.renew.hotdraw.DrawingTarget;
 
+import java.net.URL;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.List;
 
 
 /**
@@ -36,8 +50,10 @@ public abstract class AbstractContainerManager implements ContainerManager {
      * Creates a new AbstractContainerManager.
      */
     protected AbstractContainerManager() {
-        this._documentChangeListeners = new DocumentChangeListener[0];
-        this._documentContainerListeners = new DocumentContainerListener[0];
+        this._documentChangeListeners = new ListenerList<DocumentChangeListener>(
+                        DocumentChangeListener.class);
+        this._documentContainerListeners = new ListenerList<DocumentContainerListener>(
+                        DocumentContainerListener.class);
     }
 
     /**
@@ -198,6 +214,87 @@ public abstract class AbstractContainerManager implements ContainerManager {
         return returnValue;
     }
 
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public DocumentIndex getDocumentIndex() {
+        return this._documentIndex;
+    }
+
+    /**
+     * Sets the full-text index used by this manager.
+     * @param documentIndex the new document index;<br>
+     * or {@code null}, if no index should be used.
+     */
+    public void setDocumentIndex(DocumentIndex documentIndex) {
+        this._documentIndex = documentIndex;
+        this.registerIndexUpdater();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public MetadataStore getMetadataStore() {
+        return this._metadataStore;
+    }
+
+    /**
+     * Sets the metadata store used by this manager.
+     * @param metadataStore the new metadata store;<br>
+     * or {@code null}, if no metadata store should be used.
+     */
+    public void setMetadataStore(MetadataStore metadataStore) {
+        this._metadataStore = metadataStore;
+        this.registerIndexUpdater();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public DocumentLinter getDocumentLinter() {
+        return this._documentLinter;
+    }
+
+    /**
+     * Sets the linter checking the documents of this manager.
+     * @param documentLinter the new document linter;<br>
+     * or {@code null}, if no linter should be used.
+     */
+    public void setDocumentLinter(DocumentLinter documentLinter) {
+        this._documentLinter = documentLinter;
+        this.registerIndexUpdater();
+    }
+
+    /**
+     * <p>Searches the documents known to the index of this manager for the
+     * specified query.</p>
+     * <p>To override implement {@link
+     * #searchDocumentsImpl(String,int)}.</p>
+     * @param query the query to be answered.
+     * @param maxResults the maximum number of results to be returned.
+     * @return a list containing {@link DocumentSearchResult} instances.
+     * @de.renew.require (query != null)
+     * @de.renew.require (maxResults >= 0)
+     * @de.renew.ensure (returnValue != null)
+     * @de.renew.ensure (returnValue.size() <= maxResults)
+     */
+    @Override
+    public final List<DocumentSearchResult> searchDocuments(String query,
+                                                            int maxResults) {
+        assert (query != null) : "Precondition violated: (query != null)";
+        assert (maxResults >= 0) : "Precondition violated: (maxResults >= 0)";
+
+        List<DocumentSearchResult> returnValue = this.searchDocumentsImpl(query,
+                        maxResults);
+        assert (returnValue != null) : "Postcondition violated: (returnValue != null)";
+        assert (returnValue.size() <= maxResults) : "Postcondition violated: (returnValue.size() <= maxResults)";
+
+        return returnValue;
+    }
+
     /**
      * <p>Returns the document map specifying all documents and documentation
      * targets used by this manager.</p>
@@ -336,6 +433,59 @@ public abstract class AbstractContainerManager implements ContainerManager {
      */
     protected abstract Collection<DrawingTarget> getTargets();
 
+    /**
+     * Updates the entries of the specified document part in the full-text
+     * index, the metadata store and the linter of this manager. Invoked by
+     * the document I/O listener of this manager whenever a document part has
+     * been loaded or saved, so that the entries always describe the stored
+     * documents: edits are indexed once saved, and edits discarded on close
+     * never replace the stored version.
+     * @param location the stream location of the document part.
+     * @param documentPart the document part to be indexed.
+     * @de.renew.require (location != null)
+     * @de.renew.require (documentPart != null)
+     */
+    protected void updateDocumentIndexes(URL location,
+                                         DocumentPart documentPart) {
+        DocumentIndex index = this.getDocumentIndex();
+        if (index != null) {
+            index.update(location, documentPart);
+        }
+        MetadataStore store = this.getMetadataStore();
+        if (store != null) {
+            store.update(location, documentPart);
+        }
+        DocumentLinter linter = this.getDocumentLinter();
+        if (linter != null) {
+            linter.update(location, documentPart);
+        }
+    }
+
+    /**
+     * Returns the mode the index, metadata store and linter of this manager
+     * are updated in. By default they are updated in the background from a
+     * copy of the loaded or saved document part, so that neither loading
+     * nor saving waits for them.
+     * @return the delivery mode of index updates.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected DeliveryMode getIndexDeliveryMode() {
+        return DeliveryMode.BACKGROUND;
+    }
+
+    /**
+     * Registers the listener updating the index, metadata store and linter
+     * of this manager to its Input/Output manager, unless already done.
+     */
+    private synchronized void registerIndexUpdater() {
+        if (this._indexUpdater == null) {
+            this._indexUpdater = new QueuedDocumentIOListener(
+                            this.new DocumentIndexUpdater(),
+                            this.getIndexDeliveryMode());
+            this.getIOManager().addDocumentIOListener(this._indexUpdater);
+        }
+    }
+
     /**
      * Notifies all document change listeners registered to this manager
      * that a document has changed using the specified event.
@@ -343,12 +493,10 @@ public abstract class AbstractContainerManager implements ContainerManager {
      * @de.renew.require (event != null)
      */
     protected void fireDocumentChangeEvent(DocumentChangeEvent event) {
-        Enumeration<DocumentChangeListener> listenerEnum = this
-                        .getDocumentChangeListeners();
-
-        while (listenerEnum.hasMoreElements()) {
-            (listenerEnum.nextElement()).documentChanged(event);
-        }
+        NetDocMetrics.recordEvent(NetDocMetrics.EVENT_DOCUMENT_CHANGED,
+                        this._documentChangeListeners.fire(
+                                        DocumentChangeHandler.DOCUMENT_CHANGED,
+                                        event));
     }
 
     /**
@@ -358,38 +506,12 @@ public abstract class AbstractContainerManager implements ContainerManager {
      * @de.renew.require (event != null)
      */
     protected void fireDocumentContainerEvent(DocumentContainerEvent event) {
-        Enumeration<DocumentContainerListener> listenerEnum = this
-                        .getDocumentContainerListeners();
-
-        if (event.getType().equals(DocumentContainerEvent.CONTAINER_CLOSED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).containerClosed(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.CONTAINER_CLOSING)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).containerClosing(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.CONTAINER_OPENED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).containerOpened(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.DOCUMENT_CLOSED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).documentClosed(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.DOCUMENT_CLOSING)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).documentClosing(event);
-            }
-        } else if (event.getType()
-                        .equals(DocumentContainerEvent.DOCUMENT_OPENED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).documentOpened(event);
-            }
+        DocumentContainerHandler handler = DocumentContainerHandler
+                        .forType(event.getType());
+        if (handler != null) {
+            NetDocMetrics.recordContainerEvent(handler,
+                            this._documentContainerListeners.fire(handler,
+                                            event));
         }
     }
 
@@ -430,12 +552,7 @@ public abstract class AbstractContainerManager implements ContainerManager {
      * @de.renew.require (listenerToAdd != null)
      */
     protected void addDocumentChangeListenerImpl(DocumentChangeListener listenerToAdd) {
-        DocumentChangeListener[] oldListeners = this._documentChangeListeners;
-        DocumentChangeListener[] newListeners = new DocumentChangeListener[oldListeners.length
-                        + 1];
-        System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
-        newListeners[oldListeners.length] = listenerToAdd;
-        this._documentChangeListeners = newListeners;
+        this._documentChangeListeners.add(listenerToAdd);
     }
 
     /**
@@ -446,16 +563,7 @@ public abstract class AbstractContainerManager implements ContainerManager {
      * @de.renew.require (listenerToRemove != null)
      */
     protected void removeDocumentChangeListenerImpl(DocumentChangeListener listenerToRemove) {
-        DocumentChangeListener[] oldListeners = this._documentChangeListeners;
-        int index = Arrays.asList(oldListeners).indexOf(listenerToRemove);
-        if (index >= 0) {
-            DocumentChangeListener[] newListeners = new DocumentChangeListener[oldListeners.length
-                            - 1];
-            System.arraycopy(oldListeners, 0, newListeners, 0, index);
-            System.arraycopy(oldListeners, index + 1, newListeners, index,
-                            newListeners.length - index);
-            this._documentChangeListeners = newListeners;
-        }
+        this._documentChangeListeners.remove(listenerToRemove);
     }
 
     /**
@@ -464,8 +572,7 @@ public abstract class AbstractContainerManager implements ContainerManager {
      * @de.renew.ensure (returnValue != null)
      */
     protected Enumeration<DocumentChangeListener> getDocumentChangeListenersImpl() {
-        return Collections.enumeration(
-                        Arrays.asList(this._documentChangeListeners));
+        return this._documentChangeListeners.enumeration();
     }
 
     /**
@@ -475,12 +582,7 @@ public abstract class AbstractContainerManager implements ContainerManager {
      * @de.renew.require (listenerToAdd != null)
      */
     protected void addDocumentContainerListenerImpl(DocumentContainerListener listenerToAdd) {
-        DocumentContainerListener[] oldListeners = this._documentContainerListeners;
-        DocumentContainerListener[] newListeners = new DocumentContainerListener[oldListeners.length
-                        + 1];
-        System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
-        newListeners[oldListeners.length] = listenerToAdd;
-        this._documentContainerListeners = newListeners;
+        this._documentContainerListeners.add(listenerToAdd);
     }
 
     /**
@@ -491,16 +593,7 @@ public abstract class AbstractContainerManager implements ContainerManager {
      * @de.renew.require (listenerToRemove != null)
      */
     protected void removeDocumentContainerListenerImpl(DocumentContainerListener listenerToRemove) {
-        DocumentContainerListener[] oldListeners = this._documentContainerListeners;
-        int index = Arrays.asList(oldListeners).indexOf(listenerToRemove);
-        if (index >= 0) {
-            DocumentContainerListener[] newListeners = new DocumentContainerListener[oldListeners.length
-                            - 1];
-            System.arraycopy(oldListeners, 0, newListeners, 0, index);
-            System.arraycopy(oldListeners, index + 1, newListeners, index,
-                            newListeners.length - index);
-            this._documentContainerListeners = newListeners;
-        }
+        this._documentContainerListeners.remove(listenerToRemove);
     }
 
     /**
@@ -509,8 +602,7 @@ public abstract class AbstractContainerManager implements ContainerManager {
      * @de.renew.ensure (returnValue != null)
      */
     protected Enumeration<DocumentContainerListener> getDocumentContainerListenersImpl() {
-        return Collections.enumeration(
-                        Arrays.asList(this._documentContainerListeners));
+        return this._documentContainerListeners.enumeration();
     }
 
     /**
@@ -581,6 +673,25 @@ public abstract class AbstractContainerManager implements ContainerManager {
         }
     }
 
+    /**
+     * Searches the documents known to the index of this manager for the
+     * specified query.
+     * @param query the query to be answered.
+     * @param maxResults the maximum number of results to be returned.
+     * @return a list containing {@link DocumentSearchResult} instances.
+     * @de.renew.require (query != null)
+     * @de.renew.require (maxResults >= 0)
+     * @de.renew.ensure (returnValue != null)
+     * @de.renew.ensure (returnValue.size() <= maxResults)
+     */
+    protected List<DocumentSearchResult> searchDocumentsImpl(String query,
+                                                             int maxResults) {
+        if (this.getDocumentIndex() == null) {
+            return new ArrayList<DocumentSearchResult>();
+        }
+        return this.getDocumentIndex().search(query, maxResults);
+    }
+
     /**
      * Opens the specified NetDoc document. If the document was already open,
      * the manager will try to focus on it.
@@ -620,18 +731,39 @@ public abstract class AbstractContainerManager implements ContainerManager {
     /**
      * The document change listeners registered to this manager.
      */
-    private DocumentChangeListener[] _documentChangeListeners;
+    private ListenerList<DocumentChangeListener> _documentChangeListeners;
 
     /**
      * The document container listeners registered to this manager.
      */
-    private DocumentContainerListener[] _documentContainerListeners;
+    private ListenerList<DocumentContainerListener> _documentContainerListeners;
 
     /**
      * The document map used by this manager.
      */
     private DocumentMap _documentMap;
 
+    /**
+     * The full-text index used by this manager.
+     */
+    private DocumentIndex _documentIndex;
+
+    /**
+     * The metadata store used by this manager.
+     */
+    private MetadataStore _metadataStore;
+
+    /**
+     * The linter checking the documents of this manager.
+     */
+    private DocumentLinter _documentLinter;
+
+    /**
+     * The listener updating index, metadata store and linter;<br>
+     * or {@code null}, if none of them has been set yet.
+     */
+    private DocumentIOListener _indexUpdater;
+
     /**
      * Document map providing the documents of all document containers
      */
@@ -669,4 +801,36 @@ public abstract class AbstractContainerManager implements ContainerManager {
             return AbstractContainerManager.this.getTargets();
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Observer updating the index, metadata store and linter of this manager
+     * with the document parts loaded or saved by its Input/Output manager.
+     */
+    protected class DocumentIndexUpdater implements DocumentIOListener {
+
+        /**
+         * Creates a new DocumentIndexUpdater.
+         */
+        public DocumentIndexUpdater() {
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void documentLoaded(DocumentIOEvent event) {
+            AbstractContainerManager.this.updateDocumentIndexes(
+                            event.getLocation(), event.getDocumentPart());
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void documentSaved(DocumentIOEvent event) {
+            AbstractContainerManager.this.updateDocumentIndexes(
+                            event.getLocation(), event.getDocumentPart());
+        }
+    }
+}
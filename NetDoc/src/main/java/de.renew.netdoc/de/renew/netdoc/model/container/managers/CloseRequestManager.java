@@ -1,5 +1,6 @@
 package de.renew.netdoc.model.container.managers;
 
+import de.renew.netdoc.model.container.CloseRequestPolicy;
 import de.renew.netdoc.model.container.event.CloseRequestEvent;
 import de.renew.netdoc.model.container.event.CloseRequestListener;
 import de.renew.netdoc.model.container.event.DocumentContainerAdapter;
@@ -9,9 +10,9 @@ import de.renew.netdoc.model.document.event.DocumentChangeEvent;
 import de.renew.netdoc.model.document.event.DocumentChangeListener;
 import de.renew.netdoc.model.container.ContainerException;
 import de.renew.netdoc.model.container.DocumentContainer;
+import de.renew.netdoc.model.event.ListenerList;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.io.IOException;
 import java.util.Enumeration;
 
 
@@ -31,7 +32,8 @@ public abstract class CloseRequestManager extends AbstractContainerManager
     protected CloseRequestManager() {
         super();
 
-        this._closeRequestListeners = new CloseRequestListener[0];
+        this._closeRequestListeners = new ListenerList<CloseRequestListener>(
+                        CloseRequestListener.class);
     }
 
     /**
@@ -54,7 +56,8 @@ public abstract class CloseRequestManager extends AbstractContainerManager
 
     /**
      * Determines whether the originator of the specified close event should be
-     * allowed to close.
+     * allowed to close. Asks all registered close-request listeners, then
+     * {@link #requestClosing(CloseRequestEvent)}.
      * @param event the close request event to be verified.
      * @return {@code true}, if the originator of the specified event should be
      * allowed to close;<br>
@@ -62,16 +65,58 @@ public abstract class CloseRequestManager extends AbstractContainerManager
      * @de.renew.require (event != null)
      */
     protected boolean allowClosingImpl(CloseRequestEvent event) {
-        Enumeration<CloseRequestListener> listenerEnum = this
-                        .getCloseRequestListeners();
-        while (listenerEnum.hasMoreElements()) {
-            if (!(listenerEnum.nextElement()).allowClosing(event)) {
+        CloseRequestListener[] listeners = this._closeRequestListeners
+                        .getListeners();
+        for (int i = 0; i < listeners.length; i++) {
+            if (!listeners[i].allowClosing(event)) {
                 return false;
             }
         }
+        return this.requestClosing(event);
+    }
+
+    /**
+     * Asks the close-request policy of this manager whether the originator of
+     * the specified close event should be allowed to close. Modified
+     * documents are saved and marked unmodified if the policy says so.
+     * @param event the close request event to be verified.
+     * @return {@code true}, if the originator of the specified event may be
+     * closed;<br>
+     * {@code false}, if the policy canceled the request or the document could
+     * not be saved.
+     * @de.renew.require (event != null)
+     */
+    protected final boolean requestClosing(CloseRequestEvent event) {
+        Object originator = event.getOriginator();
+        if ((originator instanceof Document)
+                        && ((Document) originator).isModified()) {
+            Document document = (Document) originator;
+            Object answer = this.getCloseRequestPolicy()
+                            .requestSaveDocument(document);
+            if (answer.equals(CloseRequestPolicy.ANSWER_CANCEL)) {
+                return false;
+            }
+            if (answer.equals(CloseRequestPolicy.ANSWER_YES)) {
+                try {
+                    this.getIOManager().saveDocumentPart(document);
+                } catch (IOException e) {
+                    // keep the document open, so that no changes are lost
+                    return false;
+                }
+                document.setModified(false);
+            }
+        }
         return true;
     }
 
+    /**
+     * Returns the policy answering whether modified documents are to be
+     * saved before they are closed.
+     * @return the close-request policy.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected abstract CloseRequestPolicy getCloseRequestPolicy();
+
     /**
      * @inheritDoc
      */
@@ -107,12 +152,7 @@ public abstract class CloseRequestManager extends AbstractContainerManager
      */
     @Override
     protected void addCloseRequestListenerImpl(CloseRequestListener listenerToAdd) {
-        CloseRequestListener[] oldListeners = this._closeRequestListeners;
-        CloseRequestListener[] newListeners = new CloseRequestListener[oldListeners.length
-                        + 1];
-        System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
-        newListeners[oldListeners.length] = listenerToAdd;
-        this._closeRequestListeners = newListeners;
+        this._closeRequestListeners.add(listenerToAdd);
     }
 
     /**
@@ -120,16 +160,7 @@ public abstract class CloseRequestManager extends AbstractContainerManager
      */
     @Override
     protected void removeCloseRequestListenerImpl(CloseRequestListener listenerToRemove) {
-        CloseRequestListener[] oldListeners = this._closeRequestListeners;
-        int index = Arrays.asList(oldListeners).indexOf(listenerToRemove);
-        if (index >= 0) {
-            CloseRequestListener[] newListeners = new CloseRequestListener[oldListeners.length
-                            - 1];
-            System.arraycopy(oldListeners, 0, newListeners, 0, index);
-            System.arraycopy(oldListeners, index + 1, newListeners, index,
-                            newListeners.length - index);
-            this._closeRequestListeners = newListeners;
-        }
+        this._closeRequestListeners.remove(listenerToRemove);
     }
 
     /**
@@ -137,8 +168,7 @@ public abstract class CloseRequestManager extends AbstractContainerManager
      */
     @Override
     protected Enumeration<CloseRequestListener> getCloseRequestListenersImpl() {
-        return Collections.enumeration(
-                        Arrays.asList(this._closeRequestListeners));
+        return this._closeRequestListeners.enumeration();
     }
 
     /**
@@ -208,7 +238,7 @@ public abstract class CloseRequestManager extends AbstractContainerManager
     /**
      * The close request listeners registered to this manager.
      */
-    private CloseRequestListener[] _closeRequestListeners;
+    private ListenerList<CloseRequestListener> _closeRequestListeners;
 
     /**
      * The document listener of this manager.
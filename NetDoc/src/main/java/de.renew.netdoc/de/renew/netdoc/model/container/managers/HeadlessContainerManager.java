@@ -0,0 +1,302 @@
+package de.renew.netdoc.model.container.managers;
+
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.documentformatters.TexExportFormatter;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.managers.SimpleIOManager;
+import de.renew.netdoc.model.container.CloseRequestPolicy;
+import de.renew.netdoc.model.container.ContainerException;
+import de.renew.netdoc.model.container.DocumentContainer;
+import de.renew.netdoc.model.container.containers.HeadlessDocumentContainer;
+import de.renew.netdoc.model.container.event.DocumentContainerEvent;
+import de.renew.netdoc.model.doctarget.DocTarget;
+import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.Documents;
+import de.renew.netdoc.renew.hotdraw.DrawingTarget;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * In-memory container manager without any graphical user interface. Each
+ * document is held by its own {@link HeadlessDocumentContainer}; requests
+ * whether modified documents are to be saved before closing are answered by
+ * a {@link CloseRequestPolicy}. Intended for batch tools and tests driving
+ * the manager commands.
+ */
+public class HeadlessContainerManager extends CloseRequestManager {
+
+    /**
+     * Creates a new HeadlessContainerManager using the specified close-request
+     * policy and an Input/Output manager reading and writing TeX documents.
+     * @param closeRequestPolicy the policy answering the save requests.
+     * @de.renew.require (closeRequestPolicy != null)
+     */
+    public HeadlessContainerManager(CloseRequestPolicy closeRequestPolicy) {
+        this(new SimpleIOManager(new TexExportFormatter(), null, null,
+                        new TexDocumentParser(),
+                        DocumentFiles.FILENAME_EXTENSION), closeRequestPolicy);
+    }
+
+    /**
+     * Creates a new HeadlessContainerManager using the specified Input/Output
+     * manager and close-request policy.
+     * @param ioManager the Input/Output manager to be used.
+     * @param closeRequestPolicy the policy answering the save requests.
+     * @de.renew.require (ioManager != null)
+     * @de.renew.require (closeRequestPolicy != null)
+     */
+    public HeadlessContainerManager(IOManager ioManager,
+                                    CloseRequestPolicy closeRequestPolicy) {
+        super();
+        assert (ioManager != null) : "Precondition violated: (ioManager != null)";
+        assert (closeRequestPolicy != null) : "Precondition violated: (closeRequestPolicy != null)";
+
+        this._ioManager = ioManager;
+        this._closeRequestPolicy = closeRequestPolicy;
+        this._containers = new LinkedHashMap<Document, DocumentContainer>();
+        this._isClosed = false;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CloseRequestPolicy getCloseRequestPolicy() {
+        return this._closeRequestPolicy;
+    }
+
+    /**
+     * Sets the policy answering the save requests of this manager.
+     * @param closeRequestPolicy the new close-request policy.
+     * @de.renew.require (closeRequestPolicy != null)
+     */
+    public void setCloseRequestPolicy(CloseRequestPolicy closeRequestPolicy) {
+        assert (closeRequestPolicy != null) : "Precondition violated: (closeRequestPolicy != null)";
+
+        this._closeRequestPolicy = closeRequestPolicy;
+    }
+
+    /**
+     * Determines whether this manager has been closed.
+     * @return {@code true}, if this manager has been closed;<br>
+     * {@code false} otherwise.
+     */
+    public boolean isClosed() {
+        return this._isClosed;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Document getCurrentDocument() {
+        return this._currentDocument;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public DocTarget getCurrentTarget() {
+        Document currentDocument = this.getCurrentDocument();
+        return (currentDocument == null) ? null : currentDocument.getTarget();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected Collection<DrawingTarget> getTargets() {
+        return new ArrayList<DrawingTarget>();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected DocumentContainer getDocumentContainerImpl(Document document) {
+        return this._containers.get(document);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected IOManager getIOManagerImpl() {
+        return this._ioManager;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected Collection<DocumentContainer> getDocumentContainersImpl() {
+        return Collections.unmodifiableCollection(this._containers.values());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void close() throws ContainerException {
+        this._currentDocument = null;
+        this._isClosed = true;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected DocumentContainer openDocumentImpl(DocTarget docTarget)
+                    throws ContainerException {
+        Document document = this.getDocumentMap().getDocument(docTarget);
+        if (document == null) {
+            document = this.createOrLoadDocument(docTarget);
+        }
+        return this.openDocument(document);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected DocumentContainer openDocumentImpl(Document documentToOpen)
+                    throws ContainerException {
+        if (this.isClosed()) {
+            throw new ContainerException("Manager already closed");
+        }
+        DocumentContainer container = this.getDocumentContainer(documentToOpen);
+        if (container == null) {
+            container = this.createContainer();
+            this.addListeners(container);
+            this._containers.put(documentToOpen, container);
+            try {
+                container.openDocument(documentToOpen);
+            } catch (ContainerException e) {
+                this._containers.remove(documentToOpen);
+                this.removeListeners(container);
+                throw e;
+            }
+        }
+        container.focusOnDocument(documentToOpen);
+        this._currentDocument = documentToOpen;
+        return container;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected DocumentListener getDocumentListener() {
+        if (this._documentListener == null) {
+            this._documentListener = this.new HeadlessDocumentListener();
+        }
+        return this._documentListener;
+    }
+
+    /**
+     * Creates a new empty document container.
+     * @return the new document container.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected DocumentContainer createContainer() {
+        return new HeadlessDocumentContainer();
+    }
+
+    /**
+     * Creates or loads the document for the specifed documentation target.
+     * Missing documents are created from the default TeX document.
+     * @param docTarget the documentation target specifying the document.
+     * @return the document.
+     * @throws ContainerException if an error occured while loading the
+     * document.
+     * @de.renew.require (docTarget != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected Document createOrLoadDocument(DocTarget docTarget)
+                    throws ContainerException {
+        DocumentPart returnValue;
+        if (this.getIOManager().documentPartExists(docTarget)) {
+            try {
+                returnValue = this.getIOManager().loadDocumentPart(docTarget);
+            } catch (IOException e) {
+                throw new ContainerException("Unable to load document", e);
+            }
+        } else {
+            returnValue = Documents.getDefaultTex();
+            returnValue.setTarget(docTarget);
+        }
+        if (!(returnValue instanceof Document)) {
+            throw new ContainerException("Loaded part is not a document");
+        }
+        return (Document) returnValue;
+    }
+
+    /**
+     * The Input/Output manager used by this manager.
+     */
+    private IOManager _ioManager;
+
+    /**
+     * The policy answering the save requests of this manager.
+     */
+    private CloseRequestPolicy _closeRequestPolicy;
+
+    /**
+     * The document containers of this manager in the order they were opened.
+     * Uses the contained documents as keys.
+     */
+    private Map<Document, DocumentContainer> _containers;
+
+    /**
+     * The document opened last; or {@code null}, if it has been closed.
+     */
+    private Document _currentDocument;
+
+    /**
+     * The document listener used by this manager.
+     */
+    private DocumentListener _documentListener;
+
+    /**
+     * Specifies whether this manager has been closed.
+     */
+    private boolean _isClosed;
+
+
+    /**
+     * Observer removing the containers of closed documents from this manager.
+     */
+    protected class HeadlessDocumentListener extends DocumentListener {
+
+        /**
+         * Creates a new HeadlessDocumentListener.
+         */
+        public HeadlessDocumentListener() {
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected void documentClosedImpl(DocumentContainerEvent event) {
+            Document document = event.getInvolvedDocument();
+            HeadlessContainerManager.this._containers.remove(document);
+            if (HeadlessContainerManager.this._currentDocument == document) {
+                HeadlessContainerManager.this._currentDocument = null;
+            }
+
+            super.documentClosedImpl(event);
+
+            event.getOriginator().close(true);
+        }
+    }
+}
\ No newline at end of file
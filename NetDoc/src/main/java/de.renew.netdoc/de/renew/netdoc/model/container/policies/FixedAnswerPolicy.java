@@ -0,0 +1,67 @@
+package de.renew.netdoc.model.container.policies;
+
+import de.renew.netdoc.model.container.CloseRequestPolicy;
+import de.renew.netdoc.model.document.Document;
+
+
+/**
+ * Close-request policy giving the same answer to every request.
+ */
+public class FixedAnswerPolicy implements CloseRequestPolicy {
+
+    /**
+     * Policy saving every modified document before closing it.
+     */
+    public static final CloseRequestPolicy SAVE = new FixedAnswerPolicy(
+                    CloseRequestPolicy.ANSWER_YES);
+
+    /**
+     * Policy discarding the changes of every modified document.
+     */
+    public static final CloseRequestPolicy DISCARD = new FixedAnswerPolicy(
+                    CloseRequestPolicy.ANSWER_NO);
+
+    /**
+     * Policy keeping every modified document open.
+     */
+    public static final CloseRequestPolicy CANCEL = new FixedAnswerPolicy(
+                    CloseRequestPolicy.ANSWER_CANCEL);
+
+
+    /**
+     * Creates a new FixedAnswerPolicy giving the specified answer.
+     * @param answer the answer to be given, one of {@link
+     * CloseRequestPolicy#ANSWER_YES}, {@link CloseRequestPolicy#ANSWER_NO} or
+     * {@link CloseRequestPolicy#ANSWER_CANCEL}.
+     * @de.renew.require (answer != null)
+     */
+    public FixedAnswerPolicy(Object answer) {
+        assert (answer != null) : "Precondition violated: (answer != null)";
+
+        this._answer = answer;
+    }
+
+    /**
+     * Returns the answer given by this policy.
+     * @return the answer given by this policy.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Object getAnswer() {
+        return this._answer;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Object requestSaveDocument(Document modifiedDocument) {
+        assert (modifiedDocument != null) : "Precondition violated: (modifiedDocument != null)";
+
+        return this.getAnswer();
+    }
+
+    /**
+     * The answer given by this policy.
+     */
+    private Object _answer;
+}
\ No newline at end of file
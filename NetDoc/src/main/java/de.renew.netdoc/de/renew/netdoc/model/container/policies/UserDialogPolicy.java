@@ -0,0 +1,56 @@
+package de.renew.netdoc.model.container.policies;
+
+import de.renew.netdoc.model.container.CloseRequestPolicy;
+import de.renew.netdoc.model.document.Document;
+
+import javax.swing.JOptionPane;
+
+
+/**
+ * Close-request policy asking the user in a modal dialog whether a modified
+ * document is to be saved before it is closed.
+ */
+public class UserDialogPolicy implements CloseRequestPolicy {
+
+    /**
+     * Creates a new UserDialogPolicy.
+     */
+    public UserDialogPolicy() {
+    }
+
+    /**
+     * Submits a request to the user whether the specified document is to be
+     * saved before closing it. The execution of the current thread will be
+     * paused until the user replied.
+     * @param modifiedDocument the document to be saved.
+     * @return {@link CloseRequestPolicy#ANSWER_YES}, if the user allowed to
+     * save the document;<br>
+     * {@link CloseRequestPolicy#ANSWER_NO}, if the user denied to save the
+     * document;<br>
+     * {@link CloseRequestPolicy#ANSWER_CANCEL}, if the user wants to cancel
+     * the close operation.
+     * @de.renew.require (modifiedDocument != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    @Override
+    public Object requestSaveDocument(Document modifiedDocument) {
+        assert (modifiedDocument != null) : "Precondition violated: (modifiedDocument != null)";
+
+        int result = JOptionPane.showOptionDialog(null, ">> "
+                        + modifiedDocument.getName()
+                        + " << has changed! Would you like to save?",
+                        "Warning: NetDoc not saved",
+                        JOptionPane.YES_NO_CANCEL_OPTION,
+                        JOptionPane.WARNING_MESSAGE, null, // default icon
+                        new String[] { "Save Document", "Discard Changes", "Cancel" },
+                        "Save Document");
+        switch (result) {
+        case JOptionPane.YES_OPTION:
+            return CloseRequestPolicy.ANSWER_YES;
+        case JOptionPane.NO_OPTION:
+            return CloseRequestPolicy.ANSWER_NO;
+        default:
+            return CloseRequestPolicy.ANSWER_CANCEL;
+        }
+    }
+}
@@ -0,0 +1,688 @@
+package de.renew.netdoc.model.container.watchers;
+
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.URLs;
+import de.renew.netdoc.io.event.DocumentIOEvent;
+import de.renew.netdoc.io.event.DocumentIOListener;
+import de.renew.netdoc.model.container.event.DocumentContainerAdapter;
+import de.renew.netdoc.model.container.event.DocumentContainerEvent;
+import de.renew.netdoc.model.container.event.ExternalChangeEvent;
+import de.renew.netdoc.model.container.event.ExternalChangeListener;
+import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.event.DeliveryMode;
+import de.renew.netdoc.model.event.ListenerList;
+import org.apache.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+
+/**
+ * Document container listener watching the stored versions of all open
+ * documents for external changes, e.g. by a version control system or
+ * another editor.
+ * <p>The directories of the open documents are registered with a
+ * {@link WatchService}; a single daemon thread blocks until the file system
+ * reports a change, so an idle watcher costs nothing. Only the changed file
+ * is parsed again. If the open document is unmodified, the differences are
+ * applied to it in place; otherwise the open document is left unchanged and
+ * a conflict is reported to the external change listeners.</p>
+ * <p>The watcher listens to the I/O manager for saved documents and records
+ * the hash of the written file, so that the change caused by saving a
+ * document is recognised without comparing it to the open document.</p>
+ * <p>Changes are applied and listeners are notified in the delivery mode
+ * the watcher has been created with.</p>
+ */
+public class DocumentFileWatcher extends DocumentContainerAdapter
+                implements DocumentIOListener {
+
+    /**
+     * The logger of this class.
+     */
+    private static final Logger logger = Logger
+                    .getLogger(DocumentFileWatcher.class);
+
+    /**
+     * The delay in milliseconds the watcher thread waits after the first
+     * reported change before checking the changed files, so that the events
+     * of a single write are coalesced.
+     */
+    private static final long SETTLE_DELAY = 100;
+
+    /**
+     * Creates a new DocumentFileWatcher using the specified I/O manager to
+     * locate and parse documents. The watcher registers itself as document
+     * I/O listener of the I/O manager.
+     * @param ioManager the I/O manager to be used.
+     * @param mode the mode changes are applied and delivered in.
+     * @de.renew.require (ioManager != null)
+     * @de.renew.require (mode != null)
+     */
+    public DocumentFileWatcher(IOManager ioManager, DeliveryMode mode) {
+        assert (ioManager != null) : "Precondition violated: (ioManager != null)";
+        assert (mode != null) : "Precondition violated: (mode != null)";
+
+        this._ioManager = ioManager;
+        this._mode = mode;
+        this._listeners = new ListenerList<ExternalChangeListener>(
+                        ExternalChangeListener.class);
+        this._watchedFiles = new HashMap<Path, WatchedFile>();
+        this._watchKeys = new HashMap<Path, WatchKey>();
+        this._watchedDirectories = new HashMap<WatchKey, Path>();
+        this._pendingFiles = new LinkedHashSet<Path>();
+        ioManager.addDocumentIOListener(this);
+    }
+
+    /**
+     * Adds the specified external change listener to this watcher.
+     * @param listenerToAdd the listener to be added.
+     * @de.renew.require (listenerToAdd != null)
+     */
+    public void addExternalChangeListener(ExternalChangeListener listenerToAdd) {
+        assert (listenerToAdd != null) : "Precondition violated: (listenerToAdd != null)";
+
+        this._listeners.add(listenerToAdd);
+    }
+
+    /**
+     * Removes the specified external change listener from this watcher.
+     * @param listenerToRemove the listener to be removed.
+     */
+    public void removeExternalChangeListener(ExternalChangeListener listenerToRemove) {
+        this._listeners.remove(listenerToRemove);
+    }
+
+    /**
+     * Starts watching the stored version of the specified document. Documents
+     * without a stored version in the local file system are ignored.
+     * @param document the document to be watched.
+     * @return {@code true}, if the document is being watched;<br>
+     * {@code false} otherwise.
+     * @throws IOException if the directory of the document could not be
+     * registered.
+     * @de.renew.require (document != null)
+     */
+    public boolean watch(Document document) throws IOException {
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        Path file = this.getStoredFile(document);
+        if (file == null) {
+            return false;
+        }
+        Path directory = file.getParent();
+        synchronized (this) {
+            if (!this._watchKeys.containsKey(directory)) {
+                WatchKey key = directory.register(this.getWatchService(),
+                                StandardWatchEventKinds.ENTRY_CREATE,
+                                StandardWatchEventKinds.ENTRY_MODIFY);
+                this._watchKeys.put(directory, key);
+                this._watchedDirectories.put(key, directory);
+            }
+            this._watchedFiles.put(file, new WatchedFile(document,
+                            DocumentFileWatcher.readHash(file)));
+        }
+        return true;
+    }
+
+    /**
+     * Stops watching the stored version of the specified document. The
+     * directory of the document is unregistered, once no other open document
+     * is stored there.
+     * @param document the document no longer to be watched.
+     * @de.renew.require (document != null)
+     */
+    public synchronized void unwatch(Document document) {
+        assert (document != null) : "Precondition violated: (document != null)";
+
+        Path directory = null;
+        for (Map.Entry<Path, WatchedFile> entry : this._watchedFiles.entrySet()) {
+            if (entry.getValue().getDocument() == document) {
+                directory = entry.getKey().getParent();
+                this._watchedFiles.remove(entry.getKey());
+                break;
+            }
+        }
+        if ((directory == null) || this.isWatched(directory)) {
+            return;
+        }
+        WatchKey key = this._watchKeys.remove(directory);
+        if (key != null) {
+            this._watchedDirectories.remove(key);
+            key.cancel();
+        }
+    }
+
+    /**
+     * Applies the external changes described by the specified event to the
+     * open document, discarding its unsaved modifications. Used to resolve a
+     * conflict in favour of the stored version. If the structure of both
+     * documents differs, the content of the open document is replaced as a
+     * whole; if that fails, the open document stays modified and the
+     * listeners are not notified.
+     * @param event the external change event of the conflict.
+     * @de.renew.require (event != null)
+     */
+    public void reload(ExternalChangeEvent event) {
+        assert (event != null) : "Precondition violated: (event != null)";
+
+        Document document = event.getDocument();
+        if ((DocumentParts.applyDifferences(document,
+                        event.getExternalDocument()) < 0)
+                        && !DocumentFileWatcher.replaceContent(document,
+                                        event.getExternalDocument())) {
+            document.setModified(true);
+            logger.warn("NetDoc could not reload " + event.getLocation()
+                            + "; the open document is kept modified.");
+            return;
+        }
+        document.setModified(false);
+        for (ExternalChangeListener listener : this._listeners.getListeners()) {
+            listener.documentReloaded(event);
+        }
+    }
+
+    /**
+     * Stops watching all documents and terminates the watcher thread.
+     */
+    public synchronized void close() {
+        this._ioManager.removeDocumentIOListener(this);
+        this._watchedFiles.clear();
+        this._watchKeys.clear();
+        this._watchedDirectories.clear();
+        if (this._watchService != null) {
+            try {
+                this._watchService.close();
+            } catch (IOException e) {
+                // the watcher thread terminates anyway
+            }
+            this._watchService = null;
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void documentLoaded(DocumentIOEvent event) {
+        // only saving changes the stored version
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void documentSaved(DocumentIOEvent event) {
+        File file = URLs.toFile(event.getLocation());
+        if (file == null) {
+            return;
+        }
+        Path path = file.toPath().toAbsolutePath().normalize();
+        WatchedFile watched;
+        synchronized (this) {
+            watched = this._watchedFiles.get(path);
+        }
+        if (watched != null) {
+            watched.setSavedHash(DocumentFileWatcher.readHash(path));
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void documentOpenedImpl(DocumentContainerEvent event) {
+        if (event.getInvolvedDocument() != null) {
+            try {
+                this.watch(event.getInvolvedDocument());
+            } catch (IOException e) {
+                // the document just stays unwatched
+            }
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void documentClosedImpl(DocumentContainerEvent event) {
+        if (event.getInvolvedDocument() != null) {
+            this.unwatch(event.getInvolvedDocument());
+        }
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected void containerClosedImpl(DocumentContainerEvent event) {
+        for (Document document : event.getOriginator().getDocuments()) {
+            this.unwatch(document);
+        }
+    }
+
+    /**
+     * Checks the stored version of the specified file for external changes.
+     * Invoked by the watcher thread; the stored version is read and parsed
+     * there, while the open document is only touched in the delivery mode of
+     * this watcher.
+     * @param file the changed file.
+     * @de.renew.require (file != null)
+     */
+    protected void check(Path file) {
+        WatchedFile watched;
+        synchronized (this) {
+            watched = this._watchedFiles.get(file);
+        }
+        if (watched == null) {
+            return;
+        }
+
+        String hash;
+        String content;
+        DocumentPart externalDocument;
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            if (bytes.length == 0) {
+                // truncated while being rewritten
+                return;
+            }
+            hash = DocumentFiles.hash(bytes);
+            String knownHash = watched.getHash();
+            if (hash.equals(knownHash)) {
+                return;
+            }
+            content = DocumentFiles.decode(bytes);
+            externalDocument = this._ioManager.importDocumentPartFrom(
+                            new StringReader(content));
+            if (!watched.replaceHash(knownHash, hash)) {
+                // checked concurrently by another thread
+                return;
+            }
+        } catch (IOException e) {
+            // not readable or incomplete yet, checked again on the next event
+            return;
+        }
+
+        Document document = watched.getDocument();
+        externalDocument.setTarget(document.getTarget());
+        ExternalChangeEvent event = new ExternalChangeEvent(document,
+                        this.getLocation(file), externalDocument);
+        this._mode.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (watched.isSaved(hash)) {
+                    // written by a save still running during the check
+                    return;
+                }
+                DocumentFileWatcher.this.applyExternalChange(event);
+            }
+        });
+    }
+
+    /**
+     * Applies the specified external change to the open document, or reports
+     * a conflict if the open document has unsaved modifications.
+     * @param event the external change event.
+     * @de.renew.require (event != null)
+     */
+    protected void applyExternalChange(ExternalChangeEvent event) {
+        Document document = event.getDocument();
+        if (document.isModified()) {
+            for (ExternalChangeListener listener : this._listeners.getListeners()) {
+                listener.changeConflicted(event);
+            }
+        } else {
+            this.reload(event);
+        }
+    }
+
+    /**
+     * Replaces the text and all sub parts of the specified document by copies
+     * of those of the specified external document. A text derived from the
+     * sub parts is kept.
+     * @param document the open document to be changed.
+     * @param externalDocument the document part providing the new content.
+     * @return {@code true}, if the content has been replaced;<br>
+     * {@code false}, if the document refused a change.
+     * @de.renew.require (document != null)
+     * @de.renew.require (externalDocument != null)
+     */
+    private static boolean replaceContent(Document document,
+                                          DocumentPart externalDocument) {
+        String text = (externalDocument.getText() == null) ? ""
+                        : externalDocument.getText();
+        if (!text.equals(document.getText())) {
+            try {
+                document.setText(text);
+            } catch (IllegalArgumentException e) {
+                // derived from the sub parts
+            }
+        }
+        try {
+            Collection<DocumentPart> oldParts = new ArrayList<DocumentPart>(
+                            document.getParts());
+            for (DocumentPart part : oldParts) {
+                document.removePart(part.getName());
+            }
+            for (DocumentPart part : externalDocument.getParts()) {
+                document.setPart((DocumentPart) part.clone());
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the stored version of the specified document in the local file
+     * system.
+     * @param document the document to be located.
+     * @return the absolute path of the stored version;<br>
+     * or {@code null}, if the document is not stored in the local file system.
+     * @de.renew.require (document != null)
+     */
+    private Path getStoredFile(Document document) {
+        if (document.getTarget() == null) {
+            return null;
+        }
+        URL location = this._ioManager.getDocumentLocation(document.getTarget());
+        if (location == null) {
+            return null;
+        }
+        File file = URLs.toFile(location);
+        if (file == null) {
+            return null;
+        }
+        Path returnValue = file.toPath().toAbsolutePath().normalize();
+        if (!Files.isDirectory(returnValue.getParent())) {
+            return null;
+        }
+        return returnValue;
+    }
+
+    /**
+     * Returns the URL of the specified file.
+     * @param file the file to be converted.
+     * @return the URL of the file.
+     * @de.renew.require (file != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    private URL getLocation(Path file) {
+        try {
+            return URLs.create(file.toFile());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Determines whether any watched file is located in the specified
+     * directory.
+     * @param directory the directory to be checked.
+     * @return {@code true}, if a watched file is located there;<br>
+     * {@code false} otherwise.
+     * @de.renew.require (directory != null)
+     */
+    private synchronized boolean isWatched(Path directory) {
+        for (Path file : this._watchedFiles.keySet()) {
+            if (directory.equals(file.getParent())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the watch service of this watcher, creating it and starting the
+     * watcher thread if necessary.
+     * @return the watch service.
+     * @throws IOException if the watch service could not be created.
+     * @de.renew.ensure (returnValue != null)
+     */
+    private synchronized WatchService getWatchService() throws IOException {
+        if (this._watchService == null) {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    DocumentFileWatcher.this.watchLoop(service);
+                }
+            }, "NetDoc file watcher");
+            thread.setDaemon(true);
+            thread.start();
+            this._watchService = service;
+        }
+        return this._watchService;
+    }
+
+    /**
+     * Blocks on the specified watch service and checks the changed files
+     * until the service is closed. All events reported within the settle
+     * delay are coalesced, so each changed file is checked once.
+     * @param service the watch service to be taken from.
+     * @de.renew.require (service != null)
+     */
+    private void watchLoop(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                this.collectChangedFiles(key);
+                // let the writer finish before reading the changed files
+                Thread.sleep(DocumentFileWatcher.SETTLE_DELAY);
+                while ((key = service.poll()) != null) {
+                    this.collectChangedFiles(key);
+                }
+                List<Path> changed;
+                synchronized (this) {
+                    changed = new ArrayList<Path>(this._pendingFiles);
+                    this._pendingFiles.clear();
+                }
+                for (Path file : changed) {
+                    this.check(file);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // the watcher has been closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Adds the watched files reported by the specified watch key to the
+     * files pending to be checked and resets the key.
+     * @param key the signalled watch key.
+     * @de.renew.require (key != null)
+     */
+    private synchronized void collectChangedFiles(WatchKey key) {
+        Path directory = this._watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                for (Path file : this._watchedFiles.keySet()) {
+                    if (directory.equals(file.getParent())) {
+                        this._pendingFiles.add(file);
+                    }
+                }
+            } else {
+                Path file = directory.resolve((Path) event.context());
+                if (this._watchedFiles.containsKey(file)) {
+                    this._pendingFiles.add(file);
+                }
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Returns the hash of the content of the specified file.
+     * @param file the file to be hashed.
+     * @return the hash of the content;<br>
+     * or {@code null}, if the file could not be read.
+     * @de.renew.require (file != null)
+     */
+    private static String readHash(Path file) {
+        try {
+            return DocumentFiles.hash(Files.readAllBytes(file));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+
+    /**
+     * Open document together with the hash of its last known stored version
+     * and the hash of the version last saved by the I/O manager.
+     */
+    private static class WatchedFile {
+
+        /**
+         * Creates a new WatchedFile for the specified document.
+         * @param document the open document.
+         * @param hash the hash of the stored version; may be {@code null}.
+         * @de.renew.require (document != null)
+         */
+        public WatchedFile(Document document, String hash) {
+            this._document = document;
+            this._hash = hash;
+        }
+
+        /**
+         * Returns the open document.
+         * @return the open document.
+         * @de.renew.ensure (returnValue != null)
+         */
+        public Document getDocument() {
+            return this._document;
+        }
+
+        /**
+         * Returns the hash of the last known stored version.
+         * @return the hash; or {@code null}, if unknown.
+         */
+        public synchronized String getHash() {
+            return this._hash;
+        }
+
+        /**
+         * Sets the hash of the last known stored version, if it still equals
+         * the specified expected hash. The hash of the version last saved by
+         * the I/O manager is forgotten, unless it is the new hash.
+         * @param expectedHash the hash expected to be known.
+         * @param hash the new hash.
+         * @return {@code true}, if the hash has been replaced;<br>
+         * {@code false} otherwise.
+         */
+        public synchronized boolean replaceHash(String expectedHash,
+                                                String hash) {
+            if (!Objects.equals(expectedHash, this._hash)) {
+                return false;
+            }
+            this._hash = hash;
+            if (!hash.equals(this._savedHash)) {
+                this._savedHash = null;
+            }
+            return true;
+        }
+
+        /**
+         * Records the hash of the version just saved by the I/O manager. The
+         * saved version also becomes the last known stored version.
+         * @param hash the hash of the saved version; may be {@code null}.
+         */
+        public synchronized void setSavedHash(String hash) {
+            this._savedHash = hash;
+            this._hash = hash;
+        }
+
+        /**
+         * Determines whether the specified hash is that of the version last
+         * saved by the I/O manager.
+         * @param hash the hash to be checked.
+         * @return {@code true}, if the version has been saved by the I/O
+         * manager;<br>
+         * {@code false} otherwise.
+         */
+        public synchronized boolean isSaved(String hash) {
+            return (this._savedHash != null) && this._savedHash.equals(hash);
+        }
+
+        /**
+         * The open document.
+         */
+        private Document _document;
+
+        /**
+         * The hash of the last known stored version.
+         */
+        private String _hash;
+
+        /**
+         * The hash of the version last saved by the I/O manager.
+         */
+        private String _savedHash;
+    }
+
+    /**
+     * The I/O manager locating and parsing documents.
+     */
+    private IOManager _ioManager;
+
+    /**
+     * The mode changes are applied and delivered in.
+     */
+    private DeliveryMode _mode;
+
+    /**
+     * The registered external change listeners.
+     */
+    private ListenerList<ExternalChangeListener> _listeners;
+
+    /**
+     * The watched files mapped to their open documents.
+     */
+    private Map<Path, WatchedFile> _watchedFiles;
+
+    /**
+     * The registered directories mapped to their watch keys.
+     */
+    private Map<Path, WatchKey> _watchKeys;
+
+    /**
+     * The watch keys mapped to their registered directories.
+     */
+    private Map<WatchKey, Path> _watchedDirectories;
+
+    /**
+     * The changed files waiting to be checked by the watcher thread.
+     */
+    private Set<Path> _pendingFiles;
+
+    /**
+     * The watch service; {@code null} until the first document is watched.
+     */
+    private WatchService _watchService;
+}
@@ -0,0 +1,75 @@
+package de.renew.netdoc.model.doctarget.targets;
+
+import de.renew.netdoc.io.URLs;
+import de.renew.netdoc.renew.hotdraw.FigureTarget;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * Documentation target specifying a document file without an open drawing.
+ * Used to process documents outside of the Renew GUI. A file target does not
+ * provide any sub-targets.
+ */
+public class FileTarget extends AbstractDocTarget implements ResourceTarget {
+
+    /**
+     * Creates a new target using the specified file.
+     * @param file the file to be used by the new target.
+     * @de.renew.require (file != null)
+     */
+    public FileTarget(File file) {
+        assert (file != null) : "Precondition violated: (file != null)";
+
+        this._file = file.getAbsoluteFile();
+    }
+
+    /**
+     * Returns the file used by this target.
+     * @return the absolute file used by this target.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public File getFile() {
+        return this._file;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public URL getResource() {
+        try {
+            return URLs.create(this.getFile());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the filename of this target without extension.
+     * @return the name of this target.
+     * @de.renew.ensure (returnValue != null)
+     */
+    @Override
+    protected String getNameImpl() {
+        String name = this.getFile().getName();
+        int extensionIndex = name.lastIndexOf('.');
+        return (extensionIndex > 0) ? name.substring(0, extensionIndex) : name;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    protected Collection<FigureTarget> getSubTargetsImpl() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The file used by this target.
+     */
+    private File _file;
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package de.renew.netdoc.model.document;
+
+
+/**
+ * Undo/redo history of the changes made to a document. A history records
+ * the text and structure changes of all parts of the document it observes,
+ * grouping bursts of typing into single compound edits.
+ */
+public interface DocumentHistory {
+
+    /**
+     * Determines whether there is an edit to be undone.
+     * @return {@code true}, if an edit can be undone;<br>
+     * {@code false} otherwise.
+     */
+    public boolean canUndo();
+
+    /**
+     * Determines whether there is an undone edit to be redone.
+     * @return {@code true}, if an edit can be redone;<br>
+     * {@code false} otherwise.
+     */
+    public boolean canRedo();
+
+    /**
+     * Undoes the latest edit.
+     * @de.renew.require canUndo()
+     */
+    public void undo();
+
+    /**
+     * Redoes the latest undone edit.
+     * @de.renew.require canRedo()
+     */
+    public void redo();
+
+    /**
+     * Ends the current compound edit, so that the next change starts a new
+     * edit.
+     */
+    public void endCompoundEdit();
+
+    /**
+     * Discards all edits of this history.
+     */
+    public void discardAllEdits();
+
+    /**
+     * Returns the number of edits that can be undone.
+     * @return the number of undoable edits.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getUndoCount();
+
+    /**
+     * Returns the number of edits that can be redone.
+     * @return the number of redoable edits.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getRedoCount();
+
+    /**
+     * Returns the estimated memory held by the edits of this history.
+     * @return the estimated size of the edits in bytes.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getByteCount();
+
+    /**
+     * Determines whether this history records the changes of the document.
+     * @return {@code true}, if changes are recorded;<br>
+     * {@code false}, if recording has been suspended.
+     */
+    public boolean isRecording();
+
+    /**
+     * Suspends or resumes recording the changes of the document. Changes
+     * made while recording is suspended must leave the texts of the document
+     * as they are, e.g. replacing parts by wrappers of themselves.
+     * @param recording {@code true}, if changes are to be recorded;<br>
+     * {@code false} otherwise.
+     */
+    public void setRecording(boolean recording);
+
+    /**
+     * Stops observing the document. The history can no longer record
+     * changes afterwards.
+     */
+    public void dispose();
+}
\ No newline at end of file
@@ -1,12 +1,19 @@
 package de.renew.netdoc.model.document;
 
 import de.renew.netdoc.model.document.documents.LinearDocument;
+import de.renew.netdoc.model.document.parts.LinearDocumentPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexCommentPart;
 import de.renew.netdoc.model.document.parts.linear.tex.TexTargetNamePart;
 import de.renew.netdoc.model.document.parts.linear.tex.TexTargetPackagePart;
+import de.renew.netdoc.model.document.traversal.DocumentTraversal;
 
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 
 
 /**
@@ -75,11 +82,54 @@ public abstract class DocumentParts {
     public static final String NETDOC_TEX_UNIT_VERSION_NUMBER = "1.0";
 
 
+    /**
+     * Separator of the part names within a document part path.
+     */
+    public static final String PATH_SEPARATOR = "/";
+
     /**
      * NetDoc date/time format pattern.
      */
     private static final String NETDOC_DATETIME_PATTERN = "dd-MMM-yyyy 'at' HH:mm";
 
+    /**
+     * The part names of the NetDoc vocabulary by themselves.
+     */
+    private static final Map<String, String> NAME_VOCABULARY = new HashMap<String, String>();
+
+    static {
+        for (String name : new String[] { DocumentParts.NAME_NETDOC_DOCUMENT,
+                        DocumentParts.NAME_NETDOC_MAIN,
+                        DocumentParts.NAME_NETDOC_AUTHOR,
+                        DocumentParts.NAME_NETDOC_DATE_CREATION,
+                        DocumentParts.NAME_NETDOC_DATE_LAST_MODIFIED,
+                        DocumentParts.NAME_NETDOC_TARGET_NAME,
+                        DocumentParts.NAME_NETDOC_TARGET_PACKAGE,
+                        DocumentParts.NAME_NETDOC_DESCRIPTION,
+                        DocumentParts.NAME_NETDOC_TITLE, TexCommentPart.NAME }) {
+            DocumentParts.NAME_VOCABULARY.put(name, name);
+        }
+    }
+
+
+    /**
+     * Returns the canonical instance of the specified part name. Names of the
+     * NetDoc vocabulary, e.g. {@link #NAME_NETDOC_AUTHOR}, are replaced by the
+     * respective constant, so that parsed or deserialised parts share their
+     * names instead of holding a copy each. Other names are returned as they
+     * are.
+     * @param partName the part name to be interned.
+     * @return the canonical instance of the part name.
+     * @de.renew.require (partName != null)
+     * @de.renew.ensure (returnValue != null)
+     * @de.renew.ensure returnValue.equals(partName)
+     */
+    public static String internName(String partName) {
+        assert (partName != null) : "Precondition violated: (partName != null)";
+
+        String returnValue = DocumentParts.NAME_VOCABULARY.get(partName);
+        return (returnValue != null) ? returnValue : partName;
+    }
 
     /**
      * Determines the NetDoc string representation of the specified date.
@@ -100,6 +150,150 @@ public abstract class DocumentParts {
         return returnValue;
     }
 
+    /**
+     * Determines the date represented by the specified NetDoc date string.
+     * @param dateString the NetDoc string representation of a date.
+     * @return the represented date;<br>
+     * or {@code null}, if the string is not a valid NetDoc date.
+     * @de.renew.require (dateString != null)
+     */
+    public static Date parseDate(String dateString) {
+        assert (dateString != null) : "Precondition violated: (dateString != null)";
+
+        try {
+            return new SimpleDateFormat(DocumentParts.NETDOC_DATETIME_PATTERN,
+                            Locale.ENGLISH).parse(dateString.trim());
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the text of the first document part with the specified name
+     * found by a depth-first search starting at the specified document part.
+     * @param root the document part to be searched.
+     * @param partName the name of the document part whose text is to be
+     * returned.
+     * @return the text of the first document part with the specified name;<br>
+     * or {@code null}, if no such document part exists.
+     * @de.renew.require (root != null)
+     * @de.renew.require (partName != null)
+     */
+    public static String findPartText(DocumentPart root, String partName) {
+        assert (root != null) : "Precondition violated: (root != null)";
+        assert (partName != null) : "Precondition violated: (partName != null)";
+
+        DocumentPart part = DocumentTraversal.findPart(root, partName);
+        return (part != null) ? part.getText() : null;
+    }
+
+    /**
+     * Returns the document part specified by the given path relative to the
+     * specified document part. The first name of the path is searched
+     * depth-first starting at the document part, each further name denotes a
+     * direct sub part of the part found so far. A path consisting of a single
+     * name thus denotes the first part of that name anywhere in the tree.
+     * @param root the document part to be searched.
+     * @param partPath the part names separated by {@link #PATH_SEPARATOR}.
+     * @return the document part specified by the path;<br>
+     * or {@code null}, if no such document part exists.
+     * @de.renew.require (root != null)
+     * @de.renew.require (partPath != null)
+     */
+    public static DocumentPart findPart(DocumentPart root, String partPath) {
+        assert (root != null) : "Precondition violated: (root != null)";
+        assert (partPath != null) : "Precondition violated: (partPath != null)";
+
+        String[] partNames = partPath.split(DocumentParts.PATH_SEPARATOR);
+        DocumentPart returnValue = DocumentTraversal.findPart(root,
+                        partNames[0]);
+        for (int i = 1; (returnValue != null) && (i < partNames.length); i++) {
+            returnValue = returnValue.getPart(partNames[i]);
+        }
+        return returnValue;
+    }
+
+    /**
+     * Changes the specified target part so that it matches the specified
+     * source part, touching only the sub parts that differ. Sub parts are
+     * matched by name; after the longest matching prefix and suffix the
+     * remaining target parts are replaced by copies of the remaining source
+     * parts. Parts whose text is derived and cannot be set are kept.
+     * @param target the document part to be changed.
+     * @param source the document part providing the new content.
+     * @return the number of changed document parts;<br>
+     * or {@code -1}, if the structure of both parts differs, so that the
+     * target has to be replaced as a whole.
+     * @de.renew.require (target != null)
+     * @de.renew.require (source != null)
+     * @de.renew.ensure (returnValue >= -1)
+     */
+    public static int applyDifferences(DocumentPart target,
+                                       DocumentPart source) {
+        assert (target != null) : "Precondition violated: (target != null)";
+        assert (source != null) : "Precondition violated: (source != null)";
+
+        boolean isLinear = (target instanceof LinearDocumentPart)
+                        && (source instanceof LinearDocumentPart);
+        if (!isLinear && ((target.getPartCount() != 0)
+                        || (source.getPartCount() != 0))) {
+            return -1;
+        }
+        int returnValue = 0;
+        String text = (source.getText() == null) ? "" : source.getText();
+        if (!text.equals(target.getText())) {
+            try {
+                target.setText(text);
+                returnValue++;
+            } catch (IllegalArgumentException e) {
+                // derived from the target, e.g. the target name
+            }
+        }
+        if (!isLinear) {
+            return returnValue;
+        }
+
+        LinearDocumentPart linearTarget = (LinearDocumentPart) target;
+        LinearDocumentPart linearSource = (LinearDocumentPart) source;
+        int targetCount = linearTarget.getPartCount();
+        int sourceCount = linearSource.getPartCount();
+        int common = Math.min(targetCount, sourceCount);
+
+        int prefix = 0;
+        while ((prefix < common)
+                        && DocumentParts.isMatching(linearTarget.getPartAt(prefix),
+                                        linearSource.getPartAt(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while ((suffix < common - prefix)
+                        && DocumentParts.isMatching(
+                                        linearTarget.getPartAt(targetCount - 1 - suffix),
+                                        linearSource.getPartAt(sourceCount - 1 - suffix))) {
+            suffix++;
+        }
+
+        for (int i = 0; i < prefix; i++) {
+            returnValue += DocumentParts.applyDifferencesAt(linearTarget, i,
+                            linearSource.getPartAt(i));
+        }
+        for (int i = 0; i < suffix; i++) {
+            returnValue += DocumentParts.applyDifferencesAt(linearTarget,
+                            targetCount - 1 - i,
+                            linearSource.getPartAt(sourceCount - 1 - i));
+        }
+        for (int i = targetCount - suffix - 1; i >= prefix; i--) {
+            linearTarget.removePartAt(i);
+            returnValue++;
+        }
+        for (int i = prefix; i < sourceCount - suffix; i++) {
+            linearTarget.addPartAt(i,
+                            (DocumentPart) linearSource.getPartAt(i).clone());
+            returnValue++;
+        }
+        return returnValue;
+    }
+
     /**
      * Sets or adds the NetDoc name and package part of the specified document
      * using the TeX drawing name and package parts.
@@ -129,4 +323,42 @@ public abstract class DocumentParts {
             documentToModify.addPartAt(0, namePart);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Applies the differences of the specified source part to the sub part
+     * at the specified index, replacing the sub part by a copy of the source
+     * part if their structures differ.
+     * @param parent the document part containing the sub part.
+     * @param index the index of the sub part.
+     * @param source the document part providing the new content.
+     * @return the number of changed document parts.
+     * @de.renew.require (parent != null)
+     * @de.renew.require (source != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    private static int applyDifferencesAt(LinearDocumentPart parent,
+                                          int index, DocumentPart source) {
+        int returnValue = DocumentParts.applyDifferences(
+                        parent.getPartAt(index), source);
+        if (returnValue < 0) {
+            parent.setPartAt(index, (DocumentPart) source.clone());
+            returnValue = 1;
+        }
+        return returnValue;
+    }
+
+    /**
+     * Determines whether the specified document parts denote the same
+     * position in a document, i.e. have the same name.
+     * @param part the first document part.
+     * @param otherPart the second document part.
+     * @return {@code true}, if both parts match;<br>
+     * {@code false} otherwise.
+     * @de.renew.require (part != null)
+     * @de.renew.require (otherPart != null)
+     */
+    private static boolean isMatching(DocumentPart part,
+                                      DocumentPart otherPart) {
+        return Objects.equals(part.getName(), otherPart.getName());
+    }
+}
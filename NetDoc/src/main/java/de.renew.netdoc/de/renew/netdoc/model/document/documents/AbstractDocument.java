@@ -1,18 +1,19 @@
 package de.renew.netdoc.model.document.documents;
 
 import de.renew.netdoc.model.document.event.DocumentChangeEvent;
+import de.renew.netdoc.model.document.event.DocumentChangeHandler;
 import de.renew.netdoc.model.document.event.DocumentChangeListener;
 import de.renew.netdoc.model.document.parts.AbstractDocumentPart;
 import de.renew.netdoc.model.doctarget.DocTarget;
 import de.renew.netdoc.model.document.Document;
 import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.event.ListenerList;
+import de.renew.netdoc.monitor.NetDocMetrics;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.Constructor;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Enumeration;
 
 
@@ -132,12 +133,10 @@ public abstract class AbstractDocument extends AbstractDocumentPart
      * @de.renew.require (event != null)
      */
     protected void fireDocumentChangeEvent(DocumentChangeEvent event) {
-        Enumeration<DocumentChangeListener> listenerEnum = this
-                        .getDocumentChangeListeners();
-
-        while (listenerEnum.hasMoreElements()) {
-            (listenerEnum.nextElement()).documentChanged(event);
-        }
+        NetDocMetrics.recordEvent(NetDocMetrics.EVENT_DOCUMENT_CHANGED,
+                        this._documentChangeListeners.fire(
+                                        DocumentChangeHandler.DOCUMENT_CHANGED,
+                                        event));
     }
 
     /**
@@ -147,12 +146,7 @@ public abstract class AbstractDocument extends AbstractDocumentPart
      * @de.renew.require (listenerToAdd != null)
      */
     protected void addDocumentChangeListenerImpl(DocumentChangeListener listenerToAdd) {
-        DocumentChangeListener[] oldListeners = this._documentChangeListeners;
-        DocumentChangeListener[] newListeners = new DocumentChangeListener[oldListeners.length
-                        + 1];
-        System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
-        newListeners[oldListeners.length] = listenerToAdd;
-        this._documentChangeListeners = newListeners;
+        this._documentChangeListeners.add(listenerToAdd);
     }
 
     /**
@@ -162,16 +156,7 @@ public abstract class AbstractDocument extends AbstractDocumentPart
      * @de.renew.require (listenerToRemove != null)
      */
     protected void removeDocumentChangeListenerImpl(DocumentChangeListener listenerToRemove) {
-        DocumentChangeListener[] oldListeners = this._documentChangeListeners;
-        int index = Arrays.asList(oldListeners).indexOf(listenerToRemove);
-        if (index >= 0) {
-            DocumentChangeListener[] newListeners = new DocumentChangeListener[oldListeners.length
-                            - 1];
-            System.arraycopy(oldListeners, 0, newListeners, 0, index);
-            System.arraycopy(oldListeners, index + 1, newListeners, index,
-                            newListeners.length - index);
-            this._documentChangeListeners = newListeners;
-        }
+        this._documentChangeListeners.remove(listenerToRemove);
     }
 
     /**
@@ -180,8 +165,7 @@ public abstract class AbstractDocument extends AbstractDocumentPart
      * @de.renew.ensure (returnValue != null)
      */
     protected Enumeration<DocumentChangeListener> getDocumentChangeListenersImpl() {
-        return Collections.enumeration(
-                        Arrays.asList(this._documentChangeListeners));
+        return this._documentChangeListeners.enumeration();
     }
 
     /**
@@ -200,7 +184,8 @@ public abstract class AbstractDocument extends AbstractDocumentPart
      * Initialises this document part.
      */
     private void initialise() {
-        this._documentChangeListeners = new DocumentChangeListener[0];
+        this._documentChangeListeners = new ListenerList<DocumentChangeListener>(
+                        DocumentChangeListener.class);
     }
 
     /**
@@ -237,5 +222,5 @@ public abstract class AbstractDocument extends AbstractDocumentPart
     /**
      * The document change listeners registered to this document.
      */
-    private transient DocumentChangeListener[] _documentChangeListeners;
+    private transient ListenerList<DocumentChangeListener> _documentChangeListeners;
 }
\ No newline at end of file
@@ -11,11 +11,12 @@ import de.renew.netdoc.model.document.event.StructureChangeListener;
 import de.renew.netdoc.model.document.event.TextChangeAdapter;
 import de.renew.netdoc.model.document.event.TextChangeEvent;
 import de.renew.netdoc.model.document.event.TextChangeListener;
+import de.renew.netdoc.model.document.parts.CompactPartList;
+import de.renew.netdoc.monitor.events.ChangeCascadeEvent;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
@@ -45,8 +46,6 @@ public class SimpleLinearDocument extends LinearDocument {
     public SimpleLinearDocument(DocTarget target) {
         this(target, DocumentParts.NETDOC_TEX_UNIT_VERSION_PREFIX
                         + DocumentParts.NETDOC_TEX_UNIT_VERSION_NUMBER);
-
-        this._parts = new ArrayList<DocumentPart>();
     }
 
     /**
@@ -60,7 +59,7 @@ public class SimpleLinearDocument extends LinearDocument {
         super(target);
         assert (version != null) : "Precondition violated: (version != null)";
 
-        this._parts = new ArrayList<DocumentPart>();
+        this._parts = new CompactPartList();
         this._version = version;
     }
 
@@ -94,11 +93,15 @@ public class SimpleLinearDocument extends LinearDocument {
         this.addSubPartTextChangeListener(partToAdd);
         this.getInternalPartList().add(index, partToAdd);
         this.setModified(true);
+        ChangeCascadeEvent cascade = new ChangeCascadeEvent(
+                        ChangeCascadeEvent.PART_ADDED);
+        cascade.begin();
         StructureChangeEvent event = new StructureChangeEvent(
                         StructureChangeEvent.PART_ADDED, this, partToAdd,
                         index);
         this.fireStructureChangeEvent(event);
         this.fireDocumentChangeEvent(new DocumentChangeEvent(this, event));
+        cascade.commitFor(this);
     }
 
     /**
@@ -119,11 +122,15 @@ public class SimpleLinearDocument extends LinearDocument {
         this.removeSubPartTextChangeListener(part);
         this.getInternalPartList().remove(index);
         this.setModified(true);
+        ChangeCascadeEvent cascade = new ChangeCascadeEvent(
+                        ChangeCascadeEvent.PART_REMOVED);
+        cascade.begin();
         StructureChangeEvent event = new StructureChangeEvent(
                         StructureChangeEvent.PART_REMOVED, this,
                 part, index);
         this.fireStructureChangeEvent(event);
         this.fireDocumentChangeEvent(new DocumentChangeEvent(this, event));
+        cascade.commitFor(this);
     }
 
     /**
@@ -149,16 +156,20 @@ public class SimpleLinearDocument extends LinearDocument {
     @Override
     protected void setPartAtImpl(int index, DocumentPart part)
                     throws IllegalArgumentException {
-        this.removeSubPartStructureChangeListener(this.getPartAt(index));
-        this.removeSubPartTextChangeListener(this.getPartAt(index));
+        DocumentPart oldPart = this.getPartAt(index);
+        this.removeSubPartStructureChangeListener(oldPart);
+        this.removeSubPartTextChangeListener(oldPart);
         this.addSubPartStructureChangeListener(part);
         this.addSubPartTextChangeListener(part);
         this.getInternalPartList().set(index, part);
         this.setModified(true);
+        ChangeCascadeEvent cascade = new ChangeCascadeEvent(
+                        ChangeCascadeEvent.PART_REPLACED);
+        cascade.begin();
 
         StructureChangeEvent addedEvent = new StructureChangeEvent(
-                        StructureChangeEvent.PART_REMOVED, this,
-                        this.getPartAt(index), index);
+                        StructureChangeEvent.PART_REMOVED, this, oldPart,
+                        index);
         this.fireStructureChangeEvent(addedEvent);
         this.fireDocumentChangeEvent(new DocumentChangeEvent(this, addedEvent));
 
@@ -167,6 +178,7 @@ public class SimpleLinearDocument extends LinearDocument {
         this.fireStructureChangeEvent(removedEvent);
         this.fireDocumentChangeEvent(
                         new DocumentChangeEvent(this, removedEvent));
+        cascade.commitFor(this);
     }
 
     /**
@@ -174,7 +186,11 @@ public class SimpleLinearDocument extends LinearDocument {
      */
     @Override
     protected List<DocumentPart> getPartListImpl() {
-        return Collections.unmodifiableList(this.getInternalPartList());
+        if (this._partListView == null) {
+            this._partListView = Collections
+                            .unmodifiableList(this.getInternalPartList());
+        }
+        return this._partListView;
     }
 
     /**
@@ -300,8 +316,9 @@ public class SimpleLinearDocument extends LinearDocument {
         stream.defaultReadObject();
         Iterator<DocumentPart> partIterator = this.getPartList().iterator();
         while (partIterator.hasNext()) {
-            this.addSubPartStructureChangeListener(partIterator.next());
-            this.addSubPartTextChangeListener(partIterator.next());
+            DocumentPart part = partIterator.next();
+            this.addSubPartStructureChangeListener(part);
+            this.addSubPartTextChangeListener(part);
         }
     }
 
@@ -313,10 +330,16 @@ public class SimpleLinearDocument extends LinearDocument {
     }
 
     /**
-     * The sub parts of this document.
+     * The sub parts of this document, held in an array of their exact number.
      */
     private List<DocumentPart> _parts;
 
+    /**
+     * The unmodifiable view of the sub parts of this document; created on first
+     * use.
+     */
+    private transient List<DocumentPart> _partListView;
+
     /**
      * The version string associated with this document.
      */
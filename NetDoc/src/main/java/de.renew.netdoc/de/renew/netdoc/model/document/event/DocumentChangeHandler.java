@@ -0,0 +1,21 @@
+package de.renew.netdoc.model.document.event;
+
+import de.renew.netdoc.model.event.EventHandler;
+
+
+/**
+ * Handler of document change events.
+ */
+public enum DocumentChangeHandler
+                implements EventHandler<DocumentChangeListener, DocumentChangeEvent> {
+
+    /**
+     * Handler of document change events.
+     */
+    DOCUMENT_CHANGED {
+        @Override
+        public void dispatch(DocumentChangeListener listener, DocumentChangeEvent event) {
+            listener.documentChanged(event);
+        }
+    }
+}
\ No newline at end of file
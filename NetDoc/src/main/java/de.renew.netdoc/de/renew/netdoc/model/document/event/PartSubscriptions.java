@@ -0,0 +1,288 @@
+package de.renew.netdoc.model.document.event;
+
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.event.ListenerList;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * <p>Registry of text change listeners subscribed to single parts of a
+ * document, each part given by its path as described by
+ * {@link DocumentParts#findPart(DocumentPart, String)}.</p>
+ * <p>Every subscribed path is bound to the part it currently denotes by
+ * observing that part directly, so text changes of other parts never reach
+ * the subscribers. Only structure changes are observed at the root; they
+ * cause the paths to be bound again. If a path is bound to another part, or
+ * to no part at all, and its text differs thereby, the subscribers are
+ * notified by a text change event as well.</p>
+ * <p>A registry stays attached to its root until {@link #dispose()} is
+ * invoked.</p>
+ */
+public class PartSubscriptions {
+
+    /**
+     * Creates new PartSubscriptions of the parts of the specified document
+     * part.
+     * @param root the document part whose parts are to be subscribed to.
+     * @de.renew.require (root != null)
+     */
+    public PartSubscriptions(DocumentPart root) {
+        assert (root != null) : "Precondition violated: (root != null)";
+
+        this._root = root;
+        this._subscriptions = new LinkedHashMap<String, PartSubscriptions.Subscription>();
+        this._structureListener = this.new RootStructureListener();
+        root.addStructureChangeListener(this._structureListener);
+    }
+
+    /**
+     * Returns the document part whose parts are subscribed to.
+     * @return the root document part.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DocumentPart getRoot() {
+        return this._root;
+    }
+
+    /**
+     * Subscribes the specified listener to text changes of the part
+     * specified by the given path.
+     * @param partPath the path of the part to be observed.
+     * @param listenerToAdd the listener to be added.
+     * @de.renew.require (partPath != null)
+     * @de.renew.require (listenerToAdd != null)
+     */
+    public synchronized void addTextChangeListener(String partPath,
+                                                   TextChangeListener listenerToAdd) {
+        assert (partPath != null) : "Precondition violated: (partPath != null)";
+        assert (listenerToAdd != null) : "Precondition violated: (listenerToAdd != null)";
+
+        PartSubscriptions.Subscription subscription = this._subscriptions
+                        .get(partPath);
+        if (subscription == null) {
+            subscription = this.new Subscription(partPath);
+            this._subscriptions.put(partPath, subscription);
+            subscription.bind();
+        }
+        subscription.getListeners().add(listenerToAdd);
+    }
+
+    /**
+     * Unsubscribes the specified listener from text changes of the part
+     * specified by the given path.
+     * @param partPath the path of the part observed.
+     * @param listenerToRemove the listener to be removed.
+     * @de.renew.require (partPath != null)
+     */
+    public synchronized void removeTextChangeListener(String partPath,
+                                                      TextChangeListener listenerToRemove) {
+        assert (partPath != null) : "Precondition violated: (partPath != null)";
+
+        PartSubscriptions.Subscription subscription = this._subscriptions
+                        .get(partPath);
+        if ((subscription != null)
+                        && subscription.getListeners().remove(listenerToRemove)
+                        && subscription.getListeners().isEmpty()) {
+            subscription.unbind();
+            this._subscriptions.remove(partPath);
+        }
+    }
+
+    /**
+     * Returns the part the specified path is currently bound to.
+     * @param partPath the path of the part.
+     * @return the part specified by the path;<br>
+     * or {@code null}, if no such part exists.
+     * @de.renew.require (partPath != null)
+     */
+    public synchronized DocumentPart getPart(String partPath) {
+        assert (partPath != null) : "Precondition violated: (partPath != null)";
+
+        PartSubscriptions.Subscription subscription = this._subscriptions
+                        .get(partPath);
+        if (subscription != null) {
+            return subscription.getPart();
+        }
+        return DocumentParts.findPart(this.getRoot(), partPath);
+    }
+
+    /**
+     * Returns the number of paths currently subscribed to.
+     * @return the number of subscribed paths.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public synchronized int getSubscriptionCount() {
+        return this._subscriptions.size();
+    }
+
+    /**
+     * Detaches this registry from its root and discards all subscriptions.
+     */
+    public synchronized void dispose() {
+        this.getRoot().removeStructureChangeListener(this._structureListener);
+        for (PartSubscriptions.Subscription subscription : this._subscriptions
+                        .values()) {
+            subscription.unbind();
+        }
+        this._subscriptions.clear();
+    }
+
+    /**
+     * Binds all subscribed paths again after the structure of the root has
+     * changed.
+     */
+    protected synchronized void rebind() {
+        for (PartSubscriptions.Subscription subscription : this._subscriptions
+                        .values()) {
+            subscription.bind();
+        }
+    }
+
+    /**
+     * The document part whose parts are subscribed to.
+     */
+    private DocumentPart _root;
+
+    /**
+     * The subscriptions of this registry by part path.
+     */
+    private Map<String, PartSubscriptions.Subscription> _subscriptions;
+
+    /**
+     * The structure change listener observing the root.
+     */
+    private StructureChangeListener _structureListener;
+
+
+    /**
+     * Observer listening to structure changes anywhere below the root.
+     */
+    private class RootStructureListener extends StructureChangeAdapter {
+
+        /**
+         * Creates a new RootStructureListener.
+         */
+        public RootStructureListener() {
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected void partAddedImpl(StructureChangeEvent event) {
+            PartSubscriptions.this.rebind();
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected void partRemovedImpl(StructureChangeEvent event) {
+            PartSubscriptions.this.rebind();
+        }
+    }
+
+    /**
+     * Subscription of a single path, observing the part the path is bound to
+     * and forwarding its text changes to the subscribers.
+     */
+    private class Subscription extends TextChangeAdapter {
+
+        /**
+         * Creates a new unbound Subscription of the specified path.
+         * @param partPath the path of the part to be observed.
+         * @de.renew.require (partPath != null)
+         */
+        public Subscription(String partPath) {
+            this._partPath = partPath;
+            this._part = null;
+            this._listeners = new ListenerList<TextChangeListener>(
+                            TextChangeListener.class);
+        }
+
+        /**
+         * Returns the subscribers of this subscription.
+         * @return the subscribed listeners.
+         * @de.renew.ensure (returnValue != null)
+         */
+        public ListenerList<TextChangeListener> getListeners() {
+            return this._listeners;
+        }
+
+        /**
+         * Returns the part the path is currently bound to.
+         * @return the observed part;<br>
+         * or {@code null}, if the path denotes no part.
+         */
+        public DocumentPart getPart() {
+            return this._part;
+        }
+
+        /**
+         * Binds the path to the part it currently denotes. Notifies the
+         * subscribers, if the text at the path differs thereby.
+         */
+        public void bind() {
+            DocumentPart oldPart = this._part;
+            DocumentPart newPart = DocumentParts.findPart(
+                            PartSubscriptions.this.getRoot(), this._partPath);
+            if (newPart == oldPart) {
+                return;
+            }
+            if (oldPart != null) {
+                oldPart.removeTextChangeListener(this);
+            }
+            this._part = newPart;
+            if (newPart != null) {
+                newPart.addTextChangeListener(this);
+            }
+            if (oldPart != null) {
+                String oldText = oldPart.getText();
+                String newText = (newPart != null) ? newPart.getText() : "";
+                if (!oldText.equals(newText)) {
+                    this.getListeners().fire(TextChangeHandler.TEXT_CHANGED,
+                                    new TextChangeEvent(
+                                                    (newPart != null) ? newPart
+                                                                    : oldPart,
+                                                    oldText, newText));
+                }
+            }
+        }
+
+        /**
+         * Stops observing the part the path is bound to.
+         */
+        public void unbind() {
+            if (this._part != null) {
+                this._part.removeTextChangeListener(this);
+                this._part = null;
+            }
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected void textChangedImpl(TextChangeEvent event) {
+            this.getListeners().fire(TextChangeHandler.TEXT_CHANGED, event);
+        }
+
+        /**
+         * The path of the observed part.
+         */
+        private String _partPath;
+
+        /**
+         * The part the path is currently bound to.
+         */
+        private DocumentPart _part;
+
+        /**
+         * The subscribers of this subscription.
+         */
+        private ListenerList<TextChangeListener> _listeners;
+    }
+}
\ No newline at end of file
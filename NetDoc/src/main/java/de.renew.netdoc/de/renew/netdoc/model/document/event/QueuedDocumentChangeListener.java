@@ -0,0 +1,71 @@
+package de.renew.netdoc.model.document.event;
+
+import de.renew.netdoc.model.event.DeliveryMode;
+import de.renew.netdoc.model.event.DeliveryQueue;
+
+
+/**
+ * Document change listener forwarding the events it receives to another
+ * listener through a {@link DeliveryQueue}. Registering a queued listener
+ * instead of the listener itself lets a slow listener be notified on the
+ * event dispatch thread or in the background, without delaying the edit
+ * that fired the event. Events are keyed by the document changed, so that
+ * pending changes of the same document are coalesced in coalescing modes.
+ * <p>To unregister, the queued listener has to be removed, not the listener
+ * it forwards to.</p>
+ */
+public class QueuedDocumentChangeListener implements DocumentChangeListener {
+
+    /**
+     * Creates a new QueuedDocumentChangeListener forwarding to the specified
+     * listener in the specified mode.
+     * @param listener the listener to be notified.
+     * @param mode the delivery mode.
+     * @de.renew.require (listener != null)
+     * @de.renew.require (mode != null)
+     */
+    public QueuedDocumentChangeListener(DocumentChangeListener listener,
+                                        DeliveryMode mode) {
+        this(listener, mode, DeliveryQueue.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new QueuedDocumentChangeListener forwarding to the specified
+     * listener in the specified mode.
+     * @param listener the listener to be notified.
+     * @param mode the delivery mode.
+     * @param capacity the number of pending events above which superseded
+     * events are dropped.
+     * @de.renew.require (listener != null)
+     * @de.renew.require (mode != null)
+     * @de.renew.require (capacity > 0)
+     */
+    public QueuedDocumentChangeListener(DocumentChangeListener listener,
+                                        DeliveryMode mode, int capacity) {
+        this._queue = new DeliveryQueue<DocumentChangeListener>(listener, mode,
+                        capacity);
+    }
+
+    /**
+     * Returns the queue delivering the events of this listener.
+     * @return the delivery queue.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DeliveryQueue<DocumentChangeListener> getQueue() {
+        return this._queue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void documentChanged(DocumentChangeEvent event) {
+        this.getQueue().post(DocumentChangeHandler.DOCUMENT_CHANGED, event,
+                        event.getOriginator());
+    }
+
+    /**
+     * The queue delivering the events of this listener.
+     */
+    private DeliveryQueue<DocumentChangeListener> _queue;
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package de.renew.netdoc.model.document.event;
+
+import de.renew.netdoc.model.event.EventHandler;
+
+
+/**
+ * Handler table of structure change events, keyed by event type.
+ */
+public enum StructureChangeHandler
+                implements EventHandler<StructureChangeListener, StructureChangeEvent> {
+
+    /**
+     * Handler of part-added events.
+     */
+    PART_ADDED(StructureChangeEvent.PART_ADDED) {
+        @Override
+        public void dispatch(StructureChangeListener listener,
+                             StructureChangeEvent event) {
+            listener.partAdded(event);
+        }
+    },
+
+    /**
+     * Handler of part-removed events.
+     */
+    PART_REMOVED(StructureChangeEvent.PART_REMOVED) {
+        @Override
+        public void dispatch(StructureChangeListener listener,
+                             StructureChangeEvent event) {
+            listener.partRemoved(event);
+        }
+    };
+
+    /**
+     * Returns the handler of the specified structure change event type.
+     * @param type the event type.
+     * @return the handler of the event type;<br>
+     * or {@code null}, if the type is unknown.
+     */
+    public static StructureChangeHandler forType(Object type) {
+        if (type instanceof Integer) {
+            int index = ((Integer) type).intValue() - 1;
+            if ((index >= 0) && (index < StructureChangeHandler.HANDLERS.length)) {
+                return StructureChangeHandler.HANDLERS[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a new handler of the specified event type.
+     * @param type the event type handled.
+     */
+    private StructureChangeHandler(Object type) {
+        this._type = type;
+    }
+
+    /**
+     * Returns the event type handled by this handler.
+     * @return the event type.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Object getType() {
+        return this._type;
+    }
+
+    /**
+     * The handlers indexed by their event type minus one. The constants are
+     * declared in the order of the values of their event types.
+     */
+    private static final StructureChangeHandler[] HANDLERS = StructureChangeHandler
+                    .values();
+
+    /**
+     * The event type handled by this handler.
+     */
+    private final Object _type;
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package de.renew.netdoc.model.document.event;
+
+import de.renew.netdoc.model.event.EventHandler;
+
+
+/**
+ * Handler of text change events.
+ */
+public enum TextChangeHandler
+                implements EventHandler<TextChangeListener, TextChangeEvent> {
+
+    /**
+     * Handler of text change events.
+     */
+    TEXT_CHANGED {
+        @Override
+        public void dispatch(TextChangeListener listener, TextChangeEvent event) {
+            listener.textChanged(event);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,703 @@
+package de.renew.netdoc.model.document.histories;
+
+import de.renew.netdoc.model.document.DocumentHistory;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.event.StructureChangeEvent;
+import de.renew.netdoc.model.document.event.StructureChangeListener;
+import de.renew.netdoc.model.document.event.TextChangeEvent;
+import de.renew.netdoc.model.document.event.TextChangeListener;
+import de.renew.netdoc.model.document.parts.LinearDocumentPart;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * <p>Document history bounded by a memory budget. The history observes the
+ * root part of a document and records every text change as the delta
+ * between the old and the new text, and every structure change of a linear
+ * document part as the part added or removed at its index.</p>
+ * <p>Text changes of the same part following each other within the burst
+ * interval are grouped into one compound edit, as are the removal and
+ * addition replacing a part. If the estimated size of all edits exceeds the
+ * byte budget, the oldest edits are evicted; the latest edit is always
+ * kept.</p>
+ * <p>Structure changes of parts that are not linear, or whose index is
+ * unknown, cannot be undone; they discard all edits recorded so far.</p>
+ */
+public class BoundedDocumentHistory implements DocumentHistory {
+
+    /**
+     * Default memory budget of a history in bytes.
+     */
+    public static final long DEFAULT_BYTE_BUDGET = 1024L * 1024L;
+
+    /**
+     * Default interval in milliseconds within which text changes of the same
+     * part are grouped.
+     */
+    public static final long DEFAULT_BURST_MILLIS = 1000L;
+
+    /**
+     * Estimated size in bytes of an edit without its texts.
+     */
+    private static final long EDIT_OVERHEAD = 48L;
+
+
+    /**
+     * Creates a new BoundedDocumentHistory of the specified document part
+     * using the default budget and burst interval.
+     * @param root the document part to be observed.
+     * @de.renew.require (root != null)
+     */
+    public BoundedDocumentHistory(DocumentPart root) {
+        this(root, BoundedDocumentHistory.DEFAULT_BYTE_BUDGET,
+                        BoundedDocumentHistory.DEFAULT_BURST_MILLIS);
+    }
+
+    /**
+     * Creates a new BoundedDocumentHistory of the specified document part.
+     * @param root the document part to be observed.
+     * @param byteBudget the memory budget of the edits in bytes.
+     * @param burstMillis the interval in milliseconds within which text
+     * changes of the same part are grouped.
+     * @de.renew.require (root != null)
+     * @de.renew.require (byteBudget > 0)
+     * @de.renew.require (burstMillis >= 0)
+     */
+    public BoundedDocumentHistory(DocumentPart root, long byteBudget,
+                                  long burstMillis) {
+        assert (root != null) : "Precondition violated: (root != null)";
+        assert (byteBudget > 0) : "Precondition violated: (byteBudget > 0)";
+        assert (burstMillis >= 0) : "Precondition violated: (burstMillis >= 0)";
+
+        this._root = root;
+        this._byteBudget = byteBudget;
+        this._burstNanos = burstMillis * 1000000L;
+        this._undoEdits = new ArrayDeque<BoundedDocumentHistory.CompoundEdit>();
+        this._redoEdits = new ArrayDeque<BoundedDocumentHistory.CompoundEdit>();
+        this._openEdit = null;
+        this._byteCount = 0L;
+        this._applying = false;
+        this._recording = true;
+        this._changeListener = this.new ChangeListener();
+        root.addTextChangeListener(this._changeListener);
+        root.addStructureChangeListener(this._changeListener);
+    }
+
+    /**
+     * Returns the document part observed by this history.
+     * @return the root document part.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DocumentPart getRoot() {
+        return this._root;
+    }
+
+    /**
+     * Returns the memory budget of this history.
+     * @return the budget in bytes.
+     */
+    public long getByteBudget() {
+        return this._byteBudget;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized boolean canUndo() {
+        return !this._undoEdits.isEmpty();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized boolean canRedo() {
+        return !this._redoEdits.isEmpty();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void undo() {
+        assert (this.canUndo()) : "Precondition violated: canUndo()";
+
+        BoundedDocumentHistory.CompoundEdit edit = this._undoEdits.pollLast();
+        this._openEdit = null;
+        this._applying = true;
+        try {
+            edit.undo();
+        } finally {
+            this._applying = false;
+        }
+        this._redoEdits.addLast(edit);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void redo() {
+        assert (this.canRedo()) : "Precondition violated: canRedo()";
+
+        BoundedDocumentHistory.CompoundEdit edit = this._redoEdits.pollLast();
+        this._applying = true;
+        try {
+            edit.redo();
+        } finally {
+            this._applying = false;
+        }
+        this._undoEdits.addLast(edit);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void endCompoundEdit() {
+        this._openEdit = null;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void discardAllEdits() {
+        this._undoEdits.clear();
+        this._redoEdits.clear();
+        this._openEdit = null;
+        this._byteCount = 0L;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized int getUndoCount() {
+        return this._undoEdits.size();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized int getRedoCount() {
+        return this._redoEdits.size();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized long getByteCount() {
+        return this._byteCount;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized boolean isRecording() {
+        return this._recording;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void setRecording(boolean recording) {
+        this._recording = recording;
+        this._openEdit = null;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public synchronized void dispose() {
+        this.getRoot().removeTextChangeListener(this._changeListener);
+        this.getRoot().removeStructureChangeListener(this._changeListener);
+        this.discardAllEdits();
+    }
+
+    /**
+     * Records the specified edit, unless it is caused by undoing or redoing
+     * an edit of this history or recording has been suspended.
+     * @param edit the edit to be recorded.
+     * @de.renew.require (edit != null)
+     */
+    protected synchronized void record(BoundedDocumentHistory.Edit edit) {
+        if (this._applying || !this._recording) {
+            return;
+        }
+        for (BoundedDocumentHistory.CompoundEdit redoEdit : this._redoEdits) {
+            this._byteCount -= redoEdit.getByteCount();
+        }
+        this._redoEdits.clear();
+
+        long now = System.nanoTime();
+        if ((this._openEdit == null)
+                        || !this._openEdit.accepts(edit, now, this._burstNanos)) {
+            this._openEdit = new BoundedDocumentHistory.CompoundEdit();
+            this._undoEdits.addLast(this._openEdit);
+        }
+        this._openEdit.add(edit, now);
+        this._byteCount += edit.getByteCount();
+
+        while ((this._byteCount > this._byteBudget)
+                        && (this._undoEdits.size() > 1)) {
+            this._byteCount -= this._undoEdits.pollFirst().getByteCount();
+        }
+    }
+
+    /**
+     * The document part observed by this history.
+     */
+    private DocumentPart _root;
+
+    /**
+     * The memory budget of the edits in bytes.
+     */
+    private long _byteBudget;
+
+    /**
+     * The interval in nanoseconds within which text changes are grouped.
+     */
+    private long _burstNanos;
+
+    /**
+     * The edits to be undone, oldest first.
+     */
+    private ArrayDeque<BoundedDocumentHistory.CompoundEdit> _undoEdits;
+
+    /**
+     * The edits to be redone, the next one last.
+     */
+    private ArrayDeque<BoundedDocumentHistory.CompoundEdit> _redoEdits;
+
+    /**
+     * The compound edit further changes may be added to;<br>
+     * or {@code null}, if the next change starts a new edit.
+     */
+    private BoundedDocumentHistory.CompoundEdit _openEdit;
+
+    /**
+     * The estimated size of all edits in bytes.
+     */
+    private long _byteCount;
+
+    /**
+     * Specifies whether an edit is being undone or redone.
+     */
+    private boolean _applying;
+
+    /**
+     * Specifies whether changes are recorded.
+     */
+    private boolean _recording;
+
+    /**
+     * The listener observing the root.
+     */
+    private ChangeListener _changeListener;
+
+
+    /**
+     * Observer recording the changes of the root and all its sub parts.
+     */
+    private class ChangeListener
+                    implements TextChangeListener, StructureChangeListener {
+
+        /**
+         * Creates a new ChangeListener.
+         */
+        public ChangeListener() {
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void textChanged(TextChangeEvent event) {
+            BoundedDocumentHistory.this.record(BoundedDocumentHistory.TextEdit
+                            .create(event));
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void partAdded(StructureChangeEvent event) {
+            this.structureChanged(event, true);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void partRemoved(StructureChangeEvent event) {
+            this.structureChanged(event, false);
+        }
+
+        /**
+         * Records the specified structure change, or discards all edits, if
+         * the change cannot be undone.
+         * @param event the structure change event.
+         * @param added {@code true}, if a part has been added;<br>
+         * {@code false}, if a part has been removed.
+         */
+        private void structureChanged(StructureChangeEvent event,
+                                      boolean added) {
+            if ((event.getOriginator() instanceof LinearDocumentPart)
+                            && (event.getInvolvedPart() != null)
+                            && (event.getChangeIndex() >= 0)) {
+                BoundedDocumentHistory.this.record(
+                                new BoundedDocumentHistory.StructureEdit(
+                                                (LinearDocumentPart) event
+                                                                .getOriginator(),
+                                                event.getInvolvedPart(),
+                                                event.getChangeIndex(), added));
+            } else {
+                synchronized (BoundedDocumentHistory.this) {
+                    if (!BoundedDocumentHistory.this._applying
+                                    && BoundedDocumentHistory.this._recording) {
+                        BoundedDocumentHistory.this.discardAllEdits();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Single change recorded by the history.
+     */
+    private abstract static class Edit {
+
+        /**
+         * Reverts the change.
+         */
+        public abstract void undo();
+
+        /**
+         * Applies the change again.
+         */
+        public abstract void redo();
+
+        /**
+         * Returns the estimated size of this edit.
+         * @return the size in bytes.
+         */
+        public abstract long getByteCount();
+    }
+
+    /**
+     * Text change of a part, stored as the text replaced at an offset.
+     */
+    private static class TextEdit extends BoundedDocumentHistory.Edit {
+
+        /**
+         * Creates a new TextEdit.
+         * @param part the part whose text has changed.
+         * @param offset the offset of the replaced text.
+         * @param removed the text removed at the offset.
+         * @param inserted the text inserted at the offset.
+         */
+        public TextEdit(DocumentPart part, int offset, String removed,
+                        String inserted) {
+            this._part = part;
+            this._offset = offset;
+            this._removed = removed;
+            this._inserted = inserted;
+        }
+
+        /**
+         * Creates the edit of the specified text change by stripping the
+         * common prefix and suffix of the old and the new text.
+         * @param event the text change event.
+         * @return the new edit.
+         * @de.renew.require (event != null)
+         */
+        public static TextEdit create(TextChangeEvent event) {
+            String oldText = event.getOldText();
+            String newText = event.getNewText();
+            int commonLength = Math.min(oldText.length(), newText.length());
+            int prefix = 0;
+            while ((prefix < commonLength)
+                            && (oldText.charAt(prefix) == newText.charAt(prefix))) {
+                prefix++;
+            }
+            int suffix = 0;
+            while ((suffix < commonLength - prefix)
+                            && (oldText.charAt(oldText.length() - 1 - suffix) == newText
+                                            .charAt(newText.length() - 1 - suffix))) {
+                suffix++;
+            }
+            return new TextEdit(event.getOriginator(), prefix,
+                            oldText.substring(prefix, oldText.length() - suffix),
+                            newText.substring(prefix, newText.length() - suffix));
+        }
+
+        /**
+         * Returns the part whose text has changed.
+         * @return the part.
+         */
+        public DocumentPart getPart() {
+            return this._part;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void undo() {
+            this.replace(this._inserted, this._removed);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void redo() {
+            this.replace(this._removed, this._inserted);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public long getByteCount() {
+            return BoundedDocumentHistory.EDIT_OVERHEAD
+                            + 2L * (this._removed.length() + this._inserted
+                                            .length());
+        }
+
+        /**
+         * Replaces the specified text at the offset of this edit.
+         * @param current the text currently found at the offset.
+         * @param replacement the text to be put at the offset.
+         */
+        private void replace(String current, String replacement) {
+            String text = this._part.getText();
+            this._part.setText(text.substring(0, this._offset) + replacement
+                            + text.substring(this._offset + current.length()));
+        }
+
+        /**
+         * The part whose text has changed.
+         */
+        private DocumentPart _part;
+
+        /**
+         * The offset of the replaced text.
+         */
+        private int _offset;
+
+        /**
+         * The text removed at the offset.
+         */
+        private String _removed;
+
+        /**
+         * The text inserted at the offset.
+         */
+        private String _inserted;
+    }
+
+    /**
+     * Addition or removal of a sub part of a linear document part.
+     */
+    private static class StructureEdit extends BoundedDocumentHistory.Edit {
+
+        /**
+         * Creates a new StructureEdit.
+         * @param container the part whose sub parts have changed.
+         * @param part the sub part added or removed.
+         * @param index the index of the sub part.
+         * @param added {@code true}, if the sub part has been added;<br>
+         * {@code false}, if it has been removed.
+         */
+        public StructureEdit(LinearDocumentPart container, DocumentPart part,
+                             int index, boolean added) {
+            this._container = container;
+            this._part = part;
+            this._index = index;
+            this._added = added;
+            // removed parts are kept alive by this edit only
+            this._byteCount = BoundedDocumentHistory.EDIT_OVERHEAD
+                            + (added ? 0L : 2L * part.getText().length());
+        }
+
+        /**
+         * Determines whether the specified edit adds a part at the index
+         * this edit removes a part of the same container at, so that both
+         * edits replace the part.
+         * @param edit the edit following this edit.
+         * @return {@code true}, if both edits replace a part;<br>
+         * {@code false} otherwise.
+         */
+        public boolean isReplacedBy(BoundedDocumentHistory.Edit edit) {
+            if (this._added || !(edit instanceof StructureEdit)) {
+                return false;
+            }
+            StructureEdit other = (StructureEdit) edit;
+            return other._added && (other._container == this._container)
+                            && (other._index == this._index);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void undo() {
+            this.apply(!this._added);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void redo() {
+            this.apply(this._added);
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public long getByteCount() {
+            return this._byteCount;
+        }
+
+        /**
+         * Adds or removes the sub part of this edit.
+         * @param add {@code true}, if the part is to be added;<br>
+         * {@code false}, if it is to be removed.
+         */
+        private void apply(boolean add) {
+            if (add) {
+                this._container.addPartAt(this._index, this._part);
+            } else {
+                this._container.removePartAt(this._index);
+            }
+        }
+
+        /**
+         * The part whose sub parts have changed.
+         */
+        private LinearDocumentPart _container;
+
+        /**
+         * The sub part added or removed.
+         */
+        private DocumentPart _part;
+
+        /**
+         * The index of the sub part.
+         */
+        private int _index;
+
+        /**
+         * Specifies whether the sub part has been added.
+         */
+        private boolean _added;
+
+        /**
+         * The estimated size of this edit in bytes.
+         */
+        private long _byteCount;
+    }
+
+    /**
+     * Sequence of edits undone and redone as a whole.
+     */
+    private static class CompoundEdit {
+
+        /**
+         * Creates a new empty CompoundEdit.
+         */
+        public CompoundEdit() {
+            this._edits = new ArrayList<BoundedDocumentHistory.Edit>();
+            this._lastNanos = 0L;
+            this._byteCount = 0L;
+        }
+
+        /**
+         * Determines whether the specified edit continues this compound
+         * edit: either as further typing in the same part within the burst
+         * interval, or as the addition completing the replacement of a part.
+         * @param edit the edit to be added.
+         * @param now the current {@link System#nanoTime()}.
+         * @param burstNanos the burst interval in nanoseconds.
+         * @return {@code true}, if the edit belongs to this compound edit;<br>
+         * {@code false} otherwise.
+         */
+        public boolean accepts(BoundedDocumentHistory.Edit edit, long now,
+                               long burstNanos) {
+            BoundedDocumentHistory.Edit last = this._edits
+                            .get(this._edits.size() - 1);
+            if (last instanceof StructureEdit) {
+                return ((StructureEdit) last).isReplacedBy(edit);
+            }
+            return (edit instanceof TextEdit)
+                            && (((TextEdit) edit).getPart() == ((TextEdit) last)
+                                            .getPart())
+                            && (now - this._lastNanos <= burstNanos);
+        }
+
+        /**
+         * Adds the specified edit to this compound edit.
+         * @param edit the edit to be added.
+         * @param now the current {@link System#nanoTime()}.
+         */
+        public void add(BoundedDocumentHistory.Edit edit, long now) {
+            this._edits.add(edit);
+            this._lastNanos = now;
+            this._byteCount += edit.getByteCount();
+        }
+
+        /**
+         * Undoes the edits in reverse order.
+         */
+        public void undo() {
+            for (int i = this._edits.size() - 1; i >= 0; i--) {
+                this._edits.get(i).undo();
+            }
+        }
+
+        /**
+         * Redoes the edits in order.
+         */
+        public void redo() {
+            for (BoundedDocumentHistory.Edit edit : this._edits) {
+                edit.redo();
+            }
+        }
+
+        /**
+         * Returns the estimated size of this compound edit.
+         * @return the size in bytes.
+         */
+        public long getByteCount() {
+            return this._byteCount;
+        }
+
+        /**
+         * The edits of this compound edit, in the order they were made.
+         */
+        private List<BoundedDocumentHistory.Edit> _edits;
+
+        /**
+         * The {@link System#nanoTime()} of the latest edit.
+         */
+        private long _lastNanos;
+
+        /**
+         * The estimated size of the edits in bytes.
+         */
+        private long _byteCount;
+    }
+}
\ No newline at end of file
@@ -1,12 +1,18 @@
 package de.renew.netdoc.model.document.parts;
 
 import de.renew.netdoc.model.document.event.StructureChangeEvent;
+import de.renew.netdoc.model.document.event.StructureChangeHandler;
 import de.renew.netdoc.model.document.event.StructureChangeListener;
 import de.renew.netdoc.model.document.event.TextChangeEvent;
+import de.renew.netdoc.model.document.event.TextChangeHandler;
 import de.renew.netdoc.model.document.event.TextChangeListener;
 import de.renew.netdoc.model.doctarget.DocTarget;
 import de.renew.netdoc.model.document.DocumentPart;
 import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.traversal.DocumentPartCursor;
+import de.renew.netdoc.model.document.traversal.DocumentTraversal;
+import de.renew.netdoc.model.event.ListenerList;
+import de.renew.netdoc.monitor.NetDocMetrics;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -15,7 +21,6 @@ import java.io.Serializable;
 import java.io.Writer;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -98,11 +103,17 @@ public abstract class AbstractDocumentPart
     public void setModified(boolean isModified) {
         this._isModified = isModified;
 
-        if (!isModified) {
-            DocumentPart[] subParts = this.getParts()
-                            .toArray(new DocumentPart[0]);
-            for (int index = 0; index < subParts.length; index++) {
-                subParts[index].setModified(false);
+        if (!isModified && (this.getPartCount() != 0)) {
+            DocumentPartCursor cursor = new DocumentPartCursor(this);
+            cursor.next();
+            while (cursor.next()) {
+                DocumentPart current = cursor.getPart();
+                if (current instanceof AbstractDocumentPart) {
+                    ((AbstractDocumentPart) current)._isModified = false;
+                } else {
+                    current.setModified(false);
+                    cursor.skipSubParts();
+                }
             }
         }
     }
@@ -472,17 +483,18 @@ public abstract class AbstractDocumentPart
      * @de.renew.require (event != null)
      */
     protected void fireStructureChangeEvent(StructureChangeEvent event) {
-        Enumeration<StructureChangeListener> listenerEnum = this
-                        .getStructureChangeListeners();
-
-        if (event.getType().equals(StructureChangeEvent.PART_ADDED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).partAdded(event);
-            }
-        } else if (event.getType().equals(StructureChangeEvent.PART_REMOVED)) {
-            while (listenerEnum.hasMoreElements()) {
-                (listenerEnum.nextElement()).partRemoved(event);
-            }
+        StructureChangeHandler handler = StructureChangeHandler
+                        .forType(event.getType());
+        if (handler != null) {
+            ListenerList<StructureChangeListener> listeners = this._structureChangeListeners;
+            int listenerCount = (listeners != null)
+                            ? listeners.fire(handler, event)
+                            : 0;
+            NetDocMetrics.recordEvent(
+                            (handler == StructureChangeHandler.PART_ADDED)
+                                            ? NetDocMetrics.EVENT_PART_ADDED
+                                            : NetDocMetrics.EVENT_PART_REMOVED,
+                            listenerCount);
         }
     }
 
@@ -493,12 +505,12 @@ public abstract class AbstractDocumentPart
      * @de.renew.require (event != null)
      */
     protected void fireTextChangeEvent(TextChangeEvent event) {
-        Enumeration<TextChangeListener> listenerEnum = this
-                        .getTextChangeListeners();
-
-        while (listenerEnum.hasMoreElements()) {
-            (listenerEnum.nextElement()).textChanged(event);
-        }
+        ListenerList<TextChangeListener> listeners = this._textChangeListeners;
+        NetDocMetrics.recordEvent(NetDocMetrics.EVENT_TEXT_CHANGED,
+                        (listeners != null)
+                                        ? listeners.fire(TextChangeHandler.TEXT_CHANGED,
+                                                        event)
+                                        : 0);
     }
 
     /**
@@ -508,12 +520,7 @@ public abstract class AbstractDocumentPart
      * @de.renew.require (listenerToAdd != null)
      */
     protected void addStructureChangeListenerImpl(StructureChangeListener listenerToAdd) {
-        StructureChangeListener[] oldListeners = this._structureChangeListeners;
-        StructureChangeListener[] newListeners = new StructureChangeListener[oldListeners.length
-                        + 1];
-        System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
-        newListeners[oldListeners.length] = listenerToAdd;
-        this._structureChangeListeners = newListeners;
+        this.getStructureChangeListenerList().add(listenerToAdd);
     }
 
     /**
@@ -523,15 +530,8 @@ public abstract class AbstractDocumentPart
      * @de.renew.require (listenerToRemove != null)
      */
     protected void removeStructureChangeListenerImpl(StructureChangeListener listenerToRemove) {
-        StructureChangeListener[] oldListeners = this._structureChangeListeners;
-        int index = Arrays.asList(oldListeners).indexOf(listenerToRemove);
-        if (index >= 0) {
-            StructureChangeListener[] newListeners = new StructureChangeListener[oldListeners.length
-                            - 1];
-            System.arraycopy(oldListeners, 0, newListeners, 0, index);
-            System.arraycopy(oldListeners, index + 1, newListeners, index,
-                            newListeners.length - index);
-            this._structureChangeListeners = newListeners;
+        if (this._structureChangeListeners != null) {
+            this._structureChangeListeners.remove(listenerToRemove);
         }
     }
 
@@ -541,8 +541,10 @@ public abstract class AbstractDocumentPart
      * @de.renew.ensure (returnValue != null)
      */
     protected Enumeration<StructureChangeListener> getStructureChangeListenersImpl() {
-        return Collections.enumeration(
-                        Arrays.asList(this._structureChangeListeners));
+        if (this._structureChangeListeners == null) {
+            return Collections.emptyEnumeration();
+        }
+        return this._structureChangeListeners.enumeration();
     }
 
     /**
@@ -552,12 +554,7 @@ public abstract class AbstractDocumentPart
      * @de.renew.require (listenerToAdd != null)
      */
     protected void addTextChangeListenerImpl(TextChangeListener listenerToAdd) {
-        TextChangeListener[] oldListeners = this._textChangeListeners;
-        TextChangeListener[] newListeners = new TextChangeListener[oldListeners.length
-                        + 1];
-        System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
-        newListeners[oldListeners.length] = listenerToAdd;
-        this._textChangeListeners = newListeners;
+        this.getTextChangeListenerList().add(listenerToAdd);
     }
 
     /**
@@ -567,15 +564,8 @@ public abstract class AbstractDocumentPart
      * @de.renew.require (listenerToRemove != null)
      */
     protected void removeTextChangeListenerImpl(TextChangeListener listenerToRemove) {
-        TextChangeListener[] oldListeners = this._textChangeListeners;
-        int index = Arrays.asList(oldListeners).indexOf(listenerToRemove);
-        if (index >= 0) {
-            TextChangeListener[] newListeners = new TextChangeListener[oldListeners.length
-                            - 1];
-            System.arraycopy(oldListeners, 0, newListeners, 0, index);
-            System.arraycopy(oldListeners, index + 1, newListeners, index,
-                            newListeners.length - index);
-            this._textChangeListeners = newListeners;
+        if (this._textChangeListeners != null) {
+            this._textChangeListeners.remove(listenerToRemove);
         }
     }
 
@@ -585,8 +575,10 @@ public abstract class AbstractDocumentPart
      * @de.renew.ensure (returnValue != null)
      */
     protected Enumeration<TextChangeListener> getTextChangeListenersImpl() {
-        return Collections
-                        .enumeration(Arrays.asList(this._textChangeListeners));
+        if (this._textChangeListeners == null) {
+            return Collections.emptyEnumeration();
+        }
+        return this._textChangeListeners.enumeration();
     }
 
     /**
@@ -688,18 +680,12 @@ public abstract class AbstractDocumentPart
      * @de.renew.require (partName != null)
      */
     protected DocumentPart getPartImpl(String partName) {
-        Iterator<DocumentPart> partIterator = this.getParts().iterator();
-        while (partIterator.hasNext()) {
-            DocumentPart current = partIterator.next();
-            if (current.getName().equals(partName)) {
-                return current;
-            }
-            DocumentPart subPart = current.getPart(partName);
-            if (subPart != null) {
-                return subPart;
-            }
+        if (this.getPartCount() == 0) {
+            return null;
         }
-        return null;
+        DocumentPartCursor cursor = new DocumentPartCursor(this);
+        cursor.next();
+        return cursor.nextNamed(partName) ? cursor.getPart() : null;
     }
 
     /**
@@ -722,14 +708,7 @@ public abstract class AbstractDocumentPart
      */
     protected Collection<DocumentPart> getPartsImpl(String partName) {
         Collection<DocumentPart> parts = new ArrayList<DocumentPart>();
-        Iterator<DocumentPart> partIterator = this.getParts().iterator();
-        while (partIterator.hasNext()) {
-            DocumentPart current = partIterator.next();
-            if (current.getName().equals(partName)) {
-                parts.add(current);
-            }
-            parts.addAll(current.getParts(partName));
-        }
+        DocumentTraversal.collectParts(this, partName, parts);
         return parts;
     }
 
@@ -828,12 +807,42 @@ public abstract class AbstractDocumentPart
     }
 
     /**
-     * Initialises this document part.
+     * Initialises this document part. The listener lists are created on
+     * first use, since most parts of a document are never observed but by
+     * their containing part.
      */
     private void initialise() {
         this._isModified = false;
-        this._structureChangeListeners = new StructureChangeListener[0];
-        this._textChangeListeners = new TextChangeListener[0];
+        this._structureChangeListeners = null;
+        this._textChangeListeners = null;
+    }
+
+    /**
+     * Returns the list holding the structure change listeners of this
+     * document part, creating it on first use.
+     * @return the list of structure change listeners.
+     * @de.renew.ensure (returnValue != null)
+     */
+    private synchronized ListenerList<StructureChangeListener> getStructureChangeListenerList() {
+        if (this._structureChangeListeners == null) {
+            this._structureChangeListeners = new ListenerList<StructureChangeListener>(
+                            StructureChangeListener.class);
+        }
+        return this._structureChangeListeners;
+    }
+
+    /**
+     * Returns the list holding the text change listeners of this document
+     * part, creating it on first use.
+     * @return the list of text change listeners.
+     * @de.renew.ensure (returnValue != null)
+     */
+    private synchronized ListenerList<TextChangeListener> getTextChangeListenerList() {
+        if (this._textChangeListeners == null) {
+            this._textChangeListeners = new ListenerList<TextChangeListener>(
+                            TextChangeListener.class);
+        }
+        return this._textChangeListeners;
     }
 
     /**
@@ -878,12 +887,14 @@ public abstract class AbstractDocumentPart
     private transient DocTarget _target;
 
     /**
-     * The list holding the structure change listeners of this document part.
+     * The list holding the structure change listeners of this document part;
+     * created on first use.
      */
-    private transient StructureChangeListener[] _structureChangeListeners;
+    private transient volatile ListenerList<StructureChangeListener> _structureChangeListeners;
 
     /**
-     * The list holding the text change listeners of this document part.
+     * The list holding the text change listeners of this document part;
+     * created on first use.
      */
-    private transient TextChangeListener[] _textChangeListeners;
+    private transient volatile ListenerList<TextChangeListener> _textChangeListeners;
 }
\ No newline at end of file
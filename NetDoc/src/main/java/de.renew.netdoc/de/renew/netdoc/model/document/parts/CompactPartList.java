@@ -0,0 +1,148 @@
+package de.renew.netdoc.model.document.parts;
+
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+
+/**
+ * <p>List of document parts backed by an array sized to its exact number of
+ * parts. Document parts are built once and rarely changed afterwards, and
+ * most of them hold only a few sub parts, so the spare capacity kept by an
+ * {@link java.util.ArrayList} would make up much of the memory of a
+ * document tree.</p>
+ * <p>Adding or removing a part copies the array into one of the new size,
+ * while setting a part replaces it in place, so that views of this list
+ * see the new part. Empty lists share a single empty array.</p>
+ */
+public class CompactPartList extends AbstractList<DocumentPart>
+                implements RandomAccess, Serializable {
+
+    /**
+     * Creates a new empty CompactPartList.
+     */
+    public CompactPartList() {
+        this._parts = CompactPartList.EMPTY_PARTS;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public DocumentPart get(int index) {
+        this.checkIndex(index, this._parts.length);
+        return this._parts[index];
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int size() {
+        return this._parts.length;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public DocumentPart set(int index, DocumentPart part) {
+        assert (part != null) : "Precondition violated: (part != null)";
+        this.checkIndex(index, this._parts.length);
+
+        DocumentPart returnValue = this._parts[index];
+        this._parts[index] = part;
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void add(int index, DocumentPart part) {
+        assert (part != null) : "Precondition violated: (part != null)";
+        DocumentPart[] oldParts = this._parts;
+        this.checkIndex(index, oldParts.length + 1);
+
+        DocumentPart[] newParts = new DocumentPart[oldParts.length + 1];
+        System.arraycopy(oldParts, 0, newParts, 0, index);
+        newParts[index] = part;
+        System.arraycopy(oldParts, index, newParts, index + 1,
+                        oldParts.length - index);
+        this._parts = newParts;
+        this.modCount++;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public DocumentPart remove(int index) {
+        DocumentPart[] oldParts = this._parts;
+        this.checkIndex(index, oldParts.length);
+
+        DocumentPart returnValue = oldParts[index];
+        if (oldParts.length == 1) {
+            this._parts = CompactPartList.EMPTY_PARTS;
+        } else {
+            DocumentPart[] newParts = Arrays.copyOf(oldParts,
+                            oldParts.length - 1);
+            System.arraycopy(oldParts, index + 1, newParts, index,
+                            newParts.length - index);
+            this._parts = newParts;
+        }
+        this.modCount++;
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void clear() {
+        this._parts = CompactPartList.EMPTY_PARTS;
+        this.modCount++;
+    }
+
+    /**
+     * Verifies that the specified index lies within the specified bound.
+     * @param index the index to be verified.
+     * @param bound the exclusive upper bound of the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    private void checkIndex(int index, int bound) {
+        if ((index < 0) || (index >= bound)) {
+            throw new IndexOutOfBoundsException(
+                            "Index: " + index + ", Size: " + this._parts.length);
+        }
+    }
+
+    /**
+     * Replaces a deserialised empty array by the shared one.
+     * @return this list.
+     */
+    private Object readResolve() {
+        if (this._parts.length == 0) {
+            this._parts = CompactPartList.EMPTY_PARTS;
+        }
+        return this;
+    }
+
+    /**
+     * The parts of this list; never longer than the number of parts.
+     */
+    private DocumentPart[] _parts;
+
+    /**
+     * The array shared by all empty lists.
+     */
+    private static final DocumentPart[] EMPTY_PARTS = new DocumentPart[0];
+
+    /**
+     * Serial Version UID of this class.
+     */
+    private static final long serialVersionUID = 1L;
+}
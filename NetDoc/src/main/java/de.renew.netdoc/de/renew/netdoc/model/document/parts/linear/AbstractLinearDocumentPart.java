@@ -8,9 +8,7 @@ import de.renew.netdoc.model.document.parts.LinearDocumentPart;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 
 
 /**
@@ -204,9 +202,8 @@ public abstract class AbstractLinearDocumentPart extends AbstractDocumentPart
     protected Object cloneImpl() {
         LinearDocumentPart returnValue = (LinearDocumentPart) this.cloneBase();
 
-        Iterator<DocumentPart> parts = this.getPartList().iterator();
-        while (parts.hasNext()) {
-            returnValue.appendPart((DocumentPart) (parts.next()).clone());
+        for (int i = 0; i < this.getPartCount(); i++) {
+            returnValue.appendPart((DocumentPart) this.getPartAt(i).clone());
         }
 
         return returnValue;
@@ -219,9 +216,8 @@ public abstract class AbstractLinearDocumentPart extends AbstractDocumentPart
     @Override
     protected String toStringImpl() {
         StringBuffer buffer = new StringBuffer();
-        Iterator<DocumentPart> partIterator = this.getPartList().iterator();
-        while (partIterator.hasNext()) {
-            buffer.append(partIterator.next().toString());
+        for (int i = 0; i < this.getPartCount(); i++) {
+            buffer.append(this.getPartAt(i).toString());
         }
         buffer.append(this.getText());
         return buffer.toString();
@@ -306,11 +302,9 @@ public abstract class AbstractLinearDocumentPart extends AbstractDocumentPart
      * @de.renew.ensure (returnValue >= -1)
      */
     protected int indexOfPartImpl(String partName) {
-        ListIterator<DocumentPart> partIterator = this.getPartList()
-                        .listIterator();
-        while (partIterator.hasNext()) {
-            if ((partIterator.next()).getName().equals(partName)) {
-                return partIterator.previousIndex();
+        for (int i = 0; i < this.getPartCount(); i++) {
+            if (this.getPartAt(i).getName().equals(partName)) {
+                return i;
             }
         }
         return -1;
@@ -324,10 +318,9 @@ public abstract class AbstractLinearDocumentPart extends AbstractDocumentPart
      * @de.renew.ensure ! returnValue.contains(null)
      */
     protected List<String> getPartNameListImpl() {
-        List<String> names = new ArrayList<String>();
-        Iterator<DocumentPart> partIterator = this.getPartList().iterator();
-        while (partIterator.hasNext()) {
-            names.add((partIterator.next()).getName());
+        List<String> names = new ArrayList<String>(this.getPartCount());
+        for (int i = 0; i < this.getPartCount(); i++) {
+            names.add(this.getPartAt(i).getName());
         }
         return names;
     }
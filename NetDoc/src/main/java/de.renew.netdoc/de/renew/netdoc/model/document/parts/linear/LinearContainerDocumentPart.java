@@ -1,17 +1,19 @@
 package de.renew.netdoc.model.document.parts.linear;
 
 import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
 import de.renew.netdoc.model.document.event.StructureChangeAdapter;
 import de.renew.netdoc.model.document.event.StructureChangeEvent;
 import de.renew.netdoc.model.document.event.StructureChangeListener;
 import de.renew.netdoc.model.document.event.TextChangeAdapter;
 import de.renew.netdoc.model.document.event.TextChangeEvent;
 import de.renew.netdoc.model.document.event.TextChangeListener;
+import de.renew.netdoc.model.document.parts.CompactPartList;
+import de.renew.netdoc.monitor.events.ChangeCascadeEvent;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
@@ -39,7 +41,8 @@ public class LinearContainerDocumentPart extends AbstractLinearDocumentPart {
 
     /**
      * Creates a new LinearContainerDocumentPart with the specified name and
-     * text.
+     * text. Names of the NetDoc vocabulary are shared with all other parts of
+     * that name.
      * @param name  the name of the new part.
      * @param text  the text of the new part.
      * @de.renew.require (name != null)
@@ -49,9 +52,9 @@ public class LinearContainerDocumentPart extends AbstractLinearDocumentPart {
         assert (name != null) : "Precondition violated: (name != null)";
         assert (text != null) : "Precondition violated: (text != null)";
 
-        this._name = name;
+        this._name = DocumentParts.internName(name);
         this._text = text;
-        this._parts = new ArrayList<DocumentPart>();
+        this._parts = new CompactPartList();
         this._subPartStructureChangeListener = null;
         this._subPartTextChangeListener = null;
     }
@@ -82,7 +85,11 @@ public class LinearContainerDocumentPart extends AbstractLinearDocumentPart {
         this._text = text;
         if (!oldText.equals(text)) {
             this.setModified(true);
+            ChangeCascadeEvent cascade = new ChangeCascadeEvent(
+                            ChangeCascadeEvent.TEXT_CHANGED);
+            cascade.begin();
             this.fireTextChangeEvent(new TextChangeEvent(this, oldText, text));
+            cascade.commitFor(this);
         }
     }
 
@@ -106,9 +113,13 @@ public class LinearContainerDocumentPart extends AbstractLinearDocumentPart {
         this.addSubPartTextChangeListener(partToAdd);
         this.getInternalPartList().add(index, partToAdd);
         this.setModified(true);
+        ChangeCascadeEvent cascade = new ChangeCascadeEvent(
+                        ChangeCascadeEvent.PART_ADDED);
+        cascade.begin();
         this.fireStructureChangeEvent(new StructureChangeEvent(
                         StructureChangeEvent.PART_ADDED, this, partToAdd,
                         index));
+        cascade.commitFor(this);
     }
 
     /**
@@ -129,9 +140,13 @@ public class LinearContainerDocumentPart extends AbstractLinearDocumentPart {
         this.removeSubPartTextChangeListener(part);
         this.getInternalPartList().remove(index);
         this.setModified(true);
+        ChangeCascadeEvent cascade = new ChangeCascadeEvent(
+                        ChangeCascadeEvent.PART_REMOVED);
+        cascade.begin();
         this.fireStructureChangeEvent(new StructureChangeEvent(
                         StructureChangeEvent.PART_REMOVED, this,
                 part, index));
+        cascade.commitFor(this);
     }
 
     /**
@@ -157,17 +172,22 @@ public class LinearContainerDocumentPart extends AbstractLinearDocumentPart {
     @Override
     protected void setPartAtImpl(int index, DocumentPart part)
                     throws IllegalArgumentException {
-        this.removeSubPartStructureChangeListener(this.getPartAt(index));
-        this.removeSubPartTextChangeListener(this.getPartAt(index));
+        DocumentPart oldPart = this.getPartAt(index);
+        this.removeSubPartStructureChangeListener(oldPart);
+        this.removeSubPartTextChangeListener(oldPart);
         this.addSubPartStructureChangeListener(part);
         this.addSubPartTextChangeListener(part);
         this.getInternalPartList().set(index, part);
         this.setModified(true);
+        ChangeCascadeEvent cascade = new ChangeCascadeEvent(
+                        ChangeCascadeEvent.PART_REPLACED);
+        cascade.begin();
         this.fireStructureChangeEvent(new StructureChangeEvent(
-                        StructureChangeEvent.PART_REMOVED, this,
-                        this.getPartAt(index), index));
+                        StructureChangeEvent.PART_REMOVED, this, oldPart,
+                        index));
         this.fireStructureChangeEvent(new StructureChangeEvent(
                         StructureChangeEvent.PART_ADDED, this, part, index));
+        cascade.commitFor(this);
     }
 
     /**
@@ -175,7 +195,12 @@ public class LinearContainerDocumentPart extends AbstractLinearDocumentPart {
      */
     @Override
     protected List<DocumentPart> getPartListImpl() {
-        return Collections.unmodifiableList(this.getInternalPartList());
+        // the view is shared, since whole-tree traversals ask for it per part
+        if (this._partListView == null) {
+            this._partListView = Collections
+                            .unmodifiableList(this.getInternalPartList());
+        }
+        return this._partListView;
     }
 
 
@@ -282,10 +307,12 @@ public class LinearContainerDocumentPart extends AbstractLinearDocumentPart {
     private void readObject(ObjectInputStream stream)
                     throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
+        this._name = DocumentParts.internName(this._name);
         Iterator<DocumentPart> partIterator = this.getPartList().iterator();
         while (partIterator.hasNext()) {
-            this.addSubPartStructureChangeListener(partIterator.next());
-            this.addSubPartTextChangeListener(partIterator.next());
+            DocumentPart part = partIterator.next();
+            this.addSubPartStructureChangeListener(part);
+            this.addSubPartTextChangeListener(part);
         }
     }
 
@@ -297,10 +324,16 @@ public class LinearContainerDocumentPart extends AbstractLinearDocumentPart {
     }
 
     /**
-     * The sub parts of this part.
+     * The sub parts of this part, held in an array of their exact number.
      */
     private List<DocumentPart> _parts;
 
+    /**
+     * The unmodifiable view of the sub parts of this part; created on first
+     * use.
+     */
+    private transient List<DocumentPart> _partListView;
+
     /**
      * The name of this part.
      */
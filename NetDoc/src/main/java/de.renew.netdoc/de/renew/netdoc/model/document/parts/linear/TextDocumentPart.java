@@ -1,6 +1,11 @@
 package de.renew.netdoc.model.document.parts.linear;
 
+import de.renew.netdoc.model.document.DocumentParts;
 import de.renew.netdoc.model.document.event.TextChangeEvent;
+import de.renew.netdoc.monitor.events.ChangeCascadeEvent;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
 
 
 /**
@@ -23,7 +28,8 @@ public class TextDocumentPart extends AbstractLinearDocumentPart {
     }
 
     /**
-     * Creates a new TextDocumentPart using the specified name and text.
+     * Creates a new TextDocumentPart using the specified name and text. Names
+     * of the NetDoc vocabulary are shared with all other parts of that name.
      * @param name  the name of the new document part.
      * @param text  the text of the new document part.
      * @de.renew.require (name != null)
@@ -33,7 +39,7 @@ public class TextDocumentPart extends AbstractLinearDocumentPart {
         assert (name != null) : "Precondition violated: (name != null)";
         assert (text != null) : "Precondition violated: (text != null)";
 
-        this._name = name;
+        this._name = DocumentParts.internName(name);
         this._text = text;
     }
 
@@ -63,7 +69,11 @@ public class TextDocumentPart extends AbstractLinearDocumentPart {
         this._text = text;
         if (!oldText.equals(text)) {
             this.setModified(true);
+            ChangeCascadeEvent cascade = new ChangeCascadeEvent(
+                            ChangeCascadeEvent.TEXT_CHANGED);
+            cascade.begin();
             this.fireTextChangeEvent(new TextChangeEvent(this, oldText, text));
+            cascade.commitFor(this);
         }
     }
 
@@ -75,6 +85,15 @@ public class TextDocumentPart extends AbstractLinearDocumentPart {
         return this.getText();
     }
 
+    /**
+     * @inheritDoc
+     */
+    private void readObject(ObjectInputStream stream)
+                    throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this._name = DocumentParts.internName(this._name);
+    }
+
     /**
      * The name of this document part.
      */
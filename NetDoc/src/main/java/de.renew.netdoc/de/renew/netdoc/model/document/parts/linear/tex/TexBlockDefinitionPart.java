@@ -1,10 +1,7 @@
 package de.renew.netdoc.model.document.parts.linear.tex;
 
-import de.renew.netdoc.model.document.DocumentPart;
 import de.renew.netdoc.model.document.parts.linear.LinearContainerDocumentPart;
 
-import java.util.Iterator;
-
 
 /**
  * TeX block-definition document part.
@@ -51,9 +48,8 @@ public class TexBlockDefinitionPart extends LinearContainerDocumentPart {
                         .charAt(this.getText().length() - 1) != '\n')) {
             buffer.append('\n');
         }
-        Iterator<DocumentPart> parts = this.getPartList().iterator();
-        while (parts.hasNext()) {
-            buffer.append(parts.next());
+        for (int i = 0; i < this.getPartCount(); i++) {
+            buffer.append(this.getPartAt(i));
         }
         buffer.append("\\end{");
         buffer.append(this.getName());
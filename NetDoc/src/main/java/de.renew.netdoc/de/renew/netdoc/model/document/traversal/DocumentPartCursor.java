@@ -0,0 +1,275 @@
+package de.renew.netdoc.model.document.traversal;
+
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.parts.LinearDocumentPart;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+
+/**
+ * Reusable cursor moving over a document part tree in depth-first pre-order.
+ * Sub parts of linear document parts are accessed by index, so once the
+ * cursor has reached the depth of a tree, moving over it allocates nothing.
+ * A cursor may be reset to another root at any time.
+ * <p>Typical use:</p>
+ * <pre>
+ * cursor.reset(document);
+ * while (cursor.next()) {
+ *     if (skip(cursor.getPart())) {
+ *         cursor.skipSubParts();
+ *     }
+ * }
+ * </pre>
+ * <p>The tree must not be changed while the cursor moves over it. A cursor
+ * is not thread-safe.</p>
+ */
+public class DocumentPartCursor {
+
+    /**
+     * Creates a new DocumentPartCursor not positioned on any tree.
+     */
+    public DocumentPartCursor() {
+        this._parts = new DocumentPart[DocumentPartCursor.INITIAL_DEPTH];
+        this._indexes = new int[DocumentPartCursor.INITIAL_DEPTH];
+        this._iterators = new Iterator<?>[DocumentPartCursor.INITIAL_DEPTH];
+        this._depth = -1;
+    }
+
+    /**
+     * Creates a new DocumentPartCursor positioned before the specified root.
+     * @param root the root of the tree to be traversed.
+     * @de.renew.require (root != null)
+     */
+    public DocumentPartCursor(DocumentPart root) {
+        this();
+        this.reset(root);
+    }
+
+    /**
+     * Positions this cursor before the specified root, so that the next call
+     * of {@link #next()} moves to the root.
+     * @param root the root of the tree to be traversed.
+     * @de.renew.require (root != null)
+     */
+    public void reset(DocumentPart root) {
+        assert (root != null) : "Precondition violated: (root != null)";
+
+        this.clear();
+        this._root = root;
+    }
+
+    /**
+     * Moves this cursor to the next document part in depth-first pre-order.
+     * @return {@code true}, if the cursor has been moved to a document part;
+     * <br>
+     * {@code false}, if the traversal is finished.
+     */
+    public boolean next() {
+        if (this._root != null) {
+            this.push(this._root);
+            this._root = null;
+            return true;
+        }
+        if (this._depth < 0) {
+            return false;
+        }
+        if (!this._isSkipping) {
+            DocumentPart firstSubPart = this.nextSubPart(this._depth);
+            if (firstSubPart != null) {
+                this.push(firstSubPart);
+                return true;
+            }
+        }
+        this._isSkipping = false;
+        while (this._depth > 0) {
+            this.pop();
+            DocumentPart sibling = this.nextSubPart(this._depth);
+            if (sibling != null) {
+                this.push(sibling);
+                return true;
+            }
+        }
+        this.clear();
+        return false;
+    }
+
+    /**
+     * Causes the next call of {@link #next()} to skip the sub parts of the
+     * current document part.
+     * @de.renew.require (this.getPart() != null)
+     */
+    public void skipSubParts() {
+        assert (this.getPart() != null) : "Precondition violated: (this.getPart() != null)";
+
+        this._isSkipping = true;
+    }
+
+    /**
+     * Returns the current document part.
+     * @return the current document part;<br>
+     * or {@code null}, if the cursor is not positioned on a document part.
+     */
+    public DocumentPart getPart() {
+        return (this._depth >= 0) ? this._parts[this._depth] : null;
+    }
+
+    /**
+     * Returns the depth of the current document part, the root having
+     * depth 0.
+     * @return the depth of the current document part;<br>
+     * or {@code -1}, if the cursor is not positioned on a document part.
+     * @de.renew.ensure (returnValue >= -1)
+     */
+    public int getDepth() {
+        return this._depth;
+    }
+
+    /**
+     * Returns the name of the current document part.
+     * @return the name of the current document part.
+     * @de.renew.require (this.getPart() != null)
+     */
+    public String getName() {
+        assert (this.getPart() != null) : "Precondition violated: (this.getPart() != null)";
+
+        return this.getPart().getName();
+    }
+
+    /**
+     * Returns the text of the current document part, not including the texts
+     * of its sub parts. Unlike {@link DocumentPart#toString()}, the part is
+     * not rendered.
+     * @return the text of the current document part.
+     * @de.renew.require (this.getPart() != null)
+     */
+    public String getText() {
+        assert (this.getPart() != null) : "Precondition violated: (this.getPart() != null)";
+
+        return this.getPart().getText();
+    }
+
+    /**
+     * Moves this cursor to the next document part with the specified name.
+     * @param partName the name of the document part to be found.
+     * @return {@code true}, if the cursor has been moved to such a document
+     * part;<br>
+     * {@code false}, if the traversal is finished.
+     * @de.renew.require (partName != null)
+     */
+    public boolean nextNamed(String partName) {
+        assert (partName != null) : "Precondition violated: (partName != null)";
+
+        while (this.next()) {
+            if (partName.equals(this.getPart().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the next unvisited sub part of the document part at the
+     * specified depth and advances the position at that depth.
+     * @param depth the depth of the parent part.
+     * @return the next sub part;<br>
+     * or {@code null}, if all sub parts have been visited.
+     * @de.renew.require (depth >= 0) && (depth <= this.getDepth())
+     */
+    private DocumentPart nextSubPart(int depth) {
+        DocumentPart parent = this._parts[depth];
+        int index = this._indexes[depth];
+        if (parent instanceof LinearDocumentPart) {
+            if (index >= parent.getPartCount()) {
+                return null;
+            }
+            this._indexes[depth] = index + 1;
+            return ((LinearDocumentPart) parent).getPartAt(index);
+        }
+        if (parent.getPartCount() == 0) {
+            return null;
+        }
+        if (this._iterators[depth] == null) {
+            this._iterators[depth] = parent.getParts().iterator();
+        }
+        Iterator<?> iterator = this._iterators[depth];
+        return iterator.hasNext() ? (DocumentPart) iterator.next() : null;
+    }
+
+    /**
+     * Pushes the specified document part as the new current part.
+     * @param part the document part to be pushed.
+     * @de.renew.require (part != null)
+     */
+    private void push(DocumentPart part) {
+        int depth = this._depth + 1;
+        if (depth == this._parts.length) {
+            this._parts = Arrays.copyOf(this._parts, depth * 2);
+            this._indexes = Arrays.copyOf(this._indexes, depth * 2);
+            this._iterators = Arrays.copyOf(this._iterators, depth * 2);
+        }
+        this._parts[depth] = part;
+        this._indexes[depth] = 0;
+        this._iterators[depth] = null;
+        this._depth = depth;
+    }
+
+    /**
+     * Pops the current document part, making its parent the current part.
+     * @de.renew.require (this.getDepth() >= 0)
+     */
+    private void pop() {
+        this._parts[this._depth] = null;
+        this._iterators[this._depth] = null;
+        this._depth--;
+    }
+
+    /**
+     * Removes all references to the tree traversed last.
+     */
+    private void clear() {
+        while (this._depth >= 0) {
+            this.pop();
+        }
+        this._root = null;
+        this._isSkipping = false;
+    }
+
+    /**
+     * The initial capacity of the stacks of this cursor.
+     */
+    private static final int INITIAL_DEPTH = 8;
+
+    /**
+     * The root to be moved to by the next call of {@link #next()};<br>
+     * or {@code null}, if the traversal has already started.
+     */
+    private DocumentPart _root;
+
+    /**
+     * The document parts from the root down to the current part.
+     */
+    private DocumentPart[] _parts;
+
+    /**
+     * The index of the next sub part to be visited for each linear document
+     * part on the stack.
+     */
+    private int[] _indexes;
+
+    /**
+     * The iterators over the sub parts of the non-linear document parts on
+     * the stack; created only when needed.
+     */
+    private Iterator<?>[] _iterators;
+
+    /**
+     * The depth of the current document part; {@code -1}, if none.
+     */
+    private int _depth;
+
+    /**
+     * Specifies whether the sub parts of the current part are to be skipped.
+     */
+    private boolean _isSkipping;
+}
@@ -0,0 +1,36 @@
+package de.renew.netdoc.model.document.traversal;
+
+import de.renew.netdoc.model.document.DocumentPart;
+
+
+/**
+ * Visitor of the document parts of a document part tree, called in
+ * depth-first order by {@link DocumentTraversal#walk}.
+ */
+public interface DocumentPartVisitor {
+
+    /**
+     * Invoked when the specified document part is entered, i.e. before any
+     * of its sub parts. The text of the part is available through
+     * {@link DocumentPart#getText()} without rendering the part.
+     * @param part the document part entered.
+     * @param depth the depth of the part, the root having depth 0.
+     * @return {@code true}, if the sub parts of the part are to be visited;
+     * <br>
+     * {@code false}, if they are to be skipped.
+     * @de.renew.require (part != null)
+     * @de.renew.require (depth >= 0)
+     */
+    public boolean enterPart(DocumentPart part, int depth);
+
+    /**
+     * Invoked when the specified document part is left, i.e. after all of its
+     * visited sub parts. Also invoked for parts whose sub parts have been
+     * skipped.
+     * @param part the document part left.
+     * @param depth the depth of the part, the root having depth 0.
+     * @de.renew.require (part != null)
+     * @de.renew.require (depth >= 0)
+     */
+    public void leavePart(DocumentPart part, int depth);
+}
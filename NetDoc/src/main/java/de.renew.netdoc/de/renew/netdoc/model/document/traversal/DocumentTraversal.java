@@ -0,0 +1,105 @@
+package de.renew.netdoc.model.document.traversal;
+
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.parts.LinearDocumentPart;
+
+import java.util.Collection;
+
+
+/**
+ * Depth-first traversals of document part trees. Unlike iterating over
+ * {@link DocumentPart#getParts()}, the traversals access the sub parts of
+ * linear document parts by index and create no collections.
+ */
+public abstract class DocumentTraversal {
+
+    /**
+     * Visits the specified document part and its sub parts in depth-first
+     * order.
+     * @param root the document part to be visited.
+     * @param visitor the visitor to be called.
+     * @de.renew.require (root != null)
+     * @de.renew.require (visitor != null)
+     */
+    public static void walk(DocumentPart root, DocumentPartVisitor visitor) {
+        assert (root != null) : "Precondition violated: (root != null)";
+        assert (visitor != null) : "Precondition violated: (visitor != null)";
+
+        DocumentTraversal.walk(root, visitor, 0);
+    }
+
+    /**
+     * Returns the first document part with the specified name found by a
+     * depth-first search starting at the specified document part.
+     * @param root the document part to be searched.
+     * @param partName the name of the document part.
+     * @return the first document part with the specified name;<br>
+     * or {@code null}, if no such document part exists.
+     * @de.renew.require (root != null)
+     * @de.renew.require (partName != null)
+     */
+    public static DocumentPart findPart(DocumentPart root, String partName) {
+        assert (root != null) : "Precondition violated: (root != null)";
+        assert (partName != null) : "Precondition violated: (partName != null)";
+
+        DocumentPartCursor cursor = new DocumentPartCursor(root);
+        return cursor.nextNamed(partName) ? cursor.getPart() : null;
+    }
+
+    /**
+     * Adds all document parts with the specified name below the specified
+     * document part to the specified collection in depth-first order. The
+     * document part itself is not included.
+     * @param root the document part to be searched.
+     * @param partName the name of the document parts.
+     * @param parts the collection the document parts are added to.
+     * @return the number of document parts added.
+     * @de.renew.require (root != null)
+     * @de.renew.require (partName != null)
+     * @de.renew.require (parts != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public static int collectParts(DocumentPart root, String partName,
+                                   Collection<DocumentPart> parts) {
+        assert (root != null) : "Precondition violated: (root != null)";
+        assert (partName != null) : "Precondition violated: (partName != null)";
+        assert (parts != null) : "Precondition violated: (parts != null)";
+
+        int returnValue = 0;
+        DocumentPartCursor cursor = new DocumentPartCursor(root);
+        cursor.next();
+        while (cursor.nextNamed(partName)) {
+            parts.add(cursor.getPart());
+            returnValue++;
+        }
+        return returnValue;
+    }
+
+    /**
+     * Visits the specified document part and its sub parts in depth-first
+     * order.
+     * @param part the document part to be visited.
+     * @param visitor the visitor to be called.
+     * @param depth the depth of the document part.
+     * @de.renew.require (part != null)
+     * @de.renew.require (visitor != null)
+     * @de.renew.require (depth >= 0)
+     */
+    private static void walk(DocumentPart part, DocumentPartVisitor visitor,
+                             int depth) {
+        if (visitor.enterPart(part, depth)) {
+            if (part instanceof LinearDocumentPart) {
+                LinearDocumentPart linearPart = (LinearDocumentPart) part;
+                for (int i = 0; i < linearPart.getPartCount(); i++) {
+                    DocumentTraversal.walk(linearPart.getPartAt(i), visitor,
+                                    depth + 1);
+                }
+            } else if (part.getPartCount() != 0) {
+                for (DocumentPart subPart : part.getParts()) {
+                    DocumentTraversal.walk(subPart, visitor, depth + 1);
+                }
+            }
+        }
+        visitor.leavePart(part, depth);
+    }
+}
@@ -0,0 +1,109 @@
+package de.renew.netdoc.model.event;
+
+import java.awt.EventQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * Mode a listener is notified in. Synchronous listeners are notified inside
+ * the call that fired the event; the other modes hand the event to a
+ * {@link DeliveryQueue} and return at once.
+ */
+public enum DeliveryMode {
+
+    /**
+     * Events are delivered inside the call that fired them.
+     */
+    SYNCHRONOUS {
+        @Override
+        public void execute(Runnable task) {
+            task.run();
+        }
+    },
+
+    /**
+     * Events are delivered later on the AWT event dispatch thread. Events of
+     * the same source still pending are coalesced into the latest one.
+     */
+    EVENT_DISPATCH_THREAD {
+        @Override
+        public boolean isCoalescing() {
+            return true;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            EventQueue.invokeLater(task);
+        }
+    },
+
+    /**
+     * Events are delivered by a shared pool of background threads.
+     */
+    BACKGROUND {
+        @Override
+        public void execute(Runnable task) {
+            BackgroundExecutor.EXECUTOR.execute(task);
+        }
+    };
+
+    /**
+     * Determines whether pending events of the same source are coalesced in
+     * this mode.
+     * @return {@code true}, if only the latest pending event of a source is
+     * delivered;<br>
+     * {@code false}, if every event is delivered.
+     */
+    public boolean isCoalescing() {
+        return false;
+    }
+
+    /**
+     * Determines whether events are delivered inside the call firing them.
+     * @return {@code true}, if this mode is synchronous;<br>
+     * {@code false} otherwise.
+     */
+    public boolean isSynchronous() {
+        return this == DeliveryMode.SYNCHRONOUS;
+    }
+
+    /**
+     * Runs the specified task in the thread of this mode.
+     * @param task the task to be run.
+     * @de.renew.require (task != null)
+     */
+    public abstract void execute(Runnable task);
+
+
+    /**
+     * Holder of the executor shared by all background deliveries, created on
+     * first use.
+     */
+    private static class BackgroundExecutor {
+
+        /**
+         * The executor running background deliveries on daemon threads.
+         */
+        private static final Executor EXECUTOR = BackgroundExecutor
+                        .createExecutor();
+
+        /**
+         * Creates the executor running background deliveries.
+         * @return the new executor.
+         */
+        private static ExecutorService createExecutor() {
+            return Executors.newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread returnValue = new Thread(runnable,
+                                    "NetDoc event delivery");
+                    returnValue.setDaemon(true);
+                    return returnValue;
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
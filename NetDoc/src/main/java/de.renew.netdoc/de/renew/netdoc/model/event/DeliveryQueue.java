@@ -0,0 +1,370 @@
+package de.renew.netdoc.model.event;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+
+
+/**
+ * <p>Ordered queue delivering the events of one listener registration
+ * asynchronously in the thread of a {@link DeliveryMode}. Events are
+ * delivered one at a time in the order they were posted, so that the
+ * listener sees the events of every source in order.</p>
+ * <p>Posting never blocks. Events posted with a source key may be
+ * coalesced with a pending event of the same source if the mode is
+ * coalescing, and may be dropped if the queue is full: the oldest pending
+ * event superseded by a later event of the same source and handler then
+ * makes room for the new one. The latest event of every source is always
+ * delivered, so the queue grows beyond its capacity if no pending event is
+ * superseded. Events posted without a source key are never coalesced or
+ * dropped.</p>
+ * <p>Listeners notified asynchronously see the model as it is at delivery
+ * time, which may be later than the event describes.</p>
+ */
+public class DeliveryQueue<L> {
+
+    /**
+     * Default number of pending events of a queue.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The logger of this class.
+     */
+    private static final Logger logger = Logger.getLogger(DeliveryQueue.class);
+
+
+    /**
+     * Creates a new DeliveryQueue delivering to the specified listener in the
+     * specified mode with the default capacity.
+     * @param listener the listener to be notified.
+     * @param mode the delivery mode.
+     * @de.renew.require (listener != null)
+     * @de.renew.require (mode != null)
+     */
+    public DeliveryQueue(L listener, DeliveryMode mode) {
+        this(listener, mode, DeliveryQueue.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new DeliveryQueue delivering to the specified listener in the
+     * specified mode.
+     * @param listener the listener to be notified.
+     * @param mode the delivery mode.
+     * @param capacity the number of pending events above which superseded
+     * events are dropped.
+     * @de.renew.require (listener != null)
+     * @de.renew.require (mode != null)
+     * @de.renew.require (capacity > 0)
+     */
+    public DeliveryQueue(L listener, DeliveryMode mode, int capacity) {
+        assert (listener != null) : "Precondition violated: (listener != null)";
+        assert (mode != null) : "Precondition violated: (mode != null)";
+        assert (capacity > 0) : "Precondition violated: (capacity > 0)";
+
+        this._listener = listener;
+        this._mode = mode;
+        this._capacity = capacity;
+        this._pending = new ArrayDeque<DeliveryQueue.Entry<L>>();
+        this._scheduled = false;
+        this._coalescedCount = 0L;
+        this._droppedCount = 0L;
+        this._drainer = new Runnable() {
+            @Override
+            public void run() {
+                DeliveryQueue.this.drain();
+            }
+        };
+    }
+
+    /**
+     * Returns the listener notified by this queue.
+     * @return the listener.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public L getListener() {
+        return this._listener;
+    }
+
+    /**
+     * Returns the mode events are delivered in.
+     * @return the delivery mode.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public DeliveryMode getMode() {
+        return this._mode;
+    }
+
+    /**
+     * Posts the specified event to be delivered by the specified handler.
+     * Synchronous queues deliver the event at once.
+     * @param handler the handler delivering the event.
+     * @param event the event to be delivered.
+     * @param sourceKey the source of the event, pending events of the same
+     * source may be coalesced or dropped;<br>
+     * or {@code null}, if the event must be delivered.
+     * @de.renew.require (handler != null)
+     * @de.renew.require (event != null)
+     */
+    public <E> void post(EventHandler<? super L, ? super E> handler, E event,
+                         Object sourceKey) {
+        assert (handler != null) : "Precondition violated: (handler != null)";
+        assert (event != null) : "Precondition violated: (event != null)";
+
+        if (this._mode.isSynchronous()) {
+            handler.dispatch(this._listener, event);
+            return;
+        }
+        DeliveryQueue.Entry<L> entry = new DeliveryQueue.Entry<L>(handler,
+                        event, sourceKey);
+        synchronized (this) {
+            if ((sourceKey != null) && this._mode.isCoalescing()
+                            && this.coalesce(entry)) {
+                return;
+            }
+            if (this._pending.size() >= this._capacity) {
+                this.dropSuperseded(entry);
+            }
+            this._pending.addLast(entry);
+            if (this._scheduled) {
+                return;
+            }
+            this._scheduled = true;
+        }
+        this._mode.execute(this._drainer);
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered.
+     * @return the number of pending events.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public synchronized int getPendingCount() {
+        return this._pending.size();
+    }
+
+    /**
+     * Returns the number of events replaced by a later event of the same
+     * source before being delivered.
+     * @return the number of coalesced events.
+     */
+    public synchronized long getCoalescedCount() {
+        return this._coalescedCount;
+    }
+
+    /**
+     * Returns the number of superseded events dropped since the queue was
+     * full.
+     * @return the number of dropped events.
+     */
+    public synchronized long getDroppedCount() {
+        return this._droppedCount;
+    }
+
+    /**
+     * Delivers the pending events in order until the queue is empty.
+     * Exceptions thrown by the listener are logged, so that later events are
+     * still delivered.
+     */
+    protected void drain() {
+        while (true) {
+            DeliveryQueue.Entry<L> entry;
+            synchronized (this) {
+                entry = this._pending.pollFirst();
+                if (entry == null) {
+                    this._scheduled = false;
+                    return;
+                }
+            }
+            try {
+                entry.dispatch(this._listener);
+            } catch (RuntimeException e) {
+                logger.error("Listener failed handling " + entry.getEvent(), e);
+            }
+        }
+    }
+
+    /**
+     * Replaces the event of the pending entry of the same source by the
+     * event of the specified entry. Entries are not coalesced across a
+     * pending entry without a source key, which keeps such events ordered.
+     * @param entry the entry to be coalesced.
+     * @return {@code true}, if a pending entry of the same source has been
+     * found;<br>
+     * {@code false} otherwise.
+     */
+    private boolean coalesce(DeliveryQueue.Entry<L> entry) {
+        Iterator<DeliveryQueue.Entry<L>> entryIterator = this._pending
+                        .descendingIterator();
+        while (entryIterator.hasNext()) {
+            DeliveryQueue.Entry<L> pending = entryIterator.next();
+            if (pending.getSourceKey() == null) {
+                return false;
+            }
+            if (entry.getSourceKey().equals(pending.getSourceKey())
+                            && (entry.getHandler() == pending.getHandler())) {
+                pending.setEvent(entry.getEvent());
+                this._coalescedCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the oldest pending entry superseded by a later pending entry or
+     * the specified new entry of the same source and handler, if any.
+     * @param entry the entry about to be added.
+     */
+    private void dropSuperseded(DeliveryQueue.Entry<L> entry) {
+        Set<Object> laterSources = new HashSet<Object>();
+        if (entry.getSourceKey() != null) {
+            laterSources.add(entry.getSupersedingKey());
+        }
+        DeliveryQueue.Entry<L> oldestSuperseded = null;
+        Iterator<DeliveryQueue.Entry<L>> entryIterator = this._pending
+                        .descendingIterator();
+        while (entryIterator.hasNext()) {
+            DeliveryQueue.Entry<L> pending = entryIterator.next();
+            if ((pending.getSourceKey() != null)
+                            && !laterSources.add(pending.getSupersedingKey())) {
+                oldestSuperseded = pending;
+            }
+        }
+        if (oldestSuperseded != null) {
+            this._pending.removeFirstOccurrence(oldestSuperseded);
+            this._droppedCount++;
+        }
+    }
+
+    /**
+     * The listener notified by this queue.
+     */
+    private L _listener;
+
+    /**
+     * The mode events are delivered in.
+     */
+    private DeliveryMode _mode;
+
+    /**
+     * The number of pending events above which events are dropped.
+     */
+    private int _capacity;
+
+    /**
+     * The entries waiting to be delivered, oldest first.
+     */
+    private ArrayDeque<DeliveryQueue.Entry<L>> _pending;
+
+    /**
+     * Specifies whether the draining of this queue has been scheduled.
+     */
+    private boolean _scheduled;
+
+    /**
+     * The number of coalesced events.
+     */
+    private long _coalescedCount;
+
+    /**
+     * The number of dropped events.
+     */
+    private long _droppedCount;
+
+    /**
+     * The task draining this queue.
+     */
+    private Runnable _drainer;
+
+
+    /**
+     * Pending event together with the handler delivering it.
+     */
+    private static class Entry<L> {
+
+        /**
+         * Creates a new Entry.
+         * @param handler the handler delivering the event.
+         * @param event the event to be delivered.
+         * @param sourceKey the source of the event;<br>
+         * or {@code null}, if the event must be delivered.
+         */
+        @SuppressWarnings("unchecked")
+        public Entry(EventHandler<? super L, ?> handler, Object event,
+                     Object sourceKey) {
+            this._handler = (EventHandler<? super L, Object>) handler;
+            this._event = event;
+            this._sourceKey = sourceKey;
+        }
+
+        /**
+         * Delivers the event of this entry to the specified listener.
+         * @param listener the listener to be notified.
+         */
+        public void dispatch(L listener) {
+            this._handler.dispatch(listener, this._event);
+        }
+
+        /**
+         * Returns the handler delivering the event.
+         * @return the handler.
+         */
+        public EventHandler<? super L, Object> getHandler() {
+            return this._handler;
+        }
+
+        /**
+         * Returns the event to be delivered.
+         * @return the event.
+         */
+        public Object getEvent() {
+            return this._event;
+        }
+
+        /**
+         * Replaces the event to be delivered.
+         * @param event the new event.
+         */
+        public void setEvent(Object event) {
+            this._event = event;
+        }
+
+        /**
+         * Returns the source of the event.
+         * @return the source key;<br>
+         * or {@code null}, if the event must be delivered.
+         */
+        public Object getSourceKey() {
+            return this._sourceKey;
+        }
+
+        /**
+         * Returns the key shared by all entries of the same source and
+         * handler, of which only the latest one needs to be delivered.
+         * @return the source key combined with the handler.
+         */
+        public Object getSupersedingKey() {
+            return Arrays.asList(this._sourceKey, this._handler);
+        }
+
+        /**
+         * The handler delivering the event.
+         */
+        private EventHandler<? super L, Object> _handler;
+
+        /**
+         * The event to be delivered.
+         */
+        private Object _event;
+
+        /**
+         * The source of the event.
+         */
+        private Object _sourceKey;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package de.renew.netdoc.model.event;
+
+
+/**
+ * Handler delivering an event to a single listener by calling the listener
+ * method matching the event. Handlers are stateless and shared, so that
+ * firing an event allocates nothing.
+ */
+public interface EventHandler<L, E> {
+
+    /**
+     * Delivers the specified event to the specified listener.
+     * @param listener the listener to be notified.
+     * @param event the event to be delivered.
+     * @de.renew.require (listener != null)
+     * @de.renew.require (event != null)
+     */
+    public void dispatch(L listener, E event);
+}
\ No newline at end of file
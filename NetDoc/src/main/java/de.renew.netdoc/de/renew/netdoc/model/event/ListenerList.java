@@ -0,0 +1,169 @@
+package de.renew.netdoc.model.event;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+
+
+/**
+ * <p>Copy-on-write list of listeners shared by the event sources of the
+ * NetDoc model. Adding or removing a listener replaces the listener array;
+ * firing an event iterates the current array directly, so that listeners
+ * may add or remove listeners while being notified and firing allocates
+ * nothing.</p>
+ * <p>Listeners are not serialised; event sources hold their lists in
+ * transient fields and recreate them on deserialisation.</p>
+ * <p>Empty lists of the same listener type share a single empty array, so
+ * that the many event sources without listeners cost no array of their
+ * own.</p>
+ */
+public class ListenerList<L> {
+
+    /**
+     * Creates a new empty ListenerList of listeners of the specified type.
+     * @param listenerType the type of the listeners.
+     * @de.renew.require (listenerType != null)
+     */
+    @SuppressWarnings("unchecked")
+    public ListenerList(Class<L> listenerType) {
+        assert (listenerType != null) : "Precondition violated: (listenerType != null)";
+
+        this._listeners = (L[]) ListenerList.EMPTY_ARRAYS.get(listenerType);
+    }
+
+    /**
+     * Adds the specified listener to the end of this list.
+     * @param listenerToAdd the listener to be added.
+     * @de.renew.require (listenerToAdd != null)
+     */
+    public synchronized void add(L listenerToAdd) {
+        assert (listenerToAdd != null) : "Precondition violated: (listenerToAdd != null)";
+
+        L[] oldListeners = this._listeners;
+        L[] newListeners = Arrays.copyOf(oldListeners, oldListeners.length + 1);
+        newListeners[oldListeners.length] = listenerToAdd;
+        this._listeners = newListeners;
+    }
+
+    /**
+     * Removes the first occurence of the specified listener from this list.
+     * @param listenerToRemove the listener to be removed.
+     * @return {@code true}, if the listener has been removed;<br>
+     * {@code false}, if it was not contained.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized boolean remove(Object listenerToRemove) {
+        L[] oldListeners = this._listeners;
+        int index = this.indexOf(listenerToRemove);
+        if (index < 0) {
+            return false;
+        }
+        if (oldListeners.length == 1) {
+            this._listeners = (L[]) ListenerList.EMPTY_ARRAYS
+                            .get(oldListeners.getClass().getComponentType());
+            return true;
+        }
+        L[] newListeners = Arrays.copyOf(oldListeners, oldListeners.length - 1);
+        System.arraycopy(oldListeners, index + 1, newListeners, index,
+                        newListeners.length - index);
+        this._listeners = newListeners;
+        return true;
+    }
+
+    /**
+     * Determines whether the specified listener is contained in this list.
+     * @param listener the listener to be looked for.
+     * @return {@code true}, if the listener is contained;<br>
+     * {@code false} otherwise.
+     */
+    public boolean contains(Object listener) {
+        return this.indexOf(listener) >= 0;
+    }
+
+    /**
+     * Returns the number of listeners in this list.
+     * @return the number of listeners.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int size() {
+        return this._listeners.length;
+    }
+
+    /**
+     * Determines whether this list is empty.
+     * @return {@code true}, if this list contains no listeners;<br>
+     * {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return this._listeners.length == 0;
+    }
+
+    /**
+     * Returns the current listener array of this list. The array is never
+     * modified by this list and must not be modified by the caller.
+     * @return the current listeners.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public L[] getListeners() {
+        return this._listeners;
+    }
+
+    /**
+     * Returns an enumeration of the current listeners of this list.
+     * @return the enumeration of the listeners.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Enumeration<L> enumeration() {
+        return Collections.enumeration(Arrays.asList(this._listeners));
+    }
+
+    /**
+     * Delivers the specified event to all listeners of this list by the
+     * specified handler, in the order the listeners were added.
+     * @param handler the handler delivering the event.
+     * @param event the event to be delivered.
+     * @return the number of listeners notified.
+     * @de.renew.require (handler != null)
+     * @de.renew.require (event != null)
+     */
+    public <E> int fire(EventHandler<? super L, ? super E> handler, E event) {
+        L[] listeners = this._listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            handler.dispatch(listeners[i], event);
+        }
+        return listeners.length;
+    }
+
+    /**
+     * Returns the index of the first occurence of the specified listener.
+     * @param listener the listener to be looked for.
+     * @return the index of the listener;<br>
+     * or {@code -1}, if not contained.
+     */
+    private int indexOf(Object listener) {
+        L[] listeners = this._listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if ((listener == null) ? (listeners[i] == null)
+                            : listener.equals(listeners[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The current listeners of this list.
+     */
+    private volatile L[] _listeners;
+
+    /**
+     * The shared empty listener arrays by listener type.
+     */
+    private static final ClassValue<Object[]> EMPTY_ARRAYS = new ClassValue<Object[]>() {
+        @Override
+        protected Object[] computeValue(Class<?> listenerType) {
+            return (Object[]) Array.newInstance(listenerType, 0);
+        }
+    };
+}
\ No newline at end of file
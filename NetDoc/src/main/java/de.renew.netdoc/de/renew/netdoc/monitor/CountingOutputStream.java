@@ -0,0 +1,57 @@
+package de.renew.netdoc.monitor;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+/**
+ * Output stream counting the bytes written to the underlying stream.
+ */
+public class CountingOutputStream extends FilterOutputStream {
+
+    /**
+     * Creates a new CountingOutputStream writing to the specified stream.
+     * @param out the underlying output stream.
+     * @de.renew.require (out != null)
+     */
+    public CountingOutputStream(OutputStream out) {
+        super(out);
+        assert (out != null) : "Precondition violated: (out != null)";
+
+        this._count = 0L;
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     * @return the number of bytes written.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getCount() {
+        return this._count;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void write(int b) throws IOException {
+        this.out.write(b);
+        this._count++;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void write(byte[] buffer, int offset, int length)
+                    throws IOException {
+        this.out.write(buffer, offset, length);
+        this._count += length;
+    }
+
+    /**
+     * The number of bytes written so far.
+     */
+    private long _count;
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package de.renew.netdoc.monitor;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+
+/**
+ * Reader counting the characters read from the underlying reader. Marks are
+ * not supported, so that characters read again are never counted twice.
+ */
+public class CountingReader extends FilterReader {
+
+    /**
+     * Creates a new CountingReader reading from the specified reader.
+     * @param in the underlying reader.
+     * @de.renew.require (in != null)
+     */
+    public CountingReader(Reader in) {
+        super(in);
+        assert (in != null) : "Precondition violated: (in != null)";
+
+        this._count = 0L;
+    }
+
+    /**
+     * Returns the number of characters read so far.
+     * @return the number of characters read.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getCount() {
+        return this._count;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int read() throws IOException {
+        int returnValue = super.read();
+        if (returnValue >= 0) {
+            this._count++;
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        int returnValue = super.read(buffer, offset, length);
+        if (returnValue > 0) {
+            this._count += returnValue;
+        }
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        long returnValue = super.skip(n);
+        this._count += returnValue;
+        return returnValue;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("mark() not supported");
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset() not supported");
+    }
+
+    /**
+     * The number of characters read so far.
+     */
+    private long _count;
+}
\ No newline at end of file
@@ -0,0 +1,197 @@
+package de.renew.netdoc.monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Lock-free histogram of operation latencies. Latencies are counted in
+ * buckets of powers of two nanoseconds, so recording is a few uncontended
+ * additions and never allocates. Percentiles are estimated from the bucket
+ * bounds and are therefore accurate to a factor of two at most.
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of buckets, one per bit of a nanosecond value.
+     */
+    public static final int BUCKET_COUNT = 64;
+
+
+    /**
+     * Creates a new empty LatencyHistogram.
+     */
+    public LatencyHistogram() {
+        this._count = new LongAdder();
+        this._failureCount = new LongAdder();
+        this._totalNanos = new LongAdder();
+        this._maxNanos = new AtomicLong();
+        this._buckets = new LongAdder[LatencyHistogram.BUCKET_COUNT];
+        for (int i = 0; i < this._buckets.length; i++) {
+            this._buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a successful operation having taken the specified time.
+     * @param nanos the duration of the operation in nanoseconds.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0L);
+        this._count.increment();
+        this._totalNanos.add(duration);
+        this._buckets[LatencyHistogram.getBucket(duration)].increment();
+        long max = this._maxNanos.get();
+        while ((duration > max)
+                        && !this._maxNanos.compareAndSet(max, duration)) {
+            max = this._maxNanos.get();
+        }
+    }
+
+    /**
+     * Records a failed operation having taken the specified time. Failed
+     * operations are counted in the histogram as well.
+     * @param nanos the duration of the operation in nanoseconds.
+     */
+    public void recordFailure(long nanos) {
+        this._failureCount.increment();
+        this.record(nanos);
+    }
+
+    /**
+     * Returns the number of operations recorded.
+     * @return the number of operations recorded.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getCount() {
+        return this._count.sum();
+    }
+
+    /**
+     * Returns the number of failed operations recorded.
+     * @return the number of failed operations recorded.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getFailureCount() {
+        return this._failureCount.sum();
+    }
+
+    /**
+     * Returns the mean latency of the operations recorded.
+     * @return the mean latency in nanoseconds;<br>
+     * or {@code 0}, if no operation has been recorded.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getMeanNanos() {
+        long count = this.getCount();
+        return (count == 0) ? 0L : this._totalNanos.sum() / count;
+    }
+
+    /**
+     * Returns the maximum latency of the operations recorded.
+     * @return the maximum latency in nanoseconds;<br>
+     * or {@code 0}, if no operation has been recorded.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getMaxNanos() {
+        return this._maxNanos.get();
+    }
+
+    /**
+     * Returns an estimate of the specified percentile of the latencies
+     * recorded. The estimate is the upper bound of the bucket containing the
+     * percentile, limited by the maximum latency.
+     * @param percentile the percentile to be estimated.
+     * @return the estimated latency in nanoseconds;<br>
+     * or {@code 0}, if no operation has been recorded.
+     * @de.renew.require (percentile > 0) && (percentile <= 100)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public long getPercentileNanos(double percentile) {
+        assert (percentile > 0) && (percentile <= 100) : "Precondition violated: (percentile > 0) && (percentile <= 100)";
+
+        long[] counts = new long[this._buckets.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this._buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long upperBound = (i >= 62) ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                return Math.min(upperBound, this.getMaxNanos());
+            }
+        }
+        return this.getMaxNanos();
+    }
+
+    /**
+     * Returns a snapshot of this histogram.
+     * @return the new snapshot.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public LatencySnapshot getSnapshot() {
+        return new LatencySnapshot(this.getCount(), this.getFailureCount(),
+                        this.getMeanNanos() / 1000L,
+                        this.getPercentileNanos(50) / 1000L,
+                        this.getPercentileNanos(90) / 1000L,
+                        this.getPercentileNanos(99) / 1000L,
+                        this.getMaxNanos() / 1000L);
+    }
+
+    /**
+     * Discards all latencies recorded.
+     */
+    public void reset() {
+        this._count.reset();
+        this._failureCount.reset();
+        this._totalNanos.reset();
+        this._maxNanos.set(0L);
+        for (int i = 0; i < this._buckets.length; i++) {
+            this._buckets[i].reset();
+        }
+    }
+
+    /**
+     * Returns the bucket of the specified latency, i.e. the position of its
+     * highest bit.
+     * @param nanos the latency in nanoseconds.
+     * @return the bucket index.
+     * @de.renew.require (nanos >= 0)
+     */
+    private static int getBucket(long nanos) {
+        return (nanos == 0) ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * The number of operations recorded.
+     */
+    private LongAdder _count;
+
+    /**
+     * The number of failed operations recorded.
+     */
+    private LongAdder _failureCount;
+
+    /**
+     * The sum of the latencies recorded in nanoseconds.
+     */
+    private LongAdder _totalNanos;
+
+    /**
+     * The maximum latency recorded in nanoseconds.
+     */
+    private AtomicLong _maxNanos;
+
+    /**
+     * The counts of the latency buckets. Bucket {@code i} counts latencies of
+     * {@code 2^i} up to {@code 2^(i+1)-1} nanoseconds.
+     */
+    private LongAdder[] _buckets;
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package de.renew.netdoc.monitor;
+
+import java.beans.ConstructorProperties;
+
+
+/**
+ * Immutable snapshot of a latency histogram. Snapshots are exposed to JMX
+ * clients as open composite data, all latencies in microseconds.
+ */
+public class LatencySnapshot {
+
+    /**
+     * Creates a new LatencySnapshot using the specified values.
+     * @param count the number of operations recorded.
+     * @param failureCount the number of failed operations recorded.
+     * @param meanMicros the mean latency in microseconds.
+     * @param p50Micros the median latency in microseconds.
+     * @param p90Micros the 90th percentile latency in microseconds.
+     * @param p99Micros the 99th percentile latency in microseconds.
+     * @param maxMicros the maximum latency in microseconds.
+     */
+    @ConstructorProperties({ "count", "failureCount", "meanMicros",
+                    "p50Micros", "p90Micros", "p99Micros", "maxMicros" })
+    public LatencySnapshot(long count, long failureCount, long meanMicros,
+                           long p50Micros, long p90Micros, long p99Micros,
+                           long maxMicros) {
+        this._count = count;
+        this._failureCount = failureCount;
+        this._meanMicros = meanMicros;
+        this._p50Micros = p50Micros;
+        this._p90Micros = p90Micros;
+        this._p99Micros = p99Micros;
+        this._maxMicros = maxMicros;
+    }
+
+    /**
+     * Returns the number of operations recorded.
+     * @return the number of operations recorded.
+     */
+    public long getCount() {
+        return this._count;
+    }
+
+    /**
+     * Returns the number of failed operations recorded.
+     * @return the number of failed operations recorded.
+     */
+    public long getFailureCount() {
+        return this._failureCount;
+    }
+
+    /**
+     * Returns the mean latency.
+     * @return the mean latency in microseconds.
+     */
+    public long getMeanMicros() {
+        return this._meanMicros;
+    }
+
+    /**
+     * Returns the estimated median latency.
+     * @return the median latency in microseconds.
+     */
+    public long getP50Micros() {
+        return this._p50Micros;
+    }
+
+    /**
+     * Returns the estimated 90th percentile latency.
+     * @return the 90th percentile latency in microseconds.
+     */
+    public long getP90Micros() {
+        return this._p90Micros;
+    }
+
+    /**
+     * Returns the estimated 99th percentile latency.
+     * @return the 99th percentile latency in microseconds.
+     */
+    public long getP99Micros() {
+        return this._p99Micros;
+    }
+
+    /**
+     * Returns the maximum latency.
+     * @return the maximum latency in microseconds.
+     */
+    public long getMaxMicros() {
+        return this._maxMicros;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public String toString() {
+        return "LatencySnapshot[count=" + this.getCount() + ", failures="
+                        + this.getFailureCount() + ", mean="
+                        + this.getMeanMicros() + "us, p50="
+                        + this.getP50Micros() + "us, p90="
+                        + this.getP90Micros() + "us, p99="
+                        + this.getP99Micros() + "us, max="
+                        + this.getMaxMicros() + "us]";
+    }
+
+    /**
+     * The number of operations recorded.
+     */
+    private long _count;
+
+    /**
+     * The number of failed operations recorded.
+     */
+    private long _failureCount;
+
+    /**
+     * The mean latency in microseconds.
+     */
+    private long _meanMicros;
+
+    /**
+     * The median latency in microseconds.
+     */
+    private long _p50Micros;
+
+    /**
+     * The 90th percentile latency in microseconds.
+     */
+    private long _p90Micros;
+
+    /**
+     * The 99th percentile latency in microseconds.
+     */
+    private long _p99Micros;
+
+    /**
+     * The maximum latency in microseconds.
+     */
+    private long _maxMicros;
+}
\ No newline at end of file
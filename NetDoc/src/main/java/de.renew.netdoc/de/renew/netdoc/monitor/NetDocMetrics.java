@@ -0,0 +1,360 @@
+package de.renew.netdoc.monitor;
+
+import de.renew.netdoc.model.container.event.DocumentContainerHandler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Process-wide runtime metrics of NetDoc. The Input/Output managers record
+ * the latencies of their load, save and import operations, the command
+ * executors those of the commands by name; the event sources
+ * record every event fired together with the number of listeners notified.
+ * Recording only adds to striped counters and may thus stay enabled in
+ * production. The metrics are exposed by {@link NetDocMetricsMXBean}.
+ */
+public abstract class NetDocMetrics {
+
+    /**
+     * Event kind of container-closed events.
+     */
+    public static final int EVENT_CONTAINER_CLOSED = 0;
+
+    /**
+     * Event kind of container-closing events.
+     */
+    public static final int EVENT_CONTAINER_CLOSING = 1;
+
+    /**
+     * Event kind of container-opened events.
+     */
+    public static final int EVENT_CONTAINER_OPENED = 2;
+
+    /**
+     * Event kind of document-closed events.
+     */
+    public static final int EVENT_DOCUMENT_CLOSED = 3;
+
+    /**
+     * Event kind of document-closing events.
+     */
+    public static final int EVENT_DOCUMENT_CLOSING = 4;
+
+    /**
+     * Event kind of document-opened events.
+     */
+    public static final int EVENT_DOCUMENT_OPENED = 5;
+
+    /**
+     * Event kind of document change events.
+     */
+    public static final int EVENT_DOCUMENT_CHANGED = 6;
+
+    /**
+     * Event kind of part-added structure change events.
+     */
+    public static final int EVENT_PART_ADDED = 7;
+
+    /**
+     * Event kind of part-removed structure change events.
+     */
+    public static final int EVENT_PART_REMOVED = 8;
+
+    /**
+     * Event kind of text change events.
+     */
+    public static final int EVENT_TEXT_CHANGED = 9;
+
+    /**
+     * The names of the event kinds, indexed by kind.
+     */
+    private static final String[] EVENT_NAMES = { "containerClosed",
+                    "containerClosing", "containerOpened", "documentClosed",
+                    "documentClosing", "documentOpened", "documentChanged",
+                    "partAdded", "partRemoved", "textChanged" };
+
+    /**
+     * Latencies of the document parts loaded by the Input/Output managers.
+     */
+    public static final LatencyHistogram LOAD = new LatencyHistogram();
+
+    /**
+     * Latencies of the document parts saved by the Input/Output managers.
+     */
+    public static final LatencyHistogram SAVE = new LatencyHistogram();
+
+    /**
+     * Latencies of the document parts imported by the Input/Output managers.
+     */
+    public static final LatencyHistogram IMPORT = new LatencyHistogram();
+
+    /**
+     * The number of events fired per kind.
+     */
+    private static final LongAdder[] fires = NetDocMetrics.createAdders();
+
+    /**
+     * The number of listener notifications per kind.
+     */
+    private static final LongAdder[] notifications = NetDocMetrics
+                    .createAdders();
+
+    /**
+     * The maximum number of listeners notified by a single event per kind.
+     */
+    private static final AtomicLongArray maxFanOut = new AtomicLongArray(
+                    NetDocMetrics.EVENT_NAMES.length);
+
+    /**
+     * The latencies of the executed commands by command name.
+     */
+    private static final ConcurrentMap<String, LatencyHistogram> commandLatencies =
+                    new ConcurrentHashMap<String, LatencyHistogram>();
+
+    /**
+     * Specifies whether events are recorded.
+     */
+    private static volatile boolean recording = true;
+
+
+    /**
+     * Determines whether events and latencies are recorded.
+     * @return {@code true}, if recording is enabled;<br>
+     * {@code false} otherwise.
+     */
+    public static boolean isRecording() {
+        return NetDocMetrics.recording;
+    }
+
+    /**
+     * Enables or disables the recording of events and latencies.
+     * @param recording {@code true}, if recording is to be enabled;<br>
+     * {@code false} otherwise.
+     */
+    public static void setRecording(boolean recording) {
+        NetDocMetrics.recording = recording;
+    }
+
+    /**
+     * Returns the number of event kinds.
+     * @return the number of event kinds.
+     */
+    public static int getEventKindCount() {
+        return NetDocMetrics.EVENT_NAMES.length;
+    }
+
+    /**
+     * Returns the name of the specified event kind.
+     * @param kind the event kind.
+     * @return the name of the event kind.
+     * @de.renew.require (kind >= 0) && (kind < getEventKindCount())
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static String getEventName(int kind) {
+        return NetDocMetrics.EVENT_NAMES[kind];
+    }
+
+    /**
+     * Records an event of the specified kind having been fired to the
+     * specified number of listeners.
+     * @param kind the event kind.
+     * @param listenerCount the number of listeners notified.
+     * @de.renew.require (kind >= 0) && (kind < getEventKindCount())
+     * @de.renew.require (listenerCount >= 0)
+     */
+    public static void recordEvent(int kind, int listenerCount) {
+        if (!NetDocMetrics.recording) {
+            return;
+        }
+        NetDocMetrics.fires[kind].increment();
+        NetDocMetrics.notifications[kind].add(listenerCount);
+        long max = NetDocMetrics.maxFanOut.get(kind);
+        while ((listenerCount > max) && !NetDocMetrics.maxFanOut
+                        .compareAndSet(kind, max, listenerCount)) {
+            max = NetDocMetrics.maxFanOut.get(kind);
+        }
+    }
+
+    /**
+     * Records a document container event having been fired by the specified
+     * handler to the specified number of listeners.
+     * @param handler the handler of the document container event.
+     * @param listenerCount the number of listeners notified.
+     * @de.renew.require (handler != null)
+     * @de.renew.require (listenerCount >= 0)
+     */
+    public static void recordContainerEvent(DocumentContainerHandler handler,
+                                            int listenerCount) {
+        // the container event kinds are declared in the order of the handlers
+        NetDocMetrics.recordEvent(NetDocMetrics.EVENT_CONTAINER_CLOSED
+                        + handler.ordinal(), listenerCount);
+    }
+
+    /**
+     * Records the latency of an operation started at the specified time.
+     * @param histogram the histogram of the operation.
+     * @param startNanos the {@link System#nanoTime()} the operation started.
+     * @param succeeded {@code true}, if the operation completed normally;<br>
+     * {@code false} otherwise.
+     * @de.renew.require (histogram != null)
+     */
+    public static void recordLatency(LatencyHistogram histogram,
+                                     long startNanos, boolean succeeded) {
+        if (!NetDocMetrics.recording) {
+            return;
+        }
+        long duration = System.nanoTime() - startNanos;
+        if (succeeded) {
+            histogram.record(duration);
+        } else {
+            histogram.recordFailure(duration);
+        }
+    }
+
+    /**
+     * Returns the histogram of the latencies of the commands with the
+     * specified name, creating it if necessary.
+     * @param commandName the name of the commands.
+     * @return the latency histogram of the commands.
+     * @de.renew.require (commandName != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static LatencyHistogram getCommandLatency(String commandName) {
+        assert (commandName != null) : "Precondition violated: (commandName != null)";
+
+        LatencyHistogram returnValue = NetDocMetrics.commandLatencies
+                        .get(commandName);
+        if (returnValue == null) {
+            LatencyHistogram created = new LatencyHistogram();
+            returnValue = NetDocMetrics.commandLatencies
+                            .putIfAbsent(commandName, created);
+            if (returnValue == null) {
+                returnValue = created;
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * Returns the latencies of the executed commands.
+     * @return a map from command names to latency snapshots, sorted by
+     * command name.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static Map<String, LatencySnapshot> getCommandLatencies() {
+        Map<String, LatencySnapshot> returnValue =
+                        new TreeMap<String, LatencySnapshot>();
+        for (Map.Entry<String, LatencyHistogram> entry : NetDocMetrics
+                        .commandLatencies.entrySet()) {
+            returnValue.put(entry.getKey(), entry.getValue().getSnapshot());
+        }
+        return returnValue;
+    }
+
+    /**
+     * Returns the number of events fired of the specified kind.
+     * @param kind the event kind.
+     * @return the number of events fired.
+     * @de.renew.require (kind >= 0) && (kind < getEventKindCount())
+     */
+    public static long getEventCount(int kind) {
+        return NetDocMetrics.fires[kind].sum();
+    }
+
+    /**
+     * Returns the number of listener notifications of the specified kind.
+     * @param kind the event kind.
+     * @return the number of listeners notified.
+     * @de.renew.require (kind >= 0) && (kind < getEventKindCount())
+     */
+    public static long getNotificationCount(int kind) {
+        return NetDocMetrics.notifications[kind].sum();
+    }
+
+    /**
+     * Returns the maximum number of listeners notified by a single event of
+     * the specified kind.
+     * @param kind the event kind.
+     * @return the maximum fan-out.
+     * @de.renew.require (kind >= 0) && (kind < getEventKindCount())
+     */
+    public static long getMaxFanOut(int kind) {
+        return NetDocMetrics.maxFanOut.get(kind);
+    }
+
+    /**
+     * Returns the number of events fired per kind.
+     * @return a map from event names to event counts.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static Map<String, Long> getEventCounts() {
+        Map<String, Long> returnValue = new LinkedHashMap<String, Long>();
+        for (int kind = 0; kind < NetDocMetrics.EVENT_NAMES.length; kind++) {
+            returnValue.put(NetDocMetrics.EVENT_NAMES[kind],
+                            NetDocMetrics.getEventCount(kind));
+        }
+        return returnValue;
+    }
+
+    /**
+     * Returns the number of listener notifications per kind.
+     * @return a map from event names to notification counts.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static Map<String, Long> getNotificationCounts() {
+        Map<String, Long> returnValue = new LinkedHashMap<String, Long>();
+        for (int kind = 0; kind < NetDocMetrics.EVENT_NAMES.length; kind++) {
+            returnValue.put(NetDocMetrics.EVENT_NAMES[kind],
+                            NetDocMetrics.getNotificationCount(kind));
+        }
+        return returnValue;
+    }
+
+    /**
+     * Returns the maximum fan-out per kind.
+     * @return a map from event names to the maximum number of listeners
+     * notified by a single event.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static Map<String, Long> getMaxFanOuts() {
+        Map<String, Long> returnValue = new LinkedHashMap<String, Long>();
+        for (int kind = 0; kind < NetDocMetrics.EVENT_NAMES.length; kind++) {
+            returnValue.put(NetDocMetrics.EVENT_NAMES[kind],
+                            NetDocMetrics.getMaxFanOut(kind));
+        }
+        return returnValue;
+    }
+
+    /**
+     * Discards all events and latencies recorded.
+     */
+    public static void reset() {
+        NetDocMetrics.LOAD.reset();
+        NetDocMetrics.SAVE.reset();
+        NetDocMetrics.IMPORT.reset();
+        NetDocMetrics.commandLatencies.clear();
+        for (int kind = 0; kind < NetDocMetrics.EVENT_NAMES.length; kind++) {
+            NetDocMetrics.fires[kind].reset();
+            NetDocMetrics.notifications[kind].reset();
+            NetDocMetrics.maxFanOut.set(kind, 0L);
+        }
+    }
+
+    /**
+     * Creates one counter per event kind.
+     * @return the new counters.
+     */
+    private static LongAdder[] createAdders() {
+        LongAdder[] returnValue = new LongAdder[NetDocMetrics.EVENT_NAMES.length];
+        for (int i = 0; i < returnValue.length; i++) {
+            returnValue[i] = new LongAdder();
+        }
+        return returnValue;
+    }
+}
\ No newline at end of file
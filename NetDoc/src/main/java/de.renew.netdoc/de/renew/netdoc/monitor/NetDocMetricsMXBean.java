@@ -0,0 +1,101 @@
+package de.renew.netdoc.monitor;
+
+import java.util.Map;
+
+
+/**
+ * Management interface exposing the runtime metrics of NetDoc to JMX
+ * clients. Latencies are given in microseconds.
+ */
+public interface NetDocMetricsMXBean {
+
+    /**
+     * Returns the latencies of the document parts loaded.
+     * @return a snapshot of the load latencies.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public LatencySnapshot getLoadLatency();
+
+    /**
+     * Returns the latencies of the document parts saved.
+     * @return a snapshot of the save latencies.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public LatencySnapshot getSaveLatency();
+
+    /**
+     * Returns the latencies of the document parts imported.
+     * @return a snapshot of the import latencies.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public LatencySnapshot getImportLatency();
+
+    /**
+     * Returns the latencies of the executed commands per command name.
+     * @return a map from command names to latency snapshots.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Map<String, LatencySnapshot> getCommandLatencies();
+
+    /**
+     * Returns the number of events fired per event type.
+     * @return a map from event names to event counts.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Map<String, Long> getEventCounts();
+
+    /**
+     * Returns the number of listener notifications per event type.
+     * @return a map from event names to notification counts.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Map<String, Long> getNotificationCounts();
+
+    /**
+     * Returns the maximum number of listeners notified by a single event per
+     * event type.
+     * @return a map from event names to maximum fan-outs.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public Map<String, Long> getMaxFanOuts();
+
+    /**
+     * Returns the number of document containers currently open.
+     * @return the number of open document containers.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getOpenContainerCount();
+
+    /**
+     * Returns the number of drawing targets registered.
+     * @return the size of the drawing target registry.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getDrawingTargetCount();
+
+    /**
+     * Returns the number of figure targets registered.
+     * @return the size of the figure target registry.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public int getFigureTargetCount();
+
+    /**
+     * Determines whether events and latencies are recorded.
+     * @return {@code true}, if recording is enabled;<br>
+     * {@code false} otherwise.
+     */
+    public boolean isRecording();
+
+    /**
+     * Enables or disables the recording of events and latencies.
+     * @param recording {@code true}, if recording is to be enabled;<br>
+     * {@code false} otherwise.
+     */
+    public void setRecording(boolean recording);
+
+    /**
+     * Discards all events and latencies recorded.
+     */
+    public void reset();
+}
\ No newline at end of file
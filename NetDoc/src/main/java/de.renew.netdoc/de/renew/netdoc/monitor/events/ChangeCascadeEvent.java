@@ -0,0 +1,84 @@
+package de.renew.netdoc.monitor.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+
+/**
+ * Flight Recorder event of a change event cascading from the part it
+ * originates at through all its parents and their listeners.
+ */
+@Name("de.renew.netdoc.ChangeCascade")
+@Label("Change Cascade")
+@Description("Propagation of a change event through the parents of a NetDoc document part")
+@Threshold("1 ms")
+public class ChangeCascadeEvent extends NetDocEvent {
+
+    /**
+     * Change type of the text of a part being changed.
+     */
+    public static final String TEXT_CHANGED = "textChanged";
+
+    /**
+     * Change type of a sub part being added.
+     */
+    public static final String PART_ADDED = "partAdded";
+
+    /**
+     * Change type of a sub part being removed.
+     */
+    public static final String PART_REMOVED = "partRemoved";
+
+    /**
+     * Change type of a sub part being replaced.
+     */
+    public static final String PART_REPLACED = "partReplaced";
+
+
+    /**
+     * Creates a new ChangeCascadeEvent.
+     */
+    public ChangeCascadeEvent() {
+        this("");
+    }
+
+    /**
+     * Creates a new ChangeCascadeEvent of the specified change type.
+     * @param changeType the type of the change.
+     * @de.renew.require (changeType != null)
+     */
+    public ChangeCascadeEvent(String changeType) {
+        super();
+        assert (changeType != null) : "Precondition violated: (changeType != null)";
+
+        this.changeType = changeType;
+    }
+
+    /**
+     * Returns the type of the change.
+     * @return the type of the change.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getChangeType() {
+        return this.changeType;
+    }
+
+    /**
+     * Sets the type of the change.
+     * @param changeType the type of the change.
+     * @de.renew.require (changeType != null)
+     */
+    public void setChangeType(String changeType) {
+        assert (changeType != null) : "Precondition violated: (changeType != null)";
+
+        this.changeType = changeType;
+    }
+
+    /**
+     * The type of the change.
+     */
+    @Label("Change Type")
+    private String changeType;
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package de.renew.netdoc.monitor.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+
+/**
+ * Flight Recorder event of a document part being formatted.
+ */
+@Name("de.renew.netdoc.DocumentFormat")
+@Label("Document Format")
+@Description("Formatting of a NetDoc document part by a document formatter")
+@Threshold("1 ms")
+public class DocumentFormatEvent extends NetDocEvent {
+
+    /**
+     * Creates a new DocumentFormatEvent.
+     */
+    public DocumentFormatEvent() {
+        super();
+
+        this.formatter = "";
+    }
+
+    /**
+     * Returns the class name of the formatter.
+     * @return the class name of the formatter.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getFormatter() {
+        return this.formatter;
+    }
+
+    /**
+     * Sets the class name of the formatter.
+     * @param formatter the class name of the formatter.
+     * @de.renew.require (formatter != null)
+     */
+    public void setFormatter(String formatter) {
+        assert (formatter != null) : "Precondition violated: (formatter != null)";
+
+        this.formatter = formatter;
+    }
+
+    /**
+     * The class name of the formatter.
+     */
+    @Label("Formatter")
+    private String formatter;
+}
\ No newline at end of file
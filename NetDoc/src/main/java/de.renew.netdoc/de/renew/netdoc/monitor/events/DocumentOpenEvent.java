@@ -0,0 +1,22 @@
+package de.renew.netdoc.monitor.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Flight Recorder event of a document being opened by a container manager.
+ */
+@Name("de.renew.netdoc.DocumentOpen")
+@Label("Document Open")
+@Description("Opening of a NetDoc document in a document window")
+public class DocumentOpenEvent extends NetDocEvent {
+
+    /**
+     * Creates a new DocumentOpenEvent.
+     */
+    public DocumentOpenEvent() {
+        super();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package de.renew.netdoc.monitor.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Flight Recorder event of a document part being parsed.
+ */
+@Name("de.renew.netdoc.DocumentParse")
+@Label("Document Parse")
+@Description("Parsing of a NetDoc document part")
+public class DocumentParseEvent extends NetDocEvent {
+
+    /**
+     * Creates a new DocumentParseEvent.
+     */
+    public DocumentParseEvent() {
+        super();
+    }
+}
\ No newline at end of file
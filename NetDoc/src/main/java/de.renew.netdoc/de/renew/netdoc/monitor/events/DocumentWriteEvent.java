@@ -0,0 +1,51 @@
+package de.renew.netdoc.monitor.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Flight Recorder event of a document part being written to its default
+ * location.
+ */
+@Name("de.renew.netdoc.DocumentWrite")
+@Label("Document Write")
+@Description("Writing of a NetDoc document part to its file")
+public class DocumentWriteEvent extends NetDocEvent {
+
+    /**
+     * Creates a new DocumentWriteEvent.
+     */
+    public DocumentWriteEvent() {
+        super();
+
+        this.location = "";
+    }
+
+    /**
+     * Returns the location written to.
+     * @return the location written to.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getLocation() {
+        return this.location;
+    }
+
+    /**
+     * Sets the location written to.
+     * @param location the location written to.
+     * @de.renew.require (location != null)
+     */
+    public void setLocation(String location) {
+        assert (location != null) : "Precondition violated: (location != null)";
+
+        this.location = location;
+    }
+
+    /**
+     * The location written to.
+     */
+    @Label("Location")
+    private String location;
+}
\ No newline at end of file
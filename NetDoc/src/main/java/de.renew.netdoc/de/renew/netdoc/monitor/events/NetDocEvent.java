@@ -0,0 +1,162 @@
+package de.renew.netdoc.monitor.events;
+
+import de.renew.netdoc.model.doctarget.DocTarget;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.traversal.DocumentPartCursor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+
+/**
+ * <p>Abstract Java Flight Recorder event of a NetDoc operation. Every event
+ * carries the name of the document involved, the number of bytes processed
+ * and the nesting depth of the document part.</p>
+ * <p>Events are used as follows; the document is only described if the event
+ * is actually recorded, since describing it walks the whole part tree:</p>
+ * <pre>
+ * DocumentParseEvent event = new DocumentParseEvent();
+ * event.begin();
+ * ...
+ * event.end();
+ * if (event.shouldCommit()) {
+ *     event.setDocument(part);
+ *     event.commit();
+ * }
+ * </pre>
+ * <p>The last four lines are available as {@link #commitFor(DocumentPart)}.
+ * The fields of this class are protected, since the Flight Recorder ignores
+ * private fields inherited by an event type.</p>
+ */
+@Category({ "NetDoc" })
+public abstract class NetDocEvent extends Event {
+
+    /**
+     * Value of the byte count, if the number of bytes is unknown.
+     */
+    public static final long UNKNOWN_BYTE_COUNT = -1L;
+
+
+    /**
+     * Creates a new NetDocEvent with an unknown byte count.
+     */
+    protected NetDocEvent() {
+        this.documentName = "";
+        this.byteCount = NetDocEvent.UNKNOWN_BYTE_COUNT;
+        this.depth = 0;
+    }
+
+    /**
+     * Describes the specified document part by this event. Sets the document
+     * name and the nesting depth; if the byte count is still unknown, it is
+     * set to the length of the text of the part and all its sub parts.
+     * @param part the document part involved;<br>
+     * or {@code null}, if no part is involved.
+     */
+    public void setDocument(DocumentPart part) {
+        if (part == null) {
+            return;
+        }
+        DocTarget target = part.getTarget();
+        this.documentName = (target != null) ? String.valueOf(target.getName())
+                        : part.getName();
+        long[] textLength = new long[1];
+        this.depth = NetDocEvent.measure(part, textLength);
+        if (this.byteCount == NetDocEvent.UNKNOWN_BYTE_COUNT) {
+            this.byteCount = textLength[0];
+        }
+    }
+
+    /**
+     * Ends the timing of this event and commits it describing the specified
+     * document part, if the event is to be recorded.
+     * @param part the document part involved;<br>
+     * or {@code null}, if no part is involved.
+     */
+    public void commitFor(DocumentPart part) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.setDocument(part);
+            this.commit();
+        }
+    }
+
+    /**
+     * Sets the number of bytes processed by the operation of this event.
+     * @param byteCount the number of bytes processed.
+     * @de.renew.require (byteCount >= 0)
+     */
+    public void setByteCount(long byteCount) {
+        assert (byteCount >= 0) : "Precondition violated: (byteCount >= 0)";
+
+        this.byteCount = byteCount;
+    }
+
+    /**
+     * Returns the name of the document involved.
+     * @return the document name.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public String getDocumentName() {
+        return this.documentName;
+    }
+
+    /**
+     * Returns the number of bytes processed.
+     * @return the byte count;<br>
+     * or {@link #UNKNOWN_BYTE_COUNT}, if unknown.
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * Returns the nesting depth of the document part involved.
+     * @return the nesting depth, {@code 1} for a part without sub parts.
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Returns the nesting depth of the specified part and adds the length of
+     * the texts of the part and its sub parts to the specified accumulator.
+     * @param part the part to be measured.
+     * @param textLength single-element accumulator of the text length.
+     * @return the nesting depth of the part.
+     * @de.renew.require (part != null)
+     * @de.renew.require (textLength != null) && (textLength.length == 1)
+     */
+    private static int measure(DocumentPart part, long[] textLength) {
+        int returnValue = 0;
+        DocumentPartCursor cursor = new DocumentPartCursor(part);
+        while (cursor.next()) {
+            textLength[0] += cursor.getText().length();
+            returnValue = Math.max(returnValue, cursor.getDepth() + 1);
+        }
+        return returnValue;
+    }
+
+    /**
+     * The name of the document involved.
+     */
+    @Label("Document Name")
+    protected String documentName;
+
+    /**
+     * The number of bytes processed.
+     */
+    @Label("Byte Count")
+    @Description("Bytes read or written; the text length for in-memory operations")
+    @DataAmount(DataAmount.BYTES)
+    protected long byteCount;
+
+    /**
+     * The nesting depth of the document part involved.
+     */
+    @Label("Nesting Depth")
+    protected int depth;
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package de.renew.netdoc.renew.gui;
+
+import de.renew.netdoc.io.DocumentCatalogEntry;
+import de.renew.netdoc.io.documentcatalogs.FileDocumentCatalog;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.DefaultListModel;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+
+/**
+ * Dialog listing the documents of a package catalog. The list is filtered by
+ * target name, title and author while typing, without parsing any document.
+ * The user may open the selected or all listed documents.
+ */
+public class CatalogBrowser {
+
+    /**
+     * Display name of the option opening the selected documents.
+     */
+    private static final String OPTION_OPEN_SELECTED = "Open Selected";
+
+    /**
+     * Display name of the option opening all listed documents.
+     */
+    private static final String OPTION_OPEN_ALL = "Open All";
+
+    /**
+     * Display name of the option closing the dialog.
+     */
+    private static final String OPTION_CANCEL = "Cancel";
+
+
+    /**
+     * Creates a new CatalogBrowser for the specified catalog.
+     * @param catalog the catalog to be browsed.
+     * @de.renew.require (catalog != null)
+     */
+    public CatalogBrowser(FileDocumentCatalog catalog) {
+        assert (catalog != null) : "Precondition violated: (catalog != null)";
+
+        this._catalog = catalog;
+        this._listModel = new DefaultListModel<DocumentCatalogEntry>();
+        this._list = new JList<DocumentCatalogEntry>(this._listModel);
+        this._list.setCellRenderer(new EntryRenderer());
+        this._filterField = new JTextField();
+        this._filterField.getDocument()
+                        .addDocumentListener(this.new FilterListener());
+        this.refilter();
+    }
+
+    /**
+     * Shows this browser as modal dialog and returns the entries chosen by
+     * the user.
+     * @param parent the component the dialog is placed relative to; or
+     * {@code null}.
+     * @return the chosen entries;<br>
+     * or {@code null}, if the dialog was cancelled.
+     */
+    public Collection<DocumentCatalogEntry> showDialog(Component parent) {
+        JPanel panel = new JPanel(new BorderLayout(0, 4));
+        panel.add(this._filterField, BorderLayout.NORTH);
+        JScrollPane scrollPane = new JScrollPane(this._list);
+        scrollPane.setPreferredSize(new Dimension(480, 320));
+        panel.add(scrollPane, BorderLayout.CENTER);
+
+        Object[] options = { CatalogBrowser.OPTION_OPEN_SELECTED,
+                        CatalogBrowser.OPTION_OPEN_ALL,
+                        CatalogBrowser.OPTION_CANCEL };
+        int result = JOptionPane.showOptionDialog(parent, panel,
+                        "NetDocs of " + this._catalog.getPackageRoot().getName(),
+                        JOptionPane.DEFAULT_OPTION, JOptionPane.PLAIN_MESSAGE,
+                        null, options, CatalogBrowser.OPTION_OPEN_SELECTED);
+        if (result == 0) {
+            return this._list.getSelectedValuesList();
+        }
+        if (result == 1) {
+            List<DocumentCatalogEntry> returnValue = new ArrayList<DocumentCatalogEntry>();
+            for (int i = 0; i < this._listModel.getSize(); i++) {
+                returnValue.add(this._listModel.getElementAt(i));
+            }
+            return returnValue;
+        }
+        return null;
+    }
+
+    /**
+     * Lists the catalog entries matching the current filter text.
+     */
+    private void refilter() {
+        this._listModel.clear();
+        for (DocumentCatalogEntry entry : this._catalog
+                        .getEntries(this._filterField.getText())) {
+            this._listModel.addElement(entry);
+        }
+    }
+
+    /**
+     * The catalog browsed.
+     */
+    private FileDocumentCatalog _catalog;
+
+    /**
+     * The entries currently listed.
+     */
+    private DefaultListModel<DocumentCatalogEntry> _listModel;
+
+    /**
+     * The list showing the entries.
+     */
+    private JList<DocumentCatalogEntry> _list;
+
+    /**
+     * The text field holding the filter text.
+     */
+    private JTextField _filterField;
+
+
+    /**
+     * Observer refiltering the list on changes of the filter text.
+     */
+    private class FilterListener implements DocumentListener {
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void insertUpdate(DocumentEvent event) {
+            CatalogBrowser.this.refilter();
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void removeUpdate(DocumentEvent event) {
+            CatalogBrowser.this.refilter();
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void changedUpdate(DocumentEvent event) {
+            CatalogBrowser.this.refilter();
+        }
+    }
+
+
+    /**
+     * Renderer showing target name, title and author of an entry.
+     */
+    private static class EntryRenderer extends DefaultListCellRenderer {
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public Component getListCellRendererComponent(JList<?> list,
+                                                      Object value, int index,
+                                                      boolean isSelected,
+                                                      boolean hasFocus) {
+            JLabel returnValue = (JLabel) super.getListCellRendererComponent(
+                            list, value, index, isSelected, hasFocus);
+            DocumentCatalogEntry entry = (DocumentCatalogEntry) value;
+            StringBuilder text = new StringBuilder(entry.getTargetName());
+            if (!entry.getTitle().isEmpty()) {
+                text.append(" - ").append(entry.getTitle());
+            }
+            if (!entry.getAuthor().isEmpty()) {
+                text.append(" (").append(entry.getAuthor()).append(')');
+            }
+            returnValue.setText(text.toString());
+            returnValue.setToolTipText(entry.getPath());
+            return returnValue;
+        }
+
+        /**
+         * Serial Version UID of this class.
+         */
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -2,15 +2,27 @@ package de.renew.netdoc.renew.gui;
 
 import de.renew.netdoc.gui.Window;
 import de.renew.netdoc.gui.commands.ConnectWindow;
+import de.renew.netdoc.io.DocumentCatalogEntry;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.documentcatalogs.FileDocumentCatalog;
 import de.renew.netdoc.model.command.Command;
 import de.renew.netdoc.model.command.CommandException;
+import de.renew.netdoc.model.command.CommandExecutor;
 import de.renew.netdoc.model.container.ContainerManager;
 import de.renew.netdoc.model.container.DocumentContainer;
+import de.renew.netdoc.model.container.commands.ManagerCommands;
 import de.renew.netdoc.model.container.commands.manager.AllDocumentsCommand;
 import de.renew.netdoc.model.container.commands.manager.CurrentDocumentCommand;
+import de.renew.netdoc.model.container.commands.manager.CurrentTargetCommand;
 import de.renew.netdoc.model.container.commands.manager.SingleDocumentCommand;
+import de.renew.netdoc.model.container.commands.manager.SingleTargetCommand;
+import de.renew.netdoc.model.doctarget.DocTarget;
 import de.renew.netdoc.model.document.Document;
 
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
+
 
 /**
  * Factory providing ContainerManager window commands.
@@ -21,6 +33,11 @@ import de.renew.netdoc.model.document.Document;
  */
 public abstract class GUICommands {
 
+    /**
+     * Name of the Browse-Package-Documents command.
+     */
+    public static final String NAME_BROWSE_PACKAGE_DOCUMENTS = "Browse Package Documents";
+
     /**
      * Returns a Connect-Current-Document-Window command for the specified
      * container manager and connect direction.
@@ -97,6 +114,42 @@ public abstract class GUICommands {
         return returnValue;
     }
 
+    /**
+     * Returns a Browse-Package-Documents command for the specified container
+     * manager. The command shows the catalog of the package containing the
+     * current target and opens the documents chosen by the user using the
+     * specified command executor.
+     * @param containerManager the container manager to be used by the command.
+     * @param commandExecutor the executor opening the chosen documents.
+     * @return the command.
+     * @de.renew.require (containerManager != null)
+     * @de.renew.require (commandExecutor != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static Command getBrowsePackageDocuments(ContainerManager containerManager,
+                                                    CommandExecutor commandExecutor) {
+        assert (containerManager != null) : "Precondition violated: (containerManager != null)";
+        assert (commandExecutor != null) : "Precondition violated: (commandExecutor != null)";
+
+        final ContainerManager iContainerManager = containerManager;
+        final CommandExecutor iCommandExecutor = commandExecutor;
+        Command returnValue = new CurrentTargetCommand(containerManager) {
+            @Override
+            protected Command createCommand(DocTarget target) {
+                return new BrowsePackageDocuments(iContainerManager, target,
+                                iCommandExecutor);
+            }
+
+            @Override
+            protected String getNameImpl() {
+                return GUICommands.NAME_BROWSE_PACKAGE_DOCUMENTS;
+            }
+        };
+        assert (returnValue != null) : "Postcondition violated: (returnValue != null)";
+
+        return returnValue;
+    }
+
 
     /**
      * Determines the name of a Connect-Document-Window command for the
@@ -193,4 +246,82 @@ public abstract class GUICommands {
          */
         private Object _connectDirection;
     }
+
+    /**
+     * Browse-Package-Documents Command. Brings the catalog of the package
+     * containing the target up to date, lets the user choose documents from
+     * it and opens them.
+     */
+    private static class BrowsePackageDocuments extends SingleTargetCommand {
+
+        /**
+         * The name of this command.
+         */
+        public static final String NAME = "Browse-Package-Documents";
+
+        /**
+         * Creates a new Browse-Package-Documents Command using the specified
+         * container manager, target and command executor.
+         * @param containerManager the container manager to execute the
+         * command on.
+         * @param docTarget the target whose package is to be browsed.
+         * @param commandExecutor the executor opening the chosen documents.
+         * @de.renew.require (containerManager != null)
+         * @de.renew.require (docTarget != null)
+         * @de.renew.require (commandExecutor != null)
+         */
+        public BrowsePackageDocuments(ContainerManager containerManager,
+                                      DocTarget docTarget,
+                                      CommandExecutor commandExecutor) {
+            super(containerManager, docTarget);
+
+            this._commandExecutor = commandExecutor;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected void executeImpl() throws CommandException {
+            IOManager ioManager = this.getContainerManager().getIOManager();
+            URL location = ioManager.getDocumentLocation(this.getTarget());
+            FileDocumentCatalog catalog;
+            try {
+                catalog = (location == null) ? null
+                                : FileDocumentCatalog.findFor(location);
+                if (catalog == null) {
+                    throw new CommandException(this,
+                                    "Target not located inside a package");
+                }
+                catalog.synchronize(ioManager);
+            } catch (IOException e) {
+                throw new CommandException(this, e);
+            }
+
+            Collection<DocumentCatalogEntry> entries = new CatalogBrowser(
+                            catalog).showDialog(null);
+            // a cancelled dialog yields null; nothing is opened then
+            if ((entries != null) && !entries.isEmpty()) {
+                this._commandExecutor.submit(ManagerCommands
+                                .getOpenCatalogDocuments(
+                                                this.getContainerManager(),
+                                                catalog.getPackageRoot(),
+                                                entries),
+                                null);
+            }
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        protected String getNameImpl() {
+            return BrowsePackageDocuments.NAME;
+        }
+
+        /**
+         * The executor opening the chosen documents.
+         */
+        private CommandExecutor _commandExecutor;
+    }
 }
\ No newline at end of file
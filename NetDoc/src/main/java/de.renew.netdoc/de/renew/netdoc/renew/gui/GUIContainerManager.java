@@ -4,9 +4,15 @@ import de.renew.netdoc.gui.Window;
 import de.renew.netdoc.gui.event.CloseRequestListener;
 import de.renew.netdoc.gui.event.WindowConnectionListener;
 import de.renew.netdoc.gui.windows.documentcontainer.NetDocWindow;
+import de.renew.netdoc.gui.windows.documentcontainer.SingleDocumentContainerWindow;
+import de.renew.netdoc.gui.windows.documentcontainer.TabbedDocumentWindow;
 import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.documentcatalogs.FileDocumentCatalog;
 import de.renew.netdoc.io.documentformatters.TexExportFormatter;
 import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.documentrenderers.HtmlDocumentRenderer;
+import de.renew.netdoc.io.documentrenderers.MarkdownDocumentRenderer;
+import de.renew.netdoc.io.documentupgraders.TexDocumentUpgrader;
 import de.renew.netdoc.io.managers.SimpleIOManager;
 import de.renew.netdoc.model.container.ContainerException;
 import de.renew.netdoc.model.container.DocumentContainer;
@@ -15,9 +21,12 @@ import de.renew.netdoc.model.container.managers.UserRequestManager;
 import de.renew.netdoc.model.doctarget.DocTarget;
 import de.renew.netdoc.model.document.Document;
 import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.monitor.events.DocumentOpenEvent;
 import de.renew.gui.GuiPlugin;
 import de.renew.netdoc.renew.hotdraw.DrawingTarget;
 
+import org.apache.log4j.Logger;
+
 import java.awt.Dimension;
 import java.awt.event.ComponentListener;
 import java.awt.event.WindowAdapter;
@@ -26,6 +35,7 @@ import java.awt.event.WindowListener;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.IOException;
+import java.net.URL;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,6 +53,11 @@ import javax.swing.JFrame;
  */
 public class GUIContainerManager extends UserRequestManager {
 
+    /**
+     * The Logger for this class.
+     */
+    private static final Logger logger = Logger.getLogger(GUIContainerManager.class);
+
     /**
      * Default document filename extension.
      */
@@ -60,6 +75,8 @@ public class GUIContainerManager extends UserRequestManager {
         this._guiPlugin = renewGUIPlugin;
         this._containers = new HashMap<Document, DocumentContainer>();
         this._isInitialised = false;
+        this._isTabbed = false;
+        this._tabbedWindow = null;
 
         // wait for GUI frame to appear and then add listener
         new Thread() {
@@ -91,6 +108,28 @@ public class GUIContainerManager extends UserRequestManager {
         return this._isInitialised;
     }
 
+    /**
+     * Determines whether documents are opened as tabs of one shared window
+     * instead of a window of their own.
+     * @return {@code true}, if documents are opened in one tabbed window;<br>
+     * {@code false}, if each document is opened in its own window.
+     */
+    public boolean isTabbed() {
+        return this._isTabbed;
+    }
+
+    /**
+     * Specifies whether documents are opened as tabs of one shared window
+     * instead of a window of their own. Documents already open keep their
+     * window.
+     * @param isTabbed {@code true}, if documents are to be opened in one
+     * tabbed window;<br>
+     * {@code false}, if each document is to be opened in its own window.
+     */
+    public void setTabbed(boolean isTabbed) {
+        this._isTabbed = isTabbed;
+    }
+
     /**
      * <p>Returns the default window connection state used by this manager.</p>
      * <p>To override implement {@link #getDefaultConnectionStateImpl()}.</p>
@@ -216,6 +255,9 @@ public class GUIContainerManager extends UserRequestManager {
     @Override
     protected DocumentContainer openDocumentImpl(Document documentToOpen)
                     throws ContainerException {
+        DocumentOpenEvent event = new DocumentOpenEvent();
+        event.begin();
+
         // get document container
         DocumentContainer container = this.getDocumentContainer(documentToOpen);
 
@@ -223,7 +265,7 @@ public class GUIContainerManager extends UserRequestManager {
         if (container == null) {
             container = this.createContainer(documentToOpen);
             this.addContainer(container);
-            ((NetDocWindow) container).updateTitle();
+            this.updateTitle(container);
         }
 
         // show container and focus on document
@@ -232,6 +274,7 @@ public class GUIContainerManager extends UserRequestManager {
         documentFrame.toFront();
         container.focusOnDocument(documentToOpen);
 
+        event.commitFor(documentToOpen);
         return container;
     }
 
@@ -256,12 +299,33 @@ public class GUIContainerManager extends UserRequestManager {
      */
     protected DocumentContainer createContainer(Document document)
                     throws ContainerException {
+        if (this.isTabbed()) {
+            if ((this._tabbedWindow == null) || this._tabbedWindow.isClosed()) {
+                this._tabbedWindow = new TabbedDocumentWindow();
+            }
+            this._tabbedWindow.openDocument(document);
+            document.setModified(false);
+            return this._tabbedWindow;
+        }
         NetDocWindow window = new NetDocWindow();
         window.openDocument(document);
         document.setModified(false);
         return window;
     }
 
+    /**
+     * Updates the title of the window of the specified document container.
+     * @param container the document container to be updated.
+     * @de.renew.require (container != null)
+     */
+    protected void updateTitle(DocumentContainer container) {
+        if (container instanceof NetDocWindow) {
+            ((NetDocWindow) container).updateTitle();
+        } else if (container instanceof TabbedDocumentWindow) {
+            ((TabbedDocumentWindow) container).updateTitle();
+        }
+    }
+
     /**
      * Creates or loads the document for the specifed documentation target.
      * @param docTarget the documentation target specifying the document.
@@ -292,13 +356,16 @@ public class GUIContainerManager extends UserRequestManager {
      */
     protected void addContainer(DocumentContainer container)
                     throws ContainerException {
-        this.addListeners(container);
+        // a shared tabbed window is observed and shown only once
+        boolean isShared = this.getContainerMap().containsValue(container);
+        if (!isShared) {
+            this.addListeners(container);
+        }
 
         try {
             Document document = container.getCurrentDocument();
 
             if (document.getTarget() != null) {
-                JFrame documentFrame = ((Window) container).getJavaFrame();
                 JFrame targetFrame = GUIDocTargets.getTargetFrame(
                                 this.getGUIPlugin(), document.getTarget());
 
@@ -316,6 +383,14 @@ public class GUIContainerManager extends UserRequestManager {
                 targetFrame.addPropertyChangeListener("title",
                                 titleChangeListener);
                 targetFrame.addWindowListener(closeListener);
+            }
+
+            // only a single document window follows the drawing window
+            if ((document.getTarget() != null)
+                            && (container instanceof SingleDocumentContainerWindow)) {
+                JFrame documentFrame = ((Window) container).getJavaFrame();
+                JFrame targetFrame = GUIDocTargets.getTargetFrame(
+                                this.getGUIPlugin(), document.getTarget());
 
                 WindowConnectionListener connectionListener = new WindowConnectionListener(
                                 documentFrame, targetFrame);
@@ -340,6 +415,12 @@ public class GUIContainerManager extends UserRequestManager {
             throw new ContainerException("Unable to add container", e);
         }
 
+        if (isShared) {
+            // the window is already open, so its listeners have been notified
+            // about the new document by the window itself
+            return;
+        }
+
         // add listener to fire a document-opened event AFTER the
         // container-opened event has been fired.
         final DocumentContainer iContainer = container;
@@ -458,6 +539,17 @@ public class GUIContainerManager extends UserRequestManager {
      */
     private boolean _isInitialised;
 
+    /**
+     * Specifies whether documents are opened as tabs of one shared window.
+     */
+    private boolean _isTabbed;
+
+    /**
+     * The window shared by all documents opened in tabbed mode;<br>
+     * or {@code null}, if not any document has been opened in tabbed mode.
+     */
+    private TabbedDocumentWindow _tabbedWindow;
+
 
     /**
      * Observer listening to document events in order to notify all document
@@ -486,7 +578,10 @@ public class GUIContainerManager extends UserRequestManager {
 
             super.documentClosedImpl(event);
 
-            container.close(true);
+            // a tabbed window stays open as long as it holds other documents
+            if (container.getDocuments().isEmpty()) {
+                container.close(true);
+            }
         }
     }
 
@@ -496,13 +591,17 @@ public class GUIContainerManager extends UserRequestManager {
     protected class GUIIOManager extends SimpleIOManager {
 
         /**
-         * Creates a new GUI IOManager.
+         * Creates a new GUI IOManager. Outdated documents are upgraded while
+         * being loaded.
          */
         public GUIIOManager() {
             super(new TexExportFormatter(), new DocumentInputFormatter(),
                             new DocumentOutputFormatter(),
                             new TexDocumentParser(),
                             GUIContainerManager.FILENAME_EXTENSION);
+            this.setDocumentUpgrader(new TexDocumentUpgrader());
+            this.addDocumentRenderer(new HtmlDocumentRenderer());
+            this.addDocumentRenderer(new MarkdownDocumentRenderer());
         }
 
         /**
@@ -523,6 +622,35 @@ public class GUIContainerManager extends UserRequestManager {
                         throws IOException {
             // TODO: save to documentation target
             super.saveDocumentPartImpl(partToSave);
+
+            URL location = this.getDefaultDocumentLocation(partToSave);
+            if (location != null) {
+                this.updateDocumentCatalog(location, partToSave);
+            }
+        }
+
+        /**
+         * Updates the entry of the specified saved document in the catalog of
+         * its package. The document itself has already been written, so a
+         * catalog that cannot be read or written does not fail the save; it
+         * is logged and brought up to date by the next synchronisation.
+         * @param location the location the document was saved to.
+         * @param savedPart the saved document part.
+         * @de.renew.require (location != null)
+         * @de.renew.require (savedPart != null)
+         */
+        private void updateDocumentCatalog(URL location,
+                                           DocumentPart savedPart) {
+            try {
+                FileDocumentCatalog catalog = FileDocumentCatalog
+                                .findFor(location);
+                if (catalog != null) {
+                    catalog.update(location, savedPart);
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Unable to update the package catalog for "
+                                + location + ": " + e.getMessage());
+            }
         }
     }
 
@@ -596,10 +724,12 @@ public class GUIContainerManager extends UserRequestManager {
                     while (!iTitle.equals(iTarget.getName())) {
                         Thread.yield();
                     }
-                    ((NetDocWindow) GUIContainerManager.this
+                    DocumentContainer container = GUIContainerManager.this
                                     .getDocumentContainer(
-                                                    TitleChangeListener.this._document))
-                                                                    .updateTitle();
+                                                    TitleChangeListener.this._document);
+                    if (container != null) {
+                        GUIContainerManager.this.updateTitle(container);
+                    }
                 }
             }.start();
         }
@@ -50,6 +50,15 @@ public class DrawingTarget extends AbstractDocTarget implements ResourceTarget {
         return returnValue;
     }
 
+    /**
+     * Returns the number of DrawingTarget instances currently registered.
+     * @return the number of registered instances.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public static int getInstanceCount() {
+        return DrawingTarget.instances.size();
+    }
+
     /**
      * The DrawingTarget instances.
      */
@@ -46,6 +46,15 @@ public class FigureTarget extends AbstractDocTarget {
         return returnValue;
     }
 
+    /**
+     * Returns the number of FigureTarget instances currently registered.
+     * @return the number of registered instances.
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public static int getInstanceCount() {
+        return FigureTarget.instances.size();
+    }
+
     /**
      * The FigureTarget instances.
      */
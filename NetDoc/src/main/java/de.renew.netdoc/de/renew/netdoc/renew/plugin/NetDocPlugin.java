@@ -3,11 +3,30 @@ package de.renew.netdoc.renew.plugin;
 import CH.ifa.draw.DrawPlugin;
 import CH.ifa.draw.application.MenuManager;
 
+import de.renew.netdoc.io.DocumentCache;
+import de.renew.netdoc.io.DocumentIndex;
+import de.renew.netdoc.io.DocumentLinter;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.MetadataStore;
+import de.renew.netdoc.io.documentcaches.LRUDocumentCache;
+import de.renew.netdoc.io.documentindexes.InvertedDocumentIndex;
+import de.renew.netdoc.io.documentlinters.WorkspaceDocumentLinter;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.managers.SimpleIOManager;
+import de.renew.netdoc.io.metadatastores.ColumnarMetadataStore;
+import de.renew.netdoc.model.command.CommandExecutor;
+import de.renew.netdoc.model.command.executors.BatchingCommandExecutor;
 import de.renew.netdoc.model.container.ContainerManager;
 import de.renew.netdoc.model.container.event.DocumentContainerAdapter;
 import de.renew.netdoc.model.container.event.DocumentContainerEvent;
+import de.renew.netdoc.model.container.event.ExternalChangeEvent;
+import de.renew.netdoc.model.container.event.ExternalChangeListener;
+import de.renew.netdoc.model.container.watchers.DocumentFileWatcher;
 import de.renew.netdoc.model.document.event.DocumentChangeEvent;
 import de.renew.netdoc.model.document.event.DocumentChangeListener;
+import de.renew.netdoc.model.document.event.QueuedDocumentChangeListener;
+import de.renew.netdoc.model.event.DeliveryMode;
+import de.renew.netdoc.monitor.NetDocMetrics;
 import de.renew.netdoc.renew.gui.GUIContainerManager;
 import de.renew.gui.GuiPlugin;
 import de.renew.plugin.IPlugin;
@@ -16,8 +35,16 @@ import de.renew.plugin.PluginException;
 import de.renew.plugin.PluginManager;
 import de.renew.plugin.PluginProperties;
 
+import org.apache.log4j.Logger;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.net.URL;
 import java.util.Iterator;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.swing.JOptionPane;
 
 
 /**
@@ -29,6 +56,65 @@ import java.util.Iterator;
  */
 public class NetDocPlugin extends PluginAdapter {
 
+    /**
+     * The Logger for this class.
+     */
+    private static final Logger logger = Logger.getLogger(NetDocPlugin.class);
+
+    /**
+     * Property specifying the maximum number of parsed documents kept in the
+     * document cache. A value of 0 disables the cache.
+     */
+    public static final String PROP_CACHE_MAX_ENTRIES = "de.renew.netdoc.cache.maxEntries";
+
+    /**
+     * Property specifying the maximum accumulated size of the documents kept
+     * in the document cache in kilobytes.
+     */
+    public static final String PROP_CACHE_MAX_SIZE = "de.renew.netdoc.cache.maxSize";
+
+    /**
+     * Property specifying the package root directory whose documents are
+     * indexed in the background on startup.
+     */
+    public static final String PROP_INDEX_ROOT = "de.renew.netdoc.index.root";
+
+    /**
+     * Property specifying the period in seconds between two background checks
+     * of the documents below the index root. A value of 0 disables the
+     * checks.
+     */
+    public static final String PROP_LINT_PERIOD = "de.renew.netdoc.lint.period";
+
+    /**
+     * The default period in seconds between two background checks.
+     */
+    private static final int DEFAULT_LINT_PERIOD = 60;
+
+    /**
+     * Property specifying whether the recording of the runtime metrics of
+     * NetDoc and their MBean are disabled.
+     */
+    public static final String PROP_METRICS_DISABLED = "de.renew.netdoc.metrics.disabled";
+
+    /**
+     * Property specifying whether outdated documents are written back in the
+     * current version when being opened.
+     */
+    public static final String PROP_UPGRADE_PERSIST = "de.renew.netdoc.upgrade.persist";
+
+    /**
+     * Property specifying whether watching the stored versions of open
+     * documents for external changes is disabled.
+     */
+    public static final String PROP_WATCH_DISABLED = "de.renew.netdoc.watch.disabled";
+
+    /**
+     * Property specifying whether documents are opened as tabs of one shared
+     * window instead of a window per document.
+     */
+    public static final String PROP_WINDOW_TABBED = "de.renew.netdoc.window.tabbed";
+
     /**
      * Returns the NetDocPlugin currently registered in the PluginManager.
      * @return the NetDocPlugin currently registered in the PluginManager;<br>
@@ -80,7 +166,9 @@ public class NetDocPlugin extends PluginAdapter {
 
 
     /**
-     * Initialises this plugin.
+     * Initialises this plugin by registering its menu. The container manager
+     * and the services it depends on are created on first use, see {@link
+     * #start()}.
      * @throws RuntimeException if the Renew GUI plugin could not be found.
      */
     @Override
@@ -91,18 +179,61 @@ public class NetDocPlugin extends PluginAdapter {
         if (plugin == null) {
             throw new RuntimeException("Renew GUI plugin not found");
         }
-
-        this._containerManager = new GUIContainerManager(plugin);
-        this._containerManager
-                        .addDocumentChangeListener(this.getDocumentListener());
-        this._containerManager.addDocumentContainerListener(
-                        this.getDocumentListener());
+        this._guiPlugin = plugin;
 
         MenuManager mm = DrawPlugin.getCurrent().getMenuManager();
         mm.registerMenu(DrawPlugin.PLUGINS_MENU, PluginMenus.getMain(this));
+    }
+
+    /**
+     * Starts this plugin, unless already started. Creates the container
+     * manager together with its I/O manager, document cache, index and
+     * metadata store, creates the command executor and registers the
+     * metrics MBean. Invoked on first use of the container manager.
+     * @de.renew.require (this.getGUIPlugin() != null)
+     */
+    public synchronized void start() {
+        assert (this.getGUIPlugin() != null) : "Precondition violated: (this.getGUIPlugin() != null)";
+
+        if (this._containerManager != null) {
+            return;
+        }
+
+        GUIContainerManager manager = new GUIContainerManager(
+                        this.getGUIPlugin());
+        manager.setTabbed(this.getProperties()
+                        .getBoolProperty(NetDocPlugin.PROP_WINDOW_TABBED));
+        // menu updates on every keystroke are coalesced on the event thread
+        manager.addDocumentChangeListener(new QueuedDocumentChangeListener(
+                        this.getDocumentListener(),
+                        DeliveryMode.EVENT_DISPATCH_THREAD));
+        manager.addDocumentContainerListener(this.getDocumentListener());
+
+        IOManager ioManager = manager.getIOManager();
+        if (ioManager instanceof SimpleIOManager) {
+            ((SimpleIOManager) ioManager)
+                            .setDocumentCache(this.createDocumentCache());
+            ((SimpleIOManager) ioManager).setPersistingUpgrades(this
+                            .getProperties().getBoolProperty(
+                                            NetDocPlugin.PROP_UPGRADE_PERSIST));
+        }
+
+        manager.setDocumentIndex(this.createDocumentIndex());
+        manager.setMetadataStore(this.createMetadataStore());
+        manager.setDocumentLinter(this.createDocumentLinter());
+
+        if (!this.getProperties()
+                        .getBoolProperty(NetDocPlugin.PROP_WATCH_DISABLED)) {
+            this._fileWatcher = this.createFileWatcher(ioManager);
+            manager.addDocumentContainerListener(this._fileWatcher);
+        }
+
+        this._commandExecutor = this.createCommandExecutor();
+        this._containerManager = manager;
+        this.registerMetrics();
 
         // wait until GUIContainerManager is initialised
-        final GUIContainerManager iManager = (GUIContainerManager) this._containerManager;
+        final GUIContainerManager iManager = manager;
         new Thread() {
             @Override
             public void run() {
@@ -115,7 +246,49 @@ public class NetDocPlugin extends PluginAdapter {
     }
 
     /**
-     * Determines whether this plugin is already initialised.
+     * Cleans up this plugin by unregistering its metrics MBean, stopping
+     * the background builds of its document index and metadata store and
+     * the background checks of its document linter and closing its file
+     * watcher.
+     * @return {@code true}, if the cleanup succeeded.
+     */
+    @Override
+    public boolean cleanup() {
+        this.unregisterMetrics();
+        if (this.isStarted()) {
+            DocumentIndex index = this._containerManager.getDocumentIndex();
+            if (index != null) {
+                index.shutdown();
+            }
+            MetadataStore store = this._containerManager.getMetadataStore();
+            if (store != null) {
+                store.shutdown();
+            }
+            DocumentLinter linter = this._containerManager.getDocumentLinter();
+            if (linter != null) {
+                linter.shutdown();
+            }
+        }
+        if (this._fileWatcher != null) {
+            this._fileWatcher.close();
+            this._fileWatcher = null;
+        }
+        return super.cleanup();
+    }
+
+    /**
+     * Determines whether this plugin has been started, i.e. whether its
+     * container manager has been created.
+     * @return {@code true}, if this plugin has been started;<br>
+     * {@code false} otherwise.
+     */
+    public synchronized boolean isStarted() {
+        return (this._containerManager != null);
+    }
+
+    /**
+     * Determines whether this plugin is already initialised, i.e. whether it
+     * has been started and its container manager is initialised.
      * @return {@code true}, if this plugin is initialised;<br>
      * {@code false} otherwise.
      */
@@ -124,14 +297,24 @@ public class NetDocPlugin extends PluginAdapter {
     }
 
     /**
-     * <p>Returns the container manager used by this plugin.</p>
+     * Returns the Renew GUI plugin used by this plugin.
+     * @return the Renew GUI plugin;<br>
+     * or {@code null}, if this plugin has not been initialised.
+     */
+    public GuiPlugin getGUIPlugin() {
+        return this._guiPlugin;
+    }
+
+    /**
+     * <p>Returns the container manager used by this plugin. The plugin is
+     * started on the first call.</p>
      * <p>To override implement {@link #getContainerManagerImpl()}.</p>
      * @return the container manager used by this plugin.
-     * @de.renew.require this.isInitialised()
+     * @de.renew.require (this.getGUIPlugin() != null)
      * @de.renew.ensure (returnValue != null)
      */
     public final ContainerManager getContainerManager() {
-        assert this.isInitialised() : "Precondition violated: this.isInitialised()";
+        assert (this.getGUIPlugin() != null) : "Precondition violated: (this.getGUIPlugin() != null)";
 
         ContainerManager returnValue = this.getContainerManagerImpl();
         assert (returnValue != null) : "Postcondition violated: (returnValue != null)";
@@ -139,24 +322,187 @@ public class NetDocPlugin extends PluginAdapter {
         return returnValue;
     }
 
+    /**
+     * Returns the executor running the long commands of this plugin, e.g.
+     * Open All or Save All, in batches on the event dispatch thread. The
+     * plugin is started on the first call.
+     * @return the command executor used by this plugin.
+     * @de.renew.require (this.getGUIPlugin() != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public CommandExecutor getCommandExecutor() {
+        this.start();
+        return this._commandExecutor;
+    }
+
     /**
      * Updates the command menu used by this plugin.
      */
     public void updateMenu() {
-        ((GUIContainerManager) this.getContainerManager()).getGUIPlugin()
-                        .getGui().menuStateChanged();
+        this.getGUIPlugin().getGui().menuStateChanged();
     }
 
     /**
-     * Returns the container manager used by this plugin.
+     * Returns the container manager used by this plugin, starting this
+     * plugin if necessary.
      * @return the container manager used by this plugin.
-     * @de.renew.require this.isInitialised()
+     * @de.renew.require (this.getGUIPlugin() != null)
      * @de.renew.ensure (returnValue != null)
      */
     protected ContainerManager getContainerManagerImpl() {
+        this.start();
         return this._containerManager;
     }
 
+    /**
+     * Creates the cache of parsed documents as configured by the
+     * properties of this plugin.
+     * @return the new document cache;<br>
+     * or {@code null}, if the cache is disabled.
+     */
+    protected DocumentCache createDocumentCache() {
+        PluginProperties properties = this.getProperties();
+        int maxEntries = properties.getIntProperty(
+                        NetDocPlugin.PROP_CACHE_MAX_ENTRIES,
+                        LRUDocumentCache.DEFAULT_MAX_ENTRIES);
+        int maxSize = properties.getIntProperty(
+                        NetDocPlugin.PROP_CACHE_MAX_SIZE,
+                        (int) (LRUDocumentCache.DEFAULT_MAX_BYTES / 1024));
+        if ((maxEntries <= 0) || (maxSize <= 0)) {
+            return null;
+        }
+        return new LRUDocumentCache(maxEntries, maxSize * 1024L);
+    }
+
+    /**
+     * Creates the full-text index of the documents. If a package root is
+     * configured by the properties of this plugin, the documents below that
+     * root are indexed in the background.
+     * @return the new document index.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected DocumentIndex createDocumentIndex() {
+        DocumentIndex returnValue = new InvertedDocumentIndex(
+                        new TexDocumentParser());
+        String root = this.getProperties()
+                        .getProperty(NetDocPlugin.PROP_INDEX_ROOT);
+        if ((root != null) && !root.trim().isEmpty()) {
+            returnValue.startBuild(new File(root.trim()));
+        }
+        return returnValue;
+    }
+
+    /**
+     * Creates the metadata store of the documents. If a package root is
+     * configured by the properties of this plugin, the metadata of the
+     * documents below that root is extracted in the background.
+     * @return the new metadata store.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected MetadataStore createMetadataStore() {
+        MetadataStore returnValue = new ColumnarMetadataStore(
+                        new TexDocumentParser());
+        String root = this.getProperties()
+                        .getProperty(NetDocPlugin.PROP_INDEX_ROOT);
+        if ((root != null) && !root.trim().isEmpty()) {
+            returnValue.startBuild(new File(root.trim()));
+        }
+        return returnValue;
+    }
+
+    /**
+     * Creates the linter of the documents. If a package root is configured
+     * by the properties of this plugin, the documents below that root are
+     * checked periodically in the background.
+     * @return the new document linter.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected DocumentLinter createDocumentLinter() {
+        DocumentLinter returnValue = new WorkspaceDocumentLinter(
+                        new TexDocumentParser());
+        String root = this.getProperties()
+                        .getProperty(NetDocPlugin.PROP_INDEX_ROOT);
+        int period = this.getProperties().getIntProperty(
+                        NetDocPlugin.PROP_LINT_PERIOD,
+                        NetDocPlugin.DEFAULT_LINT_PERIOD);
+        if ((root != null) && !root.trim().isEmpty() && (period > 0)) {
+            returnValue.schedule(new File(root.trim()), period * 1000L);
+        }
+        return returnValue;
+    }
+
+    /**
+     * Creates the watcher keeping the open documents in sync with their
+     * stored versions. Conflicts with unsaved modifications are resolved by
+     * asking the user.
+     * @param ioManager the I/O manager of the container manager.
+     * @return the new file watcher.
+     * @de.renew.require (ioManager != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected DocumentFileWatcher createFileWatcher(IOManager ioManager) {
+        DocumentFileWatcher returnValue = new DocumentFileWatcher(ioManager,
+                        DeliveryMode.EVENT_DISPATCH_THREAD);
+        returnValue.addExternalChangeListener(
+                        new NetDocPlugin.ConflictResolver(returnValue));
+        return returnValue;
+    }
+
+    /**
+     * Creates the executor running the long commands of this plugin. The
+     * commands open and close windows, so their batches are executed on the
+     * event dispatch thread, letting the GUI repaint in between.
+     * @return the new command executor.
+     * @de.renew.ensure (returnValue != null)
+     */
+    protected CommandExecutor createCommandExecutor() {
+        return new BatchingCommandExecutor(DeliveryMode.EVENT_DISPATCH_THREAD,
+                        DeliveryMode.EVENT_DISPATCH_THREAD);
+    }
+
+    /**
+     * Registers the metrics MBean of this plugin with the platform MBean
+     * server, unless disabled by the properties of this plugin. Failures are
+     * logged, since the plugin works without metrics as well.
+     */
+    protected void registerMetrics() {
+        boolean disabled = this.getProperties()
+                        .getBoolProperty(NetDocPlugin.PROP_METRICS_DISABLED);
+        NetDocMetrics.setRecording(!disabled);
+        if (disabled) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(PluginMetrics.OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new PluginMetrics(this._containerManager),
+                            name);
+            this._metricsName = name;
+        } catch (JMException e) {
+            logger.warn("Unable to register NetDoc metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Unregisters the metrics MBean of this plugin, if registered.
+     */
+    protected void unregisterMetrics() {
+        if (this._metricsName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                            .unregisterMBean(this._metricsName);
+        } catch (JMException e) {
+            logger.warn("Unable to unregister NetDoc metrics: "
+                            + e.getMessage());
+        }
+        this._metricsName = null;
+    }
+
     /**
      * Returns the document listener used by this plugin.
      * @return the document listener used by this plugin.
@@ -170,7 +516,13 @@ public class NetDocPlugin extends PluginAdapter {
     }
 
     /**
-     * The container manager used by this plugin.
+     * The Renew GUI plugin used by this plugin.
+     */
+    private GuiPlugin _guiPlugin;
+
+    /**
+     * The container manager used by this plugin;<br>
+     * or {@code null}, if this plugin has not been started.
      */
     private ContainerManager _containerManager;
 
@@ -184,6 +536,75 @@ public class NetDocPlugin extends PluginAdapter {
      */
     private DocumentListener _documentListener;
 
+    /**
+     * The watcher of the stored versions of the open documents;<br>
+     * or {@code null}, if not started or disabled.
+     */
+    private DocumentFileWatcher _fileWatcher;
+
+    /**
+     * The executor running the long commands of this plugin;<br>
+     * or {@code null}, if this plugin has not been started.
+     */
+    private CommandExecutor _commandExecutor;
+
+    /**
+     * The object name the metrics MBean of this plugin is registered with;
+     * or {@code null}, if not registered.
+     */
+    private ObjectName _metricsName;
+
+
+    /**
+     * Listener resolving conflicts between open documents and their
+     * externally changed stored versions by asking the user.
+     */
+    private static class ConflictResolver implements ExternalChangeListener {
+
+        /**
+         * Creates a new ConflictResolver reloading documents through the
+         * specified watcher.
+         * @param watcher the watcher reporting the conflicts.
+         * @de.renew.require (watcher != null)
+         */
+        public ConflictResolver(DocumentFileWatcher watcher) {
+            this._watcher = watcher;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void documentReloaded(ExternalChangeEvent event) {
+            logger.info("NetDoc reloaded externally changed document "
+                            + event.getLocation());
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void changeConflicted(ExternalChangeEvent event) {
+            int result = JOptionPane.showOptionDialog(null, ">> "
+                            + event.getDocument().getName()
+                            + " << has been changed on disk but has unsaved"
+                            + " changes! Would you like to reload it?",
+                            "Warning: NetDoc changed on disk",
+                            JOptionPane.YES_NO_OPTION,
+                            JOptionPane.WARNING_MESSAGE, null, // default icon
+                            new String[] { "Reload from Disk", "Keep my Changes" },
+                            "Keep my Changes");
+            if (result == JOptionPane.YES_OPTION) {
+                this._watcher.reload(event);
+            }
+        }
+
+        /**
+         * The watcher reporting the conflicts.
+         */
+        private DocumentFileWatcher _watcher;
+    }
+
 
     /**
      * The document listener used by this plugin.
@@ -1,10 +1,17 @@
 package de.renew.netdoc.renew.plugin;
 
+import de.renew.netdoc.model.command.BatchCommand;
 import de.renew.netdoc.model.command.Command;
 import de.renew.netdoc.model.command.CommandException;
+import de.renew.netdoc.model.command.CommandFuture;
+import de.renew.netdoc.model.command.CommandProgressListener;
 
 import org.apache.log4j.Logger;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import javax.swing.ProgressMonitor;
+
 
 /**
  * NetDoc Renew plugin command.
@@ -38,12 +45,26 @@ public abstract class PluginCommand extends CH.ifa.draw.util.Command
     }
 
     /**
-     * @inheritDoc
+     * Executes the inner command of this command, starting the plugin first
+     * if necessary. If the inner command turns out not to be executable once
+     * the plugin has been started, nothing is done. Batch commands are
+     * submitted to the command executor of the plugin, which runs them in
+     * batches without blocking the event dispatch thread and shows their
+     * progress in a cancellable progress monitor.
      */
     @Override
     public void execute() {
         try {
-            this.getInnerCommand().execute();
+            Command innerCommand = this.getInnerCommand();
+            if (!innerCommand.isExecutable()) {
+                return;
+            }
+            if (innerCommand instanceof BatchCommand) {
+                this.getPlugin().getCommandExecutor().submit(innerCommand,
+                                new PluginCommand.ProgressDisplay(this.name()));
+            } else {
+                innerCommand.execute();
+            }
         } catch (CommandException e) {
             logger.error("Error while executing command '" + this.name()
                             + "' using the nested command '"
@@ -56,6 +77,9 @@ public abstract class PluginCommand extends CH.ifa.draw.util.Command
      */
     @Override
     public boolean isExecutable() {
+        if (!this.getPlugin().isStarted()) {
+            return this.isExecutableBeforeStart();
+        }
         return this.getPlugin().isInitialised()
                         && this.getInnerCommand().isExecutable();
     }
@@ -118,6 +142,18 @@ public abstract class PluginCommand extends CH.ifa.draw.util.Command
         return this._plugin;
     }
 
+    /**
+     * Determines whether this command can be executed while the plugin has
+     * not been started yet. Executing such a command starts the plugin.
+     * Commands working on open documents are not executable before, since no
+     * document can be open then.
+     * @return {@code true}, if this command can start the plugin;<br>
+     * {@code false} otherwise.
+     */
+    protected boolean isExecutableBeforeStart() {
+        return false;
+    }
+
     /**
      * Creates the inner command used by this command.
      * @return the new inner command.
@@ -135,6 +171,74 @@ public abstract class PluginCommand extends CH.ifa.draw.util.Command
      */
     private NetDocPlugin _plugin;
 
+    /**
+     * Progress listener showing the progress of a batch command in a
+     * progress monitor, which pops up only if the command takes a while.
+     * Closing the monitor cancels the command.
+     */
+    private static class ProgressDisplay implements CommandProgressListener {
+
+        /**
+         * Creates a new ProgressDisplay for the command with the specified
+         * display name.
+         * @param name the display name of the command.
+         * @de.renew.require (name != null)
+         */
+        public ProgressDisplay(String name) {
+            this._name = name;
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void progressChanged(CommandFuture future) {
+            if (this._monitor == null) {
+                this._monitor = new ProgressMonitor(null, this._name, null, 0,
+                                future.getTotalWork());
+            }
+            if (this._monitor.isCanceled()) {
+                future.cancel(false);
+            } else {
+                this._monitor.setNote(future.getCompletedWork() + " / "
+                                + future.getTotalWork());
+                this._monitor.setProgress(future.getCompletedWork());
+            }
+        }
+
+        /**
+         * @inheritDoc
+         */
+        @Override
+        public void commandFinished(CommandFuture future) {
+            if (this._monitor != null) {
+                this._monitor.close();
+            }
+            try {
+                future.get();
+            } catch (CancellationException e) {
+                logger.info("Command '" + this._name + "' cancelled after "
+                                + future.getCompletedWork() + " of "
+                                + future.getTotalWork() + " steps");
+            } catch (ExecutionException e) {
+                logger.error("Error while executing command '" + this._name
+                                + "'", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * The display name of the command.
+         */
+        private String _name;
+
+        /**
+         * The progress monitor shown; or {@code null}, if not created yet.
+         */
+        private ProgressMonitor _monitor;
+    }
+
     /**
      * Validates the specified display name.
      * @param name the display name to be validated.
@@ -4,6 +4,7 @@ import de.renew.netdoc.gui.commands.ConnectWindow;
 import de.renew.netdoc.model.command.Command;
 import de.renew.netdoc.model.container.commands.ManagerCommands;
 import de.renew.netdoc.renew.gui.GUICommands;
+import de.renew.netdoc.renew.gui.GUIDocTargets;
 
 
 /**
@@ -45,6 +46,11 @@ public abstract class PluginCommands {
      */
     public static final String NAME_SAVE_ALL_NETDOCS = "Save All NetDocs";
 
+    /**
+     * Name of the Browse-Package-NetDocs command.
+     */
+    public static final String NAME_BROWSE_PACKAGE_NETDOCS = "Browse Package NetDocs...";
+
     /**
      * This class cannot be instantiated.
      */
@@ -119,6 +125,12 @@ public abstract class PluginCommands {
 
         PluginCommand returnValue = new PluginCommand(plugin,
                         PluginCommands.NAME_OPEN_CURRENT_NETDOC) {
+            @Override
+            protected boolean isExecutableBeforeStart() {
+                return (GUIDocTargets.getCurrentTarget(
+                                this.getPlugin().getGUIPlugin()) != null);
+            }
+
             @Override
             protected Command createInnerCommand() {
                 return ManagerCommands.getOpenCurrentDocument(
@@ -221,6 +233,12 @@ public abstract class PluginCommands {
 
         PluginCommand returnValue = new PluginCommand(plugin,
                         PluginCommands.NAME_OPEN_ALL_NETDOCS) {
+            @Override
+            protected boolean isExecutableBeforeStart() {
+                return !GUIDocTargets.getTargets(
+                                this.getPlugin().getGUIPlugin()).isEmpty();
+            }
+
             @Override
             protected Command createInnerCommand() {
                 return ManagerCommands.getOpenAllDocuments(
@@ -232,6 +250,37 @@ public abstract class PluginCommands {
         return returnValue;
     }
 
+    /**
+     * Returns a Browse-Package-NetDocs command for the specified NetDoc
+     * plugin.
+     * @param plugin the NetDoc plugin to execute the command on
+     * @return the command.
+     * @de.renew.require (plugin != null)
+     * @de.renew.ensure (returnValue != null)
+     */
+    public static PluginCommand getBrowsePackageNetDocs(NetDocPlugin plugin) {
+        assert (plugin != null) : "Precondition violated: (plugin != null)";
+
+        PluginCommand returnValue = new PluginCommand(plugin,
+                        PluginCommands.NAME_BROWSE_PACKAGE_NETDOCS) {
+            @Override
+            protected boolean isExecutableBeforeStart() {
+                return (GUIDocTargets.getCurrentTarget(
+                                this.getPlugin().getGUIPlugin()) != null);
+            }
+
+            @Override
+            protected Command createInnerCommand() {
+                return GUICommands.getBrowsePackageDocuments(
+                                this.getPlugin().getContainerManager(),
+                                this.getPlugin().getCommandExecutor());
+            }
+        };
+        assert (returnValue != null) : "Postcondition violated: (returnValue != null)";
+
+        return returnValue;
+    }
+
     /**
      * Returns a Save-All-NetDocs command for the specified NetDoc plugin.
      * @param plugin the NetDoc plugin to execute the command on
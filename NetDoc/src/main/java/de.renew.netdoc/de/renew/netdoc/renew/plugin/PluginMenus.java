@@ -112,6 +112,8 @@ public abstract class PluginMenus {
         returnValue.add(PluginCommands.getSaveAllNetDocs(plugin));
         returnValue.add(PluginMenus.getConnectAllNetDocs(plugin));
         returnValue.addSeparator();
+        returnValue.add(PluginCommands.getBrowsePackageNetDocs(plugin));
+        returnValue.addSeparator();
         assert (returnValue != null) : "Postcondition violated: (returnValue != null)";
 
         return returnValue;
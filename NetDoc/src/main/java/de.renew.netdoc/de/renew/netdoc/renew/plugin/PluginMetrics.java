@@ -0,0 +1,145 @@
+package de.renew.netdoc.renew.plugin;
+
+import de.renew.netdoc.model.container.ContainerManager;
+import de.renew.netdoc.monitor.LatencySnapshot;
+import de.renew.netdoc.monitor.NetDocMetrics;
+import de.renew.netdoc.monitor.NetDocMetricsMXBean;
+import de.renew.netdoc.renew.hotdraw.DrawingTarget;
+import de.renew.netdoc.renew.hotdraw.FigureTarget;
+
+import java.util.Map;
+
+
+/**
+ * Metrics MXBean registered by the NetDoc plugin. Exposes the process-wide
+ * {@link NetDocMetrics} together with the state of the container manager and
+ * the target registries.
+ */
+public class PluginMetrics implements NetDocMetricsMXBean {
+
+    /**
+     * The object name the metrics of the NetDoc plugin are registered with.
+     */
+    public static final String OBJECT_NAME = "de.renew.netdoc:type=Metrics";
+
+
+    /**
+     * Creates new PluginMetrics observing the specified container manager.
+     * @param containerManager the container manager to be observed.
+     * @de.renew.require (containerManager != null)
+     */
+    public PluginMetrics(ContainerManager containerManager) {
+        assert (containerManager != null) : "Precondition violated: (containerManager != null)";
+
+        this._containerManager = containerManager;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public LatencySnapshot getLoadLatency() {
+        return NetDocMetrics.LOAD.getSnapshot();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public LatencySnapshot getSaveLatency() {
+        return NetDocMetrics.SAVE.getSnapshot();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public LatencySnapshot getImportLatency() {
+        return NetDocMetrics.IMPORT.getSnapshot();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Map<String, LatencySnapshot> getCommandLatencies() {
+        return NetDocMetrics.getCommandLatencies();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Map<String, Long> getEventCounts() {
+        return NetDocMetrics.getEventCounts();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Map<String, Long> getNotificationCounts() {
+        return NetDocMetrics.getNotificationCounts();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public Map<String, Long> getMaxFanOuts() {
+        return NetDocMetrics.getMaxFanOuts();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int getOpenContainerCount() {
+        return this._containerManager.getDocumentContainers().size();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int getDrawingTargetCount() {
+        return DrawingTarget.getInstanceCount();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public int getFigureTargetCount() {
+        return FigureTarget.getInstanceCount();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public boolean isRecording() {
+        return NetDocMetrics.isRecording();
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void setRecording(boolean recording) {
+        NetDocMetrics.setRecording(recording);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public void reset() {
+        NetDocMetrics.reset();
+    }
+
+    /**
+     * The container manager observed.
+     */
+    private ContainerManager _containerManager;
+}
\ No newline at end of file
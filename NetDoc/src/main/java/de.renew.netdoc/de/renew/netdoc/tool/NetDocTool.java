@@ -0,0 +1,499 @@
+package de.renew.netdoc.tool;
+
+import de.renew.netdoc.io.DocumentBuildResult;
+import de.renew.netdoc.io.DocumentBundle;
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.DocumentRenderer;
+import de.renew.netdoc.io.DocumentUpgrader;
+import de.renew.netdoc.io.IOManager;
+import de.renew.netdoc.io.Workers;
+import de.renew.netdoc.io.documentbuilders.IncrementalDocumentBuilder;
+import de.renew.netdoc.io.documentbundles.TexMasterBundle;
+import de.renew.netdoc.io.documentbundles.ZipDocumentBundle;
+import de.renew.netdoc.io.documentformatters.TexExportFormatter;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.documentrenderers.HtmlDocumentRenderer;
+import de.renew.netdoc.io.documentrenderers.MarkdownDocumentRenderer;
+import de.renew.netdoc.io.documentupgraders.TexDocumentUpgrader;
+import de.renew.netdoc.io.managers.SimpleIOManager;
+import de.renew.netdoc.io.workspaceexporters.ParallelWorkspaceExporter;
+import de.renew.netdoc.io.workspaceexporters.RenderingWorkspaceExporter;
+import de.renew.netdoc.model.doctarget.targets.FileTarget;
+import de.renew.netdoc.model.document.DocumentPart;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+
+/**
+ * Headless NetDoc command-line tool. Validates, upgrades and exports the
+ * documents below a package root without the Renew GUI, processing the
+ * documents on all available processors.
+ *
+ * <pre>
+ * netdoc validate [options] &lt;root&gt;
+ * netdoc upgrade  [options] [--dry-run] &lt;root&gt;
+ * netdoc export   [options] --output &lt;dir|file.tex|file.zip|file.html|file.md&gt; &lt;root&gt;
+ *
+ * options: --threads &lt;n&gt;  --report &lt;file.json&gt;
+ * </pre>
+ *
+ * Exits with {@link #EXIT_OK}, {@link #EXIT_FAILURE} if a document could not
+ * be processed or is outdated, or {@link #EXIT_USAGE} on invalid arguments.
+ */
+public class NetDocTool {
+
+    /**
+     * Exit code signalling that all documents were processed.
+     */
+    public static final int EXIT_OK = 0;
+
+    /**
+     * Exit code signalling that a document could not be processed.
+     */
+    public static final int EXIT_FAILURE = 1;
+
+    /**
+     * Exit code signalling invalid arguments.
+     */
+    public static final int EXIT_USAGE = 2;
+
+    /**
+     * Name of the validate command.
+     */
+    public static final String COMMAND_VALIDATE = "validate";
+
+    /**
+     * Name of the upgrade command.
+     */
+    public static final String COMMAND_UPGRADE = "upgrade";
+
+    /**
+     * Name of the export command.
+     */
+    public static final String COMMAND_EXPORT = "export";
+
+    /**
+     * The usage message.
+     */
+    private static final String USAGE = "Usage: netdoc validate [options] <root>\n"
+                    + "       netdoc upgrade [options] [--dry-run] <root>\n"
+                    + "       netdoc export [options] --output <dir|file.tex|file.zip|file.html|file.md> <root>\n"
+                    + "Options: --threads <n>       number of worker threads\n"
+                    + "         --report <file>     write a JSON report\n";
+
+
+    /**
+     * Runs the tool using the specified arguments and exits the virtual
+     * machine with the resulting exit code.
+     * @param args the command-line arguments.
+     */
+    public static void main(String[] args) {
+        System.exit(new NetDocTool(System.out, System.err).run(args));
+    }
+
+
+    /**
+     * Creates a new NetDocTool writing to the specified streams.
+     * @param out the stream progress and summaries are written to.
+     * @param err the stream errors are written to.
+     * @de.renew.require (out != null)
+     * @de.renew.require (err != null)
+     */
+    public NetDocTool(PrintStream out, PrintStream err) {
+        assert (out != null) : "Precondition violated: (out != null)";
+        assert (err != null) : "Precondition violated: (err != null)";
+
+        this._out = out;
+        this._err = err;
+        this._upgrader = new TexDocumentUpgrader();
+        SimpleIOManager ioManager = new SimpleIOManager(
+                        new TexExportFormatter(), null, null,
+                        new TexDocumentParser(),
+                        DocumentFiles.FILENAME_EXTENSION);
+        ioManager.addDocumentRenderer(new HtmlDocumentRenderer());
+        ioManager.addDocumentRenderer(new MarkdownDocumentRenderer());
+        this._ioManager = ioManager;
+    }
+
+    /**
+     * Runs the tool using the specified arguments.
+     * @param args the command-line arguments.
+     * @return the exit code.
+     * @de.renew.require (args != null)
+     */
+    public int run(String[] args) {
+        assert (args != null) : "Precondition violated: (args != null)";
+
+        String command = null;
+        String root = null;
+        String output = null;
+        String reportPath = null;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        boolean dryRun = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--threads") && (i + 1 < args.length)) {
+                    threadCount = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--report") && (i + 1 < args.length)) {
+                    reportPath = args[++i];
+                } else if (args[i].equals("--output") && (i + 1 < args.length)) {
+                    output = args[++i];
+                } else if (args[i].equals("--dry-run")) {
+                    dryRun = true;
+                } else if (args[i].startsWith("-") || (root != null)) {
+                    return this.usage("Unexpected argument: " + args[i]);
+                } else if (command == null) {
+                    command = args[i];
+                } else {
+                    root = args[i];
+                }
+            }
+        } catch (NumberFormatException e) {
+            return this.usage("Invalid thread count");
+        }
+        if ((command == null) || (root == null) || (threadCount <= 0)) {
+            return this.usage(null);
+        }
+        File rootDirectory = new File(root);
+        if (!rootDirectory.isDirectory()) {
+            return this.usage("Not a directory: " + root);
+        }
+
+        ToolReport report = new ToolReport(command, rootDirectory.getPath());
+        try {
+            if (command.equals(NetDocTool.COMMAND_VALIDATE)) {
+                this.validate(rootDirectory, threadCount, report);
+            } else if (command.equals(NetDocTool.COMMAND_UPGRADE)) {
+                this.upgrade(rootDirectory, threadCount, dryRun, report);
+            } else if (command.equals(NetDocTool.COMMAND_EXPORT)) {
+                if (output == null) {
+                    return this.usage("Missing --output");
+                }
+                this.export(rootDirectory, new File(output), threadCount,
+                                report);
+            } else {
+                return this.usage("Unknown command: " + command);
+            }
+        } catch (IOException e) {
+            report.add("", ToolReport.STATUS_ERROR, e.getMessage());
+        }
+
+        for (ToolReport.Entry entry : report.getEntries()) {
+            if (entry.getStatus().equals(ToolReport.STATUS_ERROR)
+                            || entry.getStatus()
+                                            .equals(ToolReport.STATUS_OUTDATED)) {
+                this._err.println(entry.getStatus() + ": " + entry.getPath()
+                                + ": " + entry.getMessage());
+            }
+        }
+        this._out.println(command + ": " + report.getEntries().size()
+                        + " document(s), "
+                        + report.count(ToolReport.STATUS_ERROR) + " error(s), "
+                        + report.count(ToolReport.STATUS_OUTDATED)
+                        + " outdated");
+
+        if (reportPath != null) {
+            try {
+                Writer writer = new OutputStreamWriter(
+                                Files.newOutputStream(new File(reportPath).toPath()),
+                                DocumentFiles.CHARSET);
+                try {
+                    report.writeTo(writer);
+                } finally {
+                    writer.close();
+                }
+            } catch (IOException e) {
+                this._err.println("Cannot write report: " + e.getMessage());
+                return NetDocTool.EXIT_FAILURE;
+            }
+        }
+        return report.hasFailures() ? NetDocTool.EXIT_FAILURE
+                        : NetDocTool.EXIT_OK;
+    }
+
+    /**
+     * Parses and formats all documents below the specified root without
+     * writing anything. Documents stored in an outdated version are reported
+     * as outdated.
+     * @param root the package root to be processed.
+     * @param threadCount the number of worker threads.
+     * @param report the report the results are added to.
+     * @throws IOException if the documents could not be listed.
+     */
+    protected void validate(final File root, int threadCount,
+                            final ToolReport report)
+                    throws IOException {
+        this.forEachDocument(root, threadCount, report, new DocumentTask() {
+            @Override
+            public void process(File document, String path) throws IOException {
+                String content = NetDocTool.read(document);
+                if (NetDocTool.this._upgrader.isOutdated(content)) {
+                    report.add(path, ToolReport.STATUS_OUTDATED, "Version "
+                                    + NetDocTool.this._upgrader.getVersion(content)
+                                    + " is outdated");
+                    return;
+                }
+                NetDocTool.this.check(document, content);
+                report.add(path, ToolReport.STATUS_OK, null);
+            }
+        });
+    }
+
+    /**
+     * Converts all outdated documents below the specified root to the current
+     * version. Upgraded documents are validated before they are written.
+     * @param root the package root to be processed.
+     * @param threadCount the number of worker threads.
+     * @param dryRun specifies whether upgraded documents should be validated
+     * only and not be written.
+     * @param report the report the results are added to.
+     * @throws IOException if the documents could not be listed.
+     */
+    protected void upgrade(final File root, int threadCount,
+                           final boolean dryRun, final ToolReport report)
+                    throws IOException {
+        this.forEachDocument(root, threadCount, report, new DocumentTask() {
+            @Override
+            public void process(File document, String path) throws IOException {
+                String content = NetDocTool.read(document);
+                if (!NetDocTool.this._upgrader.isOutdated(content)) {
+                    report.add(path, ToolReport.STATUS_UNCHANGED, null);
+                    return;
+                }
+                String version = NetDocTool.this._upgrader.getVersion(content);
+                String upgraded = NetDocTool.this._upgrader.upgrade(content);
+                NetDocTool.this.check(document, upgraded);
+                if (!dryRun) {
+                    File tempFile = new File(document.getParentFile(),
+                                    document.getName() + ".tmp");
+                    Files.write(tempFile.toPath(),
+                                    upgraded.getBytes(DocumentFiles.CHARSET));
+                    Files.move(tempFile.toPath(), document.toPath(),
+                                    StandardCopyOption.REPLACE_EXISTING);
+                }
+                report.add(path, ToolReport.STATUS_UPGRADED, "From version "
+                                + version);
+            }
+        });
+    }
+
+    /**
+     * Exports all documents below the specified root. If the output is a
+     * {@code .tex} or {@code .zip} file, a single bundle is written; if its
+     * extension is that of a registered document renderer, e.g.
+     * {@code .html} or {@code .md}, all documents are rendered into that
+     * file; otherwise the output is used as directory of an incremental
+     * build. A bundle or rendered file is deleted again if the export
+     * fails.
+     * @param root the package root to be processed.
+     * @param output the output file or directory.
+     * @param threadCount the number of worker threads.
+     * @param report the report the results are added to.
+     * @throws IOException if the export failed.
+     */
+    protected void export(File root, File output, int threadCount,
+                          ToolReport report)
+                    throws IOException {
+        String name = output.getName();
+        DocumentRenderer renderer = this.findRenderer(name);
+        if (renderer != null) {
+            try {
+                Writer writer = new OutputStreamWriter(Files
+                                .newOutputStream(output.toPath()),
+                                DocumentFiles.CHARSET);
+                try {
+                    new RenderingWorkspaceExporter(this._ioManager, renderer)
+                                    .export(root, writer);
+                } finally {
+                    writer.close();
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(output.toPath());
+                throw e;
+            }
+            for (File document : DocumentFiles.findDocuments(root)) {
+                report.add(DocumentFiles.getRelativePath(root, document),
+                                ToolReport.STATUS_OK, null);
+            }
+        } else if (name.endsWith(".tex") || name.endsWith(".zip")) {
+            try {
+                DocumentBundle bundle = name.endsWith(".zip")
+                                ? new ZipDocumentBundle(Files
+                                                .newOutputStream(output.toPath()))
+                                : new TexMasterBundle(new OutputStreamWriter(
+                                                Files.newOutputStream(
+                                                                output.toPath()),
+                                                DocumentFiles.CHARSET));
+                try {
+                    new ParallelWorkspaceExporter(this._ioManager, threadCount,
+                                    2 * threadCount).export(root, bundle);
+                } finally {
+                    bundle.close();
+                }
+            } catch (IOException | RuntimeException e) {
+                // a partial bundle must not be mistaken for a complete one
+                Files.deleteIfExists(output.toPath());
+                throw e;
+            }
+            for (File document : DocumentFiles.findDocuments(root)) {
+                report.add(DocumentFiles.getRelativePath(root, document),
+                                ToolReport.STATUS_OK, null);
+            }
+        } else {
+            DocumentBuildResult result = new IncrementalDocumentBuilder(
+                            this._ioManager, threadCount).build(root, output);
+            for (String path : result.getExported()) {
+                report.add(path, ToolReport.STATUS_OK, null);
+            }
+            for (String path : result.getRemoved()) {
+                report.add(path, ToolReport.STATUS_REMOVED, null);
+            }
+            this._out.println(result);
+        }
+    }
+
+    /**
+     * Returns the registered document renderer whose filename extension
+     * ends the specified filename.
+     * @param filename the name of the output file.
+     * @return the renderer producing that kind of file;<br>
+     * or {@code null}, if no such renderer is registered.
+     */
+    private DocumentRenderer findRenderer(String filename) {
+        for (DocumentRenderer renderer : this._ioManager.getDocumentRenderers()) {
+            if (filename.endsWith(renderer.getFilenameExtension())) {
+                return renderer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses and formats the specified stored document.
+     * @param document the document file.
+     * @param content the stored document.
+     * @throws IOException if the document could not be parsed or formatted.
+     */
+    private void check(File document, String content) throws IOException {
+        DocumentPart part = this._ioManager
+                        .importDocumentPartFrom(new StringReader(content));
+        part.setTarget(new FileTarget(document));
+        this._ioManager.exportDocumentPartTo(part, new StringWriter());
+    }
+
+    /**
+     * Runs the specified task for every document below the specified root on
+     * the specified number of threads. Failing documents are added to the
+     * report as errors.
+     * @param root the package root to be processed.
+     * @param threadCount the number of worker threads.
+     * @param report the report failures are added to.
+     * @param task the task to be run.
+     * @throws IOException if the documents could not be listed or the calling
+     * thread was interrupted.
+     */
+    private void forEachDocument(final File root, int threadCount,
+                                 final ToolReport report,
+                                 final DocumentTask task)
+                    throws IOException {
+        ExecutorService executor = Workers.createPool("NetDoc tool",
+                        threadCount);
+        try {
+            List<Future<Void>> pending = new ArrayList<Future<Void>>();
+            for (final File document : DocumentFiles.findDocuments(root)) {
+                final String path = DocumentFiles.getRelativePath(root,
+                                document);
+                pending.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        try {
+                            task.process(document, path);
+                        } catch (IOException | RuntimeException e) {
+                            report.add(path, ToolReport.STATUS_ERROR,
+                                            String.valueOf(e.getMessage()));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : pending) {
+                Workers.await(future, "NetDoc tool");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Prints the usage message.
+     * @param message the error message to be printed first;<br>
+     * or {@code null}, if there is none.
+     * @return the usage exit code.
+     */
+    private int usage(String message) {
+        if (message != null) {
+            this._err.println(message);
+        }
+        this._err.print(NetDocTool.USAGE);
+        return NetDocTool.EXIT_USAGE;
+    }
+
+    /**
+     * Reads the specified document file, see {@link
+     * DocumentFiles#decode(byte[])}.
+     * @param document the document file.
+     * @return the content of the file.
+     * @throws IOException if the file could not be read or decoded.
+     */
+    private static String read(File document) throws IOException {
+        return DocumentFiles.read(document);
+    }
+
+    /**
+     * The stream progress and summaries are written to.
+     */
+    private PrintStream _out;
+
+    /**
+     * The stream errors are written to.
+     */
+    private PrintStream _err;
+
+    /**
+     * The upgrader converting outdated documents.
+     */
+    private DocumentUpgrader _upgrader;
+
+    /**
+     * The Input/Output manager used to parse and export documents.
+     */
+    private IOManager _ioManager;
+
+
+    /**
+     * Task processing a single document.
+     */
+    private static interface DocumentTask {
+
+        /**
+         * Processes the specified document.
+         * @param document the document file.
+         * @param path the document path relative to the package root.
+         * @throws IOException if the document could not be processed.
+         */
+        public void process(File document, String path) throws IOException;
+    }
+}
\ No newline at end of file
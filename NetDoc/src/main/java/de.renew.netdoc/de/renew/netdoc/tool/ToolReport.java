@@ -0,0 +1,266 @@
+package de.renew.netdoc.tool;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+
+/**
+ * Machine-readable report of a single run of the NetDoc tool. The report
+ * lists one entry per processed document and is written as JSON.
+ */
+public class ToolReport {
+
+    /**
+     * Status of a document which was processed successfully.
+     */
+    public static final String STATUS_OK = "ok";
+
+    /**
+     * Status of a document which was converted to the current version.
+     */
+    public static final String STATUS_UPGRADED = "upgraded";
+
+    /**
+     * Status of a document which did not need to be processed.
+     */
+    public static final String STATUS_UNCHANGED = "unchanged";
+
+    /**
+     * Status of a document which was removed from the output.
+     */
+    public static final String STATUS_REMOVED = "removed";
+
+    /**
+     * Status of a document stored in an outdated version.
+     */
+    public static final String STATUS_OUTDATED = "outdated";
+
+    /**
+     * Status of a document which could not be processed.
+     */
+    public static final String STATUS_ERROR = "error";
+
+
+    /**
+     * Creates a new empty ToolReport using the specified values.
+     * @param command the name of the command the report belongs to.
+     * @param root the path of the processed package root.
+     * @de.renew.require (command != null)
+     * @de.renew.require (root != null)
+     */
+    public ToolReport(String command, String root) {
+        assert (command != null) : "Precondition violated: (command != null)";
+        assert (root != null) : "Precondition violated: (root != null)";
+
+        this._command = command;
+        this._root = root;
+        this._entries = new ArrayList<Entry>();
+    }
+
+    /**
+     * Adds an entry using the specified values.
+     * @param path the document path relative to the package root.
+     * @param status the status of the document, see the {@code STATUS}
+     * constants.
+     * @param message the message describing the status;<br>
+     * or {@code null}, if there is nothing to describe.
+     * @de.renew.require (path != null)
+     * @de.renew.require (status != null)
+     */
+    public synchronized void add(String path, String status, String message) {
+        assert (path != null) : "Precondition violated: (path != null)";
+        assert (status != null) : "Precondition violated: (status != null)";
+
+        this._entries.add(new Entry(path, status, message));
+    }
+
+    /**
+     * Returns the entries of this report ordered by path. Entries of the same
+     * path keep the order they were added in.
+     * @return an unmodifiable list containing the entries.
+     * @de.renew.ensure (returnValue != null)
+     */
+    public synchronized List<Entry> getEntries() {
+        List<Entry> returnValue = new ArrayList<Entry>(this._entries);
+        Collections.sort(returnValue, new Comparator<Entry>() {
+            @Override
+            public int compare(Entry entry1, Entry entry2) {
+                return entry1.getPath().compareTo(entry2.getPath());
+            }
+        });
+        return Collections.unmodifiableList(returnValue);
+    }
+
+    /**
+     * Returns the number of entries with the specified status.
+     * @param status the status to be counted.
+     * @return the number of entries with that status.
+     * @de.renew.require (status != null)
+     * @de.renew.ensure (returnValue >= 0)
+     */
+    public synchronized int count(String status) {
+        assert (status != null) : "Precondition violated: (status != null)";
+
+        int returnValue = 0;
+        for (Entry entry : this._entries) {
+            if (entry.getStatus().equals(status)) {
+                returnValue++;
+            }
+        }
+        return returnValue;
+    }
+
+    /**
+     * Determines whether this report contains failed documents.
+     * @return {@code true}, if an entry has the error or outdated status;<br>
+     * {@code false} otherwise.
+     */
+    public boolean hasFailures() {
+        return (this.count(ToolReport.STATUS_ERROR) > 0)
+                        || (this.count(ToolReport.STATUS_OUTDATED) > 0);
+    }
+
+    /**
+     * Writes this report as JSON to the specified writer.
+     * @param writer the writer the report is written to.
+     * @throws IOException if an I/O error occured while writing.
+     * @de.renew.require (writer != null)
+     */
+    public synchronized void writeTo(Writer writer) throws IOException {
+        assert (writer != null) : "Precondition violated: (writer != null)";
+
+        List<Entry> entries = this.getEntries();
+        writer.write("{\n  \"command\": " + ToolReport.quote(this._command));
+        writer.write(",\n  \"root\": " + ToolReport.quote(this._root));
+        writer.write(",\n  \"documents\": " + entries.size());
+        writer.write(",\n  \"failed\": "
+                        + (this.count(ToolReport.STATUS_ERROR)
+                                        + this.count(ToolReport.STATUS_OUTDATED)));
+        writer.write(",\n  \"results\": [");
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            writer.write((i == 0) ? "\n" : ",\n");
+            writer.write("    {\"path\": " + ToolReport.quote(entry.getPath()));
+            writer.write(", \"status\": " + ToolReport.quote(entry.getStatus()));
+            if (entry.getMessage() != null) {
+                writer.write(", \"message\": "
+                                + ToolReport.quote(entry.getMessage()));
+            }
+            writer.write("}");
+        }
+        writer.write(entries.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+    }
+
+    /**
+     * Returns the specified text as JSON string literal.
+     * @param text the text to be quoted.
+     * @return the quoted and escaped text.
+     */
+    private static String quote(String text) {
+        StringBuilder returnValue = new StringBuilder(text.length() + 2);
+        returnValue.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '"':
+            case '\\':
+                returnValue.append('\\').append(c);
+                break;
+            case '\n':
+                returnValue.append("\\n");
+                break;
+            case '\r':
+                returnValue.append("\\r");
+                break;
+            case '\t':
+                returnValue.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    returnValue.append(String.format("\\u%04x", (int) c));
+                } else {
+                    returnValue.append(c);
+                }
+            }
+        }
+        return returnValue.append('"').toString();
+    }
+
+    /**
+     * The name of the command the report belongs to.
+     */
+    private String _command;
+
+    /**
+     * The path of the processed package root.
+     */
+    private String _root;
+
+    /**
+     * The entries of this report.
+     */
+    private List<Entry> _entries;
+
+
+    /**
+     * Report entry of a single document.
+     */
+    public static class Entry {
+
+        /**
+         * Creates a new Entry using the specified values.
+         * @param path the document path relative to the package root.
+         * @param status the status of the document.
+         * @param message the message describing the status; or {@code null}.
+         */
+        public Entry(String path, String status, String message) {
+            this._path = path;
+            this._status = status;
+            this._message = message;
+        }
+
+        /**
+         * Returns the document path relative to the package root.
+         * @return the document path.
+         */
+        public String getPath() {
+            return this._path;
+        }
+
+        /**
+         * Returns the status of the document.
+         * @return the status of the document.
+         */
+        public String getStatus() {
+            return this._status;
+        }
+
+        /**
+         * Returns the message describing the status.
+         * @return the message;<br>
+         * or {@code null}, if there is nothing to describe.
+         */
+        public String getMessage() {
+            return this._message;
+        }
+
+        /**
+         * The document path relative to the package root.
+         */
+        private String _path;
+
+        /**
+         * The status of the document.
+         */
+        private String _status;
+
+        /**
+         * The message describing the status.
+         */
+        private String _message;
+    }
+}
\ No newline at end of file
@@ -9,39 +9,63 @@ module de.renew.netdoc {
     exports de.renew.netdoc.gui.windows.documentcontainer;
 
     exports de.renew.netdoc.io;
+    exports de.renew.netdoc.io.documentbuilders;
+    exports de.renew.netdoc.io.documentbundles;
+    exports de.renew.netdoc.io.documentcaches;
+    exports de.renew.netdoc.io.documentcatalogs;
     exports de.renew.netdoc.io.documentformatters;
+    exports de.renew.netdoc.io.documentindexes;
+    exports de.renew.netdoc.io.documentlinters;
     exports de.renew.netdoc.io.documentparsers;
+    exports de.renew.netdoc.io.documentrenderers;
+    exports de.renew.netdoc.io.documentupgraders;
+    exports de.renew.netdoc.io.event;
     exports de.renew.netdoc.io.managers;
+    exports de.renew.netdoc.io.metadatastores;
+    exports de.renew.netdoc.io.workspaceexporters;
 
     exports de.renew.netdoc.model.command;
     exports de.renew.netdoc.model.command.commands;
     exports de.renew.netdoc.model.command.exceptions;
+    exports de.renew.netdoc.model.command.executors;
     exports de.renew.netdoc.model.container;
     exports de.renew.netdoc.model.container.commands;
     exports de.renew.netdoc.model.container.commands.manager;
     exports de.renew.netdoc.model.container.containers;
     exports de.renew.netdoc.model.container.event;
     exports de.renew.netdoc.model.container.managers;
+    exports de.renew.netdoc.model.container.policies;
+    exports de.renew.netdoc.model.container.watchers;
     exports de.renew.netdoc.model.doctarget;
     exports de.renew.netdoc.model.doctarget.targets;
     exports de.renew.netdoc.model.document;
     exports de.renew.netdoc.model.document.documents;
     exports de.renew.netdoc.model.document.documents.linear;
     exports de.renew.netdoc.model.document.event;
+    exports de.renew.netdoc.model.document.histories;
     exports de.renew.netdoc.model.document.maps;
     exports de.renew.netdoc.model.document.parts;
     exports de.renew.netdoc.model.document.parts.linear;
     exports de.renew.netdoc.model.document.parts.linear.tex;
+    exports de.renew.netdoc.model.document.traversal;
+    exports de.renew.netdoc.model.event;
+
+    exports de.renew.netdoc.monitor;
+    exports de.renew.netdoc.monitor.events;
 
     exports de.renew.netdoc.renew.gui;
     exports de.renew.netdoc.renew.hotdraw;
     exports de.renew.netdoc.renew.hotdraw.figures;
     exports de.renew.netdoc.renew.plugin;
 
+    exports de.renew.netdoc.tool;
+
     //
     requires CH.ifa.draw;
     requires de.renew.gui;
     requires log4j;
     requires java.desktop;
+    requires java.management;
+    requires jdk.jfr;
 
 }
\ No newline at end of file
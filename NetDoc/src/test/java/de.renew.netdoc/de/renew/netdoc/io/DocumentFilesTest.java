@@ -0,0 +1,42 @@
+package de.renew.netdoc.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DocumentFilesTest {
+
+    private static final String TEXT = "\\netdocAuthor{J\u00fcrgen M\u00fcller}";
+
+    @Test
+    void testDecodeUtf8() throws CharacterCodingException {
+        //given
+        byte[] content = TEXT.getBytes(StandardCharsets.UTF_8);
+        //when
+        String decoded = DocumentFiles.decode(content);
+        //then
+        assertEquals(TEXT, decoded);
+    }
+
+    @Test
+    void testDecodeLegacyContent() throws CharacterCodingException {
+        //given
+        byte[] content = TEXT.getBytes(DocumentFiles.LEGACY_CHARSET);
+        //when
+        String decoded = DocumentFiles.decode(content);
+        //then
+        assertEquals(TEXT, decoded);
+    }
+
+    @Test
+    void testDecodeReportsUndecodableContent() {
+        //given
+        byte[] content = { 'a', (byte) 0x81, 'b' };
+        //then
+        assertThrows(CharacterCodingException.class, () -> DocumentFiles.decode(content));
+    }
+}
@@ -2,6 +2,7 @@ package de.renew.netdoc.io;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,22 @@ class URLsTest {
         assertEquals(expectedURL, fileUrl);
     }
 
+    @Test
+    void testToFile() throws MalformedURLException {
+        //given
+        File file = new File("/tmp/net with spaces.doctex");
+        //when
+        File plain = URLs.toFile(URLs.create(file));
+        File encoded = URLs.toFile(new URL("file:/tmp/net%20with%20spaces.doctex"));
+        File relative = URLs.toFile(new URL("file:src/test.txt"));
+        File remote = URLs.toFile(new URL("http://localhost/test.txt"));
+        //then
+        assertEquals(file, plain);
+        assertEquals(file, encoded);
+        assertEquals(new File("src/test.txt"), relative);
+        assertNull(remote);
+    }
+
     @Test
     void testExists() throws MalformedURLException {
         //given
@@ -0,0 +1,101 @@
+package de.renew.netdoc.io.documentbuilders;
+
+import de.renew.netdoc.io.DocumentBuildResult;
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.documentformatters.TexExportFormatter;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.managers.SimpleIOManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static de.renew.netdoc.model.document.TestDocuments.createDocument;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalDocumentBuilderTest {
+    @TempDir
+    Path tempDir;
+
+    private IncrementalDocumentBuilder builder;
+
+    private File packageRoot;
+
+    private File output;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        builder = new IncrementalDocumentBuilder(new SimpleIOManager(
+                        new TexExportFormatter(), null, null,
+                        new TexDocumentParser(), DocumentFiles.FILENAME_EXTENSION), 2);
+        packageRoot = tempDir.resolve("src").toFile();
+        output = tempDir.resolve("out").toFile();
+        Files.createDirectories(packageRoot.toPath().resolve("sub"));
+        Files.writeString(packageRoot.toPath().resolve("package-root.doctex"), "");
+        write("buffer", "Buffer");
+        write("sub/mutex", "Mutex");
+        write("sub/queue", "Queue");
+    }
+
+    @Test
+    void testFirstBuildExportsAll() throws Exception {
+        //when
+        DocumentBuildResult result = builder.build(packageRoot, output);
+        //then
+        assertEquals(List.of("buffer.doctex", "sub/mutex.doctex", "sub/queue.doctex"),
+                        result.getExported());
+        assertEquals(0, result.getUnchangedCount());
+        assertTrue(Files.readString(output.toPath().resolve("sub/mutex.tex")).contains("Mutex"));
+        assertTrue(new File(output, IncrementalDocumentBuilder.MANIFEST_FILENAME).isFile());
+    }
+
+    @Test
+    void testRebuildExportsOnlyChanged() throws Exception {
+        //given
+        builder.build(packageRoot, output);
+        write("sub/mutex", "Lock");
+        //when
+        DocumentBuildResult result = builder.build(packageRoot, output);
+        //then
+        assertEquals(List.of("sub/mutex.doctex"), result.getExported());
+        assertEquals(2, result.getUnchangedCount());
+        assertTrue(Files.readString(output.toPath().resolve("sub/mutex.tex")).contains("Lock"));
+    }
+
+    @Test
+    void testRebuildRestoresMissingExportAndRemovesDeleted() throws Exception {
+        //given
+        builder.build(packageRoot, output);
+        Files.delete(output.toPath().resolve("buffer.tex"));
+        Files.delete(packageRoot.toPath().resolve("sub/queue.doctex"));
+        //when
+        DocumentBuildResult result = builder.build(packageRoot, output);
+        //then
+        assertEquals(List.of("buffer.doctex"), result.getExported());
+        assertEquals(List.of("sub/queue.doctex"), result.getRemoved());
+        assertFalse(output.toPath().resolve("sub/queue.tex").toFile().exists());
+    }
+
+    @Test
+    void testFailedDocumentIsRetried() throws Exception {
+        //given
+        Files.writeString(packageRoot.toPath().resolve("broken.doctex"), "\\begin{netdocMain}");
+        assertThrows(IOException.class, () -> builder.build(packageRoot, output));
+        Files.delete(packageRoot.toPath().resolve("broken.doctex"));
+        //when
+        DocumentBuildResult result = builder.build(packageRoot, output);
+        //then
+        assertTrue(result.getExported().isEmpty());
+        assertEquals(3, result.getUnchangedCount());
+    }
+
+    private void write(String path, String title) throws IOException {
+        Files.writeString(packageRoot.toPath().resolve(path + ".doctex"),
+                        createDocument(title).toString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package de.renew.netdoc.io.documentcaches;
+
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LRUDocumentCacheTest {
+    @TempDir
+    Path tempDir;
+
+    private LRUDocumentCache cache;
+    private URL location;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new LRUDocumentCache(2, 1024);
+        location = createFile("net.doctex", "content");
+    }
+
+    @Test
+    void testMissOnEmptyCache() {
+        //when
+        DocumentPart part = cache.get(location);
+        //then
+        assertNull(part);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testHitReturnsCopy() {
+        //given
+        DocumentPart original = new TexDefinitionPart("netdocTitle", "title");
+        put(location, original);
+        //when
+        DocumentPart cached = cache.get(location);
+        //then
+        assertNotNull(cached);
+        assertNotSame(original, cached);
+        assertEquals(original.toString(), cached.toString());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testChangedFileIsMiss() throws IOException {
+        //given
+        put(location, new TexDefinitionPart("netdocTitle", "title"));
+        //when
+        Files.writeString(Path.of(location.getPath()), "changed content");
+        //then
+        assertNull(cache.get(location));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void testFileChangedWhileParsingIsNotCached() throws IOException {
+        //given
+        Object stamp = cache.getStamp(location);
+        Files.writeString(Path.of(location.getPath()), "content changed while parsing");
+        //when
+        cache.put(location, stamp, new TexDefinitionPart("netdocTitle", "stale"));
+        //then
+        assertNull(cache.get(location));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() throws IOException {
+        //given
+        URL second = createFile("second.doctex", "content");
+        URL third = createFile("third.doctex", "content");
+        put(location, new TexDefinitionPart("a", "a"));
+        put(second, new TexDefinitionPart("b", "b"));
+        cache.get(location);
+        //when
+        put(third, new TexDefinitionPart("c", "c"));
+        //then
+        assertEquals(2, cache.getSize());
+        assertNotNull(cache.get(location));
+        assertNull(cache.get(second));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void testRespectsByteLimit() throws IOException {
+        //given
+        URL large = createFile("large.doctex", "x".repeat(2048));
+        //when
+        put(large, new TexDefinitionPart("a", "a"));
+        //then
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    void testInvalidate() {
+        //given
+        put(location, new TexDefinitionPart("a", "a"));
+        //when
+        cache.invalidate(location);
+        //then
+        assertNull(cache.get(location));
+    }
+
+    @Test
+    void testEncodedLocationIsHit() throws IOException {
+        //given
+        URL plain = createFile("net with spaces.doctex", "content");
+        URL encoded = tempDir.resolve("net with spaces.doctex").toUri().toURL();
+        put(plain, new TexDefinitionPart("a", "a"));
+        //when
+        DocumentPart cached = cache.get(encoded);
+        //then
+        assertNotNull(cached);
+    }
+
+    @Test
+    void testNonFileLocationIsMiss() throws IOException {
+        //given
+        URL remote = new URL("http://localhost/net.doctex");
+        //when
+        DocumentPart cached = cache.get(remote);
+        //then
+        assertNull(cached);
+        assertEquals(1, cache.getMissCount());
+    }
+
+    private void put(URL url, DocumentPart part) {
+        cache.put(url, cache.getStamp(url), part);
+    }
+
+    private URL createFile(String name, String content) throws IOException {
+        File file = tempDir.resolve(name).toFile();
+        Files.writeString(file.toPath(), content);
+        return new URL("file:" + file.getPath());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package de.renew.netdoc.io.documentcatalogs;
+
+import de.renew.netdoc.io.DocumentCatalogEntry;
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.documentformatters.TexExportFormatter;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.managers.SimpleIOManager;
+import de.renew.netdoc.model.document.DocumentParts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static de.renew.netdoc.model.document.TestDocuments.author;
+import static de.renew.netdoc.model.document.TestDocuments.createDocument;
+import static de.renew.netdoc.model.document.TestDocuments.definition;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileDocumentCatalogTest {
+    @TempDir
+    Path tempDir;
+
+    private File document;
+    private URL location;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createFile(tempDir.resolve(FileDocumentCatalog.PACKAGE_ROOT_FILENAME));
+        Files.createDirectories(tempDir.resolve("sub"));
+        document = tempDir.resolve("sub/net.doctex").toFile();
+        Files.writeString(document.toPath(), "content");
+        location = new URL("file:" + document.getPath());
+    }
+
+    @Test
+    void testFindForLocatesPackageRoot() throws IOException {
+        //when
+        FileDocumentCatalog catalog = FileDocumentCatalog.findFor(location);
+        //then
+        assertNotNull(catalog);
+        assertEquals(tempDir.toFile(), catalog.getPackageRoot());
+        assertTrue(catalog.getEntries().isEmpty());
+    }
+
+    @Test
+    void testFindForWithoutPackageRoot() throws IOException {
+        //given
+        Files.delete(tempDir.resolve(FileDocumentCatalog.PACKAGE_ROOT_FILENAME));
+        //when
+        FileDocumentCatalog catalog = FileDocumentCatalog.findFor(location);
+        //then
+        assertNull(catalog);
+    }
+
+    @Test
+    void testUpdateStoresEntry() throws IOException {
+        //given
+        FileDocumentCatalog catalog = FileDocumentCatalog.findFor(location);
+        //when
+        catalog.update(location, createDocument("A\ttitle", author("author"),
+                        definition(DocumentParts.NAME_NETDOC_DATE_CREATION,
+                                        "01-Jan-2020 at 10:00")));
+        //then
+        FileDocumentCatalog reloaded = new FileDocumentCatalog(tempDir.toFile());
+        reloaded.load();
+        DocumentCatalogEntry entry = reloaded.getEntry("sub/net.doctex");
+        assertNotNull(entry);
+        assertEquals("A\ttitle", entry.getTitle());
+        assertEquals("author", entry.getAuthor());
+        assertEquals("01-Jan-2020 at 10:00", entry.getDateCreation());
+        assertEquals(7, entry.getSize());
+        assertEquals(64, entry.getHash().length());
+    }
+
+    @Test
+    void testUpdateReplacesEntry() throws IOException {
+        //given
+        FileDocumentCatalog catalog = FileDocumentCatalog.findFor(location);
+        catalog.update(location, createDocument("old", author("author")));
+        String oldHash = catalog.getEntry("sub/net.doctex").getHash();
+        Files.writeString(document.toPath(), "changed content");
+        //when
+        catalog.update(location, createDocument("new", author("author")));
+        //then
+        DocumentCatalogEntry entry = catalog.getEntry("sub/net.doctex");
+        assertEquals(1, catalog.getEntries().size());
+        assertEquals("new", entry.getTitle());
+        assertNotEquals(oldHash, entry.getHash());
+    }
+
+    @Test
+    void testFindForSharesCatalogPerPackageRoot() throws IOException {
+        //when
+        FileDocumentCatalog first = FileDocumentCatalog.findFor(location);
+        FileDocumentCatalog second = FileDocumentCatalog.forPackageRoot(tempDir.toFile());
+        //then
+        assertSame(first, second);
+    }
+
+    @Test
+    void testSynchronizeAddsAndRemovesEntries() throws IOException {
+        //given
+        Files.writeString(document.toPath(), createDocument("net", author("author")).toString());
+        Files.writeString(tempDir.resolve("other.doctex"),
+                        createDocument("other", author("someone")).toString());
+        FileDocumentCatalog catalog = new FileDocumentCatalog(tempDir.toFile());
+        catalog.putEntry(new DocumentCatalogEntry("gone.doctex", "gone", "", "", "", "",
+                        1, "hash"));
+        //when
+        int changes = catalog.synchronize(createIOManager());
+        //then
+        assertEquals(3, changes);
+        assertNull(catalog.getEntry("gone.doctex"));
+        assertEquals("net", catalog.getEntry("sub/net.doctex").getTitle());
+        assertEquals("other", catalog.getEntry("other.doctex").getTitle());
+        assertTrue(catalog.getFile().isFile());
+        assertEquals(0, catalog.synchronize(createIOManager()));
+    }
+
+    @Test
+    void testSynchronizeRecomputesEntryOfSameSize() throws IOException {
+        //given
+        Files.writeString(document.toPath(), createDocument("net", author("alice")).toString());
+        FileDocumentCatalog catalog = new FileDocumentCatalog(tempDir.toFile());
+        catalog.synchronize(createIOManager());
+        long size = document.length();
+        //when
+        Files.writeString(document.toPath(), createDocument("net", author("carol")).toString());
+        int changes = catalog.synchronize(createIOManager());
+        //then
+        assertEquals(size, document.length());
+        assertEquals(1, changes);
+        assertEquals("carol", catalog.getEntry("sub/net.doctex").getAuthor());
+    }
+
+    @Test
+    void testGetEntriesFiltersIgnoringCase() throws IOException {
+        //given
+        FileDocumentCatalog catalog = new FileDocumentCatalog(tempDir.toFile());
+        catalog.putEntry(new DocumentCatalogEntry("a.doctex", "Queue", "Buffer net", "Alice",
+                        "", "", 1, "hash"));
+        catalog.putEntry(new DocumentCatalogEntry("b.doctex", "Stack", "", "Bob", "", "", 1,
+                        "hash"));
+        //then
+        assertEquals(2, catalog.getEntries("").size());
+        assertEquals("a.doctex", catalog.getEntries("buffer").iterator().next().getPath());
+        assertEquals("b.doctex", catalog.getEntries("BOB").iterator().next().getPath());
+        assertTrue(catalog.getEntries("carol").isEmpty());
+    }
+
+    private SimpleIOManager createIOManager() {
+        return new SimpleIOManager(new TexExportFormatter(), null, null,
+                        new TexDocumentParser(), DocumentFiles.FILENAME_EXTENSION);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package de.renew.netdoc.io.documentindexes;
+
+import de.renew.netdoc.io.DocumentSearchResult;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.model.document.DocumentParts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static de.renew.netdoc.model.document.TestDocuments.createDocument;
+import static de.renew.netdoc.model.document.TestDocuments.description;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedDocumentIndexTest {
+    @TempDir
+    Path tempDir;
+
+    private InvertedDocumentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedDocumentIndex(new TexDocumentParser());
+    }
+
+    @Test
+    void testSearchRanksByRelevance() throws Exception {
+        //given
+        URL first = new URL("file:/ws/first.doctex");
+        URL second = new URL("file:/ws/second.doctex");
+        index.update(first, createDocument("Buffer", description("a buffer net with a buffer place")));
+        index.update(second, createDocument("Producer", description("writes into a buffer")));
+        //when
+        List<DocumentSearchResult> results = index.search("buffer", 10);
+        //then
+        assertEquals(2, results.size());
+        assertEquals(first, results.get(0).getLocation());
+        assertTrue(results.get(0).getScore() > results.get(1).getScore());
+        assertTrue(results.get(0).getPartNames()
+                        .contains(DocumentParts.NAME_NETDOC_TITLE));
+    }
+
+    @Test
+    void testSearchRequiresAllTerms() throws Exception {
+        //given
+        index.update(new URL("file:/ws/first.doctex"), createDocument("Buffer", description("bounded place")));
+        index.update(new URL("file:/ws/second.doctex"), createDocument("Queue", description("unbounded place")));
+        //when
+        List<DocumentSearchResult> results = index.search("bounded place", 10);
+        //then
+        assertEquals(1, results.size());
+        assertEquals("first", results.get(0).getTargetName());
+    }
+
+    @Test
+    void testPrefixSearch() throws Exception {
+        //given
+        index.update(new URL("file:/ws/first.doctex"), createDocument("Synchronisation", description("")));
+        //when
+        List<DocumentSearchResult> results = index.search("synchron*", 10);
+        //then
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    void testUpdateReplacesDocument() throws Exception {
+        //given
+        URL location = new URL("file:/ws/first.doctex");
+        index.update(location, createDocument("Old", description("")));
+        //when
+        index.update(location, createDocument("New", description("")));
+        //then
+        assertEquals(1, index.getDocumentCount());
+        assertTrue(index.search("old", 10).isEmpty());
+        assertEquals(1, index.search("new", 10).size());
+    }
+
+    @Test
+    void testRemove() throws Exception {
+        //given
+        URL location = new URL("file:/ws/first.doctex");
+        index.update(location, createDocument("Buffer", description("")));
+        //when
+        index.remove(location);
+        //then
+        assertEquals(0, index.getDocumentCount());
+        assertTrue(index.search("buffer", 10).isEmpty());
+    }
+
+    @Test
+    void testBuildIndexesPackage() throws Exception {
+        //given
+        Files.writeString(tempDir.resolve("package-root.doctex"), "");
+        Files.createDirectories(tempDir.resolve("sub"));
+        Files.writeString(tempDir.resolve("sub/net.doctex"),
+                        createDocument("Mutex", description("mutual exclusion")).toString());
+        //when
+        int count = index.startBuild(tempDir.toFile()).get();
+        //then
+        assertEquals(1, count);
+        assertEquals(1, index.search("mutual exclusion", 10).size());
+    }
+
+    @Test
+    void testBuildAfterShutdown() throws Exception {
+        //given
+        Files.writeString(tempDir.resolve("package-root.doctex"), "");
+        Files.writeString(tempDir.resolve("net.doctex"),
+                        createDocument("Mutex", description("mutual exclusion")).toString());
+        index.startBuild(tempDir.toFile()).get();
+        //when
+        index.shutdown();
+        int count = index.startBuild(tempDir.toFile()).get();
+        //then
+        assertEquals(1, count);
+    }
+}
\ No newline at end of file
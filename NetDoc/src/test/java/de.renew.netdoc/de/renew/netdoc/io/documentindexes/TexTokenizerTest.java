@@ -0,0 +1,45 @@
+package de.renew.netdoc.io.documentindexes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TexTokenizerTest {
+
+    private final TexTokenizer tokenizer = new TexTokenizer();
+
+    @Test
+    void testPlainText() {
+        //when
+        List<String> terms = tokenizer.tokenize("Petri Net, a Test!");
+        //then
+        assertEquals(List.of("petri", "net", "test"), terms);
+    }
+
+    @Test
+    void testSkipsControlWordsAndEnvironments() {
+        //when
+        List<String> terms = tokenizer.tokenize(
+                        "\\begin{itemize}\\item \\textbf{bold} word\\end{itemize}");
+        //then
+        assertEquals(List.of("bold", "word"), terms);
+    }
+
+    @Test
+    void testSkipsComments() {
+        //when
+        List<String> terms = tokenizer.tokenize("visible % hidden text\nnext 50\\% done");
+        //then
+        assertEquals(List.of("visible", "next", "50", "done"), terms);
+    }
+
+    @Test
+    void testResolvesUmlauts() {
+        //when
+        List<String> terms = tokenizer.tokenize("Gr\\\"o\\ss{}e \\\"{U}bung");
+        //then
+        assertEquals(List.of("gr\u00f6sse", "\u00fcbung"), terms);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package de.renew.netdoc.io.documentlinters;
+
+import de.renew.netdoc.io.DocumentLintFinding;
+import de.renew.netdoc.io.DocumentLintFinding.Kind;
+import de.renew.netdoc.io.URLs;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.documents.LinearDocument;
+import de.renew.netdoc.model.document.parts.LinearDocumentPart;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static de.renew.netdoc.model.document.TestDocuments.author;
+import static de.renew.netdoc.model.document.TestDocuments.createDocument;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkspaceDocumentLinterTest {
+    private static final String HEADER = "% " + DocumentParts.NETDOC_TEX_UNIT_VERSION_PREFIX
+                    + DocumentParts.NETDOC_TEX_UNIT_VERSION_NUMBER + "\n";
+
+    @TempDir
+    Path tempDir;
+
+    private WorkspaceDocumentLinter linter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        linter = new WorkspaceDocumentLinter(new TexDocumentParser(), 2);
+        Files.writeString(tempDir.resolve("package-root.doctex"), "");
+    }
+
+    @AfterEach
+    void tearDown() {
+        linter.shutdown();
+    }
+
+    @Test
+    void testConsistentDocumentHasNoFindings() throws Exception {
+        //given
+        writeDocument("net", HEADER + createDocument("Mutex", author("N.N.")), true);
+        //when
+        int count = linter.startCheck(tempDir.toFile()).get();
+        //then
+        assertEquals(1, count);
+        assertTrue(linter.getFindings().isEmpty());
+    }
+
+    @Test
+    void testMissingPartAndOrphanedDocument() throws Exception {
+        //given
+        writeDocument("net", HEADER + createDocument("Mutex"), false);
+        //when
+        linter.startCheck(tempDir.toFile()).get();
+        //then
+        List<Kind> kinds = getKinds(linter.getFindings());
+        assertTrue(kinds.contains(Kind.ORPHANED_DOCUMENT));
+        assertTrue(kinds.contains(Kind.MISSING_PART));
+        assertEquals(2, kinds.size());
+    }
+
+    @Test
+    void testOutdatedVersion() throws Exception {
+        //given
+        writeDocument("net", "% NetDoc documentation unit v1.0\n"
+                        + createDocument("Mutex", author("N.N.")), true);
+        //when
+        linter.startCheck(tempDir.toFile()).get();
+        //then
+        List<DocumentLintFinding> findings = linter.getFindings();
+        assertEquals(1, findings.size());
+        assertEquals(Kind.OUTDATED_VERSION, findings.get(0).getKind());
+        assertEquals(1, findings.get(0).getLine());
+    }
+
+    @Test
+    void testUnbalancedBlock() throws Exception {
+        //given
+        writeDocument("net", HEADER + "\\begin{netdocDocument}\n"
+                        + "\\begin{netdocMain}\n" + "\\end{netdocDocument}\n", true);
+        //when
+        linter.startCheck(tempDir.toFile()).get();
+        //then
+        List<DocumentLintFinding> findings = linter.getFindings();
+        assertEquals(List.of(Kind.UNBALANCED_BLOCK, Kind.UNBALANCED_BLOCK),
+                        getKinds(findings));
+        assertEquals(4, findings.get(0).getLine());
+        assertEquals(2, findings.get(1).getLine());
+    }
+
+    @Test
+    void testUnchangedDocumentsAreSkipped() throws Exception {
+        //given
+        writeDocument("net", HEADER + createDocument("Mutex", author("N.N.")), true);
+        linter.startCheck(tempDir.toFile()).get();
+        //when
+        int count = linter.startCheck(tempDir.toFile()).get();
+        //then
+        assertEquals(0, count);
+    }
+
+    @Test
+    void testRemovedDocumentLosesFindings() throws Exception {
+        //given
+        Path document = writeDocument("net", HEADER + createDocument("Mutex"), true);
+        linter.startCheck(tempDir.toFile()).get();
+        assertFalse(linter.getFindings().isEmpty());
+        //when
+        Files.delete(document);
+        linter.startCheck(tempDir.toFile()).get();
+        //then
+        assertTrue(linter.getFindings().isEmpty());
+    }
+
+    @Test
+    void testUpdateNotifiesListener() throws Exception {
+        //given
+        URL location = URLs.create(tempDir.resolve("net.doctex").toFile());
+        CountDownLatch notified = new CountDownLatch(1);
+        List<DocumentLintFinding> received = new ArrayList<>();
+        linter.addLintListener((changed, findings) -> {
+            received.addAll(findings);
+            notified.countDown();
+        });
+        //when
+        linter.update(location, createDocument("Mutex"));
+        //then
+        assertTrue(notified.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Kind.MISSING_PART), getKinds(received));
+        assertEquals(received, linter.getFindings(location));
+    }
+
+    @Test
+    void testUpdateChecksDocumentAsPassed() throws Exception {
+        //given
+        URL location = URLs.create(tempDir.resolve("net.doctex").toFile());
+        CountDownLatch notified = new CountDownLatch(1);
+        linter.addLintListener((changed, findings) -> notified.countDown());
+        LinearDocument document = createDocument("Mutex");
+        //when
+        linter.update(location, document);
+        ((LinearDocumentPart) document.getPart(DocumentParts.NAME_NETDOC_MAIN))
+                        .addPartAt(1, author("N.N."));
+        //then
+        assertTrue(notified.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Kind.MISSING_PART), getKinds(linter.getFindings(location)));
+    }
+
+    private Path writeDocument(String name, String content, boolean withDrawing)
+                    throws Exception {
+        if (withDrawing) {
+            Files.writeString(tempDir.resolve(name + ".rnw"), "");
+        }
+        return Files.writeString(tempDir.resolve(name + ".doctex"), content);
+    }
+
+    private List<Kind> getKinds(List<DocumentLintFinding> findings) {
+        List<Kind> returnValue = new ArrayList<>();
+        for (DocumentLintFinding finding : findings) {
+            returnValue.add(finding.getKind());
+        }
+        return returnValue;
+    }
+}
@@ -0,0 +1,91 @@
+package de.renew.netdoc.io.documentrenderers;
+
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.documents.LinearDocument;
+import de.renew.netdoc.model.document.documents.linear.TexDocument;
+import de.renew.netdoc.model.document.parts.linear.tex.TexBlockDefinitionPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexCommentPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HtmlDocumentRendererTest {
+    private HtmlDocumentRenderer renderer;
+
+    private StringWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new HtmlDocumentRenderer();
+        writer = new StringWriter();
+    }
+
+    @Test
+    void testRenderDocumentStructure() throws Exception {
+        //given
+        LinearDocument document = createDocument("Mutex <b>",
+                        "Guards a \\emph{critical} section.\n\nSecond & last.");
+        //when
+        renderer.renderDocument(document, writer);
+        //then
+        assertEquals("<article>\n"
+                        + "<h1>Mutex &lt;b&gt;</h1>\n"
+                        + "<dl>\n<dt>Date Creation</dt><dd>2006</dd>\n</dl>\n"
+                        + "<section>\n<h2>Description</h2>\n"
+                        + "<p>Guards a <em>critical</em> section.</p>\n"
+                        + "<p>Second &amp; last.</p>\n"
+                        + "</section>\n"
+                        + "</article>\n", writer.toString());
+    }
+
+    @Test
+    void testTranslateTexMarkup() throws Exception {
+        //when
+        renderer.writeTex("\\textbf{bold \\texttt{x\\_y}} 50\\%~off % hidden\n"
+                        + "line\\\\next \\unknown{kept}$x$\n"
+                        + "\\begin{enumerate}\n\\item one\n\\item two\n\\end{enumerate}",
+                        true, writer);
+        //then
+        assertEquals("<p><strong>bold <code>x_y</code></strong> 50% off line<br>\n"
+                        + "next keptx</p>\n"
+                        + "<ol>\n<li><p>one</p>\n<li><p>two</p>\n</ol>\n",
+                        writer.toString());
+    }
+
+    @Test
+    void testStylesSpanParagraphs() throws Exception {
+        //when
+        renderer.writeTex("\\emph{first\n\nsecond}", true, writer);
+        //then
+        assertEquals("<p><em>first</em></p>\n<p><em>second</em></p>\n",
+                        writer.toString());
+    }
+
+    @Test
+    void testOutputFrame() throws Exception {
+        //when
+        renderer.beginOutput("a \"b\"", writer);
+        renderer.endOutput(writer);
+        //then
+        assertTrue(writer.toString().startsWith("<!DOCTYPE html>"));
+        assertTrue(writer.toString().contains("<title>a &quot;b&quot;</title>"));
+        assertTrue(writer.toString().endsWith("</body>\n</html>\n"));
+    }
+
+    static LinearDocument createDocument(String title, String description) {
+        TexBlockDefinitionPart main = new TexBlockDefinitionPart(
+                        DocumentParts.NAME_NETDOC_MAIN);
+        main.appendPart(new TexDefinitionPart(DocumentParts.NAME_NETDOC_TITLE, title));
+        main.appendPart(new TexDefinitionPart(DocumentParts.NAME_NETDOC_DATE_CREATION, "2006"));
+        main.appendPart(new TexBlockDefinitionPart(
+                        DocumentParts.NAME_NETDOC_DESCRIPTION, description));
+        LinearDocument returnValue = new TexDocument();
+        returnValue.appendPart(new TexCommentPart("not rendered"));
+        returnValue.appendPart(main);
+        return returnValue;
+    }
+}
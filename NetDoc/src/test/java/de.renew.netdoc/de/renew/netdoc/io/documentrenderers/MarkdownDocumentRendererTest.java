@@ -0,0 +1,52 @@
+package de.renew.netdoc.io.documentrenderers;
+
+import de.renew.netdoc.model.document.documents.LinearDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkdownDocumentRendererTest {
+    private MarkdownDocumentRenderer renderer;
+
+    private StringWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new MarkdownDocumentRenderer();
+        writer = new StringWriter();
+    }
+
+    @Test
+    void testRenderDocumentStructure() throws Exception {
+        //given
+        LinearDocument document = HtmlDocumentRendererTest.createDocument("Mutex",
+                        "Guards a \\textit{critical_section}.");
+        //when
+        renderer.renderDocument(document, writer);
+        //then
+        assertEquals("# Mutex\n\n"
+                        + "- **Date Creation:** 2006\n\n"
+                        + "## Description\n\n"
+                        + "Guards a *critical\\_section*.\n\n", writer.toString());
+    }
+
+    @Test
+    void testTranslateNestedLists() throws Exception {
+        //when
+        renderer.writeTex("\\begin{itemize}\\item a\n\\begin{enumerate}\\item b\n"
+                        + "\\end{enumerate}\\item \\texttt{c}\\end{itemize}", true, writer);
+        //then
+        assertEquals("- a\n\n    1. b\n\n\n- <code>c</code>\n\n\n", writer.toString());
+    }
+
+    @Test
+    void testInlineTextHasNoParagraphs() throws Exception {
+        //when
+        renderer.writeTex("one\n\n#two", false, writer);
+        //then
+        assertEquals("one \\#two", writer.toString());
+    }
+}
@@ -0,0 +1,122 @@
+package de.renew.netdoc.io.documentupgraders;
+
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.documentformatters.TexExportFormatter;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.managers.SimpleIOManager;
+import de.renew.netdoc.model.doctarget.targets.FileTarget;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TexDocumentUpgraderTest {
+    private static final String HEADER = "% " + DocumentParts.NETDOC_TEX_UNIT_VERSION_PREFIX + "1.0\n";
+
+    private static final String DOCUMENT_0_8 = "% NetDoc IFA drawing documentation file v1.0\n"
+                    + "\\netdoc-begin{netdoc-document}\n"
+                    + "\\netdoc-title{Old}\n"
+                    + "\\netdoc-author{alice}\n"
+                    + "\\netdoc-end{netdoc-document}\n";
+
+    @TempDir
+    Path tempDir;
+
+    private TexDocumentUpgrader upgrader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upgrader = new TexDocumentUpgrader();
+        Files.writeString(tempDir.resolve(DocumentFiles.PACKAGE_ROOT_FILENAME), "");
+    }
+
+    @Test
+    void testGetVersion() {
+        assertEquals("0.8", upgrader.getVersion(DOCUMENT_0_8));
+        assertEquals("0.9", upgrader.getVersion("% NetDoc documentation unit v1.0\r\n"));
+        assertEquals("1.0", upgrader.getVersion(HEADER));
+        assertNull(upgrader.getVersion("no netdoc content"));
+    }
+
+    @Test
+    void testUpgradeStreamsVersion08() throws Exception {
+        //when
+        String upgraded = read(upgrader.upgrade(new StringReader(DOCUMENT_0_8)));
+        //then
+        assertEquals(HEADER + "\\begin{netdocDocument}\n\\begin{netdocMain}\n"
+                        + "\\netdocTitle{Old}\n\\netdocAuthor{alice}\n"
+                        + "\\end{netdocMain}\n\\end{netdocDocument}\n", upgraded);
+        assertEquals(upgraded, upgrader.upgrade(DOCUMENT_0_8));
+    }
+
+    @Test
+    void testUpgradeKeepsCurrentDocument() throws Exception {
+        //given
+        String current = HEADER + "\\begin{netdocDocument}\r\n\\end{netdocDocument}";
+        //when
+        String upgraded = read(upgrader.upgrade(new StringReader(current)));
+        //then
+        assertEquals(current, upgraded);
+        assertSame(current, upgrader.upgrade(current));
+    }
+
+    @Test
+    void testImportUpgradesOnTheFly() throws Exception {
+        //given
+        SimpleIOManager ioManager = createIOManager();
+        //when
+        DocumentPart document = ioManager.importDocumentPartFrom(new StringReader(DOCUMENT_0_8));
+        //then
+        assertEquals("Old", DocumentParts.findPartText(document, DocumentParts.NAME_NETDOC_TITLE));
+    }
+
+    @Test
+    void testLoadPersistsUpgrade() throws Exception {
+        //given
+        Path stored = tempDir.resolve("old" + DocumentFiles.FILENAME_EXTENSION);
+        Files.writeString(stored, DOCUMENT_0_8);
+        SimpleIOManager ioManager = createIOManager();
+        ioManager.setPersistingUpgrades(true);
+        //when
+        ioManager.loadDocumentPart(new FileTarget(tempDir.resolve("old.rnw").toFile()));
+        //then
+        String content = Files.readString(stored);
+        assertFalse(upgrader.isOutdated(content));
+        assertTrue(content.contains("\\netdocAuthor{alice}"));
+    }
+
+    @Test
+    void testLoadKeepsFileWithoutPersisting() throws Exception {
+        //given
+        Path stored = tempDir.resolve("old" + DocumentFiles.FILENAME_EXTENSION);
+        Files.writeString(stored, DOCUMENT_0_8);
+        //when
+        createIOManager().loadDocumentPart(new FileTarget(tempDir.resolve("old.rnw").toFile()));
+        //then
+        assertEquals(DOCUMENT_0_8, Files.readString(stored));
+    }
+
+    private SimpleIOManager createIOManager() {
+        SimpleIOManager returnValue = new SimpleIOManager(new TexExportFormatter(), null, null,
+                        new TexDocumentParser(), DocumentFiles.FILENAME_EXTENSION);
+        returnValue.setDocumentUpgrader(upgrader);
+        return returnValue;
+    }
+
+    private String read(Reader reader) throws Exception {
+        StringBuilder returnValue = new StringBuilder();
+        int c;
+        while ((c = reader.read()) >= 0) {
+            returnValue.append((char) c);
+        }
+        return returnValue.toString();
+    }
+}
@@ -0,0 +1,162 @@
+package de.renew.netdoc.io.metadatastores;
+
+import de.renew.netdoc.io.MetadataField;
+import de.renew.netdoc.io.MetadataRecord;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.TestDocuments;
+import de.renew.netdoc.model.document.documents.LinearDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.SortedMap;
+
+import static de.renew.netdoc.model.document.TestDocuments.author;
+import static de.renew.netdoc.model.document.TestDocuments.definition;
+import static de.renew.netdoc.model.document.TestDocuments.description;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarMetadataStoreTest {
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    @TempDir
+    Path tempDir;
+
+    private ColumnarMetadataStore store;
+
+    private Date now;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new ColumnarMetadataStore(new TexDocumentParser());
+        now = DocumentParts.parseDate(DocumentParts.getDateString(new Date()));
+        store.update(new URL("file:/ws/buffer.doctex"),
+                        createDocument("Buffer", "alice", now, "a bounded buffer"));
+        store.update(new URL("file:/ws/mutex.doctex"),
+                        createDocument("Mutex", "Bob", new Date(now.getTime() - 10 * DAY), ""));
+        store.update(new URL("file:/ws/queue.doctex"),
+                        createDocument("Queue", "alice", new Date(now.getTime() - 2 * DAY), ""));
+    }
+
+    @Test
+    void testWhereEquals() {
+        //when
+        List<MetadataRecord> records = store.query()
+                        .whereEquals(MetadataField.AUTHOR, "alice")
+                        .orderBy(MetadataField.TITLE, true).list();
+        //then
+        assertEquals(2, records.size());
+        assertEquals("Buffer", records.get(0).getText(MetadataField.TITLE));
+        assertEquals("Queue", records.get(1).getText(MetadataField.TITLE));
+    }
+
+    @Test
+    void testWhereSinceAndEmpty() {
+        //when
+        int count = store.query()
+                        .whereSince(MetadataField.DATE_LAST_MODIFIED,
+                                        new Date(now.getTime() - 3 * DAY))
+                        .whereEmpty(MetadataField.DESCRIPTION).count();
+        //then
+        assertEquals(1, count);
+    }
+
+    @Test
+    void testWhereContainsIgnoresCase() {
+        //when
+        List<MetadataRecord> records = store.query()
+                        .whereContains(MetadataField.DESCRIPTION, "BOUNDED").list();
+        //then
+        assertEquals(1, records.size());
+        assertEquals("buffer", records.get(0).getText(MetadataField.TARGET_NAME));
+    }
+
+    @Test
+    void testOrderByDateDescendingWithLimit() {
+        //when
+        List<MetadataRecord> records = store.query()
+                        .orderBy(MetadataField.DATE_LAST_MODIFIED, false)
+                        .limit(2).list();
+        //then
+        assertEquals(2, records.size());
+        assertEquals("Buffer", records.get(0).getText(MetadataField.TITLE));
+        assertEquals(now, records.get(0).getDate(MetadataField.DATE_LAST_MODIFIED));
+        assertEquals("Queue", records.get(1).getText(MetadataField.TITLE));
+    }
+
+    @Test
+    void testGroupAndCountBy() {
+        //when
+        SortedMap<String, Integer> counts = store.query().countBy(MetadataField.AUTHOR);
+        SortedMap<String, List<MetadataRecord>> groups = store.query()
+                        .groupBy(MetadataField.AUTHOR);
+        //then
+        assertEquals(Integer.valueOf(2), counts.get("alice"));
+        assertEquals(Integer.valueOf(1), counts.get("Bob"));
+        assertEquals(2, groups.get("alice").size());
+    }
+
+    @Test
+    void testUpdateAndRemove() throws Exception {
+        //given
+        URL location = new URL("file:/ws/mutex.doctex");
+        //when
+        store.update(location, createDocument("Lock", "alice", now, ""));
+        //then
+        assertEquals(3, store.getDocumentCount());
+        assertEquals(3, store.query().whereEquals(MetadataField.AUTHOR, "alice").count());
+        //when
+        store.remove(location);
+        //then
+        assertEquals(2, store.getDocumentCount());
+        assertEquals(0, store.query().whereEquals(MetadataField.TITLE, "Lock").count());
+    }
+
+    @Test
+    void testUnusedValuesAreDropped() throws Exception {
+        //given
+        URL location = new URL("file:/ws/mutex.doctex");
+        //when
+        store.update(location, createDocument("Mutex", "carol", now, ""));
+        store.update(location, createDocument("Mutex", "dave", now, ""));
+        store.remove(new URL("file:/ws/buffer.doctex"));
+        //then
+        assertEquals(2, store.getValueCount(MetadataField.AUTHOR));
+        assertEquals(0, store.query().whereContains(MetadataField.AUTHOR, "rol").count());
+        assertEquals(1, store.query().whereEquals(MetadataField.AUTHOR, "dave").count());
+        assertTrue(store.query().whereEquals(MetadataField.AUTHOR, "Bob").list().isEmpty());
+        store.update(new URL("file:/ws/stack.doctex"), createDocument("Stack", "erin", now, ""));
+        assertEquals(3, store.getValueCount(MetadataField.AUTHOR));
+        assertEquals("erin", store.query().whereEquals(MetadataField.TITLE, "Stack").list()
+                        .get(0).getText(MetadataField.AUTHOR));
+    }
+
+    @Test
+    void testBuildReadsPackage() throws Exception {
+        //given
+        store.clear();
+        Files.writeString(tempDir.resolve("package-root.doctex"), "");
+        Files.createDirectories(tempDir.resolve("sub"));
+        Files.writeString(tempDir.resolve("sub/net.doctex"),
+                        createDocument("Net", "carol", now, "").toString());
+        //when
+        int count = store.startBuild(tempDir.toFile()).get();
+        //then
+        assertEquals(1, count);
+        assertEquals(1, store.query().whereEquals(MetadataField.AUTHOR, "carol").count());
+    }
+
+    private LinearDocument createDocument(String title, String author,
+                                          Date modified, String description) {
+        return TestDocuments.createDocument(title, author(author),
+                        definition(DocumentParts.NAME_NETDOC_DATE_LAST_MODIFIED,
+                                        DocumentParts.getDateString(modified)),
+                        description(description));
+    }
+}
@@ -0,0 +1,98 @@
+package de.renew.netdoc.io.workspaceexporters;
+
+import de.renew.netdoc.io.DocumentFiles;
+import de.renew.netdoc.io.documentbundles.TexMasterBundle;
+import de.renew.netdoc.io.documentbundles.ZipDocumentBundle;
+import de.renew.netdoc.io.documentformatters.TexExportFormatter;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.managers.SimpleIOManager;
+import de.renew.netdoc.model.document.DocumentParts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static de.renew.netdoc.model.document.TestDocuments.createDocument;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelWorkspaceExporterTest {
+    @TempDir
+    Path tempDir;
+
+    private ParallelWorkspaceExporter exporter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        exporter = new ParallelWorkspaceExporter(new SimpleIOManager(
+                        new TexExportFormatter(), null, null,
+                        new TexDocumentParser(), DocumentFiles.FILENAME_EXTENSION), 3, 2);
+        Files.writeString(tempDir.resolve("package-root.doctex"), "");
+        Files.createDirectories(tempDir.resolve("b"));
+        for (String name : new String[] { "b/queue", "a_net", "b/buffer", "c", "d" }) {
+            Files.writeString(tempDir.resolve(name + ".doctex"),
+                            createDocument("Title " + name).toString());
+        }
+    }
+
+    @Test
+    void testExportToMasterKeepsPathOrder() throws Exception {
+        //given
+        StringWriter writer = new StringWriter();
+        TexMasterBundle bundle = new TexMasterBundle(writer);
+        //when
+        int count = exporter.export(tempDir.toFile(), bundle);
+        bundle.close();
+        //then
+        assertEquals(5, count);
+        assertEquals(5, bundle.getDocumentCount());
+        String master = writer.toString();
+        int previous = -1;
+        for (String name : new String[] { "a\\_net", "buffer", "queue", "c", "d" }) {
+            int index = master.indexOf("\\section{" + name + "}");
+            assertTrue(index > previous, name);
+            previous = index;
+        }
+        assertTrue(master.contains("Title b/buffer"));
+        assertTrue(master.contains(DocumentParts.NAME_NETDOC_TARGET_NAME));
+    }
+
+    @Test
+    void testExportToZip() throws Exception {
+        //given
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ZipDocumentBundle bundle = new ZipDocumentBundle(stream);
+        //when
+        exporter.export(tempDir.toFile(), bundle);
+        bundle.close();
+        //then
+        List<String> entries = new ArrayList<String>();
+        ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(stream.toByteArray()));
+        for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            entries.add(entry.getName());
+        }
+        assertEquals(List.of("a_net.tex", "b/buffer.tex", "b/queue.tex", "c.tex", "d.tex",
+                        ZipDocumentBundle.MASTER_ENTRY_NAME), entries);
+    }
+
+    @Test
+    void testFailingDocumentAbortsExport() throws Exception {
+        //given
+        Files.writeString(tempDir.resolve("broken.doctex"), "\\begin{netdocMain}");
+        //when
+        IOException e = assertThrows(IOException.class,
+                        () -> exporter.export(tempDir.toFile(),
+                                        new TexMasterBundle(new StringWriter())));
+        //then
+        assertTrue(e.getMessage().contains("broken.doctex"));
+    }
+}
\ No newline at end of file
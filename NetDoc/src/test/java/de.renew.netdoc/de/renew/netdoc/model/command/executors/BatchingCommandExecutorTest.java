@@ -0,0 +1,213 @@
+package de.renew.netdoc.model.command.executors;
+
+import de.renew.netdoc.model.command.BatchCommand;
+import de.renew.netdoc.model.command.Command;
+import de.renew.netdoc.model.command.CommandException;
+import de.renew.netdoc.model.command.CommandFuture;
+import de.renew.netdoc.model.command.CommandProgressListener;
+import de.renew.netdoc.model.command.commands.AbstractCommand;
+import de.renew.netdoc.model.command.exceptions.CommandCancelException;
+import de.renew.netdoc.model.event.DeliveryMode;
+import de.renew.netdoc.monitor.NetDocMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchingCommandExecutorTest {
+    private List<String> executed;
+
+    private List<Integer> progress;
+
+    private CountDownLatch finished;
+
+    private CommandProgressListener listener;
+
+    @BeforeEach
+    void setUp() {
+        NetDocMetrics.reset();
+        executed = new ArrayList<String>();
+        progress = new ArrayList<Integer>();
+        finished = new CountDownLatch(1);
+        listener = new CommandProgressListener() {
+            @Override
+            public void progressChanged(CommandFuture future) {
+                progress.add(future.getCompletedWork());
+            }
+
+            @Override
+            public void commandFinished(CommandFuture future) {
+                assertTrue(future.isDone());
+                finished.countDown();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        NetDocMetrics.reset();
+    }
+
+    @Test
+    void testExecutesStepsInBatches() throws Exception {
+        //given
+        BatchingCommandExecutor executor = new BatchingCommandExecutor(
+                        DeliveryMode.SYNCHRONOUS, DeliveryMode.SYNCHRONOUS, 2);
+        //when
+        CommandFuture future = executor.submit(new Batch(new Step("a"),
+                        new Step("b"), new Step("c"), new Step("d"), new Step("e")),
+                        listener);
+        //then
+        assertTrue(future.isDone());
+        assertNull(future.get());
+        assertEquals(List.of("a", "b", "c", "d", "e"), executed);
+        assertEquals(List.of(2, 4, 5), progress);
+        assertEquals(5, future.getTotalWork());
+        assertEquals(0, finished.getCount());
+    }
+
+    @Test
+    void testCancelStopsBeforeNextStep() throws Exception {
+        //given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Step blocking = new Step("b") {
+            @Override
+            protected void executeImpl() throws CommandException {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new CommandException(this, e);
+                }
+                super.executeImpl();
+            }
+        };
+        BatchingCommandExecutor executor = new BatchingCommandExecutor(
+                        DeliveryMode.BACKGROUND, DeliveryMode.SYNCHRONOUS, 1);
+        CommandFuture future = executor.submit(new Batch(new Step("a"),
+                        blocking, new Step("c")), listener);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        //when
+        boolean cancelled = future.cancel(false);
+        release.countDown();
+        //then
+        assertTrue(cancelled);
+        assertTrue(future.isCancelled());
+        assertThrows(CancellationException.class, () -> future.get());
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a", "b"), executed);
+        assertFalse(future.cancel(false));
+    }
+
+    @Test
+    void testFailedStepFailsCommand() {
+        //given
+        Step failing = new Step("b") {
+            @Override
+            protected void executeImpl() throws CommandException {
+                throw new CommandException(this, "failed");
+            }
+        };
+        BatchingCommandExecutor executor = new BatchingCommandExecutor(
+                        DeliveryMode.SYNCHRONOUS, DeliveryMode.SYNCHRONOUS);
+        //when
+        CommandFuture future = executor.submit(new Batch(new Step("a"),
+                        failing, new Step("c")), null);
+        //then
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                        () -> future.get());
+        assertSame(failing, ((CommandException) exception.getCause()).getCommand());
+        assertEquals(List.of("a"), executed);
+        assertEquals(1, future.getCompletedWork());
+    }
+
+    @Test
+    void testCancelledStepCancelsCommand() {
+        //given
+        Step declined = new Step("b") {
+            @Override
+            protected void executeImpl() throws CommandException {
+                throw new CommandCancelException(this);
+            }
+        };
+        BatchingCommandExecutor executor = new BatchingCommandExecutor(
+                        DeliveryMode.SYNCHRONOUS, DeliveryMode.SYNCHRONOUS);
+        //when
+        CommandFuture future = executor.submit(new Batch(declined, new Step("c")),
+                        listener);
+        //then
+        assertTrue(future.isCancelled());
+        assertTrue(executed.isEmpty());
+        assertEquals(0, finished.getCount());
+    }
+
+    @Test
+    void testRecordsLatencyPerCommand() throws Exception {
+        //given
+        BatchingCommandExecutor executor = new BatchingCommandExecutor(
+                        DeliveryMode.SYNCHRONOUS, DeliveryMode.SYNCHRONOUS);
+        //when
+        executor.submit(new Batch(new Step("a"), new Step("a"), new Step("b")), null)
+                        .get();
+        executor.submit(new Step("single"), null).get();
+        //then
+        assertEquals(2, NetDocMetrics.getCommandLatency("a").getCount());
+        assertEquals(1, NetDocMetrics.getCommandLatency("b").getCount());
+        assertEquals(1, NetDocMetrics.getCommandLatency("batch").getCount());
+        assertEquals(1, NetDocMetrics.getCommandLatency("single").getCount());
+        assertEquals(List.of("a", "b", "batch", "single"),
+                        new ArrayList<String>(NetDocMetrics.getCommandLatencies().keySet()));
+    }
+
+    private class Step extends AbstractCommand {
+        private final String name;
+
+        Step(String name) {
+            this.name = name;
+        }
+
+        @Override
+        protected void executeImpl() throws CommandException {
+            executed.add(name);
+        }
+
+        @Override
+        protected String getNameImpl() {
+            return name;
+        }
+    }
+
+    private static class Batch extends AbstractCommand implements BatchCommand {
+        private final Command[] steps;
+
+        Batch(Command... steps) {
+            this.steps = steps;
+        }
+
+        @Override
+        public Command[] createSubCommands() {
+            return steps.clone();
+        }
+
+        @Override
+        protected void executeImpl() throws CommandException {
+            for (Command step : steps) {
+                step.execute();
+            }
+        }
+
+        @Override
+        protected String getNameImpl() {
+            return "batch";
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package de.renew.netdoc.model.container.managers;
+
+import de.renew.netdoc.io.documentindexes.InvertedDocumentIndex;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.model.command.exceptions.CommandCancelException;
+import de.renew.netdoc.model.container.DocumentContainer;
+import de.renew.netdoc.model.container.commands.ManagerCommands;
+import de.renew.netdoc.model.container.event.DocumentContainerEvent;
+import de.renew.netdoc.model.container.event.DocumentContainerListener;
+import de.renew.netdoc.model.container.policies.FixedAnswerPolicy;
+import de.renew.netdoc.model.doctarget.targets.FileTarget;
+import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.event.DeliveryMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessContainerManagerTest {
+    @TempDir
+    Path tempDir;
+
+    private HeadlessContainerManager manager;
+
+    private List<Object> events;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(tempDir.resolve("package-root.doctex"), "");
+        manager = new HeadlessContainerManager(FixedAnswerPolicy.SAVE);
+        events = new ArrayList<Object>();
+        manager.addDocumentContainerListener(new RecordingListener());
+        manager.addDocumentChangeListener(event -> events.add("changed"));
+    }
+
+    @Test
+    void testOpenDocumentByTarget() throws Exception {
+        //given
+        FileTarget target = new FileTarget(tempDir.resolve("net.rnw").toFile());
+        //when
+        DocumentContainer container = manager.openDocument(target);
+        //then
+        Document document = manager.getCurrentDocument();
+        assertNotNull(document);
+        assertSame(target, manager.getCurrentTarget());
+        assertSame(container, manager.getDocumentContainer(document));
+        assertEquals(List.of(DocumentContainerEvent.CONTAINER_OPENED,
+                        DocumentContainerEvent.DOCUMENT_OPENED), events);
+        assertSame(container, manager.openDocument(target));
+        assertEquals(1, manager.getDocumentContainers().size());
+    }
+
+    @Test
+    void testChangeEventsAreForwarded() throws Exception {
+        //given
+        Document document = openDocument("net");
+        events.clear();
+        //when
+        getTitlePart(document).setText("Changed");
+        //then
+        assertTrue(events.contains("changed"));
+    }
+
+    @Test
+    void testCloseCommandSavesModifiedDocument() throws Exception {
+        //given
+        Document document = openDocument("net");
+        document.setModified(true);
+        events.clear();
+        //when
+        new ManagerCommands.CloseDocument(manager, document).execute();
+        //then
+        File saved = tempDir.resolve("net.doctex").toFile();
+        assertTrue(saved.isFile());
+        assertTrue(Files.readString(saved.toPath()).contains("Saved net"));
+        assertNull(manager.getDocumentContainer(document));
+        assertNull(manager.getCurrentDocument());
+        assertEquals(List.of(DocumentContainerEvent.DOCUMENT_CLOSING,
+                        DocumentContainerEvent.DOCUMENT_CLOSED,
+                        DocumentContainerEvent.CONTAINER_CLOSED), events);
+    }
+
+    @Test
+    void testCancelPolicyKeepsDocumentOpen() throws Exception {
+        //given
+        manager.setCloseRequestPolicy(FixedAnswerPolicy.CANCEL);
+        Document document = openDocument("net");
+        document.setModified(true);
+        //when
+        assertThrows(CommandCancelException.class,
+                        () -> ManagerCommands.getCloseCurrentDocument(manager).execute());
+        //then
+        assertNotNull(manager.getDocumentContainer(document));
+        assertFalse(tempDir.resolve("net.doctex").toFile().exists());
+    }
+
+    @Test
+    void testDiscardPolicyClosesAllWithoutSaving() throws Exception {
+        //given
+        manager.setCloseRequestPolicy(FixedAnswerPolicy.DISCARD);
+        openDocument("a").setModified(true);
+        openDocument("b").setModified(true);
+        //when
+        manager.close(false);
+        //then
+        assertTrue(manager.getDocumentContainers().isEmpty());
+        assertTrue(manager.isClosed());
+        assertFalse(tempDir.resolve("a.doctex").toFile().exists());
+        assertFalse(tempDir.resolve("b.doctex").toFile().exists());
+    }
+
+    @Test
+    void testOpenLoadsExistingDocument() throws Exception {
+        //given
+        Document document = openDocument("net");
+        manager.getIOManager().saveDocumentPart(document);
+        manager.closeDocument(document, true);
+        //when
+        manager.openDocument(new FileTarget(tempDir.resolve("net.rnw").toFile()));
+        //then
+        Document loaded = manager.getCurrentDocument();
+        assertNotSame(document, loaded);
+        assertEquals("Saved net", DocumentParts.findPartText(loaded,
+                        DocumentParts.NAME_NETDOC_TITLE).trim());
+    }
+
+    @Test
+    void testIndexFollowsSavedDocumentsOnly() throws Exception {
+        //given
+        manager = new HeadlessContainerManager(FixedAnswerPolicy.DISCARD) {
+            @Override
+            protected DeliveryMode getIndexDeliveryMode() {
+                return DeliveryMode.SYNCHRONOUS;
+            }
+        };
+        manager.setDocumentIndex(new InvertedDocumentIndex(new TexDocumentParser()));
+        Document document = openDocument("net");
+        getTitlePart(document).setText("stored");
+        manager.getIOManager().saveDocumentPart(document);
+        //when
+        getTitlePart(document).setText("edited");
+        document.setModified(true);
+        new ManagerCommands.CloseDocument(manager, document).execute();
+        //then
+        assertEquals(1, manager.searchDocuments("stored", 10).size());
+        assertTrue(manager.searchDocuments("edited", 10).isEmpty());
+    }
+
+    private Document openDocument(String name) throws Exception {
+        manager.openDocument(new FileTarget(tempDir.resolve(name + ".rnw").toFile()));
+        Document returnValue = manager.getCurrentDocument();
+        getTitlePart(returnValue).setText("Saved " + name);
+        return returnValue;
+    }
+
+    private DocumentPart getTitlePart(Document document) {
+        return document.getPart(DocumentParts.NAME_NETDOC_MAIN)
+                        .getPart(DocumentParts.NAME_NETDOC_TITLE);
+    }
+
+    private class RecordingListener implements DocumentContainerListener {
+        @Override
+        public void containerClosed(DocumentContainerEvent event) {
+            events.add(event.getType());
+        }
+
+        @Override
+        public void containerClosing(DocumentContainerEvent event) {
+            events.add(event.getType());
+        }
+
+        @Override
+        public void containerOpened(DocumentContainerEvent event) {
+            events.add(event.getType());
+        }
+
+        @Override
+        public void documentClosed(DocumentContainerEvent event) {
+            events.add(event.getType());
+        }
+
+        @Override
+        public void documentClosing(DocumentContainerEvent event) {
+            events.add(event.getType());
+        }
+
+        @Override
+        public void documentOpened(DocumentContainerEvent event) {
+            events.add(event.getType());
+        }
+    }
+}
\ No newline at end of file
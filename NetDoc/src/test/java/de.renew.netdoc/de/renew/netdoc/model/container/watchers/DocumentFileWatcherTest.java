@@ -0,0 +1,191 @@
+package de.renew.netdoc.model.container.watchers;
+
+import de.renew.netdoc.model.container.event.ExternalChangeEvent;
+import de.renew.netdoc.model.container.event.ExternalChangeListener;
+import de.renew.netdoc.model.container.managers.HeadlessContainerManager;
+import de.renew.netdoc.model.container.policies.FixedAnswerPolicy;
+import de.renew.netdoc.model.doctarget.targets.FileTarget;
+import de.renew.netdoc.model.document.Document;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.parts.DocumentPartWrapper;
+import de.renew.netdoc.model.event.DeliveryMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentFileWatcherTest {
+    @TempDir
+    Path tempDir;
+
+    private HeadlessContainerManager manager;
+
+    private DocumentFileWatcher watcher;
+
+    private List<String> events;
+
+    private CountDownLatch notified;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(tempDir.resolve("package-root.doctex"), "");
+        manager = new HeadlessContainerManager(FixedAnswerPolicy.SAVE);
+        watcher = new DocumentFileWatcher(manager.getIOManager(), DeliveryMode.SYNCHRONOUS);
+        manager.addDocumentContainerListener(watcher);
+        events = new CopyOnWriteArrayList<String>();
+        notified = new CountDownLatch(1);
+        watcher.addExternalChangeListener(new ExternalChangeListener() {
+            @Override
+            public void documentReloaded(ExternalChangeEvent event) {
+                events.add("reloaded");
+                notified.countDown();
+            }
+
+            @Override
+            public void changeConflicted(ExternalChangeEvent event) {
+                events.add("conflicted");
+                notified.countDown();
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.close();
+    }
+
+    @Test
+    void testExternalChangeIsApplied() throws Exception {
+        //given
+        Document document = openSavedDocument("net");
+        DocumentPart main = document.getPart(DocumentParts.NAME_NETDOC_MAIN);
+        Path file = tempDir.resolve("net.doctex");
+        //when
+        Files.writeString(file, Files.readString(file).replace("Saved net", "External"));
+        watcher.check(file);
+        //then
+        assertTrue(notified.await(30, TimeUnit.SECONDS));
+        assertEquals(List.of("reloaded"), events);
+        assertEquals("External", getTitlePart(document).getText());
+        assertSame(main, document.getPart(DocumentParts.NAME_NETDOC_MAIN));
+        assertFalse(document.isModified());
+    }
+
+    @Test
+    void testModifiedDocumentConflicts() throws Exception {
+        //given
+        Document document = openSavedDocument("net");
+        getTitlePart(document).setText("Local");
+        Path file = tempDir.resolve("net.doctex");
+        Files.writeString(file, Files.readString(file).replace("Saved net", "External"));
+        //when
+        watcher.check(file);
+        //then
+        assertTrue(notified.await(30, TimeUnit.SECONDS));
+        assertEquals(List.of("conflicted"), events);
+        assertEquals("Local", getTitlePart(document).getText());
+        assertTrue(document.isModified());
+    }
+
+    @Test
+    void testOwnSaveIsIgnored() throws Exception {
+        //given
+        Document document = openSavedDocument("net");
+        getTitlePart(document).setText("Saved again");
+        //when
+        manager.getIOManager().saveDocumentPart(document);
+        watcher.check(tempDir.resolve("net.doctex"));
+        //then
+        assertFalse(notified.await(1, TimeUnit.SECONDS));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void testOwnSaveOfChangedStructureIsIgnored() throws Exception {
+        //given
+        Document document = openSavedDocument("net");
+        document.getPart(DocumentParts.NAME_NETDOC_MAIN)
+                        .removePart(DocumentParts.NAME_NETDOC_AUTHOR);
+        //when
+        manager.getIOManager().saveDocumentPart(document);
+        watcher.check(tempDir.resolve("net.doctex"));
+        //then
+        assertFalse(notified.await(1, TimeUnit.SECONDS));
+        assertTrue(events.isEmpty());
+        assertTrue(document.isModified());
+    }
+
+    @Test
+    void testReloadReplacesDocumentOfDifferentStructure() throws Exception {
+        //given
+        Document document = openSavedDocument("net");
+        Document external = (Document) document.clone();
+        getTitlePart(external).setText("External");
+        getTitlePart(document).setText("Local");
+        ExternalChangeEvent event = new ExternalChangeEvent(document,
+                        tempDir.resolve("net.doctex").toUri().toURL(),
+                        new DocumentPartWrapper(external));
+        //when
+        watcher.reload(event);
+        //then
+        assertEquals(List.of("reloaded"), events);
+        assertEquals("External", getTitlePart(document).getText());
+        assertFalse(document.isModified());
+    }
+
+    @Test
+    void testChangeIsDetectedWithoutPolling() throws Exception {
+        //given
+        Document document = openSavedDocument("net");
+        Path file = tempDir.resolve("net.doctex");
+        //when
+        Files.writeString(file, Files.readString(file).replace("Saved net", "External"));
+        //then
+        assertTrue(notified.await(30, TimeUnit.SECONDS));
+        assertEquals("External", getTitlePart(document).getText());
+    }
+
+    @Test
+    void testApplyDifferencesReplacesOnlyChangedParts() throws Exception {
+        //given
+        Document document = openSavedDocument("net");
+        Document changed = (Document) document.clone();
+        DocumentPart author = document.getPart(DocumentParts.NAME_NETDOC_MAIN)
+                        .getPart(DocumentParts.NAME_NETDOC_AUTHOR);
+        getTitlePart(changed).setText("Changed");
+        //when
+        int count = DocumentParts.applyDifferences(document, changed);
+        //then
+        assertEquals(1, count);
+        assertEquals("Changed", getTitlePart(document).getText());
+        assertSame(author, document.getPart(DocumentParts.NAME_NETDOC_MAIN)
+                        .getPart(DocumentParts.NAME_NETDOC_AUTHOR));
+        assertEquals(0, DocumentParts.applyDifferences(document, changed));
+    }
+
+    private Document openSavedDocument(String name) throws Exception {
+        manager.openDocument(new FileTarget(tempDir.resolve(name + ".rnw").toFile()));
+        Document returnValue = manager.getCurrentDocument();
+        getTitlePart(returnValue).setText("Saved " + name);
+        manager.getIOManager().saveDocumentPart(returnValue);
+        returnValue.setModified(false);
+        watcher.unwatch(returnValue);
+        watcher.watch(returnValue);
+        return returnValue;
+    }
+
+    private DocumentPart getTitlePart(Document document) {
+        return document.getPart(DocumentParts.NAME_NETDOC_MAIN)
+                        .getPart(DocumentParts.NAME_NETDOC_TITLE);
+    }
+}
@@ -0,0 +1,43 @@
+package de.renew.netdoc.model.document;
+
+import de.renew.netdoc.model.document.documents.LinearDocument;
+import de.renew.netdoc.model.document.documents.linear.TexDocument;
+import de.renew.netdoc.model.document.parts.linear.tex.TexBlockDefinitionPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+
+/**
+ * Fixture creating the NetDoc documents used by the tests.
+ */
+public final class TestDocuments {
+
+    private TestDocuments() {
+    }
+
+    /**
+     * Creates a document whose main block holds the specified title followed
+     * by the specified parts.
+     */
+    public static LinearDocument createDocument(String title, DocumentPart... parts) {
+        TexBlockDefinitionPart main = new TexBlockDefinitionPart(
+                        DocumentParts.NAME_NETDOC_MAIN);
+        main.appendPart(new TexDefinitionPart(DocumentParts.NAME_NETDOC_TITLE, title));
+        for (DocumentPart part : parts) {
+            main.appendPart(part);
+        }
+        LinearDocument returnValue = new TexDocument();
+        returnValue.appendPart(main);
+        return returnValue;
+    }
+
+    public static DocumentPart author(String author) {
+        return new TexDefinitionPart(DocumentParts.NAME_NETDOC_AUTHOR, author);
+    }
+
+    public static DocumentPart description(String description) {
+        return new TexBlockDefinitionPart(DocumentParts.NAME_NETDOC_DESCRIPTION, description);
+    }
+
+    public static DocumentPart definition(String name, String value) {
+        return new TexDefinitionPart(name, value);
+    }
+}
@@ -0,0 +1,105 @@
+package de.renew.netdoc.model.document.event;
+
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.documents.linear.SimpleLinearDocument;
+import de.renew.netdoc.model.document.parts.linear.LinearContainerDocumentPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartSubscriptionsTest {
+    private SimpleLinearDocument document;
+
+    private LinearContainerDocumentPart main;
+
+    private TexDefinitionPart title;
+
+    private TexDefinitionPart author;
+
+    private PartSubscriptions subscriptions;
+
+    private List<String> texts;
+
+    private TextChangeListener recorder;
+
+    @BeforeEach
+    void setUp() {
+        document = new SimpleLinearDocument();
+        main = new LinearContainerDocumentPart(DocumentParts.NAME_NETDOC_MAIN);
+        title = new TexDefinitionPart(DocumentParts.NAME_NETDOC_TITLE, "old");
+        author = new TexDefinitionPart(DocumentParts.NAME_NETDOC_AUTHOR);
+        main.addPartAt(0, title);
+        main.addPartAt(1, author);
+        document.addPartAt(0, main);
+        subscriptions = new PartSubscriptions(document);
+        texts = new ArrayList<String>();
+        recorder = event -> texts.add(event.getNewText());
+    }
+
+    @Test
+    void testOnlySubscribedPartIsRouted() {
+        //given
+        subscriptions.addTextChangeListener(DocumentParts.NAME_NETDOC_TITLE,
+                        recorder);
+        //when
+        author.setText("someone");
+        title.setText("new");
+        //then
+        assertEquals(List.of("new"), texts);
+    }
+
+    @Test
+    void testPathResolvesSubParts() {
+        //given
+        subscriptions.addTextChangeListener(DocumentParts.NAME_NETDOC_MAIN
+                        + DocumentParts.PATH_SEPARATOR
+                        + DocumentParts.NAME_NETDOC_AUTHOR, recorder);
+        //when
+        author.setText("someone");
+        //then
+        assertSame(author, subscriptions.getPart("netdocMain/netdocAuthor"));
+        assertEquals(List.of("someone"), texts);
+    }
+
+    @Test
+    void testReplacedPartIsRebound() {
+        //given
+        subscriptions.addTextChangeListener(DocumentParts.NAME_NETDOC_TITLE,
+                        recorder);
+        TexDefinitionPart replacement = new TexDefinitionPart(
+                        DocumentParts.NAME_NETDOC_TITLE, "replaced");
+        //when
+        main.setPart(replacement);
+        title.setText("stale");
+        replacement.setText("edited");
+        //then
+        assertEquals(List.of("replaced", "edited"), texts);
+        assertSame(replacement,
+                        subscriptions.getPart(DocumentParts.NAME_NETDOC_TITLE));
+    }
+
+    @Test
+    void testRemoveAndDisposeDetachFromParts() {
+        //given
+        int listenerCount = Collections.list(title.getTextChangeListeners())
+                        .size();
+        subscriptions.addTextChangeListener(DocumentParts.NAME_NETDOC_TITLE,
+                        recorder);
+        //when
+        subscriptions.removeTextChangeListener(
+                        DocumentParts.NAME_NETDOC_TITLE, recorder);
+        title.setText("new");
+        subscriptions.dispose();
+        //then
+        assertTrue(texts.isEmpty());
+        assertEquals(0, subscriptions.getSubscriptionCount());
+        assertEquals(listenerCount,
+                        Collections.list(title.getTextChangeListeners()).size());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package de.renew.netdoc.model.document.histories;
+
+import de.renew.netdoc.model.document.documents.linear.SimpleLinearDocument;
+import de.renew.netdoc.model.document.parts.linear.LinearContainerDocumentPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedDocumentHistoryTest {
+    private SimpleLinearDocument document;
+
+    private LinearContainerDocumentPart main;
+
+    private TexDefinitionPart title;
+
+    private TexDefinitionPart author;
+
+    @BeforeEach
+    void setUp() {
+        document = new SimpleLinearDocument();
+        main = new LinearContainerDocumentPart("netdocMain");
+        title = new TexDefinitionPart("netdocTitle", "");
+        author = new TexDefinitionPart("netdocAuthor", "");
+        main.addPartAt(0, title);
+        main.addPartAt(1, author);
+        document.addPartAt(0, main);
+    }
+
+    @Test
+    void testTypingBurstIsUndoneAsOneEdit() {
+        //given
+        BoundedDocumentHistory history = new BoundedDocumentHistory(document,
+                        1024L, 60000L);
+        //when
+        title.setText("N");
+        title.setText("Ne");
+        title.setText("Net");
+        author.setText("someone");
+        history.undo();
+        //then
+        assertEquals("", author.getText());
+        assertEquals(1, history.getUndoCount());
+        //when
+        history.undo();
+        //then
+        assertEquals("", title.getText());
+        assertFalse(history.canUndo());
+        //when
+        history.redo();
+        history.redo();
+        //then
+        assertEquals("Net", title.getText());
+        assertEquals("someone", author.getText());
+    }
+
+    @Test
+    void testDeltaIsAppliedToCurrentText() {
+        //given
+        title.setText("NetDoc title");
+        BoundedDocumentHistory history = new BoundedDocumentHistory(document,
+                        1024L, 0L);
+        //when
+        title.setText("NetDoc long title");
+        history.undo();
+        //then
+        assertEquals("NetDoc title", title.getText());
+        assertEquals(1, history.getRedoCount());
+    }
+
+    @Test
+    void testStructureChangesAreUndone() {
+        //given
+        BoundedDocumentHistory history = new BoundedDocumentHistory(document);
+        TexDefinitionPart replacement = new TexDefinitionPart("netdocTitle",
+                        "replaced");
+        //when
+        main.setPart(replacement);
+        main.removePart("netdocAuthor");
+        history.undo();
+        history.undo();
+        //then
+        assertSame(title, main.getPart("netdocTitle"));
+        assertSame(author, main.getPartAt(1));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    void testSuspendedChangesAreNotRecorded() {
+        //given
+        BoundedDocumentHistory history = new BoundedDocumentHistory(document,
+                        1024L, 0L);
+        title.setText("Net");
+        TexDefinitionPart copy = new TexDefinitionPart("netdocAuthor", "");
+        //when
+        history.setRecording(false);
+        main.setPart(copy);
+        main.setPart(author);
+        history.setRecording(true);
+        history.undo();
+        //then
+        assertEquals("", title.getText());
+        assertSame(author, main.getPartAt(1));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    void testOldestEditsAreEvictedBeyondBudget() {
+        //given
+        BoundedDocumentHistory history = new BoundedDocumentHistory(document,
+                        200L, 0L);
+        //when
+        for (int i = 0; i < 20; i++) {
+            author.setText("author " + i);
+        }
+        //then
+        assertTrue(history.getByteCount() <= 200L);
+        assertTrue(history.getUndoCount() < 20);
+        //when
+        while (history.canUndo()) {
+            history.undo();
+        }
+        //then
+        assertNotEquals("", author.getText());
+    }
+
+    @Test
+    void testNewEditClearsRedo() {
+        //given
+        BoundedDocumentHistory history = new BoundedDocumentHistory(document,
+                        1024L, 0L);
+        title.setText("first");
+        history.undo();
+        //when
+        title.setText("second");
+        //then
+        assertFalse(history.canRedo());
+        assertEquals(1, history.getUndoCount());
+    }
+}
\ No newline at end of file
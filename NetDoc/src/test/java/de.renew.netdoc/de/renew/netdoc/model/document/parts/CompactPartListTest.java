@@ -0,0 +1,64 @@
+package de.renew.netdoc.model.document.parts;
+
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.parts.linear.TextDocumentPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactPartListTest {
+    private CompactPartList list;
+
+    private DocumentPart first;
+
+    private DocumentPart second;
+
+    private DocumentPart third;
+
+    @BeforeEach
+    void setUp() {
+        list = new CompactPartList();
+        first = new TextDocumentPart("first");
+        second = new TextDocumentPart("second");
+        third = new TextDocumentPart("third");
+    }
+
+    @Test
+    void testAddKeepsOrder() {
+        //when
+        list.add(second);
+        list.add(0, first);
+        list.add(2, third);
+        //then
+        assertEquals(List.of(first, second, third), list);
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    void testRemoveAndSet() {
+        //given
+        list.addAll(List.of(first, second, third));
+        //when
+        DocumentPart removed = list.remove(1);
+        DocumentPart replaced = list.set(1, second);
+        //then
+        assertSame(second, removed);
+        assertSame(third, replaced);
+        assertEquals(List.of(first, second), list);
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        //given
+        list.add(first);
+        //then
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, second));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        list.remove(0);
+        assertTrue(list.isEmpty());
+    }
+}
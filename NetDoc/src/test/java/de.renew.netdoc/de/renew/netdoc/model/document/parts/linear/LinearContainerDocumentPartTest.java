@@ -9,6 +9,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.List;
@@ -112,6 +116,27 @@ class LinearContainerDocumentPartTest {
         assertTrue(document.isModified());
     }
 
+    @Test
+    void testDeserialisedPartObservesAllSubParts() throws Exception {
+        //given
+        document.appendPart(new TextDocumentPart("first", "a"));
+        document.appendPart(new TextDocumentPart("second", "b"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(document);
+        }
+        LinearContainerDocumentPart copy;
+        try (ObjectInputStream in = new ObjectInputStream(
+                        new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (LinearContainerDocumentPart) in.readObject();
+        }
+        //when
+        copy.getPartAt(0).setText("changed");
+        //then
+        assertEquals(2, copy.getPartCount());
+        assertTrue(copy.isModified());
+    }
+
     private DocumentPart mockPart(String name) {
         DocumentPart part = Mockito.mock(DocumentPart.class);
         Mockito.when(part.getStructureChangeListeners()).thenReturn((Enumeration<StructureChangeListener>) Mockito.mock(Enumeration.class));
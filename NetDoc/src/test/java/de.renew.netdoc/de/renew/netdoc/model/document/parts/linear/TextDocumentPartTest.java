@@ -1,10 +1,17 @@
 package de.renew.netdoc.model.document.parts.linear;
 
+import de.renew.netdoc.model.document.DocumentParts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class TextDocumentPartTest {
     private static final String NAME = "name";
@@ -35,4 +42,25 @@ class TextDocumentPartTest {
         assertFalse(isDirty);
     }
 
+    @Test
+    void testVocabularyNameIsShared() throws Exception {
+        //given
+        TextDocumentPart author = new TextDocumentPart(
+                        new String(DocumentParts.NAME_NETDOC_AUTHOR), TEXT);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(author);
+        }
+        //when
+        TextDocumentPart copy;
+        try (ObjectInputStream in = new ObjectInputStream(
+                        new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (TextDocumentPart) in.readObject();
+        }
+        //then
+        assertSame(DocumentParts.NAME_NETDOC_AUTHOR, author.getName());
+        assertSame(DocumentParts.NAME_NETDOC_AUTHOR, copy.getName());
+        assertSame(NAME, new TextDocumentPart(NAME).getName());
+    }
+
 }
\ No newline at end of file
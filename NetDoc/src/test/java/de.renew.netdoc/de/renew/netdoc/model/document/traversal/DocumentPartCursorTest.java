@@ -0,0 +1,120 @@
+package de.renew.netdoc.model.document.traversal;
+
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.documents.LinearDocument;
+import de.renew.netdoc.model.document.documents.linear.TexDocument;
+import de.renew.netdoc.model.document.parts.linear.tex.TexBlockDefinitionPart;
+import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentPartCursorTest {
+    private LinearDocument document;
+
+    @BeforeEach
+    void setUp() {
+        TexBlockDefinitionPart description = new TexBlockDefinitionPart(
+                        DocumentParts.NAME_NETDOC_DESCRIPTION);
+        description.appendPart(new TexDefinitionPart("item", "first"));
+        TexBlockDefinitionPart main = new TexBlockDefinitionPart(
+                        DocumentParts.NAME_NETDOC_MAIN);
+        main.appendPart(new TexDefinitionPart(DocumentParts.NAME_NETDOC_TITLE, "Mutex"));
+        main.appendPart(description);
+        main.appendPart(new TexDefinitionPart(DocumentParts.NAME_NETDOC_AUTHOR, "N.N."));
+        document = new TexDocument();
+        document.appendPart(main);
+    }
+
+    @Test
+    void testCursorMovesInPreOrder() {
+        //given
+        DocumentPartCursor cursor = new DocumentPartCursor(document);
+        List<String> visited = new ArrayList<String>();
+        //when
+        while (cursor.next()) {
+            visited.add(cursor.getDepth() + ":" + cursor.getName());
+        }
+        //then
+        assertEquals(List.of("0:" + document.getName(),
+                        "1:" + DocumentParts.NAME_NETDOC_MAIN,
+                        "2:" + DocumentParts.NAME_NETDOC_TITLE,
+                        "2:" + DocumentParts.NAME_NETDOC_DESCRIPTION, "3:item",
+                        "2:" + DocumentParts.NAME_NETDOC_AUTHOR), visited);
+        assertNull(cursor.getPart());
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void testSkipSubParts() {
+        //given
+        DocumentPartCursor cursor = new DocumentPartCursor(document);
+        List<String> visited = new ArrayList<String>();
+        //when
+        while (cursor.next()) {
+            visited.add(cursor.getName());
+            if (DocumentParts.NAME_NETDOC_DESCRIPTION.equals(cursor.getName())) {
+                cursor.skipSubParts();
+            }
+        }
+        //then
+        assertFalse(visited.contains("item"));
+        assertEquals(DocumentParts.NAME_NETDOC_AUTHOR, visited.get(visited.size() - 1));
+    }
+
+    @Test
+    void testResetReusesCursor() {
+        //given
+        DocumentPartCursor cursor = new DocumentPartCursor(document);
+        cursor.next();
+        DocumentPart author = document.getPart(DocumentParts.NAME_NETDOC_AUTHOR);
+        //when
+        cursor.reset(author);
+        //then
+        assertTrue(cursor.next());
+        assertSame(author, cursor.getPart());
+        assertEquals("N.N.", cursor.getText());
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void testWalkEntersAndLeavesParts() {
+        //given
+        List<String> events = new ArrayList<String>();
+        //when
+        DocumentTraversal.walk(document.getPart(DocumentParts.NAME_NETDOC_DESCRIPTION),
+                        new DocumentPartVisitor() {
+                            @Override
+                            public boolean enterPart(DocumentPart part, int depth) {
+                                events.add("enter " + part.getName());
+                                return true;
+                            }
+
+                            @Override
+                            public void leavePart(DocumentPart part, int depth) {
+                                events.add("leave " + part.getName());
+                            }
+                        });
+        //then
+        assertEquals(List.of("enter " + DocumentParts.NAME_NETDOC_DESCRIPTION,
+                        "enter item", "leave item",
+                        "leave " + DocumentParts.NAME_NETDOC_DESCRIPTION), events);
+    }
+
+    @Test
+    void testFindAndCollectParts() {
+        //when
+        List<DocumentPart> items = new ArrayList<DocumentPart>();
+        int count = DocumentTraversal.collectParts(document, "item", items);
+        //then
+        assertEquals(1, count);
+        assertSame(items.get(0), DocumentTraversal.findPart(document, "item"));
+        assertSame(items.get(0), document.getPart("item"));
+        assertNull(DocumentTraversal.findPart(document, "missing"));
+    }
+}
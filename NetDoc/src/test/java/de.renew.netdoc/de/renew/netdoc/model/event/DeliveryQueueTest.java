@@ -0,0 +1,124 @@
+package de.renew.netdoc.model.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.EventQueue;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryQueueTest {
+    private static final EventHandler<List<String>, String> ADD = (listener, event) -> listener.add(event);
+
+    private final List<String> received = new CopyOnWriteArrayList<String>();
+
+    @Test
+    void testSynchronousDeliversAtOnce() {
+        //given
+        DeliveryQueue<List<String>> queue = new DeliveryQueue<List<String>>(
+                        received, DeliveryMode.SYNCHRONOUS);
+        //when
+        queue.post(ADD, "a", "key");
+        //then
+        assertEquals(List.of("a"), received);
+        assertEquals(0, queue.getPendingCount());
+    }
+
+    @Test
+    void testBackgroundDeliversInOrder() throws Exception {
+        //given
+        CountDownLatch done = new CountDownLatch(1);
+        DeliveryQueue<List<String>> queue = new DeliveryQueue<List<String>>(
+                        received, DeliveryMode.BACKGROUND);
+        //when
+        for (int i = 0; i < 100; i++) {
+            queue.post(ADD, String.valueOf(i), null);
+        }
+        queue.post((listener, event) -> done.countDown(), "end", null);
+        //then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(100, received.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), received.get(i));
+        }
+    }
+
+    @Test
+    void testEventDispatchThreadCoalescesSameSource() throws Exception {
+        //given
+        DeliveryQueue<List<String>> queue = new DeliveryQueue<List<String>>(
+                        received, DeliveryMode.EVENT_DISPATCH_THREAD);
+        //when
+        EventQueue.invokeAndWait(() -> {
+            queue.post(ADD, "first", "document");
+            queue.post(ADD, "other", "other document");
+            queue.post(ADD, "latest", "document");
+        });
+        EventQueue.invokeAndWait(() -> {
+        });
+        //then
+        assertEquals(List.of("latest", "other"), received);
+        assertEquals(1, queue.getCoalescedCount());
+    }
+
+    @Test
+    void testFullQueueDropsSupersededEvent() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        DeliveryQueue<List<String>> queue = new DeliveryQueue<List<String>>(
+                        received, DeliveryMode.BACKGROUND, 3);
+        queue.post((listener, event) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "blocker", null);
+        while (queue.getPendingCount() > 0) {
+            Thread.yield();
+        }
+        //when
+        queue.post(ADD, "lifecycle", null);
+        queue.post(ADD, "change 1", "document");
+        queue.post(ADD, "change 2", "document");
+        queue.post((listener, event) -> done.countDown(), "end", null);
+        release.countDown();
+        //then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("lifecycle", "change 2"), received);
+        assertEquals(1, queue.getDroppedCount());
+    }
+
+    @Test
+    void testFullQueueKeepsLatestEventOfEverySource() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        DeliveryQueue<List<String>> queue = new DeliveryQueue<List<String>>(
+                        received, DeliveryMode.BACKGROUND, 2);
+        queue.post((listener, event) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "blocker", null);
+        while (queue.getPendingCount() > 0) {
+            Thread.yield();
+        }
+        //when
+        queue.post(ADD, "first", "first document");
+        queue.post(ADD, "second", "second document");
+        queue.post(ADD, "third", "third document");
+        queue.post((listener, event) -> done.countDown(), "end", null);
+        release.countDown();
+        //then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "second", "third"), received);
+        assertEquals(0, queue.getDroppedCount());
+    }
+}
@@ -0,0 +1,102 @@
+package de.renew.netdoc.model.event;
+
+import de.renew.netdoc.model.container.event.DocumentContainerEvent;
+import de.renew.netdoc.model.container.event.DocumentContainerHandler;
+import de.renew.netdoc.model.document.event.StructureChangeEvent;
+import de.renew.netdoc.model.document.event.StructureChangeHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListenerListTest {
+    private ListenerList<Runnable> list;
+
+    private List<String> calls;
+
+    @BeforeEach
+    void setUp() {
+        list = new ListenerList<Runnable>(Runnable.class);
+        calls = new ArrayList<String>();
+    }
+
+    @Test
+    void testFireNotifiesInOrder() {
+        //given
+        list.add(() -> calls.add("first"));
+        list.add(() -> calls.add("second"));
+        //when
+        int notified = list.fire(RUN, "event");
+        //then
+        assertEquals(2, notified);
+        assertEquals(List.of("first", "second"), calls);
+    }
+
+    @Test
+    void testEmptyListsShareArray() {
+        //given
+        Runnable listener = () -> calls.add("first");
+        ListenerList<Runnable> other = new ListenerList<Runnable>(Runnable.class);
+        //when
+        list.add(listener);
+        list.remove(listener);
+        //then
+        assertTrue(list.isEmpty());
+        assertSame(other.getListeners(), list.getListeners());
+    }
+
+    @Test
+    void testListenerRemovedWhileFiringIsStillNotified() {
+        //given
+        Runnable second = () -> calls.add("second");
+        list.add(() -> {
+            calls.add("first");
+            list.remove(second);
+        });
+        list.add(second);
+        //when
+        list.fire(RUN, "event");
+        list.fire(RUN, "event");
+        //then
+        assertEquals(List.of("first", "second", "first"), calls);
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void testRemoveOnlyFirstOccurence() {
+        //given
+        Runnable listener = () -> calls.add("listener");
+        list.add(listener);
+        list.add(listener);
+        //when
+        boolean removed = list.remove(listener);
+        //then
+        assertTrue(removed);
+        assertEquals(1, list.size());
+        assertFalse(list.remove("unknown"));
+        assertEquals(1, Collections.list(list.enumeration()).size());
+    }
+
+    @Test
+    void testHandlerTablesMatchEventTypes() {
+        //given
+        //when
+        //then
+        assertSame(DocumentContainerHandler.DOCUMENT_OPENED,
+                        DocumentContainerHandler.forType(
+                                        DocumentContainerEvent.DOCUMENT_OPENED));
+        assertSame(DocumentContainerHandler.CONTAINER_CLOSED,
+                        DocumentContainerHandler.forType(
+                                        DocumentContainerEvent.CONTAINER_CLOSED));
+        assertSame(StructureChangeHandler.PART_REMOVED, StructureChangeHandler
+                        .forType(StructureChangeEvent.PART_REMOVED));
+        assertNull(DocumentContainerHandler.forType("unknown"));
+        assertNull(StructureChangeHandler.forType(Integer.valueOf(3)));
+    }
+
+    private static final EventHandler<Runnable, Object> RUN = (listener, event) -> listener.run();
+}
\ No newline at end of file
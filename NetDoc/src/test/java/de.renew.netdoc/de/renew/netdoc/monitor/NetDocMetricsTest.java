@@ -0,0 +1,119 @@
+package de.renew.netdoc.monitor;
+
+import de.renew.netdoc.io.documentformatters.TexExportFormatter;
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.io.managers.SimpleIOManager;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.Documents;
+import de.renew.netdoc.model.document.parts.linear.tex.TexDefinitionPart;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NetDocMetricsTest {
+    private SimpleIOManager ioManager;
+
+    @BeforeEach
+    void setUp() {
+        NetDocMetrics.reset();
+        NetDocMetrics.setRecording(true);
+        ioManager = new SimpleIOManager(new TexExportFormatter(), null, null,
+                        new TexDocumentParser(), ".doctex");
+    }
+
+    @AfterEach
+    void tearDown() {
+        NetDocMetrics.setRecording(true);
+        NetDocMetrics.reset();
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+        //when
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        histogram.recordFailure(1000000L);
+        //then
+        assertEquals(101, histogram.getCount());
+        assertEquals(1, histogram.getFailureCount());
+        assertEquals(1000000L, histogram.getMaxNanos());
+        long median = histogram.getPercentileNanos(50);
+        assertTrue(median >= 50000L && median < 2 * 50000L);
+        assertEquals(1000000L, histogram.getPercentileNanos(100));
+        assertEquals(1000L, histogram.getSnapshot().getMaxMicros());
+    }
+
+    @Test
+    void testImportLatencyIsRecorded() throws Exception {
+        //given
+        String text = Documents.getDefaultTex().toString();
+        //when
+        ioManager.importDocumentPartFrom(new StringReader(text));
+        //then
+        assertEquals(1, NetDocMetrics.IMPORT.getCount());
+        assertEquals(0, NetDocMetrics.IMPORT.getFailureCount());
+        assertEquals(0, NetDocMetrics.LOAD.getCount());
+    }
+
+    @Test
+    void testFailedImportIsRecorded() {
+        //given
+        Reader failing = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length)
+                            throws IOException {
+                throw new IOException("broken");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        //when
+        assertThrows(IOException.class,
+                        () -> ioManager.importDocumentPartFrom(failing));
+        //then
+        assertEquals(1, NetDocMetrics.IMPORT.getCount());
+        assertEquals(1, NetDocMetrics.IMPORT.getFailureCount());
+    }
+
+    @Test
+    void testEventFanOutIsRecorded() {
+        //given
+        DocumentPart title = new TexDefinitionPart(
+                        DocumentParts.NAME_NETDOC_TITLE, "Title");
+        title.addTextChangeListener(event -> { });
+        title.addTextChangeListener(event -> { });
+        //when
+        title.setText("Changed");
+        //then
+        assertEquals(1, NetDocMetrics
+                        .getEventCount(NetDocMetrics.EVENT_TEXT_CHANGED));
+        assertEquals(2, NetDocMetrics
+                        .getMaxFanOut(NetDocMetrics.EVENT_TEXT_CHANGED));
+        assertEquals(1L, NetDocMetrics.getEventCounts().get("textChanged"));
+    }
+
+    @Test
+    void testRecordingCanBeDisabled() {
+        //given
+        NetDocMetrics.setRecording(false);
+        //when
+        NetDocMetrics.recordEvent(NetDocMetrics.EVENT_DOCUMENT_CHANGED, 3);
+        NetDocMetrics.recordLatency(NetDocMetrics.SAVE, System.nanoTime(), true);
+        //then
+        assertEquals(0, NetDocMetrics
+                        .getEventCount(NetDocMetrics.EVENT_DOCUMENT_CHANGED));
+        assertEquals(0, NetDocMetrics.SAVE.getCount());
+    }
+}
\ No newline at end of file
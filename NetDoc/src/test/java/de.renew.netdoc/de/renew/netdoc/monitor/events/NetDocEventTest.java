@@ -0,0 +1,93 @@
+package de.renew.netdoc.monitor.events;
+
+import de.renew.netdoc.io.documentparsers.TexDocumentParser;
+import de.renew.netdoc.model.document.DocumentPart;
+import de.renew.netdoc.model.document.DocumentParts;
+import de.renew.netdoc.model.document.Documents;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NetDocEventTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testParseEventCarriesSizeAndDepth() throws Exception {
+        //given
+        String text = Documents.getDefaultTex().toString();
+        Path file = tempDir.resolve("parse.jfr");
+        //when
+        try (Recording recording = new Recording()) {
+            recording.enable("de.renew.netdoc.DocumentParse");
+            recording.start();
+            new TexDocumentParser().parseFrom(new StringReader(text));
+            recording.stop();
+            recording.dump(file);
+        }
+        //then
+        List<RecordedEvent> events = readEvents(file,
+                        "de.renew.netdoc.DocumentParse");
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(text.length(), event.getLong("byteCount"));
+        assertTrue(event.getInt("depth") >= 2);
+    }
+
+    @Test
+    void testChangeCascadeIsRecordedAtOrigin() throws Exception {
+        //given
+        DocumentPart document = Documents.getDefaultTex();
+        DocumentPart title = document.getPart(DocumentParts.NAME_NETDOC_MAIN)
+                        .getPart(DocumentParts.NAME_NETDOC_TITLE);
+        Path file = tempDir.resolve("cascade.jfr");
+        //when
+        try (Recording recording = new Recording()) {
+            recording.enable("de.renew.netdoc.ChangeCascade")
+                            .withThreshold(java.time.Duration.ZERO);
+            recording.start();
+            title.setText("Changed title");
+            recording.stop();
+            recording.dump(file);
+        }
+        //then
+        List<RecordedEvent> events = readEvents(file,
+                        "de.renew.netdoc.ChangeCascade");
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(ChangeCascadeEvent.TEXT_CHANGED,
+                        event.getString("changeType"));
+        assertEquals(DocumentParts.NAME_NETDOC_TITLE,
+                        event.getString("documentName"));
+        assertEquals(1, event.getInt("depth"));
+        assertEquals("Changed title".length(), event.getLong("byteCount"));
+    }
+
+    @Test
+    void testUnrecordedEventDoesNotDescribeDocument() {
+        //given
+        DocumentParseEvent event = new DocumentParseEvent();
+        //when
+        event.begin();
+        event.commitFor(Documents.getDefaultTex());
+        //then
+        assertEquals(NetDocEvent.UNKNOWN_BYTE_COUNT, event.getByteCount());
+        assertEquals(0, event.getDepth());
+    }
+
+    private static List<RecordedEvent> readEvents(Path file, String name)
+                    throws Exception {
+        return RecordingFile.readAllEvents(file).stream()
+                        .filter(e -> e.getEventType().getName().equals(name))
+                        .collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package de.renew.netdoc.tool;
+
+import de.renew.netdoc.model.document.DocumentParts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static de.renew.netdoc.model.document.TestDocuments.createDocument;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NetDocToolTest {
+    private static final String DOCUMENT_0_8 = "% NetDoc IFA drawing documentation file v1.0\n"
+                    + "\\netdoc-begin{netdoc-document}\n"
+                    + "\\netdoc-title{Old}\n"
+                    + "\\netdoc-author{alice}\n"
+                    + "\\netdoc-end{netdoc-document}\n";
+
+    @TempDir
+    Path tempDir;
+
+    private ByteArrayOutputStream err;
+
+    private NetDocTool tool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        err = new ByteArrayOutputStream();
+        tool = new NetDocTool(new PrintStream(new ByteArrayOutputStream()), new PrintStream(err));
+        Files.writeString(tempDir.resolve("package-root.doctex"), "");
+        Files.writeString(tempDir.resolve("buffer.doctex"), createDocument("Buffer").toString());
+    }
+
+    @Test
+    void testValidateSucceeds() {
+        //when
+        int exitCode = tool.run(new String[] { "validate", tempDir.toString() });
+        //then
+        assertEquals(NetDocTool.EXIT_OK, exitCode);
+    }
+
+    @Test
+    void testValidateReportsParseErrors() throws Exception {
+        //given
+        Files.writeString(tempDir.resolve("broken.doctex"), "no netdoc content");
+        Path report = tempDir.resolve("report.json");
+        //when
+        int exitCode = tool.run(new String[] { "validate", "--report", report.toString(),
+                        "--threads", "2", tempDir.toString() });
+        //then
+        assertEquals(NetDocTool.EXIT_FAILURE, exitCode);
+        String json = Files.readString(report);
+        assertTrue(json.contains("\"failed\": 1"));
+        assertTrue(json.contains("{\"path\": \"broken.doctex\", \"status\": \"error\""));
+        assertTrue(err.toString().contains("broken.doctex"));
+    }
+
+    @Test
+    void testUpgradeConvertsOutdatedDocuments() throws Exception {
+        //given
+        Path old = tempDir.resolve("old.doctex");
+        Files.writeString(old, DOCUMENT_0_8);
+        assertEquals(NetDocTool.EXIT_FAILURE,
+                        tool.run(new String[] { "validate", tempDir.toString() }));
+        //when
+        int exitCode = tool.run(new String[] { "upgrade", tempDir.toString() });
+        //then
+        assertEquals(NetDocTool.EXIT_OK, exitCode);
+        String upgraded = Files.readString(old);
+        assertTrue(upgraded.startsWith("% " + DocumentParts.NETDOC_TEX_UNIT_VERSION_PREFIX + "1.0\n"));
+        assertTrue(upgraded.contains("\\begin{netdocMain}\n\\netdocTitle{Old}\n\\netdocAuthor{alice}\n\\end{netdocMain}"));
+        assertEquals(NetDocTool.EXIT_OK, tool.run(new String[] { "validate", tempDir.toString() }));
+    }
+
+    @Test
+    void testExportToZipAndDirectory() throws Exception {
+        //when
+        int bundleExitCode = tool.run(new String[] { "export", "--output",
+                        tempDir.resolve("out.zip").toString(), tempDir.toString() });
+        int buildExitCode = tool.run(new String[] { "export", "--output",
+                        tempDir.resolve("out").toString(), tempDir.toString() });
+        //then
+        assertEquals(NetDocTool.EXIT_OK, bundleExitCode);
+        assertEquals(NetDocTool.EXIT_OK, buildExitCode);
+        assertTrue(Files.isRegularFile(tempDir.resolve("out.zip")));
+        assertTrue(Files.isRegularFile(tempDir.resolve("out/buffer.tex")));
+    }
+
+    @Test
+    void testFailedExportLeavesNoOutput() throws Exception {
+        //given
+        Files.writeString(tempDir.resolve("broken.doctex"), "no netdoc content");
+        //when
+        int bundleExitCode = tool.run(new String[] { "export", "--output",
+                        tempDir.resolve("out.zip").toString(), tempDir.toString() });
+        int htmlExitCode = tool.run(new String[] { "export", "--output",
+                        tempDir.resolve("out.html").toString(), tempDir.toString() });
+        //then
+        assertEquals(NetDocTool.EXIT_FAILURE, bundleExitCode);
+        assertEquals(NetDocTool.EXIT_FAILURE, htmlExitCode);
+        assertFalse(Files.exists(tempDir.resolve("out.zip")));
+        assertFalse(Files.exists(tempDir.resolve("out.html")));
+    }
+
+    @Test
+    void testExportRendersHtmlAndMarkdown() throws Exception {
+        //when
+        int htmlExitCode = tool.run(new String[] { "export", "--output",
+                        tempDir.resolve("out.html").toString(), tempDir.toString() });
+        int markdownExitCode = tool.run(new String[] { "export", "--output",
+                        tempDir.resolve("out.md").toString(), tempDir.toString() });
+        //then
+        assertEquals(NetDocTool.EXIT_OK, htmlExitCode);
+        assertEquals(NetDocTool.EXIT_OK, markdownExitCode);
+        assertTrue(Files.readString(tempDir.resolve("out.html")).contains("<h1>Buffer</h1>"));
+        assertTrue(Files.readString(tempDir.resolve("out.md")).startsWith("# Buffer\n"));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        //when
+        int exitCode = tool.run(new String[] { "validate" });
+        //then
+        assertEquals(NetDocTool.EXIT_USAGE, exitCode);
+    }
+}
\ No newline at end of file